@@ -0,0 +1,97 @@
+package com.github.bannmann.trako.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.QName;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XQueryCompiler;
+import net.sf.saxon.s9api.XQueryEvaluator;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.trans.XPathException;
+import net.sf.saxon.tree.tiny.TinyBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@code n:group-productions-by-nonterminal} with its former implementation in {@code former-grouping.xq},
+ * which filtered the productions once per distinct name, and sorted the groups by a linear search for their first
+ * production. The grammar has {@code productions} productions, spread over a quarter as many nonterminals, each
+ * defined several times.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GroupingBenchmark
+{
+  private static final String CURRENT_QUERY =
+    "import module namespace n='com/github/bannmann/trako/xq/normalize-ast.xq';\n" +
+    "declare variable $grammar external;\n" +
+    "n:group-productions-by-nonterminal($grammar)";
+
+  @Param({"1000", "3000"})
+  private int productions;
+
+  private XQueryEvaluator current;
+  private XQueryEvaluator former;
+
+  @Setup
+  public void setUp() throws IOException, SaxonApiException, XPathException
+  {
+    StringBuilder grammar = new StringBuilder();
+    int nonterminals = productions / 4;
+    for (int i = 0; i < productions; ++i)
+    {
+      int name = i % nonterminals;
+      grammar.append("N").append(name).append(" ::= 'k").append(i).append("' N").append((name + 1) % nonterminals)
+        .append("? | [a-z]+\n");
+    }
+
+    Processor processor = TrakoGenerator.newProcessor();
+    AstBuilder ast = new AstBuilder();
+    new Parser(grammar.toString(), ast).parse_Grammar();
+    TinyBuilder builder = new TinyBuilder(processor.getUnderlyingConfiguration().makePipelineConfiguration());
+    builder.open();
+    ast.build(builder);
+    builder.close();
+    XdmNode grammarElement = new XdmNode(builder.getCurrentRoot());
+
+    XQueryCompiler compiler = processor.newXQueryCompiler();
+    compiler.setModuleURIResolver(ResourceModuleUriResolver.instance);
+    current = compiler.compile(CURRENT_QUERY).load();
+    current.setExternalVariable(new QName("grammar"), grammarElement);
+    try (InputStream in = GroupingBenchmark.class.getResourceAsStream("former-grouping.xq");
+      Scanner scanner = new Scanner(in, "UTF-8"))
+    {
+      former = compiler.compile(scanner.useDelimiter("\\A").next()).load();
+    }
+    former.setExternalVariable(new QName("grammar"), grammarElement);
+  }
+
+  @Benchmark
+  public XdmNode current() throws SaxonApiException
+  {
+    return (XdmNode) current.evaluateSingle();
+  }
+
+  @Benchmark
+  public XdmNode former() throws SaxonApiException
+  {
+    return (XdmNode) former.evaluateSingle();
+  }
+}
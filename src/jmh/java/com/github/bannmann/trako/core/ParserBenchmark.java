@@ -0,0 +1,118 @@
+package com.github.bannmann.trako.core;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.saxon.Configuration;
+import net.sf.saxon.trans.XPathException;
+import net.sf.saxon.tree.tiny.TinyBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses a grammar of {@value #KB} KB with the tree builders generated along with {@link Parser}, those of
+ * {@link TreeBuilders}, and {@link AstBuilder}. An operation is a KB of input, so with {@code -prof gc}, the
+ * {@code gc.alloc.rate.norm} result is the number of bytes allocated per KB of input.
+ *
+ * <p>The {@code productions} grammar has many small productions, the {@code alternatives} grammar a single production
+ * with thousands of alternatives, i.e. a nonterminal with thousands of children.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark
+{
+  private static final int KB = 64;
+
+  private final Configuration configuration = new Configuration();
+
+  @Param({"productions", "alternatives"})
+  private String shape;
+
+  private String grammar;
+
+  @Setup
+  public void setUp()
+  {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; sb.length() < KB * 1024 - 100; ++i)
+    {
+      if (shape.equals("productions"))
+      {
+        sb.append("P").append(i).append(" ::= 'k").append(i).append("' ( P").append(i + 1).append(" | [a-z]+ )*")
+          .append(" /* c */\n");
+      }
+      else
+      {
+        sb.append(i == 0 ? "A ::= " : "\n    | ").append("'a").append(i).append("' B?");
+      }
+    }
+    while (sb.length() < KB * 1024)
+    {
+      sb.append(' ');
+    }
+    grammar = sb.toString();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(KB)
+  public void generatedTopDownTreeBuilder(Blackhole blackhole)
+  {
+    Parser.TopDownTreeBuilder treeBuilder = new Parser.TopDownTreeBuilder();
+    new Parser(grammar, treeBuilder).parse_Grammar();
+    blackhole.consume(treeBuilder);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(KB)
+  public void topDownTreeBuilder(Blackhole blackhole)
+  {
+    TreeBuilders.TopDownTreeBuilder treeBuilder = new TreeBuilders.TopDownTreeBuilder();
+    new Parser(grammar, treeBuilder).parse_Grammar();
+    blackhole.consume(treeBuilder);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(KB)
+  public void generatedSaxonTreeBuilder(Blackhole blackhole) throws XPathException
+  {
+    TinyBuilder builder = new TinyBuilder(configuration.makePipelineConfiguration());
+    builder.open();
+    new Parser(grammar, new Parser.SaxonTreeBuilder(builder)).parse_Grammar();
+    builder.close();
+    blackhole.consume(builder.getCurrentRoot());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(KB)
+  public void saxonTreeBuilder(Blackhole blackhole) throws XPathException
+  {
+    TinyBuilder builder = new TinyBuilder(configuration.makePipelineConfiguration());
+    builder.open();
+    new Parser(grammar, new TreeBuilders.SaxonTreeBuilder(builder)).parse_Grammar();
+    builder.close();
+    blackhole.consume(builder.getCurrentRoot());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(KB)
+  public void astBuilder(Blackhole blackhole)
+  {
+    AstBuilder astBuilder = new AstBuilder();
+    new Parser(grammar, astBuilder).parse_Grammar();
+    blackhole.consume(astBuilder);
+  }
+}
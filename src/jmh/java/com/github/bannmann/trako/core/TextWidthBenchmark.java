@@ -0,0 +1,90 @@
+package com.github.bannmann.trako.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link TextWidth#normal(String)} with the former computation, which looked up every code point in the
+ * compressed tables of {@link Normal}. An operation is the width of a single label, out of {@code distinct} different
+ * labels: with 100, layout asks for the same labels again and again, as for a grammar of a few dozen productions; with
+ * 10000, the label cache is cleared before labels repeat, so this measures the Latin-1 tables without cache hits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextWidthBenchmark
+{
+  private static final int LABELS = 1000;
+
+  @Param({"100", "10000"})
+  private int distinct;
+
+  private String[] labels;
+  private int offset;
+
+  @Setup
+  public void setUp()
+  {
+    String[] names = {"Grammar", "Production", "NCName", "StringLiteral", "'::='", "CharCodeRange", "'|'", "Choice",
+      "ProcessingInstruction", "'('", "Whitespace", "EOF"};
+    labels = new String[distinct];
+    for (int i = 0; i < distinct; ++i)
+    {
+      labels[i] = names[i % names.length] + (i < names.length ? "" : "-" + i / names.length);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LABELS)
+  public void former(Blackhole blackhole)
+  {
+    for (int i = 0; i < LABELS; ++i)
+    {
+      String label = label(i);
+      int width = 0;
+      for (int j = 0; j < label.length(); )
+      {
+        int codePoint = label.codePointAt(j);
+        width += Normal.get(codePoint);
+        j += Character.charCount(codePoint);
+      }
+      blackhole.consume((width + 5) / 10);
+    }
+    offset = (offset + LABELS) % distinct;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LABELS)
+  public void textWidth(Blackhole blackhole)
+  {
+    for (int i = 0; i < LABELS; ++i)
+    {
+      blackhole.consume(TextWidth.normal(label(i)));
+    }
+    offset = (offset + LABELS) % distinct;
+  }
+
+  /**
+   * @return the labels in turn, continuing where the last invocation ended
+   */
+  private String label(int i)
+  {
+    return labels[(offset + i) % distinct];
+  }
+}
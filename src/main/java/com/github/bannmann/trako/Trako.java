@@ -1,22 +1,35 @@
 package com.github.bannmann.trako;
 
 import java.awt.Color;
-import java.io.ByteArrayOutputStream;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.io.Writer;
 import java.net.URISyntaxException;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import com.github.bannmann.trako.core.BatikPngTranscoder;
+import com.github.bannmann.trako.core.GrammarChecker;
+import com.github.bannmann.trako.core.GrammarInput;
 import com.github.bannmann.trako.core.Parser;
 import com.github.bannmann.trako.core.ResourceModuleUriResolver;
+import com.github.bannmann.trako.core.RsvgPngTranscoder;
 import com.github.bannmann.trako.core.TextWidth;
 import com.github.bannmann.trako.core.TrakoGenerator;
+import com.github.bannmann.trako.core.XQueryProfiler;
 import com.github.bannmann.trako.core.XhtmlToZip;
 import net.sf.saxon.Configuration;
 import net.sf.saxon.lib.Feature;
@@ -34,14 +47,32 @@ public class Trako
 {
   private static final String COLOR_PATTERN = "#[0-9a-fA-F]{6}";
   private static final String INTEGER_PATTERN = "[0-9]+";
+  private static final String SCALES_PATTERN = "[0-9]+(\\.[0-9]+)?(,[0-9]+(\\.[0-9]+)?)*";
+  private static final String DEFLATE_PATTERN = "[0-9]";
+  private static final String NAMES_PATTERN = "[^,]+(,[^,]+)*";
   private static final int DEFAULT_PORT = 8080;
 
   public static void main(String[] args) throws Exception
   {
+    List<String> checkArgs = new ArrayList<>(Arrays.asList(args));
+    if (checkArgs.remove("-check"))
+    {
+      check(checkArgs.toArray(new String[0]));
+      return;
+    }
+
     TrakoGenerator generator = new TrakoGenerator();
+    // PNG options are collected rather than set on a transcoder, so Batik is only loaded when PNGs are written
+    double[] scales = null;
+    Integer compressionLevel = null;
+    boolean indexed = false;
+    boolean pngOptions = false;
+    XQueryProfiler profiler = null;
+    String profileFile = null;
     boolean input = false;
 
     Charset charset = null;
+    Path grammarFile = null;
     boolean errors = false;
 
     for (int i = 0; i < args.length; ++i)
@@ -131,10 +162,84 @@ public class Trako
       {
         generator.setOutputType(TrakoGenerator.OutputType.HTML_PNG_ZIP);
       }
+      else if (arg.startsWith("-scale:"))
+      {
+        String substring = arg.substring(7);
+        scales = substring.matches(SCALES_PATTERN)
+          ? Arrays.stream(substring.split(",")).mapToDouble(Double::parseDouble).toArray()
+          : new double[0];
+        if (scales.length > 0 && Arrays.stream(scales).allMatch(scale -> scale > 0) && Arrays.stream(scales).distinct().count() == scales.length)
+        {
+          pngOptions = true;
+        }
+        else
+        {
+          System.err.println("invalid scale factors, must be distinct positive numbers matching " + SCALES_PATTERN);
+          System.err.println();
+          errors = true;
+          break;
+        }
+      }
+      else if (arg.startsWith("-deflate:"))
+      {
+        String substring = arg.substring(9);
+        if (substring.matches(DEFLATE_PATTERN))
+        {
+          compressionLevel = Integer.parseInt(substring);
+          pngOptions = true;
+        }
+        else
+        {
+          System.err.println("invalid deflate level, must be 0-9");
+          System.err.println();
+          errors = true;
+          break;
+        }
+      }
+      else if (arg.equals("-palette"))
+      {
+        indexed = true;
+        pngOptions = true;
+      }
       else if (arg.equals("-md"))
       {
         generator.setOutputType(TrakoGenerator.OutputType.MARKDOWN_SVG);
       }
+      else if (arg.startsWith("-dir:"))
+      {
+        generator.setOutputType(TrakoGenerator.OutputType.SVG_DIRECTORY);
+        generator.setOutputDirectory(Paths.get(arg.substring(5)));
+      }
+      else if (arg.startsWith("-only:"))
+      {
+        String substring = arg.substring(6);
+        if (substring.matches(NAMES_PATTERN))
+        {
+          generator.setOnly(substring.split(","));
+        }
+        else
+        {
+          System.err.println("invalid nonterminal names, must be a comma-separated list");
+          System.err.println();
+          errors = true;
+          break;
+        }
+      }
+      else if (arg.startsWith("-depth:"))
+      {
+        String substring = arg.substring(7);
+        if (substring.matches(INTEGER_PATTERN))
+        {
+          generator.setOnlyDepth(Integer.parseInt(substring));
+        }
+        else
+        {
+          System.err.println("invalid depth value");
+          System.err.println();
+          errors = true;
+          break;
+        }
+      }
       else if (arg.startsWith("-out:"))
       {
         generator.setOutput(new FileOutputStream(arg.substring(5)));
@@ -155,6 +260,12 @@ public class Trako
       {
         generator.setKeepEpsilon(false);
       }
+      else if (arg.equals("-profile") || arg.startsWith("-profile:"))
+      {
+        profiler = new XQueryProfiler();
+        profileFile = arg.startsWith("-profile:") ? arg.substring(9) : null;
+        generator.setProfiler(profiler);
+      }
       else if (arg.startsWith("-enc:"))
       {
         charset = Charset.forName(arg.substring(5));
@@ -172,7 +283,7 @@ public class Trako
       }
       else
       {
-        System.setIn(new FileInputStream(arg));
+        grammarFile = Paths.get(arg);
         input = true;
       }
 
@@ -188,15 +299,148 @@ public class Trako
       }
     }
 
+    boolean rsvgConvert = System.getProperty(RsvgPngTranscoder.RSVG_CONVERT_PROPERTY) != null;
+    if (!errors && rsvgConvert && (compressionLevel != null || indexed))
+    {
+      System.err.println("-deflate and -palette are not supported with -D" + RsvgPngTranscoder.RSVG_CONVERT_PROPERTY);
+      System.err.println();
+      errors = true;
+    }
+
     if (errors || !input)
     {
       usage(System.err, determineJarName());
     }
     else
     {
-      byte[] bytes = read(System.in);
-      String grammar = decode(charset, bytes);
+      if (pngOptions && rsvgConvert)
+      {
+        RsvgPngTranscoder pngTranscoder = new RsvgPngTranscoder();
+        if (scales != null)
+        {
+          pngTranscoder.setScales(scales);
+        }
+        generator.setPngTranscoder(pngTranscoder);
+      }
+      else if (pngOptions)
+      {
+        BatikPngTranscoder pngTranscoder = new BatikPngTranscoder();
+        if (scales != null)
+        {
+          pngTranscoder.setScales(scales);
+        }
+        if (compressionLevel != null)
+        {
+          pngTranscoder.setCompressionLevel(compressionLevel);
+        }
+        pngTranscoder.setIndexed(indexed);
+        generator.setPngTranscoder(pngTranscoder);
+      }
+      CharBuffer grammar = grammarFile == null
+        ? GrammarInput.read(System.in, charset)
+        : GrammarInput.map(grammarFile, charset);
       generator.generate(grammar);
+      if (profiler != null)
+      {
+        writeProfile(profiler, profileFile);
+      }
+    }
+  }
+
+  /**
+   * Writes the XQuery profile as a report to standard error, or as JSON to a file.
+   */
+  private static void writeProfile(XQueryProfiler profiler, String file) throws IOException
+  {
+    if (file == null)
+    {
+      profiler.writeReport(System.err);
+    }
+    else
+    {
+      try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))
+      {
+        profiler.writeJson(writer);
+      }
+    }
+  }
+
+  /**
+   * Checks the syntax of grammar files in parallel, without generating anything. Errors are reported on standard
+   * error, and the exit status is nonzero if there were any.
+   */
+  private static void check(String[] args) throws Exception
+  {
+    Charset charset = null;
+    List<String> files = new ArrayList<>();
+    for (String arg : args)
+    {
+      if (arg.startsWith("-enc:"))
+      {
+        charset = Charset.forName(arg.substring(5));
+      }
+      else if (arg.startsWith("-") && !arg.equals("-"))
+      {
+        System.err.println("unsupported option: " + arg);
+        System.err.println();
+        usage(System.err, determineJarName());
+        return;
+      }
+      else if (arg.equals("-") && files.contains("-"))
+      {
+        System.err.println("standard input can only be checked once");
+        System.err.println();
+        usage(System.err, determineJarName());
+        return;
+      }
+      else
+      {
+        files.add(arg);
+      }
+    }
+    if (files.isEmpty())
+    {
+      usage(System.err, determineJarName());
+      return;
+    }
+
+    Charset encoding = charset;
+    ExecutorService pool = Executors.newFixedThreadPool(Math.min(files.size(), Runtime.getRuntime().availableProcessors()));
+    boolean errors = false;
+    try
+    {
+      List<Future<String>> futures = new ArrayList<>();
+      for (String file : files)
+      {
+        futures.add(pool.submit(() -> GrammarChecker.check(file.equals("-")
+          ? GrammarInput.read(System.in, encoding)
+          : GrammarInput.map(Paths.get(file), encoding))));
+      }
+      for (int i = 0; i < files.size(); ++i)
+      {
+        String error;
+        try
+        {
+          error = futures.get(i).get();
+        }
+        catch (ExecutionException e)
+        {
+          error = e.getCause().toString();
+        }
+        if (error != null)
+        {
+          System.err.println(files.get(i) + ": " + error);
+          errors = true;
+        }
+      }
+    }
+    finally
+    {
+      pool.shutdownNow();
+    }
+    if (errors)
+    {
+      System.exit(1);
     }
   }
 
@@ -211,18 +455,6 @@ public class Trako
     return jarPath.substring(jarPath.lastIndexOf('/') + 1);
   }
 
-  private static String decode(Charset charset, byte[] bytes)
-  {
-    if (charset == null)
-    {
-      return decode(bytes);
-    }
-    else
-    {
-      return decode(bytes, 0, charset);
-    }
-  }
-
   public static void usage(PrintStream out, final String jarName)
   {
     out.println("Trako");
@@ -231,8 +463,10 @@ public class Trako
     out.println();
     out.println("Usage: java -jar " +
       jarName +
-      " {-suppressebnf|-keeprecursion|-nofactoring|-noinline|-noepsilon|-color:COLOR|-offset:OFFSET|-png|-md|-out:FILE|width:PIXELS}... GRAMMAR");
+      " {-suppressebnf|-keeprecursion|-nofactoring|-noinline|-noepsilon|-color:COLOR|-offset:OFFSET|-png|-scale:FACTORS|-deflate:LEVEL|-palette|-md|-dir:DIRECTORY|-only:NAMES|-depth:LEVELS|-out:FILE|-profile[:FILE]|width:PIXELS}... GRAMMAR");
+    out.println("   or: java -jar " + jarName + " -check [-enc:ENCODING] GRAMMAR...");
     out.println();
+    out.println("  -check           only check the syntax of one or more grammars, report errors and exit with status 1 on any");
     out.println("  -suppressebnf    do not show EBNF next to generated diagrams");
     out.println("  -keeprecursion   no direct recursion elimination");
     out.println("  -nofactoring     no left or right factoring");
@@ -241,41 +475,19 @@ public class Trako
     out.println("  -color:COLOR     use COLOR as base color, pattern: " + COLOR_PATTERN);
     out.println("  -offset:OFFSET   hue offset to secondary color in degrees");
     out.println("  -png             create HTML+PNG in a ZIP file, rather than XHTML+SVG output");
+    out.println("  -scale:FACTORS   with -png, render each diagram at these scale factors, e.g. 1,2,3 (default 1);");
+    out.println("                   with -Drsvg.convert, this runs rsvg-convert once per diagram and factor");
+    out.println("  -deflate:LEVEL   with -png, PNG compression level from 0 (none) to 9 (best), not with -Drsvg.convert");
+    out.println("  -palette         with -png, write PNGs with a palette of at most 256 colors, not with -Drsvg.convert");
     //  out.println("  -md              create Markdown with embedded SVG, rather than XHTML+SVG output");
+    out.println("  -dir:DIRECTORY   write one SVG file per diagram and an index.html into DIRECTORY, skipping unchanged files");
+    out.println("  -only:NAMES      only create diagrams for these comma-separated nonterminals and those they reference");
+    out.println("  -depth:LEVELS    with -only, follow at most LEVELS references from the given nonterminals");
     out.println("  -out:FILE        create FILE, rather than writing result to standard output");
+    out.println("  -profile[:FILE]  report time and calls per XQuery function on standard error, or as JSON to FILE");
     out.println("  -width:PIXELS    try to break graphics into multiple lines, when width exceeds PIXELS (default 992)");
     out.println("  -enc:ENCODING    set grammar input encoding (default: autodetect UTF8/16 or use system encoding)");
     out.println();
     out.println("  GRAMMAR          path of grammar, in W3C style EBNF (use '-' for stdin)");
   }
-
-  private static byte[] read(InputStream input) throws Exception
-  {
-    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-    byte[] chunk = new byte[32768];
-    for (int length; (length = input.read(chunk)) != -1; )
-      buffer.write(chunk, 0, length);
-    return buffer.toByteArray();
-  }
-
-  private static String decode(byte[] bytes)
-  {
-    final byte[] UTF_8 = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
-    final byte[] UTF_16BE = { (byte) 0xFE, (byte) 0xFF };
-    final byte[] UTF_16LE = { (byte) 0xFF, (byte) 0xFE };
-    return startsWith(bytes, UTF_8)    ? decode(bytes,    UTF_8.length, StandardCharsets.UTF_8)
-         : startsWith(bytes, UTF_16BE) ? decode(bytes, UTF_16BE.length, StandardCharsets.UTF_16BE)
-         : startsWith(bytes, UTF_16LE) ? decode(bytes, UTF_16LE.length, StandardCharsets.UTF_16LE)
-          : decode(bytes, 0, Charset.defaultCharset());
-  }
-
-  private static boolean startsWith(byte[] bytes, byte[] prefix)
-  {
-    return Arrays.equals(Arrays.copyOf(bytes, prefix.length), prefix);
-  }
-
-  private static String decode(byte[] bytes, int offset, Charset charset)
-  {
-    return new String(bytes, offset, bytes.length - offset, charset);
-  }
 }
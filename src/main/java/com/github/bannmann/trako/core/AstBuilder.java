@@ -0,0 +1,804 @@
+package com.github.bannmann.trako.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.saxon.event.Builder;
+import net.sf.saxon.event.ReceiverOption;
+import net.sf.saxon.expr.XPathContext;
+import net.sf.saxon.expr.parser.Loc;
+import net.sf.saxon.lib.ExtensionFunctionCall;
+import net.sf.saxon.lib.ExtensionFunctionDefinition;
+import net.sf.saxon.om.AttributeInfo;
+import net.sf.saxon.om.AttributeMap;
+import net.sf.saxon.om.EmptyAttributeMap;
+import net.sf.saxon.om.FingerprintedQName;
+import net.sf.saxon.om.NamespaceMap;
+import net.sf.saxon.om.NoNamespaceName;
+import net.sf.saxon.om.Sequence;
+import net.sf.saxon.om.SmallAttributeMap;
+import net.sf.saxon.om.StructuredQName;
+import net.sf.saxon.trans.XPathException;
+import net.sf.saxon.type.BuiltInAtomicType;
+import net.sf.saxon.type.Untyped;
+import net.sf.saxon.value.SequenceType;
+
+/**
+ * Builds the abstract syntax tree of a grammar, i.e. the {@code g:grammar} element in the XPath grammar namespace,
+ * directly from the events of {@link Parser}. No concrete syntax tree is built: each nonterminal of the concrete syntax
+ * is reduced to its AST fragment as soon as it ends, so only the fragments of the nonterminals that are still open are
+ * held, and a Saxon tree is built for the result only.
+ */
+public class AstBuilder implements Parser.EventHandler
+{
+  private static final String GRAMMAR_NAMESPACE = "http://www.w3.org/2001/03/XPath/grammar";
+  private static final NamespaceMap GRAMMAR_NAMESPACES = NamespaceMap.of("g", GRAMMAR_NAMESPACE);
+  private static final String TOKEN = "TOKEN";
+
+  private CharSequence input;
+  private final List<Symbol> stack = new ArrayList<>();
+  private Symbol grammar;
+
+  @Override
+  public void reset(CharSequence input)
+  {
+    this.input = input;
+    stack.clear();
+    grammar = null;
+  }
+
+  @Override
+  public void startNonterminal(String name, int begin)
+  {
+    Symbol symbol = new Symbol(name, begin);
+    symbol.children = new ArrayList<>();
+    stack.add(symbol);
+  }
+
+  @Override
+  public void endNonterminal(String name, int end)
+  {
+    Symbol symbol = stack.remove(stack.size() - 1);
+    symbol.end = end;
+    symbol.ast = reduce(symbol);
+    if (stack.isEmpty())
+    {
+      grammar = symbol;
+    }
+    else
+    {
+      symbol.children = null;
+      stack.get(stack.size() - 1).children.add(symbol);
+    }
+  }
+
+  @Override
+  public void terminal(String name, int begin, int end)
+  {
+    Symbol symbol = new Symbol(name.charAt(0) == '\'' ? TOKEN : name, begin);
+    symbol.end = end;
+    symbol.ast = reduceTerminal(symbol);
+    stack.get(stack.size() - 1).children.add(symbol);
+  }
+
+  @Override
+  public void whitespace(int begin, int end)
+  {
+  }
+
+  /**
+   * Writes the {@code g:grammar} element of the last successful parse.
+   */
+  public void build(Builder builder) throws XPathException
+  {
+    if (grammar == null)
+      throw new IllegalStateException("no grammar was parsed");
+
+    for (Node node : grammar.ast)
+    {
+      node.send(builder);
+    }
+  }
+
+  /**
+   * Writes a single {@code g:grammar} element for the chunks of a grammar that were parsed separately, see {@link
+   * ParallelParser}, with the contents of their grammar elements concatenated in order.
+   */
+  public static void build(Builder builder, List<AstBuilder> chunks) throws XPathException
+  {
+    if (chunks.size() == 1)
+    {
+      chunks.get(0).build(builder);
+      return;
+    }
+
+    Element grammar = new Element("grammar");
+    for (AstBuilder chunk : chunks)
+    {
+      if (chunk.grammar == null)
+        throw new IllegalStateException("no grammar was parsed");
+
+      grammar.addAll(((Element) chunk.grammar.ast.get(0)).children);
+    }
+    grammar.send(builder);
+  }
+
+  /**
+   * Compares the productions of two sequences of grammar chunks, e.g. the chunks that were replaced by an edit, see
+   * {@link IncrementalParser}, with those that replace them.
+   *
+   * @return the names of the productions that differ, or {@code null} if anything else differs, e.g. processing
+   *   instructions or preferences
+   */
+  static Set<String> changedProductions(List<AstBuilder> before, List<AstBuilder> after)
+  {
+    Map<String, List<Node>> productionsBefore = new HashMap<>();
+    Map<String, List<Node>> productionsAfter = new HashMap<>();
+    if (!contents(before, productionsBefore).equals(contents(after, productionsAfter)))
+      return null;
+
+    Set<String> changed = new HashSet<>();
+    for (Map.Entry<String, List<Node>> entry : productionsBefore.entrySet())
+    {
+      if (!entry.getValue().equals(productionsAfter.get(entry.getKey())))
+      {
+        changed.add(entry.getKey());
+      }
+    }
+    for (String name : productionsAfter.keySet())
+    {
+      if (!productionsBefore.containsKey(name))
+      {
+        changed.add(name);
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * @return the names of all productions of the given grammar chunks
+   */
+  static Set<String> productionNames(List<AstBuilder> chunks)
+  {
+    Map<String, List<Node>> productions = new HashMap<>();
+    contents(chunks, productions);
+    return productions.keySet();
+  }
+
+  /**
+   * Collects the productions of grammar chunks by name.
+   *
+   * @return the other contents of the chunks, in order
+   */
+  private static List<Node> contents(List<AstBuilder> chunks, Map<String, List<Node>> productions)
+  {
+    List<Node> others = new ArrayList<>();
+    for (AstBuilder chunk : chunks)
+    {
+      for (Node node : ((Element) chunk.grammar.ast.get(0)).children)
+      {
+        if (node instanceof Element && ((Element) node).name.equals("production"))
+        {
+          productions.computeIfAbsent(((Element) node).attributes.get(0)[1], name -> new ArrayList<>()).add(node);
+        }
+        else
+        {
+          others.add(node);
+        }
+      }
+    }
+    return others;
+  }
+
+  private List<Node> reduceTerminal(Symbol symbol)
+  {
+    switch (symbol.name)
+    {
+      case "NCName":
+        return list(new Element("ref").attribute("name", text(symbol)));
+      case "StringLiteral":
+        return list(new Element("string").text(input.subSequence(symbol.begin + 1, symbol.end - 1).toString()));
+      case "Char":
+        return list(new Element("char").text(text(symbol)));
+      case "CharRange":
+      {
+        String text = text(symbol);
+        int first = text.codePointAt(0);
+        int last = text.codePointAt(text.offsetByCodePoints(0, 2));
+        return list(new Element("charRange")
+          .attribute("minChar", new String(Character.toChars(first)))
+          .attribute("maxChar", new String(Character.toChars(last))));
+      }
+      case "CharCode":
+        return list(new Element("charCode").attribute("value", charCode(text(symbol))));
+      case "CharCodeRange":
+      {
+        String text = text(symbol);
+        int minus = text.indexOf('-');
+        return list(new Element("charCodeRange")
+          .attribute("minValue", charCode(text.substring(0, minus)))
+          .attribute("maxValue", charCode(text.substring(minus + 1))));
+      }
+      default:
+        return Collections.emptyList();
+    }
+  }
+
+  private List<Node> reduce(Symbol symbol)
+  {
+    switch (symbol.name)
+    {
+      case "Grammar":
+        return list(grammar(symbol));
+      case "ProcessingInstruction":
+      {
+        Symbol contents = child(symbol, "ProcessingInstructionContents");
+        return list(new ProcessingInstruction(text(child(symbol, "NCName")), contents == null ? "" : text(contents)));
+      }
+      case "Production":
+        return list(production(symbol));
+      case "Link":
+        return list(new Attribute("xhref", text(child(symbol, "URL"))));
+      case "Alternatives":
+        return choice(symbol, "Alternative");
+      case "Alternative":
+        if (hasToken(symbol, "&"))
+        {
+          Element context = new Element("context");
+          for (Symbol child : symbol.children)
+          {
+            if (!child.name.equals(TOKEN))
+            {
+              context.add(sequence(child.ast));
+            }
+          }
+          return list(context);
+        }
+        return ast(child(symbol, "SequenceOrDifference"));
+      case "SequenceOrDifference":
+        if (hasToken(symbol, "-"))
+        {
+          Element subtract = new Element("subtract");
+          for (Symbol item : children(symbol, "Item"))
+          {
+            subtract.add(sequence(item.ast));
+          }
+          return list(subtract);
+        }
+        return concat(children(symbol, "Item"));
+      case "Item":
+      {
+        List<Node> ast = ast(child(symbol, "Primary"));
+        for (Symbol operator : children(symbol, TOKEN))
+        {
+          ast = closure(ast, input.charAt(operator.begin));
+        }
+        return ast;
+      }
+      case "Primary":
+        if (hasToken(symbol, "."))
+          return list(new Element("ref").attribute("name", "."));
+        if (hasToken(symbol, "$"))
+          return list(new Element("endOfFile"));
+        return concat(nonTokens(symbol));
+      case "Choice":
+        return choice(symbol, "SequenceOrDifference");
+      case "NameOrString":
+      {
+        Element primary = (Element) symbol.children.get(0).ast.get(0);
+        if (symbol.children.size() != 2)
+          return list(primary);
+        Element withContext = new Element(primary.name);
+        withContext.attributes.addAll(primary.attributes);
+        withContext.attribute("context", text(symbol.children.get(1)).substring(1));
+        withContext.children.addAll(primary.children);
+        return list(withContext);
+      }
+      case "CharClass":
+      {
+        Element charClass = new Element("charClass");
+        charClass.children.addAll(concat(nonTokens(symbol)));
+        return list(hasToken(symbol, "[^") ? new Element("complement").add(charClass) : charClass);
+      }
+      case "Preference":
+      {
+        List<Symbol> operands = children(symbol, "NameOrString");
+        Node lhs = operands.get(0).ast.get(0);
+        boolean lhsFirst = hasToken(symbol, "<<");
+        List<Node> preferences = new ArrayList<>();
+        for (Symbol rhs : operands.subList(1, operands.size()))
+        {
+          Element preference = new Element("preference");
+          if (lhsFirst)
+          {
+            preference.add(lhs).addAll(rhs.ast);
+          }
+          else
+          {
+            preference.addAll(rhs.ast).add(lhs);
+          }
+          preferences.add(preference);
+        }
+        return preferences;
+      }
+      case "Delimiter":
+      {
+        List<Node> lhs = ast(child(symbol, "NCName"));
+        List<Node> delimiters = new ArrayList<>();
+        for (Symbol rhs : children(symbol, "NameOrString"))
+        {
+          delimiters.add(new Element("delimiter").addAll(lhs).addAll(rhs.ast));
+        }
+        return delimiters;
+      }
+      case "Equivalence":
+      {
+        List<Symbol> ranges = children(symbol, "EquivalenceCharRange");
+        return list(new Element("equivalence").addAll(ranges.get(0).ast).addAll(ranges.get(1).ast));
+      }
+      case "EquivalenceCharRange":
+        return concat(nonTokens(symbol));
+      default:
+        return Collections.emptyList();
+    }
+  }
+
+  private Element grammar(Symbol symbol)
+  {
+    Element grammar = new Element("grammar");
+    boolean encore = false;
+    for (Symbol child : symbol.children)
+    {
+      if (child.name.equals(TOKEN))
+      {
+        encore = isText(child, "<?ENCORE?>");
+        grammar.add(new ProcessingInstruction(encore ? "ENCORE" : "TOKENS", ""));
+      }
+      else if (!encore || child.name.equals("ProcessingInstruction"))
+      {
+        grammar.addAll(child.ast);
+      }
+    }
+    return grammar;
+  }
+
+  private Element production(Symbol symbol)
+  {
+    Element production = new Element("production").attribute("name", text(child(symbol, "NCName")));
+    if (hasToken(symbol, "?"))
+    {
+      production.attribute("nongreedy", "true");
+    }
+    Symbol option = child(symbol, "Option");
+    if (option != null && text(option).contains("explicit"))
+    {
+      production.attribute("whitespace-spec", "explicit");
+    }
+    if (option != null && text(option).contains("definition"))
+    {
+      production.attribute("whitespace-spec", "definition");
+    }
+    for (Symbol child : symbol.children)
+    {
+      if (child.name.equals("Alternatives") || child.name.equals("Link"))
+      {
+        production.addAll(child.ast);
+      }
+    }
+    return production;
+  }
+
+  /**
+   * Reduces {@code Alternatives} or {@code Choice}, i.e. alternatives separated by {@code |} or {@code /}.
+   */
+  private List<Node> choice(Symbol symbol, String alternativeName)
+  {
+    List<Symbol> alternatives = children(symbol, alternativeName);
+    if (alternatives.size() == 1)
+      return alternatives.get(0).ast;
+
+    Element choice = new Element(hasToken(symbol, "|") ? "choice" : "orderedChoice");
+    for (Symbol alternative : alternatives)
+    {
+      choice.add(sequence(alternative.ast));
+    }
+    return list(choice);
+  }
+
+  /**
+   * Applies a closure operator, merging it with a closure operator that was already applied.
+   */
+  private static List<Node> closure(List<Node> ast, char operator)
+  {
+    String name = operator == '?' ? "optional" : operator == '+' ? "oneOrMore" : "zeroOrMore";
+    if (ast.size() != 1)
+      return list(new Element(name).addAll(ast));
+
+    Node node = ast.get(0);
+    String nodeName = node instanceof Element ? ((Element) node).name : "";
+    switch (nodeName)
+    {
+      case "optional":
+        return operator == '?' ? ast : list(((Element) node).elementChildren("zeroOrMore"));
+      case "zeroOrMore":
+        return ast;
+      case "oneOrMore":
+        return operator == '+' ? ast : list(((Element) node).elementChildren("zeroOrMore"));
+      default:
+        return list(new Element(name).add(node));
+    }
+  }
+
+  private static Node sequence(List<Node> ast)
+  {
+    return ast.size() == 1 ? ast.get(0) : new Element("sequence").addAll(ast);
+  }
+
+  private static String charCode(String code)
+  {
+    return code.substring(2);
+  }
+
+  private String text(Symbol symbol)
+  {
+    return input.subSequence(symbol.begin, symbol.end).toString();
+  }
+
+  private boolean hasToken(Symbol symbol, String token)
+  {
+    for (Symbol child : symbol.children)
+    {
+      if (child.name.equals(TOKEN) && isText(child, token))
+        return true;
+    }
+    return false;
+  }
+
+  private boolean isText(Symbol symbol, String text)
+  {
+    if (symbol.end - symbol.begin != text.length())
+      return false;
+    for (int i = 0; i < text.length(); ++i)
+    {
+      if (input.charAt(symbol.begin + i) != text.charAt(i))
+        return false;
+    }
+    return true;
+  }
+
+  private static Symbol child(Symbol symbol, String name)
+  {
+    for (Symbol child : symbol.children)
+    {
+      if (child.name.equals(name))
+        return child;
+    }
+    return null;
+  }
+
+  private static List<Symbol> children(Symbol symbol, String name)
+  {
+    List<Symbol> children = new ArrayList<>();
+    for (Symbol child : symbol.children)
+    {
+      if (child.name.equals(name))
+      {
+        children.add(child);
+      }
+    }
+    return children;
+  }
+
+  private static List<Symbol> nonTokens(Symbol symbol)
+  {
+    List<Symbol> children = new ArrayList<>();
+    for (Symbol child : symbol.children)
+    {
+      if (!child.name.equals(TOKEN))
+      {
+        children.add(child);
+      }
+    }
+    return children;
+  }
+
+  private static List<Node> ast(Symbol symbol)
+  {
+    return symbol == null ? Collections.emptyList() : symbol.ast;
+  }
+
+  private static List<Node> concat(List<Symbol> symbols)
+  {
+    if (symbols.size() == 1)
+      return symbols.get(0).ast;
+
+    List<Node> ast = new ArrayList<>();
+    for (Symbol symbol : symbols)
+    {
+      ast.addAll(symbol.ast);
+    }
+    return ast;
+  }
+
+  private static List<Node> list(Node node)
+  {
+    return Collections.singletonList(node);
+  }
+
+  /**
+   * A nonterminal or terminal of the concrete syntax. The children of a nonterminal are only kept until it has been
+   * reduced to its AST fragment; terminals have none.
+   */
+  private static class Symbol
+  {
+    final String name;
+    final int begin;
+    int end;
+    List<Symbol> children;
+    List<Node> ast;
+
+    Symbol(String name, int begin)
+    {
+      this.name = name;
+      this.begin = begin;
+    }
+  }
+
+  private abstract static class Node
+  {
+    abstract void send(Builder builder) throws XPathException;
+  }
+
+  private static class Element extends Node
+  {
+    final String name;
+    final List<String[]> attributes = new ArrayList<>();
+    final List<Node> children = new ArrayList<>();
+
+    Element(String name)
+    {
+      this.name = name;
+    }
+
+    Element attribute(String name, String value)
+    {
+      attributes.add(new String[] {name, value});
+      return this;
+    }
+
+    Element text(String text)
+    {
+      if (!text.isEmpty())
+      {
+        children.add(new Text(text));
+      }
+      return this;
+    }
+
+    Element add(Node node)
+    {
+      if (node instanceof Attribute)
+      {
+        attribute(((Attribute) node).name, ((Attribute) node).value);
+      }
+      else
+      {
+        children.add(node);
+      }
+      return this;
+    }
+
+    Element addAll(List<Node> nodes)
+    {
+      for (Node node : nodes)
+      {
+        add(node);
+      }
+      return this;
+    }
+
+    /**
+     * @return an element of the given name, having the element children of this one
+     */
+    Element elementChildren(String name)
+    {
+      Element element = new Element(name);
+      for (Node child : children)
+      {
+        if (child instanceof Element)
+        {
+          element.add(child);
+        }
+      }
+      return element;
+    }
+
+    @Override
+    void send(Builder builder) throws XPathException
+    {
+      AttributeMap attributeMap = EmptyAttributeMap.getInstance();
+      if (!attributes.isEmpty())
+      {
+        List<AttributeInfo> attributeInfos = new ArrayList<>();
+        for (String[] attribute : attributes)
+        {
+          attributeInfos.add(new AttributeInfo(new NoNamespaceName(attribute[0]), BuiltInAtomicType.UNTYPED_ATOMIC,
+            attribute[1], Loc.NONE, ReceiverOption.NONE));
+        }
+        attributeMap = new SmallAttributeMap(attributeInfos);
+      }
+      builder.startElement(new FingerprintedQName("g", GRAMMAR_NAMESPACE, name), Untyped.getInstance(), attributeMap,
+        GRAMMAR_NAMESPACES, Loc.NONE, ReceiverOption.NONE);
+      for (Node child : children)
+      {
+        child.send(builder);
+      }
+      builder.endElement();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+      if (!(other instanceof Element))
+        return false;
+
+      Element element = (Element) other;
+      if (!name.equals(element.name) || attributes.size() != element.attributes.size())
+        return false;
+      for (int i = 0; i < attributes.size(); ++i)
+      {
+        if (!Arrays.equals(attributes.get(i), element.attributes.get(i)))
+          return false;
+      }
+      return children.equals(element.children);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return name.hashCode() * 31 + children.hashCode();
+    }
+  }
+
+  private static class Text extends Node
+  {
+    final String value;
+
+    Text(String value)
+    {
+      this.value = value;
+    }
+
+    @Override
+    void send(Builder builder) throws XPathException
+    {
+      builder.characters(value, Loc.NONE, ReceiverOption.NONE);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+      return other instanceof Text && value.equals(((Text) other).value);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return value.hashCode();
+    }
+  }
+
+  private static class ProcessingInstruction extends Node
+  {
+    final String target;
+    final String data;
+
+    /**
+     * @param data the contents, with leading whitespace removed like in an XQuery computed processing instruction
+     *   constructor
+     */
+    ProcessingInstruction(String target, String data)
+    {
+      this.target = target;
+      this.data = data.replaceFirst("^[ \t\r\n]+", "");
+    }
+
+    @Override
+    void send(Builder builder) throws XPathException
+    {
+      if (target.equalsIgnoreCase("xml"))
+        throw new XPathException("Processing instructions cannot be named 'xml' in any combination of upper/lower case",
+          "XQDY0064");
+
+      builder.processingInstruction(target, data, Loc.NONE, ReceiverOption.NONE);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+      return other instanceof ProcessingInstruction
+        && target.equals(((ProcessingInstruction) other).target)
+        && data.equals(((ProcessingInstruction) other).data);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return target.hashCode() * 31 + data.hashCode();
+    }
+  }
+
+  /**
+   * The {@code xhref} attribute of a production, which is added to the production element rather than sent.
+   */
+  private static class Attribute extends Node
+  {
+    final String name;
+    final String value;
+
+    Attribute(String name, String value)
+    {
+      this.name = name;
+      this.value = value;
+    }
+
+    @Override
+    void send(Builder builder)
+    {
+      throw new IllegalStateException("attribute " + name + " outside of element");
+    }
+  }
+
+  /**
+   * Parses a grammar into its AST, or into an {@code ERROR} element containing the error message, like {@code
+   * p:parse-Grammar} does for the concrete syntax tree.
+   */
+  public static Sequence parseGrammar(XPathContext context, CharSequence input) throws XPathException
+  {
+    ParallelParser<AstBuilder> parser = new ParallelParser<>(input, AstBuilder::new);
+    Builder builder = context.getController().makeBuilder();
+    builder.open();
+    try
+    {
+      build(builder, parser.parse_Grammar());
+    }
+    catch (Parser.ParseException pe)
+    {
+      builder.startElement(new NoNamespaceName("ERROR"), Untyped.getInstance(), EmptyAttributeMap.getInstance(),
+        NamespaceMap.emptyMap(), Loc.NONE, ReceiverOption.NONE);
+      builder.characters(parser.getErrorMessage(pe), Loc.NONE, ReceiverOption.NONE);
+      builder.endElement();
+    }
+    builder.close();
+    return builder.getCurrentRoot();
+  }
+
+  public static class SaxonDefinition_Grammar extends ExtensionFunctionDefinition
+  {
+    @Override
+    public StructuredQName getFunctionQName() {return new StructuredQName("ast-builder", AstBuilder.class.getSimpleName(), "parse-Grammar");}
+    @Override
+    public SequenceType[] getArgumentTypes() {return new SequenceType[] {SequenceType.SINGLE_STRING};}
+    @Override
+    public SequenceType getResultType(SequenceType[] suppliedArgumentTypes) {return SequenceType.SINGLE_NODE;}
+
+    @Override
+    public ExtensionFunctionCall makeCallExpression()
+    {
+      return new ExtensionFunctionCall()
+      {
+        @Override
+        public Sequence call(XPathContext context, Sequence[] arguments) throws XPathException
+        {
+          return parseGrammar(context, arguments[0].head().getStringValueCS());
+        }
+      };
+    }
+  }
+}
@@ -1,26 +1,156 @@
 package com.github.bannmann.trako.core;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
 import java.io.StringReader;
+import java.util.Arrays;
 
-import net.sf.saxon.Configuration;
 import net.sf.saxon.s9api.Processor;
 import net.sf.saxon.s9api.XdmNode;
 
+import org.apache.batik.ext.awt.image.GraphicsUtil;
+import org.apache.batik.gvt.renderer.ConcreteImageRendererFactory;
+import org.apache.batik.gvt.renderer.ImageRenderer;
+import org.apache.batik.transcoder.SVGAbstractTranscoder;
+import org.apache.batik.transcoder.TranscoderException;
 import org.apache.batik.transcoder.TranscoderInput;
 import org.apache.batik.transcoder.TranscoderOutput;
-import org.apache.batik.transcoder.image.PNGTranscoder;
+import org.w3c.dom.Document;
 
+/**
+ * Converts SVG to PNG using Batik. Each diagram is parsed and built into a Batik graphics tree once, which is then
+ * rasterized at every configured scale factor and written by a {@link PngEncoder}.
+ */
 public class BatikPngTranscoder implements PngTranscoder
 {
+  private static final Processor processor = new Processor(false);
+
+  private final PngEncoder encoder = new PngEncoder();
+  private double[] scales = {1};
+
   @Override
   public void transcode(XdmNode e, OutputStream o) throws Exception {
-    String svg = new Processor(new Configuration()).newSerializer().serializeNodeToString(e);
-    TranscoderInput input = new TranscoderInput(new StringReader(svg));
-    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-    TranscoderOutput output = new TranscoderOutput(baos);
-    PNGTranscoder t = new PNGTranscoder();
-    t.transcode(input, output);
-    o.write(baos.toByteArray());
+    BufferedImage image = rasterize(e, new double[] {1})[0];
+    encoder.encode(image, o);
+  }
+
+  @Override
+  public byte[][] transcodeScaled(XdmNode e) throws Exception
+  {
+    BufferedImage[] images = rasterize(e, scales);
+    byte[][] result = new byte[images.length][];
+    for (int i = 0; i < images.length; ++i)
+    {
+      ByteArrayOutputStream png = new ByteArrayOutputStream();
+      encoder.encode(images[i], png);
+      result[i] = png.toByteArray();
+    }
+    return result;
+  }
+
+  @Override
+  public double[] getScales()
+  {
+    return scales.clone();
+  }
+
+  /**
+   * @param scales scale factors to render each diagram at, e.g. {@code 1, 2, 3} for HiDPI assets; defaults to
+   *   {@code 1}
+   */
+  public void setScales(double... scales)
+  {
+    this.scales = PngTranscoder.checkScales(scales);
+  }
+
+  /**
+   * @param compressionLevel deflate level from {@code 0} (none) to {@code 9} (best), or {@code -1} for the default;
+   *   defaults to {@code -1}
+   */
+  public void setCompressionLevel(int compressionLevel)
+  {
+    encoder.setCompressionLevel(compressionLevel);
+  }
+
+  /**
+   * @param indexed whether to write PNGs with a color palette of at most 256 entries rather than RGBA, defaults to
+   *   {@code false}
+   */
+  public void setIndexed(boolean indexed)
+  {
+    encoder.setIndexed(indexed);
+  }
+
+  @Override
+  public String toString()
+  {
+    return "BatikPngTranscoder[scales=" + Arrays.toString(scales) + ", " + encoder + "]";
+  }
+
+  private static BufferedImage[] rasterize(XdmNode e, double[] scales) throws Exception
+  {
+    String svg = processor.newSerializer().serializeNodeToString(e);
+    Rasterizer rasterizer = new Rasterizer(scales);
+    rasterizer.transcode(new TranscoderInput(new StringReader(svg)), new TranscoderOutput());
+    return rasterizer.images;
+  }
+
+  /**
+   * Replicates the rendering of Batik's {@code ImageTranscoder}, but paints the graphics tree built by
+   * {@link SVGAbstractTranscoder} once per scale factor.
+   */
+  private static class Rasterizer extends SVGAbstractTranscoder
+  {
+    private final double[] scales;
+    private BufferedImage[] images;
+
+    Rasterizer(double[] scales)
+    {
+      this.scales = scales;
+    }
+
+    @Override
+    protected void transcode(Document document, String uri, TranscoderOutput output) throws TranscoderException
+    {
+      super.transcode(document, uri, output);
+
+      images = new BufferedImage[scales.length];
+      for (int i = 0; i < scales.length; ++i)
+      {
+        int w = (int) (width * scales[i] + 0.5);
+        int h = (int) (height * scales[i] + 0.5);
+        AffineTransform transform = AffineTransform.getScaleInstance(scales[i], scales[i]);
+        transform.concatenate(curTxf);
+
+        ImageRenderer renderer = new ConcreteImageRendererFactory().createStaticImageRenderer();
+        renderer.updateOffScreen(w, h);
+        renderer.setTransform(transform);
+        renderer.setTree(root);
+        try
+        {
+          renderer.repaint(transform.createInverse().createTransformedShape(new Rectangle2D.Float(0, 0, w, h)));
+        }
+        catch (NoninvertibleTransformException ex)
+        {
+          throw new TranscoderException(ex);
+        }
+
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage rendered = renderer.getOffScreen();
+        if (rendered != null)
+        {
+          Graphics2D g2d = GraphicsUtil.createGraphics(image);
+          g2d.drawRenderedImage(rendered, new AffineTransform());
+          g2d.dispose();
+        }
+        renderer.dispose();
+        images[i] = image;
+      }
+      root = null;
+    }
   }
 }
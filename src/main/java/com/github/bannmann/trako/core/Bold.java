@@ -29,709 +29,9 @@ public class Bold
     }
   }
 
-  private static final int[] HIGH = new int[6];
-  static
-  {
-    final String s1[] =
-    {
-      /* 0 */ "196608, 921600, 917503, 1114111, 90, 90"
-    };
-    String[] s2 = java.util.Arrays.toString(s1).replaceAll("[ \\[\\]]", "").split(",");
-    for (int i = 0; i < 6; ++i) {HIGH[i] = Integer.parseInt(s2[i]);}
-  }
+  private static final int[] HIGH = {196608, 921600, 917503, 1114111, 90, 90};
 
-  private static final int[] LOW = new int[11534];
-  static
-  {
-    final String s1[] =
-    {
-      /*     0 */ "12, 16, 20, 23, 27, 34, 30, 37, 41, 41, 43, 29, 47, 55, 63, 71, 75, 83, 91, 99, 107, 115, 123, 129",
-      /*    24 */ "134, 171, 185, 142, 150, 171, 171, 171, 171, 173, 171, 171, 197, 171, 158, 166, 181, 73, 73, 73, 73",
-      /*    45 */ "193, 171, 205, 213, 221, 229, 237, 245, 253, 261, 269, 277, 285, 293, 301, 309, 317, 325, 333, 341",
-      /*    65 */ "349, 357, 365, 373, 390, 398, 406, 414, 697, 697, 697, 697, 697, 697, 697, 697, 699, 422, 547, 540",
-      /*    85 */ "430, 438, 446, 454, 462, 470, 650, 485, 493, 501, 509, 517, 575, 525, 533, 560, 568, 583, 591, 599",
-      /*   105 */ "607, 629, 637, 687, 680, 621, 658, 673, 614, 720, 552, 477, 695, 644, 707, 715, 665, 728, 748, 756",
-      /*   125 */ "762, 770, 778, 786, 794, 794, 794, 794, 794, 794, 794, 794, 796, 804, 804, 804, 804, 916, 906, 836",
-      /*   145 */ "915, 915, 847, 859, 927, 872, 880, 888, 896, 914, 924, 935, 740, 839, 735, 943, 951, 915, 959, 915",
-      /*   165 */ "915, 967, 915, 915, 915, 864, 915, 915, 915, 915, 915, 915, 915, 915, 379, 915, 975, 983, 991, 999",
-      /*   185 */ "915, 915, 915, 915, 851, 812, 820, 828, 697, 697, 697, 1007, 915, 915, 915, 915, 915, 901, 915, 382",
-      /*   205 */ "1015, 1019, 1023, 1027, 1031, 1035, 1039, 1043, 1047, 1051, 1055, 1059, 1063, 1086, 1090, 1094",
-      /*   221 */ "1098, 1102, 1106, 1110, 1114, 1118, 1122, 1126, 1130, 1134, 1138, 1142, 1146, 1150, 1154, 1158",
-      /*   237 */ "2170, 1535, 1275, 2241, 1162, 1166, 1170, 1174, 1178, 1182, 1186, 1190, 1194, 1198, 1202, 1206",
-      /*   253 */ "1210, 1214, 1218, 1222, 1226, 1230, 1234, 1238, 1242, 1246, 1252, 1256, 1262, 1266, 1270, 1274",
-      /*   269 */ "2272, 1280, 1284, 1288, 1697, 1292, 1294, 1698, 1298, 1302, 1306, 1310, 1314, 1318, 1322, 1326",
-      /*   285 */ "1330, 1334, 1338, 1342, 1346, 1350, 1354, 1358, 1362, 1366, 1370, 1374, 1675, 1378, 1382, 1386",
-      /*   301 */ "1390, 1394, 1398, 1402, 2036, 2225, 1406, 1410, 2300, 2057, 2404, 1275, 2208, 2236, 1414, 2263",
-      /*   317 */ "2209, 2376, 1275, 1417, 1421, 1425, 1429, 1433, 1437, 1441, 1445, 1449, 1453, 1457, 1461, 1465",
-      /*   333 */ "1469, 1473, 1477, 2383, 1481, 1485, 1489, 1493, 1497, 1501, 1505, 1509, 1513, 1517, 1521, 1525",
-      /*   349 */ "1529, 1543, 1830, 2444, 1547, 1551, 1555, 1559, 1563, 1567, 1571, 1575, 1579, 1583, 1587, 1591",
-      /*   365 */ "1595, 1596, 1596, 1596, 1600, 1604, 1608, 1612, 1616, 1620, 1624, 1628, 1632, 1636, 1275, 1275",
-      /*   381 */ "2291, 1275, 1275, 1275, 1275, 1275, 2287, 1653, 1275, 1642, 1646, 1275, 2389, 2191, 1650, 1658",
-      /*   397 */ "1662, 2034, 1275, 1668, 1672, 2302, 1275, 1275, 2197, 1683, 1696, 1687, 1697, 1693, 1697, 2436",
-      /*   413 */ "1702, 1705, 1714, 1810, 2433, 1697, 1718, 1810, 2088, 1810, 1887, 1722, 1810, 1810, 1810, 1833",
-      /*   429 */ "1909, 1810, 1927, 1798, 1810, 1833, 1908, 1810, 1863, 1741, 1781, 1810, 1810, 1810, 1803, 1810",
-      /*   445 */ "1748, 1754, 1856, 2476, 1810, 1726, 1810, 1761, 1727, 1915, 1742, 1904, 2466, 1878, 1760, 1810",
-      /*   461 */ "1816, 1810, 2475, 1781, 1865, 1810, 1766, 1707, 1708, 1772, 1792, 1810, 2150, 1810, 1802, 1777",
-      /*   477 */ "1786, 1931, 1855, 1768, 1810, 1927, 1786, 1799, 1780, 1797, 1802, 1810, 1907, 1810, 1833, 1786",
-      /*   493 */ "1079, 1810, 1810, 1810, 1809, 1857, 1792, 1815, 1821, 1810, 1072, 1842, 1827, 1810, 1810, 1786",
-      /*   509 */ "1075, 1816, 1810, 1810, 2150, 1791, 1958, 1800, 1810, 1839, 1811, 1799, 1834, 1708, 1761, 1951",
-      /*   525 */ "1987, 1727, 1782, 1780, 1963, 1810, 1964, 1909, 1851, 1861, 1949, 1810, 1810, 1810, 1871, 1810",
-      /*   541 */ "1727, 1810, 1810, 1799, 1960, 1970, 1810, 1725, 1732, 1976, 1750, 1810, 1810, 1810, 1707, 1810",
-      /*   557 */ "1799, 1810, 1810, 1876, 1872, 1710, 1804, 1964, 1833, 2473, 2463, 1867, 1882, 1891, 1802, 1080",
-      /*   573 */ "1778, 1962, 1810, 1779, 1810, 1810, 1082, 1965, 1810, 1779, 2469, 1810, 1832, 1810, 1078, 2149",
-      /*   589 */ "1963, 1897, 1791, 2150, 1810, 1787, 1735, 1810, 1810, 1802, 1762, 1810, 1080, 2474, 1834, 1901",
-      /*   605 */ "1835, 1907, 1810, 1810, 1810, 1939, 1810, 1914, 1919, 1810, 1801, 1779, 1810, 1810, 1810, 1077",
-      /*   621 */ "1810, 1803, 1810, 1810, 1817, 1810, 1909, 1080, 1805, 2151, 1810, 1810, 2149, 1081, 1853, 1982",
-      /*   637 */ "1926, 1940, 1780, 1810, 1810, 1910, 1970, 1810, 1810, 1810, 1810, 1937, 1944, 1810, 1810, 1791",
-      /*   653 */ "1810, 1816, 1744, 1773, 2474, 1810, 1810, 1927, 1810, 1810, 1805, 1804, 1810, 1810, 1810, 1810",
-      /*   669 */ "1980, 1810, 1810, 1823, 1964, 1855, 1743, 1707, 1777, 1810, 1964, 1810, 1810, 1810, 1816, 1810",
-      /*   685 */ "1810, 1810, 1856, 1810, 1743, 1965, 1707, 1810, 1810, 1908, 1933, 1908, 1810, 1810, 1810, 1810",
-      /*   701 */ "1810, 1810, 1810, 1810, 1952, 1275, 1956, 1969, 1742, 1974, 1728, 1810, 1810, 2471, 1885, 1791",
-      /*   717 */ "1810, 1793, 1709, 1810, 1810, 1810, 1810, 1866, 1810, 1810, 1756, 1791, 2149, 1810, 1947, 1986",
-      /*   733 */ "1079, 1991, 1275, 1678, 1275, 1275, 1275, 1275, 1275, 1275, 2499, 1275, 1275, 1275, 1275, 2006",
-      /*   749 */ "2006, 2006, 2006, 2006, 1995, 2006, 2005, 2004, 2006, 2006, 2006, 2006, 1997, 2006, 2006, 2001",
-      /*   765 */ "2010, 2015, 2019, 2023, 2027, 2031, 1847, 2040, 2047, 2054, 1275, 2046, 1275, 2051, 2061, 2065",
-      /*   781 */ "2069, 1638, 2073, 2239, 2412, 2247, 2079, 2218, 2083, 1275, 1275, 1275, 1258, 1697, 1697, 1697",
-      /*   797 */ "1697, 1697, 1697, 1697, 1697, 1689, 1275, 1066, 1066, 1066, 1066, 1066, 1066, 1066, 1066, 2087",
-      /*   813 */ "1893, 1275, 1275, 2092, 2096, 2100, 2173, 2104, 2108, 2112, 2116, 2120, 2124, 2128, 2132, 1069",
-      /*   829 */ "2136, 2140, 2144, 2148, 1922, 2155, 2159, 2167, 1275, 2177, 1275, 1275, 1275, 1275, 1275, 1248",
-      /*   845 */ "2297, 1275, 2182, 1275, 1275, 1537, 1275, 1275, 1275, 1275, 1810, 1761, 1810, 1810, 2186, 2190",
-      /*   861 */ "1275, 1275, 2438, 1275, 1275, 1275, 2387, 1275, 2393, 1275, 1275, 1654, 2388, 2201, 1275, 2205",
-      /*   877 */ "1539, 2213, 2217, 2283, 1275, 1275, 2222, 2229, 2233, 1275, 1275, 2011, 2270, 1679, 2074, 1275",
-      /*   893 */ "1275, 2422, 2245, 1679, 2196, 2042, 1275, 1532, 1275, 1275, 1275, 2399, 2394, 1275, 1275, 1275",
-      /*   909 */ "2410, 2277, 2163, 1275, 1275, 2293, 1275, 1275, 1275, 1275, 1275, 1275, 1275, 1275, 2452, 2251",
-      /*   925 */ "2255, 2261, 1275, 1275, 1275, 1275, 1275, 2195, 1275, 1275, 2490, 1275, 2267, 1275, 2075, 2276",
-      /*   941 */ "2281, 1275, 2306, 2310, 2314, 2318, 2322, 2326, 2330, 2334, 2338, 2342, 2345, 2349, 2353, 2357",
-      /*   957 */ "2361, 2365, 1664, 2369, 2373, 1275, 1275, 1275, 1275, 1275, 2380, 1275, 1275, 1275, 1275, 1275",
-      /*   973 */ "1275, 1275, 2398, 1275, 1275, 2403, 1275, 2178, 2408, 2257, 2416, 2420, 1275, 1275, 2426, 2430",
-      /*   989 */ "2442, 2448, 2456, 2460, 2480, 1737, 2484, 2488, 1275, 1276, 2494, 2498, 2503, 2451, 1275, 1275",
-      /*  1005 */ "1275, 1275, 1810, 1810, 1810, 1845, 1275, 1275, 1275, 1275, 2507, 7898, 2525, 4538, 2533, 2898",
-      /*  1021 */ "3641, 5013, 7579, 2541, 2549, 2571, 4939, 2579, 5981, 2601, 2623, 2631, 2637, 2761, 2645, 2726",
-      /*  1037 */ "2733, 2739, 2665, 2673, 2615, 2681, 2689, 2697, 2776, 2719, 3053, 5636, 2747, 5622, 2769, 2784",
-      /*  1053 */ "2792, 2800, 2808, 7564, 2816, 5585, 2831, 7510, 2844, 5591, 2852, 3220, 2866, 3220, 3220, 3220",
-      /*  1069 */ "3220, 7129, 7784, 7126, 3724, 8554, 7126, 3730, 3724, 7126, 7126, 7126, 8550, 7126, 7126, 3725",
-      /*  1085 */ "3726, 2878, 3220, 3220, 5844, 5215, 2891, 2906, 3656, 2914, 2922, 2930, 2938, 3917, 2946, 3957",
-      /*  1101 */ "2954, 2608, 5078, 2969, 2962, 3000, 3008, 3016, 3024, 3032, 5665, 3040, 3047, 3061, 2976, 3433",
-      /*  1117 */ "3069, 3077, 3092, 3107, 3100, 3115, 3219, 3220, 3221, 3134, 3146, 3154, 3174, 3185, 3193, 3201",
-      /*  1133 */ "3311, 3209, 2881, 3229, 3237, 3250, 7840, 3258, 3266, 3288, 3296, 3304, 3348, 3356, 3364, 3372",
-      /*  1149 */ "3220, 2870, 3242, 3380, 8093, 3399, 3413, 3421, 3432, 8523, 3442, 3450, 6472, 3469, 3477, 3485",
-      /*  1165 */ "3493, 3508, 3530, 3538, 3546, 3554, 3569, 3577, 3592, 3600, 5831, 3608, 3616, 3634, 3649, 3664",
-      /*  1181 */ "3672, 3680, 3700, 4571, 3715, 3742, 3750, 3758, 3783, 3819, 3836, 3845, 3853, 3863, 3871, 3879",
-      /*  1197 */ "3887, 3895, 3126, 3910, 3925, 4437, 3934, 3522, 3942, 3950, 3965, 6674, 3977, 4000, 3707, 4015",
-      /*  1213 */ "4863, 4023, 3121, 4038, 5232, 4046, 4052, 4060, 4068, 4076, 5435, 4091, 4111, 4123, 4131, 4139",
-      /*  1229 */ "4147, 4155, 5228, 4171, 4179, 4030, 4187, 4893, 4195, 4213, 3500, 3433, 4202, 4221, 4229, 4244",
-      /*  1245 */ "4252, 4260, 4268, 3433, 3433, 3335, 6603, 4282, 5679, 4297, 4305, 4334, 4430, 3433, 3433, 3340",
-      /*  1261 */ "3433, 4350, 4358, 4366, 6052, 3391, 5101, 4374, 2858, 4388, 3215, 3220, 3424, 4406, 3433, 3433",
-      /*  1277 */ "3433, 3433, 3718, 3433, 8354, 4414, 8368, 5945, 6370, 4423, 4745, 4452, 3273, 4470, 4478, 7036",
-      /*  1293 */ "7052, 7036, 7036, 6360, 7036, 4496, 4504, 4512, 4520, 4528, 3405, 4546, 4007, 4554, 4579, 4587",
-      /*  1309 */ "4595, 4607, 4615, 4623, 4631, 4639, 4083, 4647, 4655, 4663, 4671, 4679, 4687, 4709, 4717, 4730",
-      /*  1325 */ "4738, 4753, 4761, 4769, 4777, 4791, 4798, 4806, 4814, 4828, 5028, 5035, 5041, 6789, 4842, 4856",
-      /*  1341 */ "4871, 4975, 4879, 4886, 4901, 4909, 4917, 4924, 4820, 4932, 4968, 4982, 4236, 5759, 4990, 6074",
-      /*  1357 */ "7416, 6782, 4998, 3584, 5006, 5021, 4834, 5049, 5071, 5056, 8496, 5086, 5094, 5109, 5117, 5125",
-      /*  1373 */ "5133, 5141, 5156, 5164, 4162, 3433, 7390, 3433, 7390, 5172, 8473, 5180, 5187, 5195, 5202, 5210",
-      /*  1389 */ "5223, 5240, 5256, 5269, 5277, 5285, 5293, 5301, 5309, 5321, 5329, 5337, 6829, 2823, 5353, 5361",
-      /*  1405 */ "8090, 5413, 5421, 5429, 3280, 5443, 5458, 5466, 5466, 8369, 3433, 3985, 3433, 3771, 5498, 4561",
-      /*  1421 */ "5506, 5514, 5522, 5530, 5538, 5546, 5554, 5562, 5570, 7480, 5578, 5599, 2883, 7941, 7941, 5890",
-      /*  1437 */ "2704, 2711, 2754, 5607, 5615, 5630, 5644, 5651, 5659, 5673, 5687, 5691, 5695, 2651, 2657, 5703",
-      /*  1453 */ "5716, 5724, 5732, 5740, 5148, 6232, 5753, 5767, 5716, 5732, 5753, 5775, 5790, 5783, 3797, 6479",
-      /*  1469 */ "2836, 5798, 4326, 5818, 5826, 5839, 3220, 5852, 7641, 5860, 4380, 5873, 5898, 5906, 5914, 8349",
-      /*  1485 */ "3177, 6555, 5922, 5930, 5938, 5953, 5960, 5804, 5810, 5968, 5976, 5989, 5997, 3084, 8503, 6005",
-      /*  1501 */ "6013, 6722, 6030, 3804, 2563, 8188, 8195, 4103, 6067, 6646, 4960, 6038, 6046, 6060, 6082, 6090",
-      /*  1517 */ "6098, 6106, 6114, 6122, 4848, 6795, 6130, 6138, 7786, 5405, 6984, 6146, 8520, 8520, 5368, 3433",
-      /*  1533 */ "4113, 3986, 3433, 4115, 3433, 3433, 3329, 3433, 3433, 5344, 8318, 3433, 6157, 6175, 6214, 6220",
-      /*  1549 */ "3790, 3790, 7898, 7921, 5745, 6228, 6240, 6669, 6255, 6262, 6269, 6284, 6289, 6148, 6301, 6323",
-      /*  1565 */ "6331, 6806, 6353, 6378, 7445, 6388, 6801, 7423, 6396, 3902, 6507, 4458, 4455, 4312, 6404, 6419",
-      /*  1581 */ "6434, 6447, 6449, 6457, 6465, 6487, 6439, 6495, 6523, 6531, 3433, 6541, 6549, 6563, 6571, 6572",
-      /*  1597 */ "6572, 6572, 6572, 4444, 6580, 6588, 6596, 6617, 6624, 6639, 6867, 6654, 6662, 4098, 6682, 6247",
-      /*  1613 */ "6700, 6708, 6715, 6743, 6751, 6759, 6767, 6873, 6775, 6814, 6729, 6019, 6019, 6822, 6022, 6021",
-      /*  1629 */ "6735, 6844, 6852, 3317, 6149, 3433, 6860, 6345, 2556, 3433, 3433, 3855, 3433, 6881, 6889, 6897",
-      /*  1645 */ "6905, 6913, 6921, 6929, 4694, 6631, 6945, 6953, 8371, 8369, 3433, 3433, 3854, 6961, 6969, 6977",
-      /*  1661 */ "6992, 7000, 4599, 7941, 7941, 7941, 4488, 7008, 3166, 4274, 2983, 6511, 5708, 3826, 3433, 4535",
-      /*  1677 */ "3433, 4535, 3433, 3433, 3433, 7941, 7026, 7126, 7018, 7064, 7036, 7046, 7036, 7036, 6367, 3433",
-      /*  1693 */ "3721, 7126, 3733, 7035, 7036, 7036, 7036, 7036, 6364, 7184, 3433, 3433, 7036, 7038, 7126, 7126",
-      /*  1709 */ "3726, 7126, 7126, 7126, 6203, 7196, 3723, 7036, 8590, 7036, 7060, 7126, 7072, 8548, 3731, 7126",
-      /*  1725 */ "3729, 3727, 7126, 7126, 7126, 3726, 3731, 8550, 8549, 3724, 8548, 3728, 7126, 7126, 6177, 8573",
-      /*  1741 */ "6314, 7126, 7126, 7126, 3730, 7126, 3726, 8551, 7125, 7126, 7124, 6308, 7126, 7126, 8552, 7124",
-      /*  1757 */ "7126, 3725, 3730, 7126, 7126, 7125, 7126, 7126, 3728, 7125, 3729, 7126, 7125, 7126, 8549, 8551",
-      /*  1773 */ "7126, 7126, 8548, 8550, 7126, 7126, 7124, 7126, 7126, 7126, 7123, 7126, 7123, 7126, 8548, 7126",
-      /*  1789 */ "7126, 7114, 8548, 7126, 7126, 7126, 7125, 3731, 3726, 8552, 7126, 7126, 7126, 3728, 7126, 7126",
-      /*  1805 */ "7126, 3727, 7126, 7126, 7094, 7126, 7126, 7126, 7126, 2591, 3726, 7126, 7126, 8549, 7126, 7123",
-      /*  1821 */ "7126, 7137, 7126, 7126, 3726, 7162, 3725, 7126, 7124, 7126, 6185, 7126, 7126, 3725, 7126, 7126",
-      /*  1837 */ "7126, 3724, 7124, 7115, 7126, 7123, 7124, 7173, 7126, 6167, 3433, 3433, 8371, 7972, 7126, 7147",
-      /*  1853 */ "7126, 3727, 8550, 7126, 7126, 7126, 8549, 3724, 7126, 7161, 7126, 7126, 3731, 7126, 7126, 7126",
-      /*  1869 */ "3731, 3727, 8551, 7126, 3729, 7126, 7126, 6206, 3729, 7123, 7126, 3727, 8548, 8553, 7126, 7123",
-      /*  1885 */ "8549, 6692, 7126, 7126, 7087, 7106, 6315, 8549, 7126, 7126, 3734, 3433, 7126, 7126, 7125, 6691",
-      /*  1901 */ "7126, 8548, 7126, 8549, 7123, 2592, 7126, 3730, 7126, 7126, 7126, 3729, 3728, 8551, 7126, 8551",
-      /*  1917 */ "7126, 8548, 3724, 3727, 7170, 7126, 7027, 2514, 7888, 8551, 7126, 8549, 7126, 7126, 7125, 3730",
-      /*  1933 */ "7126, 7126, 6311, 7126, 3725, 7126, 3728, 7126, 7123, 7126, 7126, 3725, 8549, 7126, 7123, 7150",
-      /*  1949 */ "7126, 3726, 7125, 7126, 7126, 7126, 7195, 3731, 7126, 7126, 8548, 3729, 7126, 3727, 7126, 8551",
-      /*  1965 */ "7126, 7126, 7126, 8548, 2593, 7126, 7126, 7126, 8551, 8551, 7126, 7126, 8550, 3725, 8548, 3725",
-      /*  1981 */ "8551, 7126, 3728, 3729, 7126, 7153, 7126, 7126, 3727, 7139, 3724, 7126, 7181, 7192, 7921, 7920",
-      /*  1997 */ "7921, 7921, 7919, 7921, 7205, 7921, 7921, 7921, 7914, 7921, 7921, 7921, 7921, 7208, 3433, 3433",
-      /*  2013 */ "3433, 3983, 3811, 7216, 7224, 7232, 7240, 7248, 5063, 7256, 7264, 7272, 7280, 7288, 7296, 7304",
-      /*  2029 */ "7312, 7320, 7328, 7336, 7344, 3433, 4566, 3433, 3433, 3986, 3986, 3433, 8620, 3433, 3433, 4780",
-      /*  2045 */ "3988, 3138, 3433, 3433, 3433, 3991, 3622, 3433, 5450, 3433, 4722, 4340, 3433, 4783, 7941, 3773",
-      /*  2061 */ "7352, 7360, 7368, 7376, 3991, 3433, 3433, 5944, 3989, 3433, 7941, 7391, 4782, 3990, 3433, 3433",
-      /*  2077 */ "3433, 5378, 3626, 3433, 3433, 4114, 5345, 3433, 4780, 3329, 7126, 7126, 7127, 7126, 3732, 7401",
-      /*  2093 */ "4289, 7409, 7438, 7453, 7461, 7465, 7473, 6836, 7488, 4946, 4953, 7518, 7526, 7541, 7549, 7557",
-      /*  2109 */ "7572, 7605, 7610, 7618, 7626, 7634, 7649, 7657, 7665, 7673, 7680, 7688, 7696, 7704, 7712, 3433",
-      /*  2125 */ "7720, 7728, 7736, 7744, 4701, 7752, 7760, 7768, 3433, 3433, 7776, 6191, 7794, 7802, 7810, 7818",
-      /*  2141 */ "7826, 7834, 7848, 7856, 7864, 7872, 7880, 3723, 7126, 7126, 7126, 8552, 7126, 3728, 2517, 7889",
-      /*  2157 */ "7897, 7899, 7593, 7597, 3692, 7586, 7929, 3433, 3433, 5865, 5248, 4342, 3323, 3433, 5373, 3458",
-      /*  2173 */ "3433, 3387, 7496, 7503, 4462, 3433, 3433, 3433, 6338, 4394, 3433, 3433, 5313, 4205, 3433, 3433",
-      /*  2189 */ "3926, 3969, 3433, 3433, 3433, 6937, 5943, 8370, 3433, 3433, 3433, 7128, 8369, 3433, 3433, 7987",
-      /*  2205 */ "8369, 3433, 4782, 7952, 3433, 3433, 5944, 3988, 8369, 3433, 3433, 3984, 8364, 3433, 3433, 3433",
-      /*  2221 */ "7384, 3433, 8371, 7987, 3433, 5386, 5394, 5402, 3990, 3433, 3433, 7393, 6609, 5342, 4485, 7952",
-      /*  2237 */ "3433, 4780, 3990, 3433, 3433, 3984, 7983, 7941, 8370, 8621, 3433, 3433, 4781, 7951, 7949, 3433",
-      /*  2253 */ "3433, 3765, 5342, 7960, 3433, 3433, 5261, 8539, 5941, 3987, 3433, 3433, 5943, 3990, 3433, 7940",
-      /*  2269 */ "7980, 7951, 3434, 3433, 3433, 4780, 7985, 7995, 3433, 3433, 3433, 7907, 5863, 3461, 3433, 3433",
-      /*  2285 */ "6369, 7962, 3433, 7984, 7941, 7985, 3433, 7392, 3433, 3433, 6369, 7987, 4415, 3433, 6370, 3433",
-      /*  2301 */ "5448, 3433, 3433, 3433, 8618, 8003, 8011, 8019, 8257, 8027, 8035, 8043, 8051, 8059, 8067, 7430",
-      /*  2317 */ "8075, 8083, 8101, 8109, 8117, 8125, 8133, 8141, 8149, 8157, 8165, 8173, 8181, 3561, 8203, 8211",
-      /*  2333 */ "8219, 8227, 8235, 8243, 8265, 8273, 8281, 8250, 8289, 6276, 8297, 8305, 8313, 8313, 8326, 8334",
-      /*  2349 */ "8435, 8342, 8458, 6426, 8380, 8388, 8396, 8404, 8412, 8420, 8428, 8443, 8451, 8466, 8481, 7533",
-      /*  2365 */ "8489, 6293, 8511, 8517, 7941, 7941, 7986, 5343, 3160, 4780, 7984, 3433, 5474, 5482, 5490, 7970",
-      /*  2381 */ "3775, 3515, 3433, 5887, 5881, 5247, 3433, 7951, 3433, 3433, 8371, 3991, 8359, 3433, 3433, 3433",
-      /*  2397 */ "7951, 3160, 3433, 3433, 3433, 7952, 4163, 3433, 3433, 3433, 7985, 3837, 8531, 3433, 3433, 8370",
-      /*  2413 */ "3433, 5343, 3433, 8619, 4455, 3992, 4319, 3433, 7197, 3433, 3433, 8371, 7937, 6533, 8612, 4460",
-      /*  2429 */ "7014, 7079, 3723, 7126, 7128, 7036, 7036, 7037, 7126, 3433, 3433, 4398, 3433, 7126, 7196, 7126",
-      /*  2445 */ "7126, 7098, 6163, 6501, 3433, 6688, 4460, 3433, 3433, 3433, 8372, 3828, 2988, 6685, 3732, 8547",
-      /*  2461 */ "7126, 8562, 7126, 7126, 7111, 7126, 6200, 6411, 7126, 3731, 8548, 7126, 3727, 7126, 8552, 7126",
-      /*  2477 */ "7126, 7124, 3731, 2992, 7126, 7078, 6196, 2586, 8581, 6380, 8589, 3433, 7128, 3433, 3433, 8371",
-      /*  2493 */ "7970, 3723, 8598, 8565, 6688, 7075, 3433, 3433, 3433, 8367, 8605, 8629, 6515, 3687, 8787, 8773",
-      /*  2509 */ "8773, 8773, 8774, 11190, 11190, 8773, 8773, 8773, 8906, 8906, 8906, 8906, 8906, 8906, 8906, 8906",
-      /*  2525 */ "8646, 11185, 9712, 9283, 8861, 10187, 9162, 10632, 9931, 9748, 9349, 9862, 10388, 9576, 10114, 9606",
-      /*  2541 */ "8799, 8785, 8786, 8759, 8846, 8791, 10181, 9949, 8646, 9181, 9181, 9276, 10602, 8853, 11186, 9509",
-      /*  2557 */ "9181, 10602, 9181, 9181, 9181, 9181, 9181, 9363, 9363, 9363, 9363, 9363, 9242, 9213, 11185, 10249",
-      /*  2573 */ "9906, 9076, 8973, 8853, 8856, 10723, 8866, 11200, 8871, 10233, 9584, 10647, 10013, 9181, 9474, 9181",
-      /*  2589 */ "9181, 9181, 10835, 10835, 10835, 9889, 10835, 10835, 9889, 10835, 10835, 10835, 9274, 9985, 9985",
-      /*  2604 */ "10978, 11034, 10569, 10046, 9442, 10730, 9002, 10764, 9017, 11245, 10653, 9174, 9494, 11514, 10235",
-      /*  2619 */ "8725, 8774, 9061, 9650, 9365, 9365, 9365, 11159, 11159, 11159, 11159, 8895, 10822, 9175, 9175, 9175",
-      /*  2635 */ "9175, 9175, 9007, 9007, 9566, 9566, 10391, 10391, 10391, 10391, 10082, 11450, 11505, 11505, 9052",
-      /*  2650 */ "11177, 10042, 10042, 10042, 10042, 10042, 9174, 9174, 9174, 9021, 9021, 9294, 9294, 9294, 9294",
-      /*  2665 */ "10356, 10044, 10044, 9242, 10630, 10317, 8700, 10514, 9319, 9700, 11127, 10140, 8971, 9351, 10354",
-      /*  2680 */ "8970, 10552, 8968, 9540, 10267, 10615, 9024, 10991, 10120, 9724, 9946, 9964, 8946, 10603, 8965",
-      /*  2695 */ "9759, 9447, 9134, 10260, 9228, 8984, 9439, 8984, 8980, 11208, 10731, 10494, 10731, 9760, 10355",
-      /*  2710 */ "10822, 10355, 10355, 9175, 9175, 10629, 10629, 10629, 10334, 8708, 10382, 9007, 9431, 10287, 9365",
-      /*  2725 */ "11219, 10042, 10693, 11265, 11265, 11265, 10457, 10457, 10457, 9023, 9539, 9023, 9021, 9021, 9021",
-      /*  2740 */ "9021, 10382, 10676, 9220, 10571, 10571, 8703, 8953, 9485, 10629, 11208, 10629, 10360, 10360, 10360",
-      /*  2755 */ "8971, 11028, 8971, 8971, 8971, 9165, 10391, 11158, 10268, 9766, 8901, 8713, 8713, 10455, 9144",
-      /*  2770 */ "10652, 10502, 10629, 9128, 8983, 10001, 11208, 11009, 10360, 10360, 8971, 10360, 10360, 10615, 8692",
-      /*  2785 */ "9553, 9937, 8858, 10628, 8716, 8728, 9078, 10057, 11528, 9826, 8858, 8842, 9184, 8841, 10770, 9860",
-      /*  2801 */ "8858, 10259, 10166, 10001, 9937, 9937, 10619, 10736, 10141, 10132, 8645, 10398, 10724, 10260, 8919",
-      /*  2816 */ "8718, 9282, 10471, 8768, 11029, 10248, 11524, 8901, 8969, 9812, 10699, 10699, 10699, 10699, 10699",
-      /*  2831 */ "8648, 9551, 9551, 9181, 9079, 11190, 11190, 11190, 11190, 11190, 8811, 8798, 8798, 8818, 8803, 8993",
-      /*  2847 */ "9064, 9064, 11190, 11190, 9128, 8798, 8836, 8798, 8836, 8836, 9951, 8836, 8798, 8798, 8798, 8798",
-      /*  2863 */ "8798, 8798, 8806, 8798, 8798, 8798, 10984, 8798, 8798, 8798, 8798, 8798, 9951, 8976, 10245, 8798",
-      /*  2879 */ "8798, 9737, 8798, 8798, 8798, 8798, 8798, 8798, 8798, 9949, 11247, 11247, 11262, 9649, 8985, 9565",
-      /*  2895 */ "9385, 9364, 10297, 9384, 10331, 9247, 10201, 10166, 11455, 11455, 9734, 10104, 10764, 10875, 9648",
-      /*  2910 */ "10885, 9480, 9008, 8745, 11248, 9476, 11205, 9002, 10759, 8929, 11034, 9509, 11511, 11338, 10304",
-      /*  2925 */ "11159, 10360, 10261, 8881, 8683, 10081, 10872, 9760, 9714, 8876, 8880, 10241, 11456, 8933, 10147",
-      /*  2940 */ "9135, 10899, 9228, 10282, 10240, 9242, 10493, 9649, 10298, 8947, 9232, 11176, 10160, 9859, 9176",
-      /*  2955 */ "10075, 9060, 8932, 11247, 10456, 11503, 10299, 9256, 10360, 10776, 10776, 9179, 8999, 10010, 9762",
-      /*  2970 */ "10678, 8900, 11208, 11023, 10674, 9173, 10912, 9227, 9181, 9181, 9181, 9685, 10382, 9181, 9474",
-      /*  2985 */ "9181, 10835, 9181, 9474, 9890, 9890, 9474, 10835, 10835, 10835, 10835, 10847, 10835, 10835, 10835",
-      /*  3000 */ "10001, 11194, 8798, 10985, 8798, 9495, 9367, 10235, 9541, 9541, 8963, 9199, 10912, 9766, 9766, 8963",
-      /*  3016 */ "9309, 10104, 9561, 9231, 9744, 10001, 9545, 10676, 9060, 9649, 10316, 10289, 9246, 10034, 10424",
-      /*  3031 */ "10424, 8676, 9258, 10458, 8970, 11163, 10655, 9372, 9350, 8770, 9495, 9495, 10360, 11274, 10360",
-      /*  3046 */ "8671, 10014, 10014, 10289, 9541, 9245, 8762, 11208, 11208, 10629, 10629, 9165, 9165, 10360, 10360",
-      /*  3061 */ "10044, 9255, 10306, 11526, 9208, 11121, 9973, 10503, 9742, 9397, 10647, 9748, 9914, 10482, 11008",
-      /*  3076 */ "10550, 10359, 9463, 9360, 10952, 9696, 10031, 10710, 10952, 10535, 9469, 9975, 9866, 9004, 9357",
-      /*  3091 */ "9288, 9363, 11008, 9684, 9294, 10332, 8839, 11189, 9865, 9060, 10764, 9735, 9799, 8930, 10559, 9274",
-      /*  3107 */ "10009, 9181, 9181, 9060, 10024, 9181, 10558, 9270, 9234, 9287, 9038, 9293, 10624, 8975, 9181, 9181",
-      /*  3123 */ "8657, 8835, 9043, 9181, 9181, 9181, 8783, 9181, 9181, 11054, 10105, 8811, 8812, 8798, 8824, 9181",
-      /*  3139 */ "9181, 9181, 9181, 8743, 8707, 9079, 9181, 8770, 10916, 8817, 9303, 9449, 10271, 9305, 10279, 9014",
-      /*  3155 */ "9149, 8941, 11524, 11454, 9307, 9181, 9181, 9380, 9181, 9181, 9181, 9181, 9181, 9474, 9474, 9181",
-      /*  3171 */ "9181, 10520, 9181, 11041, 11001, 8763, 9181, 9181, 9181, 9181, 9181, 9295, 9384, 10055, 10838, 9898",
-      /*  3187 */ "9181, 9181, 9181, 9749, 9195, 9056, 8798, 8798, 8798, 11247, 11247, 10173, 9951, 9944, 9277, 8794",
-      /*  3203 */ "9355, 9720, 10392, 10392, 9520, 8712, 9943, 9101, 9168, 9354, 10171, 11194, 8798, 8798, 8798, 8798",
-      /*  3219 */ "8836, 8798, 8798, 8798, 8798, 8798, 8798, 8798, 8798, 9752, 8858, 8858, 8858, 8858, 8858, 11196",
-      /*  3235 */ "9318, 11459, 8799, 8795, 8799, 10272, 9284, 10392, 10392, 10392, 10278, 8712, 9444, 8714, 10337",
-      /*  3250 */ "10278, 9520, 9520, 9520, 10392, 10392, 10392, 10392, 10337, 10337, 10337, 9387, 9132, 9371, 9102",
-      /*  3265 */ "8750, 10736, 10736, 9133, 8841, 8776, 10982, 10982, 8711, 10070, 9151, 10477, 8693, 9409, 9458",
-      /*  3280 */ "10116, 10054, 11050, 9505, 9829, 10110, 10596, 10528, 10981, 11458, 10272, 10272, 10272, 10272",
-      /*  3294 */ "10335, 9947, 8663, 10951, 11193, 8798, 8798, 8798, 9753, 10694, 8798, 8798, 8798, 8798, 11187, 8798",
-      /*  3310 */ "8798, 9444, 9316, 8998, 10078, 8916, 8740, 9181, 9181, 9474, 9551, 9181, 9181, 9181, 9181, 9697",
-      /*  3326 */ "9181, 9181, 9181, 9181, 9181, 9906, 9380, 9181, 9181, 9181, 9181, 9906, 11247, 11247, 9181, 9906",
-      /*  3342 */ "11247, 11247, 11247, 9380, 11247, 9181, 8858, 8858, 8858, 8858, 8858, 8998, 10338, 10170, 9610",
-      /*  3357 */ "9717, 9718, 8644, 8644, 9330, 10258, 8836, 9577, 10290, 9801, 8734, 10205, 10684, 9069, 9314, 8742",
-      /*  3373 */ "10168, 10044, 8773, 8926, 9155, 9818, 9801, 10337, 10736, 8944, 9169, 10982, 10150, 9316, 9181",
-      /*  3388 */ "9479, 10125, 10170, 10272, 10272, 10272, 10272, 11518, 10272, 10272, 10272, 8984, 9360, 9217, 9828",
-      /*  3403 */ "8939, 10727, 10738, 10571, 9995, 10080, 10509, 10025, 10719, 9181, 9291, 10090, 10686, 8876, 8699",
-      /*  3418 */ "10059, 10100, 11167, 8861, 10736, 11526, 8798, 8798, 8798, 8798, 8798, 8798, 9951, 9249, 8825, 9181",
-      /*  3434 */ "9181, 9181, 9181, 9181, 9181, 9181, 9181, 9380, 10823, 11453, 9278, 9281, 8896, 11247, 9976, 10059",
-      /*  3450 */ "9549, 9546, 9827, 8936, 8737, 8711, 8681, 8936, 11247, 11247, 9906, 11247, 9906, 11247, 11247, 9181",
-      /*  3466 */ "9181, 9181, 9181, 10129, 9332, 10325, 9965, 9662, 11076, 9902, 11050, 9740, 9334, 9335, 9627, 10184",
-      /*  3482 */ "11029, 11273, 10071, 9692, 10887, 9312, 9672, 9043, 9340, 9357, 10113, 9520, 9924, 8847, 9631, 9433",
-      /*  3498 */ "11247, 9369, 10905, 9940, 9961, 9961, 10251, 9963, 10976, 10003, 9939, 9940, 9940, 9940, 9375",
-      /*  3513 */ "10905, 11525, 11247, 9906, 9380, 11247, 11247, 9380, 9181, 9181, 9795, 10008, 9181, 9499, 10485",
-      /*  3528 */ "9181, 9504, 10557, 10128, 9379, 11247, 9390, 9247, 9019, 10863, 10646, 9940, 10000, 9543, 8688",
-      /*  3543 */ "10728, 11509, 11047, 9197, 10023, 9181, 9181, 9181, 10764, 8668, 9019, 9147, 9346, 11241, 11270",
-      /*  3558 */ "11335, 10819, 9905, 9295, 11168, 9694, 9551, 8717, 9154, 9551, 10393, 9696, 9700, 10550, 10490",
-      /*  3573 */ "11127, 10309, 10647, 9592, 9357, 9669, 9260, 9273, 9270, 10426, 9247, 10489, 8982, 10489, 10489",
-      /*  3588 */ "9394, 10489, 10489, 8899, 10163, 10331, 9181, 11503, 9046, 9181, 9029, 8690, 9145, 9723, 9146, 8989",
-      /*  3604 */ "8988, 9493, 8966, 9383, 10425, 9723, 9181, 9525, 9462, 9226, 10890, 9299, 9985, 9862, 10330, 9053",
-      /*  3620 */ "9485, 10648, 9181, 9380, 9181, 9380, 9181, 9906, 9181, 9181, 9181, 9181, 11247, 9181, 9147, 9403",
-      /*  3636 */ "9700, 11018, 10476, 9748, 9181, 9060, 9008, 9442, 10262, 8745, 9027, 8659, 9022, 9746, 9747, 10493",
-      /*  3652 */ "9235, 9246, 9242, 11247, 9669, 10113, 9986, 10238, 10263, 8901, 10113, 8879, 9906, 9913, 10310",
-      /*  3667 */ "9037, 9181, 9043, 10308, 9913, 10763, 9904, 10498, 9380, 9037, 9181, 9407, 10922, 10117, 9146, 9181",
-      /*  3683 */ "9722, 9146, 9722, 9415, 9181, 9890, 9181, 10186, 9474, 10835, 10835, 9890, 9741, 8773, 8773, 8773",
-      /*  3699 */ "9307, 9722, 9181, 9181, 9181, 9234, 10493, 9380, 10102, 9043, 11263, 9234, 9564, 9043, 9708, 9036",
-      /*  3715 */ "9064, 10385, 9897, 9181, 9181, 9181, 9181, 9181, 9474, 10835, 10835, 10835, 10835, 10835, 10835",
-      /*  3730 */ "10835, 9889, 10835, 10835, 10835, 10835, 10835, 10835, 10835, 9890, 9181, 9181, 9952, 9423, 9408",
-      /*  3745 */ "9729, 10489, 11004, 9430, 9408, 9451, 9728, 9452, 9395, 9060, 10485, 10552, 10111, 10248, 9432",
-      /*  3760 */ "9697, 8988, 9181, 8973, 9394, 9181, 9906, 11247, 11247, 11247, 9906, 11247, 9380, 11247, 11247",
-      /*  3775 */ "11247, 11247, 11247, 11247, 9380, 9906, 11247, 11247, 10088, 9394, 9181, 9181, 10943, 9181, 9471",
-      /*  3790 */ "8773, 8773, 8884, 8773, 8773, 8773, 8884, 8773, 10569, 9520, 8773, 9242, 10198, 10284, 10569, 9363",
-      /*  3806 */ "9363, 9363, 9363, 9181, 9181, 10489, 11112, 11072, 10522, 11132, 11098, 10057, 10704, 8788, 8789",
-      /*  3821 */ "8789, 8657, 8816, 9825, 10460, 9181, 10009, 9181, 9181, 9181, 9181, 9181, 9181, 10835, 9890, 10601",
-      /*  3837 */ "9181, 9181, 9181, 9181, 9181, 9181, 9181, 9509, 10775, 8789, 9181, 11067, 11067, 9312, 10084, 11067",
-      /*  3853 */ "10545, 9181, 9181, 9181, 9181, 11247, 11247, 11247, 11247, 9181, 9080, 10309, 8989, 9349, 10073",
-      /*  3868 */ "11068, 9473, 10510, 9748, 10056, 9572, 9272, 10084, 9483, 11059, 11044, 11056, 11063, 11045, 10684",
-      /*  3883 */ "9383, 11244, 9970, 10051, 9660, 10508, 8973, 11066, 8891, 9181, 9487, 8784, 8782, 8795, 9721, 9234",
-      /*  3899 */ "10952, 11418, 9490, 9181, 10089, 10736, 9428, 8868, 10569, 10035, 9509, 11179, 8795, 9181, 9985",
-      /*  3914 */ "10299, 9985, 9985, 9985, 9266, 9181, 10902, 9761, 10862, 11176, 10103, 9820, 9181, 9181, 9181, 9181",
-      /*  3930 */ "9181, 9181, 9181, 9697, 11415, 8856, 9489, 9181, 9712, 9746, 9492, 11174, 9507, 9559, 9563, 9501",
-      /*  3946 */ "11342, 9181, 9181, 11220, 10118, 11240, 9181, 9579, 9590, 9597, 9600, 9181, 10163, 9648, 9899, 9035",
-      /*  3962 */ "9058, 9748, 9614, 9612, 9181, 9181, 11172, 9181, 9181, 9181, 9181, 9748, 9181, 9181, 9181, 9623",
-      /*  3978 */ "9639, 9780, 11304, 9677, 9711, 9181, 9181, 9906, 11247, 11247, 11247, 11247, 11247, 11247, 9181",
-      /*  3993 */ "9181, 9181, 9181, 9181, 9181, 9181, 9474, 10037, 9238, 11247, 9220, 9703, 10752, 9748, 11060, 8962",
-      /*  4009 */ "11060, 11057, 11060, 11513, 11060, 9773, 10034, 9663, 9043, 9043, 10102, 9043, 9043, 11088, 8829",
-      /*  4024 */ "10546, 9699, 8789, 9727, 8789, 9739, 9181, 10248, 10087, 9911, 9204, 9919, 10755, 9713, 9598, 8789",
-      /*  4040 */ "9181, 10866, 9321, 10384, 10888, 8990, 9906, 9810, 9234, 10310, 10856, 9268, 9270, 10310, 10067",
-      /*  4055 */ "11252, 11024, 10310, 11022, 10479, 9656, 10310, 10310, 10310, 9270, 10310, 10310, 9757, 9656, 9442",
-      /*  4070 */ "9234, 9656, 10310, 9181, 9806, 9130, 10109, 8924, 10763, 9777, 10705, 11114, 11499, 9181, 10459",
-      /*  4085 */ "9982, 9181, 8674, 9828, 10734, 10917, 10862, 8789, 9181, 9043, 9043, 9043, 9043, 9043, 10569, 10569",
-      /*  4101 */ "9242, 10569, 10569, 9904, 9904, 10433, 10761, 9438, 10569, 10285, 9990, 11171, 9181, 9181, 9181",
-      /*  4116 */ "9181, 9181, 9181, 9906, 11247, 9181, 9181, 11247, 10793, 9789, 9808, 9782, 9785, 9788, 9791, 9794",
-      /*  4132 */ "9832, 9837, 9838, 11115, 9843, 9846, 9848, 11491, 9852, 9855, 10525, 9035, 11320, 10942, 10861",
-      /*  4147 */ "10027, 9640, 9705, 9874, 9876, 11334, 9411, 9617, 9967, 9218, 9746, 10857, 9880, 9882, 9884, 11517",
-      /*  4163 */ "9181, 9181, 9181, 9181, 9181, 9181, 9181, 10105, 9886, 8789, 9181, 10554, 9894, 9582, 9887, 9706",
-      /*  4179 */ "11140, 11332, 9896, 9181, 10706, 9909, 10348, 11016, 9754, 9921, 9272, 11417, 9181, 10317, 9272",
-      /*  4194 */ "9632, 9956, 9477, 11045, 9272, 9272, 11179, 10164, 9181, 10553, 9180, 9181, 9181, 9181, 9181, 9181",
-      /*  4210 */ "9696, 9181, 9181, 9320, 9320, 9312, 11244, 9181, 11517, 9181, 9510, 10105, 9270, 9985, 11159, 10384",
-      /*  4226 */ "9697, 10005, 9043, 10016, 11292, 9985, 10763, 9484, 9985, 9181, 9394, 9394, 9394, 9358, 9347, 8772",
-      /*  4242 */ "9063, 11157, 10893, 11520, 10513, 9177, 10163, 10456, 11276, 8878, 10189, 8769, 8798, 8798, 8798",
-      /*  4257 */ "9951, 9181, 9747, 8713, 8906, 10726, 8862, 8798, 8798, 8798, 8863, 10456, 11028, 9465, 10018, 9404",
-      /*  4273 */ "9888, 9181, 9181, 10009, 9474, 9181, 9890, 9890, 9890, 9700, 10497, 9261, 9990, 10102, 10763, 10164",
-      /*  4289 */ "9181, 10794, 11301, 11300, 9181, 9181, 9182, 10190, 9700, 9669, 9234, 9234, 9181, 9313, 9234, 11035",
-      /*  4305 */ "10135, 8765, 8798, 8798, 8798, 8836, 8827, 9181, 10833, 10602, 9181, 9181, 9890, 10602, 9181, 10835",
-      /*  4321 */ "10835, 9890, 10835, 9890, 9181, 9181, 10898, 10394, 11261, 11190, 8798, 8798, 8812, 10625, 9305",
-      /*  4336 */ "8740, 10080, 8798, 8798, 8798, 9181, 9181, 9181, 9181, 9181, 9181, 9181, 10953, 9181, 9142, 10765",
-      /*  4352 */ "10121, 10030, 10669, 10399, 8819, 8804, 10093, 9002, 8781, 9550, 8798, 10095, 10633, 10048, 9081",
-      /*  4367 */ "9126, 8739, 10273, 9751, 9995, 10650, 9995, 10273, 8731, 9143, 8730, 10919, 9989, 9181, 9181, 10009",
-      /*  4383 */ "11118, 11017, 9685, 9697, 10692, 8798, 8798, 11195, 8798, 9250, 9031, 9906, 11247, 9906, 9380, 9181",
-      /*  4399 */ "9181, 11247, 11247, 9181, 9181, 9181, 9181, 10064, 9971, 8707, 10136, 9157, 10738, 10088, 9969",
-      /*  4414 */ "9380, 11247, 9380, 9906, 11247, 11247, 11247, 9181, 9181, 10506, 10502, 9020, 9247, 9987, 11126",
-      /*  4429 */ "9569, 10502, 9453, 9985, 10161, 9633, 9181, 11116, 9181, 11033, 9779, 9833, 10543, 9824, 9181",
-      /*  4444 */ "10475, 10538, 10436, 10538, 8906, 9691, 10841, 10841, 10357, 11054, 9616, 9181, 9181, 9181, 9181",
-      /*  4459 */ "9181, 9890, 9181, 9181, 9181, 9181, 9181, 9181, 9181, 10713, 9181, 10244, 9363, 9907, 8869, 8691",
-      /*  4475 */ "10257, 10065, 10099, 10605, 9526, 11529, 10459, 10922, 10651, 9098, 9181, 11247, 9181, 11247, 11247",
-      /*  4490 */ "11247, 9380, 9181, 9906, 11247, 11247, 10153, 9555, 9991, 9201, 9804, 9775, 9764, 10683, 9633, 9850",
-      /*  4506 */ "9759, 9916, 10642, 10438, 11101, 10709, 11412, 9365, 9700, 10763, 10256, 9324, 9519, 8892, 10155",
-      /*  4521 */ "11206, 10061, 9482, 10066, 9275, 10462, 11515, 10738, 9571, 10739, 9552, 8988, 10025, 10026, 9181",
-      /*  4536 */ "11247, 9380, 9181, 9181, 9181, 9181, 9181, 10127, 8637, 10979, 10240, 11510, 10506, 10183, 10193",
-      /*  4551 */ "9666, 10310, 10195, 10197, 8889, 9545, 10647, 9233, 9225, 9050, 9181, 11247, 9380, 9906, 11247",
-      /*  4566 */ "9181, 9181, 9181, 10332, 9181, 9181, 9181, 9181, 10648, 9257, 9181, 10107, 9261, 10207, 8736, 10275",
-      /*  4582 */ "9997, 10303, 11037, 8850, 10649, 10155, 10656, 11520, 8761, 9228, 9227, 11182, 11183, 9233, 10892",
-      /*  4597 */ "9670, 9181, 10156, 9461, 9912, 9270, 8679, 11162, 10242, 11110, 11005, 11227, 10209, 9181, 9605",
-      /*  4612 */ "11042, 10212, 8990, 11207, 11514, 9528, 10086, 9538, 11069, 11046, 9515, 10717, 10215, 9202, 11026",
-      /*  4627 */ "9104, 9533, 8888, 9966, 9587, 9570, 9049, 8968, 9903, 9570, 9049, 9006, 9690, 9653, 10506, 10221",
-      /*  4643 */ "8679, 11162, 10242, 8672, 10441, 10819, 10863, 10645, 10961, 10296, 11141, 10223, 10226, 10241",
-      /*  4657 */ "10561, 9556, 10226, 10241, 10561, 9556, 9513, 9386, 10910, 8912, 9222, 10246, 8987, 10083, 9272",
-      /*  4672 */ "10200, 9272, 9649, 9210, 10509, 9906, 9950, 10631, 8724, 9113, 10169, 9775, 10906, 10276, 8911",
-      /*  4687 */ "8915, 10228, 10052, 9524, 10860, 9032, 9380, 9181, 11280, 8767, 9515, 9181, 9181, 9181, 9181, 11393",
-      /*  4703 */ "11395, 11385, 11384, 11428, 11397, 11391, 11414, 10702, 9957, 10230, 9212, 8948, 11258, 11244, 9083",
-      /*  4718 */ "9867, 11221, 10281, 9343, 9181, 9181, 9181, 8836, 8798, 8837, 8838, 11190, 10166, 10677, 9373",
-      /*  4733 */ "10012, 9568, 8967, 10293, 10562, 8687, 10315, 9770, 9636, 10322, 11175, 10511, 8961, 10504, 11249",
-      /*  4748 */ "10073, 10050, 8968, 9984, 10084, 9393, 8949, 10018, 11137, 11150, 9421, 9420, 10358, 11160, 10767",
-      /*  4763 */ "9391, 10487, 10820, 9840, 11252, 9668, 10341, 9635, 10963, 9060, 11273, 10345, 9018, 10344, 10330",
-      /*  4778 */ "10022, 10509, 9181, 9181, 9181, 9181, 9181, 9906, 11247, 11247, 11247, 11247, 9380, 11275, 10951",
-      /*  4793 */ "9345, 9363, 9363, 9363, 8982, 8982, 9390, 9390, 10346, 10842, 9216, 8880, 8639, 10264, 9116, 8907",
-      /*  4809 */ "9285, 10272, 10774, 11120, 11095, 9904, 9263, 10708, 10708, 10708, 9904, 9904, 9904, 9041, 9041",
-      /*  4824 */ "9904, 9904, 9904, 10405, 10353, 10353, 10437, 10442, 11128, 10362, 9394, 9394, 9272, 9357, 9394",
-      /*  4839 */ "9394, 10310, 9394, 11032, 10647, 10647, 10647, 10647, 10647, 10647, 10647, 9238, 11093, 10309",
-      /*  4853 */ "10310, 10660, 10512, 9863, 8742, 10049, 10049, 10049, 10049, 10484, 10714, 9983, 10498, 8986, 9710",
-      /*  4868 */ "9181, 10953, 8828, 10714, 11127, 11127, 10714, 10714, 9111, 9868, 10908, 10904, 8954, 9394, 9394",
-      /*  4883 */ "9394, 9394, 10782, 10377, 10858, 10858, 10783, 10448, 8908, 8955, 11045, 9927, 10231, 10052, 9272",
-      /*  4898 */ "9930, 9312, 8726, 11045, 11045, 11045, 9261, 10286, 10501, 10379, 10379, 10492, 10013, 9099, 9131",
-      /*  4913 */ "9073, 9100, 10526, 11316, 10402, 11021, 10310, 9290, 11167, 11167, 10527, 9347, 9347, 10252, 10249",
-      /*  4928 */ "10249, 10249, 10249, 9903, 10175, 9394, 9394, 9394, 11060, 11060, 11060, 9465, 9465, 9465, 9798",
-      /*  4943 */ "9985, 9985, 10902, 10902, 8841, 9107, 9085, 8776, 9156, 8710, 10951, 9181, 9181, 9181, 9181, 9181",
-      /*  4959 */ "9181, 9181, 9363, 9363, 9363, 10489, 10489, 9364, 10818, 9087, 9397, 8982, 10482, 9363, 10423, 8760",
-      /*  4975 */ "9394, 9394, 9394, 9394, 10439, 10409, 10439, 9394, 9394, 9394, 9394, 10699, 9529, 9394, 10449",
-      /*  4990 */ "10408, 10410, 10411, 9225, 11067, 9432, 9394, 10515, 9394, 10708, 10708, 9394, 10708, 10708, 8982",
-      /*  5005 */ "10489, 9532, 11052, 10421, 9269, 10310, 9686, 9269, 10310, 8702, 10612, 10894, 8901, 11517, 9276",
-      /*  5020 */ "10188, 8893, 11032, 9394, 9394, 11157, 11052, 11052, 9394, 9394, 9394, 9641, 11098, 10364, 10369",
-      /*  5035 */ "10372, 10372, 10372, 8897, 10968, 10375, 11067, 11067, 10708, 10955, 10955, 10708, 10708, 10708",
-      /*  5049 */ "9394, 9394, 11067, 11067, 9394, 8901, 8901, 10708, 9394, 9394, 9935, 10708, 9394, 9394, 10433",
-      /*  5064 */ "11156, 11139, 10500, 10007, 11218, 10366, 11130, 9394, 9394, 10759, 9272, 9272, 10407, 8901, 8901",
-      /*  5079 */ "10239, 9994, 10392, 9531, 9890, 9767, 9767, 9688, 9689, 11052, 10445, 10958, 10569, 9022, 10447",
-      /*  5094 */ "10452, 10592, 10594, 11492, 10489, 9985, 10489, 10272, 10272, 8730, 8730, 10272, 10272, 8673, 9117",
-      /*  5109 */ "11191, 9012, 11025, 10146, 10066, 8753, 9012, 11025, 10146, 10066, 8753, 9012, 10066, 8851, 10897",
-      /*  5124 */ "9181, 11032, 9820, 11059, 8906, 8748, 10746, 9447, 9446, 8934, 10994, 9551, 9543, 8934, 11054, 9105",
-      /*  5140 */ "9447, 9105, 10454, 9127, 9446, 10058, 8679, 10634, 8906, 8906, 8906, 9181, 10470, 10219, 10673",
-      /*  5155 */ "9181, 9102, 8749, 11202, 11067, 9009, 9102, 10608, 8705, 8933, 8699, 9534, 9009, 8934, 8958, 9181",
-      /*  5171 */ "8698, 10966, 10466, 11502, 9912, 11215, 10166, 10967, 10077, 10519, 10647, 9856, 10883, 10951, 9957",
-      /*  5186 */ "9203, 10524, 9298, 8798, 10151, 8844, 8844, 8844, 8744, 8930, 10127, 10951, 9159, 8715, 10191, 8843",
-      /*  5202 */ "8844, 9949, 9322, 10533, 11411, 10843, 9755, 9181, 11181, 11234, 10708, 10534, 10948, 9181, 9181",
-      /*  5217 */ "9181, 9530, 9001, 9270, 9059, 9017, 11064, 10541, 10074, 8719, 8904, 9181, 9181, 9181, 9591, 9181",
-      /*  5233 */ "9181, 9181, 9181, 10924, 9241, 9913, 11078, 10548, 9181, 10574, 8833, 8670, 8805, 8798, 9951, 9181",
-      /*  5249 */ "9181, 9181, 9181, 9181, 9181, 9181, 10952, 8654, 9123, 9353, 10397, 9167, 9181, 9181, 9181, 9799",
-      /*  5265 */ "11531, 9025, 9473, 8643, 8834, 8649, 9189, 10131, 8790, 8641, 9725, 8815, 10129, 10997, 9167, 8800",
-      /*  5281 */ "9183, 8793, 8765, 9011, 9109, 9015, 8757, 10143, 10143, 10141, 9074, 8813, 8792, 10142, 11192, 9716",
-      /*  5297 */ "9351, 10177, 11197, 9869, 10576, 8823, 10982, 9191, 10998, 10578, 8801, 10130, 10581, 9010, 8775",
-      /*  5312 */ "9388, 9181, 9181, 9181, 9181, 11247, 9380, 9181, 9906, 9140, 9097, 10394, 9966, 8840, 10176, 10174",
-      /*  5328 */ "11460, 8652, 9106, 8653, 8640, 9750, 8643, 10122, 9077, 9164, 9193, 10129, 8832, 8826, 9181, 9181",
-      /*  5344 */ "9181, 9906, 9181, 9181, 9181, 9181, 9181, 9181, 9181, 9850, 10569, 10272, 11190, 10174, 9947, 8906",
-      /*  5360 */ "8655, 9301, 10319, 10699, 9394, 10067, 8951, 10784, 11052, 10777, 10414, 9181, 9181, 9181, 9181",
-      /*  5375 */ "9181, 11247, 11247, 9906, 11247, 11247, 9380, 9181, 9380, 11247, 9906, 10733, 10889, 10482, 10583",
-      /*  5390 */ "11056, 9645, 9634, 10883, 10463, 9160, 11065, 8762, 8684, 11065, 10589, 9181, 11179, 11053, 9478",
-      /*  5405 */ "9181, 9181, 9181, 9181, 9181, 10640, 10049, 10049, 10325, 11256, 10886, 9771, 11255, 9671, 10374",
-      /*  5420 */ "11293, 10011, 9803, 11471, 11200, 10370, 11471, 11200, 10041, 9607, 10072, 8927, 11256, 11061",
-      /*  5434 */ "10373, 9181, 9181, 10087, 8972, 9181, 9181, 9181, 9270, 11007, 9545, 9265, 9518, 10902, 9181, 9181",
-      /*  5450 */ "9181, 9906, 11247, 11247, 9181, 9181, 9181, 9181, 10054, 9512, 10566, 10768, 9763, 9383, 9181",
-      /*  5465 */ "10699, 11039, 9693, 9985, 9392, 9772, 10600, 10638, 11083, 9223, 11180, 9769, 10733, 10499, 9212",
-      /*  5480 */ "9270, 10891, 9573, 10106, 11067, 9264, 11048, 9418, 10714, 8958, 9405, 10569, 9630, 9218, 8809",
-      /*  5495 */ "9185, 10398, 10990, 11247, 11247, 11247, 11247, 9380, 9181, 9906, 9181, 11257, 9243, 10079, 8693",
-      /*  5510 */ "10149, 10658, 9538, 9517, 10062, 8858, 11208, 8906, 9521, 9141, 8882, 10069, 10260, 9934, 10901",
-      /*  5525 */ "10275, 9548, 9811, 10621, 10619, 9445, 9153, 9033, 9014, 8943, 9938, 11457, 9011, 9065, 10313, 8642",
-      /*  5541 */ "10123, 9725, 8801, 8651, 10662, 9608, 9171, 10634, 8777, 10145, 9352, 9187, 10635, 9945, 9253, 9192",
-      /*  5557 */ "9188, 9161, 10664, 8858, 8752, 8858, 10988, 9864, 9066, 9865, 8854, 9091, 9054, 8858, 10333, 10179",
-      /*  5573 */ "10771, 8718, 9138, 8906, 9066, 9942, 10144, 9941, 9940, 9252, 10668, 9150, 10982, 8780, 8808, 10134",
-      /*  5589 */ "9193, 9128, 11190, 11190, 11190, 11190, 11190, 11190, 10148, 10996, 9170, 8784, 10400, 10983, 10145",
-      /*  5604 */ "9193, 9194, 10635, 9365, 9365, 8971, 9443, 10986, 10986, 10986, 10587, 10671, 10587, 10355, 10287",
-      /*  5619 */ "10355, 10355, 10162, 10360, 11208, 10178, 10126, 8982, 9242, 9540, 8661, 10162, 10162, 10038, 10235",
-      /*  5634 */ "10001, 11012, 10001, 10001, 10355, 10355, 10457, 9023, 9119, 8971, 8747, 10570, 8747, 8747, 8747",
-      /*  5649 */ "9061, 9023, 9061, 10355, 10355, 10355, 9021, 10355, 8967, 8967, 10382, 10382, 10382, 11009, 9928",
-      /*  5664 */ "11208, 11208, 11208, 11009, 10629, 9435, 9714, 8677, 10912, 10629, 10681, 10629, 9092, 11208, 9067",
-      /*  5679 */ "9181, 9181, 10158, 10033, 9262, 9904, 9860, 10325, 9365, 9365, 9365, 9365, 9365, 9365, 9365, 9365",
-      /*  5695 */ "9175, 9175, 9175, 9175, 10391, 10391, 10042, 10042, 9294, 10676, 10676, 10676, 10676, 9181, 9181",
-      /*  5710 */ "9181, 10835, 9181, 9181, 9181, 9890, 8858, 8858, 8858, 8858, 9242, 9394, 9181, 9242, 9935, 9935",
-      /*  5726 */ "9935, 9181, 9394, 10673, 10673, 9181, 9551, 9551, 9551, 9551, 11200, 11288, 11288, 11288, 9190",
-      /*  5741 */ "9190, 9190, 9190, 10725, 10569, 10569, 10569, 10569, 10569, 10569, 8884, 8773, 9691, 9691, 9691",
-      /*  5756 */ "9691, 10538, 10409, 11157, 11157, 10422, 11067, 11067, 8982, 8982, 10407, 10310, 8861, 10569, 10392",
-      /*  5771 */ "9985, 10569, 9691, 9181, 8858, 8858, 8972, 8858, 9242, 10712, 10119, 10993, 9190, 10392, 9181, 9190",
-      /*  5787 */ "9102, 10066, 10332, 11190, 9551, 10088, 9551, 11144, 11099, 9932, 11190, 9108, 9181, 10759, 9075",
-      /*  5802 */ "11190, 11190, 8861, 8861, 9535, 8982, 10790, 9394, 10538, 10272, 10031, 10699, 10415, 10415, 10584",
-      /*  5817 */ "9758, 10688, 10138, 10980, 8970, 10614, 9587, 8893, 9295, 10317, 10472, 9715, 9089, 10499, 9181",
-      /*  5832 */ "9181, 9181, 11159, 9181, 9181, 9051, 9747, 11222, 9308, 10952, 9181, 9181, 9181, 9181, 11190, 9181",
-      /*  5848 */ "9181, 9933, 9937, 10623, 11188, 9181, 10249, 10249, 10249, 9937, 10147, 10120, 10636, 10634, 8656",
-      /*  5863 */ "9181, 9181, 9181, 9181, 9181, 11247, 11247, 9380, 9181, 9181, 10456, 10711, 9181, 9181, 9181, 8975",
-      /*  5879 */ "8918, 10874, 9212, 9950, 11247, 11247, 11247, 9296, 11247, 11247, 9242, 11247, 11247, 11247, 11247",
-      /*  5894 */ "11247, 9906, 11247, 8798, 8982, 9601, 9267, 11079, 9434, 10380, 10696, 9242, 9257, 9248, 10019",
-      /*  5909 */ "10544, 10286, 9626, 10031, 10083, 11119, 10760, 9541, 11027, 10622, 9364, 10822, 9271, 9332, 10759",
-      /*  5924 */ "10018, 10751, 9174, 10754, 9903, 9644, 9196, 10299, 9410, 8946, 9481, 10758, 9609, 10894, 11108",
-      /*  5939 */ "10601, 10897, 9181, 9181, 9181, 9181, 9181, 11247, 11247, 11247, 11247, 11247, 11247, 9906, 10895",
-      /*  5954 */ "10895, 10895, 10105, 10105, 10759, 10841, 10115, 10538, 10878, 10878, 9800, 11497, 10780, 9200",
-      /*  5968 */ "9382, 9382, 10945, 9465, 9465, 10372, 10759, 8737, 9497, 9497, 10699, 10531, 10531, 8901, 8901",
-      /*  5983 */ "8901, 9475, 8901, 8901, 10392, 10392, 10816, 8997, 10797, 10416, 10799, 10372, 10815, 10805, 10610",
-      /*  5998 */ "9271, 9005, 9585, 9691, 9665, 10876, 9583, 11136, 10708, 9767, 10172, 10284, 10551, 10488, 9783",
-      /*  6013 */ "10810, 9363, 9363, 9363, 11337, 10491, 9363, 9363, 9363, 9363, 9363, 9363, 9363, 9363, 10801, 10345",
-      /*  6029 */ "9363, 8637, 9048, 8637, 9363, 9363, 9341, 9468, 8901, 11060, 9891, 9665, 10876, 9691, 10329, 9665",
-      /*  6045 */ "9968, 8875, 9438, 10569, 10613, 9995, 9995, 9995, 9995, 8797, 8821, 9948, 10475, 8730, 10133, 9537",
-      /*  6061 */ "11075, 9263, 9348, 10482, 10383, 9985, 9985, 9347, 8733, 8883, 10210, 9219, 9692, 9394, 9394, 9394",
-      /*  6077 */ "10460, 11054, 11054, 11054, 10413, 11045, 11075, 10835, 10828, 9678, 10827, 9551, 11122, 8926",
-      /*  6091 */ "10310, 10660, 9398, 8982, 8982, 10832, 9675, 8923, 8982, 8982, 8982, 10832, 10640, 8982, 10640",
-      /*  6106 */ "11503, 10549, 11503, 10022, 9399, 9602, 10424, 10832, 11503, 11506, 9603, 11499, 10496, 9399, 10489",
-      /*  6121 */ "9901, 10590, 8756, 10777, 9822, 9110, 11513, 10756, 9637, 9094, 9095, 9095, 10845, 10310, 10310",
-      /*  6136 */ "10310, 11183, 9904, 10647, 11060, 10284, 10249, 10725, 10725, 9669, 9890, 9969, 9181, 9181, 9181",
-      /*  6151 */ "9181, 9181, 9181, 10602, 9509, 9181, 10936, 10936, 10936, 10936, 10936, 10936, 10936, 10936, 9922",
-      /*  6166 */ "10835, 10835, 10835, 10835, 9890, 9181, 9181, 9181, 9181, 10936, 10936, 10835, 10835, 10835, 10835",
-      /*  6181 */ "10835, 10835, 9181, 9890, 11082, 11083, 11083, 11083, 11083, 11083, 10835, 10835, 9457, 9307, 9474",
-      /*  6196 */ "10835, 10835, 10835, 9181, 10835, 10835, 10835, 10835, 10848, 10848, 10835, 10835, 10835, 10835",
-      /*  6210 */ "10835, 10848, 9889, 10835, 9825, 9825, 8773, 8773, 8773, 8773, 9825, 8773, 9825, 8773, 9825, 8773",
-      /*  6226 */ "8884, 8773, 10847, 10835, 8773, 8773, 8773, 8773, 8773, 8773, 10187, 11416, 11416, 11416, 9567",
-      /*  6241 */ "10835, 11123, 10835, 11123, 9440, 11123, 10835, 8856, 11247, 11247, 10960, 9904, 9904, 9456, 11042",
-      /*  6256 */ "11052, 11052, 11052, 11052, 10133, 10834, 11052, 10837, 11052, 11052, 11052, 9642, 9642, 11052",
-      /*  6270 */ "11052, 9642, 11052, 11052, 10234, 8873, 11040, 9774, 9120, 9588, 9216, 10762, 11259, 8859, 11052",
-      /*  6285 */ "11052, 11052, 11052, 11045, 11052, 11052, 11052, 10138, 11052, 11052, 11052, 11052, 9999, 10737",
-      /*  6299 */ "10237, 11179, 10850, 9694, 10429, 11030, 11336, 10708, 10853, 10835, 9889, 10520, 10835, 10835",
-      /*  6313 */ "10848, 10835, 10835, 9889, 10835, 10835, 10835, 9889, 10835, 10835, 10538, 10644, 10697, 9465",
-      /*  6327 */ "10855, 8637, 8638, 8638, 9890, 10232, 8919, 11056, 11253, 11101, 10033, 10538, 9181, 9181, 9181",
-      /*  6342 */ "9181, 9181, 9181, 10538, 10538, 10443, 9381, 10538, 10538, 10443, 9181, 10089, 10486, 10516, 11451",
-      /*  6357 */ "10759, 10759, 10884, 10759, 9017, 10520, 10520, 10759, 10759, 10759, 10759, 10759, 9181, 9181, 9181",
-      /*  6372 */ "9181, 9181, 9181, 11247, 11247, 9181, 10868, 10928, 10835, 10835, 10835, 10835, 10835, 10835, 9181",
-      /*  6387 */ "10833, 11060, 10467, 10841, 10841, 10841, 10841, 9860, 9861, 9917, 10701, 9417, 9683, 9224, 10759",
-      /*  6402 */ "9544, 10597, 9474, 10835, 9889, 10417, 10835, 10835, 11311, 10835, 9889, 10835, 10835, 10835, 10848",
-      /*  6417 */ "10848, 10848, 10835, 9923, 8866, 9232, 9400, 10538, 9413, 11251, 9658, 11051, 10509, 9327, 9655",
-      /*  6432 */ "11053, 10058, 11473, 10372, 10372, 9860, 10641, 9860, 9860, 9860, 9860, 9860, 9860, 9860, 9860",
-      /*  6447 */ "10882, 10372, 10372, 10372, 10372, 10372, 10372, 10372, 10641, 10815, 10372, 10926, 9457, 11256",
-      /*  6461 */ "8810, 9088, 10124, 9276, 11159, 8773, 10788, 9849, 10982, 11190, 10982, 9520, 9448, 11190, 10428",
-      /*  6476 */ "8773, 10897, 9906, 9181, 9691, 9699, 9691, 10700, 9620, 9051, 9079, 10274, 10982, 9064, 10930",
-      /*  6491 */ "10930, 10930, 10930, 10931, 9860, 9860, 10835, 10835, 11499, 10020, 10835, 10835, 9890, 9890, 9890",
-      /*  6506 */ "9890, 9181, 9181, 10835, 9181, 9181, 9181, 9181, 9890, 9181, 9890, 10835, 9474, 10835, 10847, 10835",
-      /*  6522 */ "9181, 10835, 10294, 10835, 9602, 10835, 10835, 10424, 11499, 10835, 10418, 10835, 10835, 10835",
-      /*  6536 */ "10835, 10835, 10835, 9890, 9474, 9361, 10675, 10933, 10434, 10708, 10935, 10791, 8760, 9441, 10708",
-      /*  6551 */ "10759, 10274, 9100, 9995, 9181, 9181, 11006, 10673, 10673, 10722, 8856, 8857, 10759, 11075, 9834",
-      /*  6566 */ "10830, 10830, 10830, 10830, 10830, 9972, 9465, 9465, 9465, 9465, 9465, 9465, 9465, 9465, 9647, 9150",
-      /*  6582 */ "10538, 10219, 9460, 10538, 10539, 10841, 9216, 9766, 8901, 10514, 9361, 9748, 9747, 10489, 9361",
-      /*  6597 */ "9731, 9181, 9181, 8906, 8982, 8982, 11247, 9950, 8798, 8798, 8798, 9949, 11247, 11247, 9380, 9906",
-      /*  6613 */ "9380, 9906, 11247, 9181, 10708, 10538, 10538, 10538, 9841, 10538, 8773, 9401, 10538, 9150, 10538",
-      /*  6628 */ "9150, 10786, 9150, 10786, 9129, 11501, 9044, 8867, 10063, 10317, 10137, 9150, 10644, 10644, 10699",
-      /*  6643 */ "10699, 10538, 10538, 9691, 9465, 10287, 9363, 11087, 9363, 9363, 9181, 10270, 10620, 9136, 9139",
-      /*  6658 */ "10995, 9121, 9095, 9095, 9112, 8921, 9363, 8922, 9944, 9736, 9691, 10569, 10288, 10835, 9181, 9181",
-      /*  6674 */ "9181, 9181, 9181, 11260, 10839, 11269, 9619, 10795, 10835, 10835, 10927, 10835, 10835, 10835, 10835",
-      /*  6689 */ "10835, 9474, 10835, 10835, 10835, 10835, 10835, 9889, 10848, 10835, 10835, 10419, 10647, 10647",
-      /*  6703 */ "9551, 10133, 8858, 10294, 10367, 9297, 9393, 9362, 9214, 9904, 9437, 10325, 9272, 9272, 10028, 9520",
-      /*  6719 */ "8982, 9363, 8727, 9363, 9363, 10647, 9363, 9363, 9363, 9214, 9363, 9363, 11289, 10974, 10328, 10949",
-      /*  6735 */ "9363, 9363, 9363, 11154, 9835, 9242, 10286, 9992, 10402, 10965, 8982, 10971, 10857, 9695, 10689",
-      /*  6750 */ "11055, 9273, 11068, 9906, 10495, 9980, 8995, 9646, 9988, 8898, 9363, 9363, 9393, 9363, 9363, 10423",
-      /*  6766 */ "11500, 9691, 9691, 10951, 10835, 10836, 10673, 9363, 9344, 11010, 11045, 8956, 11272, 9396, 9394",
-      /*  6781 */ "11045, 9394, 9394, 9904, 10708, 10708, 9904, 10708, 10708, 9328, 8917, 10660, 9977, 11032, 11032",
-      /*  6796 */ "11032, 10821, 8984, 9594, 10812, 9465, 9465, 9465, 8637, 8637, 11200, 11200, 11200, 11200, 10538",
-      /*  6811 */ "11072, 8872, 10735, 9394, 9394, 10489, 9363, 10708, 9181, 9363, 10491, 9363, 10975, 11312, 9363",
-      /*  6826 */ "9363, 10708, 10708, 9363, 9581, 9363, 10438, 10066, 11452, 9394, 10725, 10392, 10392, 10392, 10392",
-      /*  6841 */ "8730, 8730, 9412, 9628, 9259, 9300, 10162, 9985, 8982, 9363, 10265, 10616, 8962, 9972, 11003, 10422",
-      /*  6857 */ "10536, 10084, 8773, 11014, 10829, 10538, 11071, 11100, 10538, 11071, 10538, 10538, 10538, 10218",
-      /*  6871 */ "9263, 10939, 9242, 9242, 9242, 11054, 11054, 11200, 9242, 9394, 11507, 10537, 9839, 9915, 11081",
-      /*  6886 */ "9604, 10773, 11113, 10572, 8902, 10018, 9464, 9680, 10822, 9042, 10947, 10165, 10495, 10096, 9459",
-      /*  6901 */ "11086, 10969, 11480, 9905, 11036, 9766, 10091, 9264, 9625, 8957, 8735, 10950, 9119, 8683, 9370",
-      /*  6916 */ "11243, 8909, 9655, 9994, 10309, 10739, 9993, 10359, 9674, 11090, 8905, 11092, 11517, 10986, 10653",
-      /*  6931 */ "11208, 9093, 8970, 10082, 11522, 9181, 11103, 10213, 10166, 11247, 10308, 8726, 10157, 10243, 9735",
-      /*  6946 */ "9071, 10786, 10167, 10039, 10720, 8977, 10053, 9296, 10871, 11105, 9181, 9181, 9181, 9181, 8741",
-      /*  6961 */ "11498, 9236, 10505, 11060, 9326, 11046, 9181, 9215, 10555, 9260, 10386, 10497, 9181, 9181, 9181",
-      /*  6976 */ "9181, 9605, 10326, 9629, 10497, 10049, 10680, 11065, 8988, 9181, 9181, 9181, 9697, 10483, 9905",
-      /*  6991 */ "9181, 9743, 11145, 9202, 10104, 11268, 10802, 11107, 10450, 10738, 9571, 10739, 10088, 9228, 9227",
-      /*  7006 */ "11182, 8972, 9889, 9181, 9890, 9889, 9890, 9889, 10835, 9181, 10835, 9474, 10835, 10835, 10835",
-      /*  7021 */ "10835, 10835, 11247, 11247, 9502, 8664, 10835, 10835, 10835, 10835, 10835, 10835, 10835, 9457",
-      /*  7035 */ "10602, 10759, 10759, 10759, 10759, 10759, 10759, 10759, 10759, 9509, 9181, 10759, 10759, 10759",
-      /*  7049 */ "9509, 10624, 8931, 10759, 10759, 10759, 10759, 10759, 10520, 10520, 9508, 10759, 10759, 10759",
-      /*  7063 */ "10759, 10835, 10835, 10835, 10835, 9181, 9474, 10835, 10835, 10835, 10835, 10835, 9890, 9181, 9474",
-      /*  7078 */ "10835, 10835, 10835, 10835, 10835, 10835, 9890, 10835, 10835, 10835, 10835, 10835, 10848, 10835",
-      /*  7092 */ "10848, 10520, 10835, 9889, 10835, 10848, 10835, 10835, 10835, 10835, 10835, 10936, 10936, 10936",
-      /*  7106 */ "10835, 10835, 10835, 10520, 10835, 10835, 9889, 10835, 10835, 10835, 10848, 10835, 10835, 10835",
-      /*  7120 */ "9889, 10835, 10835, 10835, 10835, 10848, 10835, 10835, 10835, 10835, 10835, 10835, 10835, 10835",
-      /*  7134 */ "9181, 9181, 9181, 9889, 10835, 10835, 10835, 10835, 10848, 10835, 10835, 10848, 10835, 10835, 10520",
-      /*  7149 */ "10835, 10835, 10835, 10835, 9889, 10835, 9889, 10835, 10835, 9889, 10835, 10835, 9889, 10848, 10835",
-      /*  7164 */ "10835, 10835, 10835, 10835, 10835, 10848, 10835, 10835, 10848, 10835, 10848, 10835, 10835, 10835",
-      /*  7178 */ "9889, 10835, 10848, 10835, 10835, 10835, 10520, 10520, 10520, 10520, 10520, 10520, 10520, 10520",
-      /*  7192 */ "10520, 10520, 10835, 10835, 10835, 10835, 9181, 9181, 9181, 9181, 9181, 9181, 9181, 10569, 10569",
-      /*  7207 */ "10569, 10569, 10569, 10569, 10497, 9181, 9181, 9181, 9181, 11327, 9341, 10840, 9904, 11157, 10830",
-      /*  7222 */ "9697, 11134, 11237, 11147, 10835, 11124, 10365, 10564, 9232, 9454, 9455, 11020, 10403, 8678, 8950",
-      /*  7237 */ "11149, 9890, 9651, 11152, 9682, 10640, 10567, 9206, 10673, 10295, 11074, 9342, 10698, 10489, 9309",
-      /*  7252 */ "11496, 9213, 9427, 10647, 11097, 11098, 11098, 10057, 10787, 9337, 8962, 11250, 10957, 10296, 10542",
-      /*  7267 */ "10806, 9786, 9732, 10530, 11129, 9560, 11166, 11170, 11199, 11210, 11472, 10347, 11413, 10803",
-      /*  7281 */ "11212, 11143, 11096, 9181, 9181, 11214, 11214, 11138, 11279, 8961, 11217, 11246, 10944, 10962",
-      /*  7295 */ "11224, 10851, 11117, 10478, 11081, 10977, 10043, 9631, 11201, 11226, 11229, 11231, 10869, 11296",
-      /*  7309 */ "10719, 11233, 9574, 11236, 10865, 11239, 11267, 9496, 9412, 11315, 11278, 10703, 10585, 10586",
-      /*  7323 */ "11157, 11157, 11282, 10600, 11283, 10792, 11019, 9242, 9242, 9338, 11094, 9336, 10556, 11361, 10202",
-      /*  7338 */ "11015, 9858, 9624, 11084, 9416, 10800, 9218, 10323, 10892, 10824, 10682, 10639, 9181, 9181, 10381",
-      /*  7353 */ "10435, 11286, 11286, 11073, 10944, 11287, 11333, 10972, 11073, 10521, 10972, 11285, 10643, 11291",
-      /*  7367 */ "9359, 9516, 9390, 11295, 10483, 10642, 10217, 11286, 11073, 10565, 8662, 9691, 11298, 9181, 9181",
-      /*  7382 */ "9181, 9181, 9380, 11247, 9380, 9906, 9380, 9181, 9181, 11247, 9181, 9181, 9181, 9181, 9181, 9181",
-      /*  7398 */ "9906, 9380, 11247, 10023, 11241, 11242, 9746, 9181, 9181, 9181, 9181, 9527, 9320, 10739, 9325, 9816",
-      /*  7414 */ "9043, 9043, 10725, 10725, 10249, 10249, 9394, 9394, 9904, 9904, 9238, 11265, 10006, 10871, 10880",
-      /*  7429 */ "10716, 9181, 11517, 10510, 9778, 11006, 10163, 10763, 10571, 8770, 10916, 8817, 9079, 9449, 10271",
-      /*  7444 */ "11110, 9478, 11178, 10570, 8979, 10291, 8975, 11339, 9467, 9014, 8976, 8763, 11524, 11454, 8817",
-      /*  7459 */ "10271, 10911, 8796, 11067, 8841, 11067, 8841, 11067, 8841, 11067, 8841, 10489, 9191, 10489, 9191",
-      /*  7474 */ "9553, 10725, 9553, 10725, 9553, 10725, 9553, 9934, 9936, 10987, 10666, 9084, 8807, 8650, 8722, 9412",
-      /*  7490 */ "8722, 9412, 8722, 9412, 8722, 10902, 10272, 10272, 8889, 8841, 9082, 8901, 10032, 10501, 10501",
-      /*  7505 */ "10501, 11303, 9613, 9180, 8889, 8841, 11190, 11190, 11190, 9181, 9181, 9181, 8822, 9937, 10913",
-      /*  7520 */ "10896, 9937, 9072, 8903, 9937, 9066, 8903, 9066, 11531, 11531, 11531, 9543, 11045, 9770, 11495",
-      /*  7535 */ "11059, 8859, 10504, 9814, 10085, 8996, 9047, 9043, 9047, 11173, 8709, 8938, 8730, 8730, 11306, 8937",
-      /*  7551 */ "11308, 10260, 10598, 9311, 10669, 10617, 10736, 11310, 11314, 11319, 8746, 10627, 9937, 9072, 10274",
-      /*  7566 */ "9937, 9066, 9701, 11527, 8751, 8686, 8908, 11519, 9830, 9937, 9072, 10907, 10897, 8798, 8773, 8667",
-      /*  7582 */ "8773, 8755, 8907, 8665, 8798, 8798, 8798, 8798, 9951, 9181, 10698, 9181, 8773, 8773, 8773, 9181",
-      /*  7598 */ "8773, 8773, 8773, 9181, 8773, 9307, 9181, 8798, 8798, 10310, 9118, 9551, 10310, 10312, 9995, 10310",
-      /*  7614 */ "9118, 9551, 11135, 11135, 10055, 8696, 10336, 8861, 11322, 10310, 9118, 9995, 10956, 10311, 9995",
-      /*  7629 */ "11532, 10337, 10822, 9937, 8925, 9557, 9937, 10822, 8978, 10604, 10604, 11042, 10249, 10249, 10249",
-      /*  7644 */ "10249, 10249, 9937, 10147, 9079, 10742, 10743, 9985, 10743, 11324, 10338, 10338, 10619, 10989",
-      /*  7658 */ "10989, 11167, 10101, 9124, 9150, 10822, 8765, 10915, 9937, 8925, 10311, 10045, 9937, 8925, 9045",
-      /*  7673 */ "9436, 9436, 9436, 10864, 11326, 9809, 11125, 8997, 11054, 10690, 11387, 11329, 10707, 10708, 10940",
-      /*  7688 */ "9500, 9500, 11331, 11341, 11344, 11045, 8952, 9730, 10591, 10351, 11437, 11348, 9844, 9792, 10748",
-      /*  7703 */ "10748, 10941, 11341, 11350, 10749, 11352, 9395, 9810, 10249, 10076, 10937, 11301, 11301, 11301",
-      /*  7717 */ "10593, 10636, 8644, 10350, 11383, 10349, 10349, 11354, 11422, 11366, 11358, 11424, 11360, 11363",
-      /*  7731 */ "11365, 11425, 11423, 11360, 11369, 9796, 11371, 11373, 11377, 11376, 11375, 11379, 9853, 11390",
-      /*  7745 */ "11382, 11389, 10747, 9376, 9807, 9377, 9377, 11399, 11401, 11429, 11404, 11406, 11408, 11427, 11391",
-      /*  7760 */ "11402, 11355, 11380, 11410, 11421, 9823, 11386, 11432, 11430, 11356, 11434, 11426, 9181, 9181, 9181",
-      /*  7775 */ "9181, 9877, 11436, 11439, 11441, 11367, 9797, 9878, 9181, 8798, 8798, 11247, 11247, 11247, 11247",
-      /*  7790 */ "11247, 11247, 10640, 11122, 11443, 11445, 8814, 8779, 8864, 8795, 8795, 8778, 8647, 9872, 9095",
-      /*  7805 */ "11447, 11449, 11180, 9181, 9181, 9870, 11462, 11464, 9870, 9870, 9870, 11466, 8820, 10339, 8802",
-      /*  7820 */ "11468, 9355, 11470, 9133, 8831, 11475, 8830, 9166, 10269, 8830, 9068, 8830, 10180, 9554, 10079",
-      /*  7835 */ "9554, 10079, 9554, 10277, 10392, 9444, 8730, 8730, 8730, 8730, 8901, 8998, 10078, 11477, 10769",
-      /*  7850 */ "9205, 10769, 11345, 11346, 9681, 11346, 9323, 10725, 10725, 10725, 9991, 10901, 8722, 10901, 9802",
-      /*  7865 */ "9090, 9070, 10139, 10124, 10125, 10170, 9251, 11479, 10126, 9114, 10389, 9166, 10204, 10272, 10920",
-      /*  7880 */ "10236, 9133, 10390, 9523, 9115, 9115, 9276, 10332, 8701, 8906, 8906, 8906, 8906, 8906, 8906, 8906",
-      /*  7896 */ "8773, 8907, 8773, 8773, 8773, 8773, 8773, 8773, 8773, 8773, 9307, 11037, 10571, 10569, 10568, 10825",
-      /*  7912 */ "9568, 11247, 10569, 10569, 10569, 10569, 10569, 10569, 9669, 10569, 10569, 10569, 10569, 10569",
-      /*  7926 */ "10569, 10569, 10569, 10569, 10729, 9652, 10066, 9394, 9383, 9181, 9181, 11247, 11247, 11247, 9181",
-      /*  7941 */ "11247, 11247, 11247, 11247, 11247, 11247, 11247, 11247, 9906, 11247, 11247, 11247, 11247, 9380",
-      /*  7955 */ "9181, 9181, 9181, 9181, 9181, 9906, 11247, 11247, 11247, 11247, 11247, 9181, 9181, 9181, 9380",
-      /*  7970 */ "11247, 11247, 11247, 9380, 11247, 11247, 11247, 11247, 11247, 9181, 11247, 11247, 11247, 11247",
-      /*  7984 */ "9906, 11247, 11247, 11247, 11247, 11247, 11247, 11247, 9380, 9181, 9181, 11247, 11247, 11247, 9906",
-      /*  7999 */ "9181, 9181, 9181, 9181, 10505, 9966, 9586, 9039, 10176, 9673, 10021, 9892, 10038, 9424, 10046",
-      /*  8014 */ "10529, 11049, 8886, 9518, 8851, 8890, 9719, 8928, 11077, 11048, 10909, 9125, 10254, 10705, 9657",
-      /*  8029 */ "9670, 9054, 11508, 9595, 11051, 9553, 8682, 8885, 8988, 9082, 8751, 10718, 11162, 11530, 10203",
-      /*  8044 */ "9550, 11161, 8933, 10283, 9972, 9978, 9593, 10266, 8991, 9208, 10164, 9906, 8888, 9060, 10036, 9005",
-      /*  8060 */ "11062, 10455, 8860, 9659, 9103, 8675, 9925, 10679, 8685, 11521, 10047, 9810, 10729, 9294, 8960",
-      /*  8075 */ "9615, 10224, 10496, 10385, 9544, 10457, 9747, 10906, 10517, 9580, 9891, 10509, 8859, 10489, 10859",
-      /*  8090 */ "10089, 10320, 9096, 9181, 9181, 9181, 9181, 9181, 10489, 9181, 9181, 10006, 10426, 9765, 11482",
-      /*  8105 */ "9998, 10199, 10781, 9295, 11493, 9383, 10097, 10785, 9857, 9745, 10226, 9667, 11271, 8934, 11159",
-      /*  8120 */ "10440, 11271, 10327, 9547, 9465, 8660, 9240, 9693, 9295, 9985, 9746, 9060, 11252, 11317, 10550",
-      /*  8135 */ "10104, 9698, 9239, 10342, 9905, 8738, 9148, 9186, 10258, 8641, 9954, 10626, 8919, 9152, 10147",
-      /*  8150 */ "11530, 9466, 8920, 9261, 10953, 9671, 9181, 9934, 9900, 9959, 10331, 9181, 9654, 10766, 11419",
-      /*  8165 */ "10163, 10384, 9821, 10900, 10571, 9086, 9028, 9289, 9573, 8902, 10896, 11184, 10185, 8699, 10966",
-      /*  8180 */ "10103, 10164, 9345, 9044, 8997, 10224, 10524, 10872, 9363, 9698, 10814, 10835, 10835, 10835, 10835",
-      /*  8195 */ "10673, 9038, 8982, 10902, 9259, 10583, 9904, 9958, 10992, 9413, 9575, 10611, 9154, 8887, 11523",
-      /*  8210 */ "8729, 9996, 9815, 8701, 10461, 9190, 8974, 10956, 10462, 11516, 8706, 10318, 11142, 10255, 10617",
-      /*  8225 */ "8732, 8721, 11203, 8809, 9163, 9053, 10732, 10618, 10396, 8935, 11164, 10265, 9366, 10068, 8723",
-      /*  8240 */ "10307, 10392, 8720, 9426, 10503, 10300, 9542, 9657, 10603, 8874, 9819, 9280, 8914, 8940, 10745",
-      /*  8255 */ "9953, 9013, 9053, 8700, 10060, 10112, 11065, 9660, 10619, 9768, 9511, 8942, 10744, 9190, 9158",
-      /*  8270 */ "10302, 11043, 9071, 9137, 10741, 10464, 8681, 10247, 11038, 9536, 9984, 10999, 10395, 9621, 9664",
-      /*  8285 */ "9221, 10726, 10083, 9687, 9817, 8669, 9026, 11204, 10778, 9526, 10766, 8958, 11504, 11153, 10048",
-      /*  8300 */ "11512, 10853, 8913, 9325, 9122, 9871, 10040, 9055, 8848, 10266, 10654, 11254, 9279, 11054, 11054",
-      /*  8315 */ "11054, 11054, 11054, 11054, 11054, 11054, 9363, 9363, 8958, 9181, 9181, 11054, 11054, 9082, 9181",
-      /*  8330 */ "10505, 8877, 11040, 9040, 8994, 10184, 9981, 9699, 10685, 10560, 9425, 9733, 9652, 8695, 10606",
-      /*  8345 */ "11484, 10387, 10427, 10609, 9974, 9310, 11509, 9514, 8958, 9181, 9181, 9181, 11247, 11247, 9181",
-      /*  8360 */ "9181, 11247, 11247, 11247, 9380, 9181, 9181, 9181, 9906, 11247, 9380, 9181, 9181, 9181, 9181, 9181",
-      /*  8376 */ "9181, 9181, 9906, 9181, 8766, 8689, 11486, 10923, 8691, 9054, 9030, 8910, 10226, 10303, 10089, 8694",
-      /*  8392 */ "9441, 10772, 10283, 10309, 9971, 10954, 8771, 10108, 9209, 10953, 10165, 9979, 9704, 10324, 9234",
-      /*  8407 */ "9044, 10248, 9521, 11057, 11000, 9987, 8680, 9438, 8697, 8768, 9322, 9237, 10888, 11031, 11264",
-      /*  8422 */ "10877, 9366, 10455, 10903, 11247, 8704, 9003, 10563, 11504, 10503, 9551, 9643, 11011, 9649, 9671",
-      /*  8437 */ "10740, 10607, 10728, 10579, 9813, 10918, 11065, 9522, 10914, 10728, 9679, 10740, 10918, 9222, 10250",
-      /*  8452 */ "10921, 10946, 11488, 10427, 8849, 11452, 10212, 10060, 11055, 11058, 9234, 10533, 10301, 8959",
-      /*  8466 */ "10766, 10309, 10048, 9904, 11490, 10715, 10512, 9259, 10966, 10873, 10469, 10216, 10474, 10481",
-      /*  8480 */ "10159, 10762, 10610, 10659, 9419, 11276, 10507, 8873, 10923, 10305, 10430, 10063, 9593, 9207, 8913",
-      /*  8495 */ "9181, 11052, 11052, 10433, 11060, 11060, 10432, 10958, 10569, 9805, 10905, 9210, 9211, 9229, 10808",
-      /*  8510 */ "10811, 9366, 10736, 10736, 10736, 10736, 10736, 11060, 11060, 11060, 11052, 11052, 11052, 11052",
-      /*  8524 */ "11052, 11052, 11052, 11052, 9062, 10253, 10653, 10602, 10759, 10759, 10759, 10759, 9509, 9181, 9181",
-      /*  8539 */ "9307, 9661, 9510, 8764, 8906, 9473, 9181, 9181, 9890, 10835, 10835, 10835, 10835, 10835, 10835",
-      /*  8554 */ "10835, 10848, 10835, 10835, 10835, 10835, 9889, 10835, 10835, 10835, 9890, 10835, 10835, 10835",
-      /*  8568 */ "9181, 10835, 10835, 9474, 9181, 10835, 10835, 9890, 10835, 9474, 10835, 9890, 9181, 10835, 10835",
-      /*  8583 */ "9890, 10835, 10835, 10835, 10835, 10833, 10835, 10759, 10759, 10759, 10759, 10759, 10759, 9181",
-      /*  8597 */ "10834, 9890, 10835, 9890, 9890, 9890, 9890, 10835, 9890, 9474, 10835, 9474, 9474, 9181, 9890, 9474",
-      /*  8613 */ "9474, 10835, 9181, 9474, 9474, 9181, 9474, 9181, 9181, 9181, 9181, 9181, 9181, 9181, 11247, 9181",
-      /*  8629 */ "9474, 10835, 9474, 9474, 9474, 9890, 9181, 9181, 104, 104, 62, 41, 35, 35, 41, 38, 38, 40, 50, 30",
-      /*  8649 */ "30, 34, 30, 36, 32, 42, 37, 31, 90, 23, 41, 127, 80, 47, 72, 40, 122, 0, 62, 97, 69, 54, 81, 52, 57",
-      /*  8674 */ "56, 76, 47, 219, 87, 48, 71, 64, 58, 72, 55, 75, 67, 61, 71, 65, 70, 64, 60, 69, 58, 73, 59, 77, 60",
-      /*  8699 */ "70, 67, 62, 60, 71, 41, 78, 59, 64, 40, 167, 56, 54, 64, 41, 80, 49, 75, 51, 67, 53, 78, 63, 43, 65",
-      /*  8724 */ "63, 47, 79, 52, 51, 71, 52, 52, 54, 69, 43, 82, 56, 61, 61, 62, 49, 90, 47, 80, 50, 85, 41, 67, 47",
-      /*  8749 */ "66, 47, 69, 40, 100, 37, 46, 96, 36, 53, 66, 121, 61, 76, 55, 90, 57, 57, 59, 78, 64, 63, 55, 95",
-      /*  8773 */ "62, 62, 40, 33, 39, 26, 42, 22, 31, 59, 26, 50, 26, 53, 0, 62, 23, 23, 46, 32, 31, 29, 26, 26, 28",
-      /*  8798 */ "0, 0, 26, 31, 30, 26, 34, 18, 0, 31, 31, 32, 32, 40, 0, 40, 22, 22, 23, 62, 36, 21, 19, 75, 0, 46",
-      /*  8824 */ "38, 0, 55, 0, 59, 23, 78, 33, 26, 35, 25, 23, 90, 0, 61, 40, 31, 33, 33, 37, 7, 7, 43, 114, 76, 60",
-      /*  8850 */ "75, 68, 53, 72, 102, 35, 142, 142, 67, 67, 68, 70, 70, 0, 74, 26, 99, 101, 69, 85, 59, 102, 110, 71",
-      /*  8874 */ "74, 67, 75, 70, 80, 70, 82, 73, 66, 65, 85, 62, 68, 75, 71, 77, 67, 76, 70, 84, 60, 99, 105, 54",
-      /*  8898 */ "117, 54, 121, 80, 80, 62, 53, 91, 60, 60, 62, 56, 73, 58, 61, 70, 59, 75, 63, 49, 95, 60, 64, 47",
-      /*  8922 */ "92, 49, 99, 53, 99, 59, 76, 41, 85, 50, 120, 70, 60, 66, 58, 64, 52, 55, 64, 55, 68, 48, 69, 49",
-      /*  8946 */ "120, 140, 85, 86, 73, 92, 77, 88, 67, 96, 73, 93, 75, 90, 75, 91, 76, 87, 69, 147, 127, 91, 78, 95",
-      /*  8970 */ "67, 93, 67, 90, 72, 60, 90, 59, 99, 61, 85, 53, 99, 99, 67, 97, 82, 83, 76, 90, 76, 95, 70, 30, 46",
-      /*  8995 */ "86, 75, 95, 80, 99, 70, 102, 120, 80, 104, 79, 78, 97, 84, 70, 34, 44, 53, 68, 38, 57, 16, 120, 130",
-      /*  9019 */ "89, 76, 97, 85, 82, 54, 60, 52, 50, 80, 46, 70, 54, 58, 57, 29, 140, 150, 86, 83, 82, 91, 89, 92",
-      /*  9043 */ "83, 83, 84, 95, 83, 85, 92, 84, 96, 85, 99, 66, 74, 79, 65, 110, 130, 90, 80, 40, 88, 46, 46, 53",
-      /*  9067 */ "60, 33, 78, 39, 74, 53, 62, 45, 39, 90, 43, 55, 40, 90, 44, 41, 46, 55, 41, 47, 46, 56, 39, 91, 37",
-      /*  9092 */ "67, 40, 93, 44, 44, 45, 42, 90, 45, 45, 47, 47, 49, 60, 34, 41, 50, 60, 39, 92, 44, 47, 50, 65, 58",
-      /*  9117 */ "54, 49, 67, 45, 48, 44, 48, 45, 59, 48, 46, 60, 40, 99, 52, 45, 69, 33, 93, 51, 55, 47, 55, 51, 65",
-      /*  9142 */ "59, 54, 53, 64, 27, 90, 46, 61, 59, 59, 62, 47, 56, 43, 56, 50, 68, 37, 85, 34, 43, 60, 32, 47, 33",
-      /*  9167 */ "41, 33, 49, 39, 34, 31, 163, 120, 82, 80, 83, 64, 162, 150, 90, 90, 37, 35, 33, 51, 39, 35, 34, 37",
-      /*  9191 */ "37, 39, 36, 34, 38, 29, 55, 32, 134, 120, 84, 101, 100, 102, 73, 108, 76, 112, 94, 77, 96, 86, 87",
-      /*  9214 */ "92, 85, 108, 92, 87, 93, 88, 83, 72, 79, 69, 104, 78, 89, 67, 87, 64, 134, 101, 101, 90, 84, 93, 81",
-      /*  9238 */ "96, 84, 94, 74, 87, 87, 65, 213, 94, 82, 97, 50, 51, 54, 28, 21, 31, 102, 94, 83, 87, 89, 93, 87",
-      /*  9262 */ "90, 89, 94, 76, 110, 80, 152, 121, 84, 90, 79, 79, 81, 85, 65, 90, 56, 75, 65, 69, 53, 103, 40, 41",
-      /*  9286 */ "31, 63, 130, 118, 84, 131, 53, 104, 110, 90, 98, 86, 89, 98, 89, 111, 70, 38, 61, 52, 61, 62, 90",
-      /*  9309 */ "99, 76, 133, 79, 85, 109, 65, 52, 80, 38, 63, 73, 79, 71, 93, 63, 79, 73, 80, 94, 49, 48, 76, 36",
-      /*  9333 */ "69, 140, 140, 109, 71, 119, 59, 77, 112, 112, 113, 51, 98, 92, 95, 95, 99, 82, 33, 59, 36, 39, 54",
-      /*  9356 */ "26, 79, 96, 95, 103, 91, 96, 92, 92, 93, 80, 79, 64, 36, 75, 115, 68, 113, 47, 21, 58, 213, 60, 36",
-      /*  9380 */ "86, 90, 106, 74, 90, 110, 65, 49, 45, 31, 109, 115, 74, 92, 96, 96, 97, 96, 99, 75, 101, 106, 54",
-      /*  9403 */ "46, 93, 102, 85, 46, 90, 117, 62, 86, 91, 106, 76, 27, 91, 107, 86, 92, 97, 135, 76, 38, 66, 81",
-      /*  9426 */ "104, 89, 119, 69, 102, 117, 78, 96, 76, 96, 80, 95, 72, 85, 87, 72, 84, 80, 41, 52, 47, 60, 47, 64",
-      /*  9450 */ "37, 117, 160, 72, 91, 114, 89, 122, 62, 87, 127, 106, 83, 98, 95, 93, 93, 52, 60, 92, 53, 38, 69",
-      /*  9473 */ "66, 90, 122, 70, 90, 64, 90, 65, 88, 62, 73, 71, 81, 60, 44, 57, 287, 126, 87, 134, 90, 127, 93, 69",
-      /*  9497 */ "108, 59, 117, 177, 175, 193, 193, 138, 146, 56, 82, 130, 120, 90, 58, 74, 57, 82, 58, 75, 69, 60",
-      /*  9519 */ "76, 64, 64, 65, 72, 58, 78, 69, 61, 81, 57, 96, 50, 121, 74, 60, 78, 70, 68, 58, 82, 60, 80, 64, 68",
-      /*  9544 */ "60, 82, 64, 70, 69, 64, 71, 68, 68, 69, 67, 63, 59, 84, 53, 146, 148, 111, 80, 134, 151, 83, 100",
-      /*  9567 */ "85, 74, 78, 84, 71, 85, 76, 81, 66, 70, 92, 0, 147, 126, 92, 110, 96, 110, 97, 74, 70, 89, 57, 194",
-      /*  9591 */ "90, 135, 83, 97, 116, 80, 264, 238, 200, 314, 91, 122, 75, 122, 82, 101, 110, 59, 37, 66, 29, 142",
-      /*  9613 */ "90, 150, 95, 84, 98, 78, 162, 114, 99, 85, 135, 139, 94, 93, 115, 82, 99, 81, 102, 79, 87, 109, 74",
-      /*  9636 */ "89, 115, 47, 162, 132, 96, 119, 74, 95, 109, 75, 127, 120, 91, 80, 110, 73, 81, 73, 84, 76, 84, 77",
-      /*  9659 */ "84, 78, 90, 73, 85, 83, 73, 88, 66, 76, 85, 84, 79, 76, 86, 70, 122, 49, 282, 157, 45, 72, 93, 128",
-      /*  9683 */ "86, 95, 110, 84, 121, 85, 125, 74, 88, 88, 89, 95, 87, 97, 90, 92, 88, 90, 93, 65, 142, 83, 101",
-      /*  9706 */ "153, 152, 83, 189, 83, 137, 90, 152, 89, 53, 39, 29, 29, 42, 41, 26, 90, 27, 27, 39, 31, 38, 90",
-      /*  9729 */ "160, 88, 96, 106, 77, 104, 90, 42, 85, 0, 52, 75, 140, 90, 101, 104, 82, 93, 90, 91, 90, 39, 49, 44",
-      /*  9753 */ "0, 135, 73, 7, 120, 132, 107, 87, 70, 150, 74, 83, 75, 92, 80, 86, 66, 73, 77, 82, 75, 80, 89, 59",
-      /*  9777 */ "46, 107, 90, 168, 311, 246, 99, 87, 215, 129, 59, 162, 90, 209, 188, 191, 174, 295, 90, 241, 234",
-      /*  9798 */ "131, 90, 60, 106, 43, 91, 64, 83, 38, 60, 239, 144, 97, 72, 67, 70, 77, 65, 80, 68, 72, 68, 74, 65",
-      /*  9822 */ "81, 59, 209, 90, 62, 67, 72, 69, 79, 53, 116, 195, 152, 170, 87, 226, 151, 123, 67, 113, 61, 138",
-      /*  9844 */ "191, 190, 99, 244, 211, 92, 111, 85, 195, 203, 201, 149, 136, 99, 88, 110, 100, 100, 80, 97, 47, 40",
-      /*  9866 */ "62, 43, 43, 44, 24, 75, 44, 26, 145, 190, 184, 185, 143, 90, 233, 90, 219, 200, 256, 87, 129, 192",
-      /*  9888 */ "93, 130, 122, 90, 88, 78, 158, 179, 134, 163, 91, 110, 94, 75, 99, 72, 89, 89, 90, 86, 57, 217, 153",
-      /*  9911 */ "104, 102, 86, 97, 121, 87, 106, 57, 66, 84, 79, 144, 122, 92, 114, 80, 73, 135, 87, 79, 120, 93, 40",
-      /*  9934 */ "53, 51, 51, 53, 53, 58, 21, 21, 24, 24, 49, 43, 34, 40, 54, 0, 86, 0, 90, 38, 43, 35, 79, 98, 100",
-      /*  9959 */ "111, 90, 21, 90, 109, 167, 140, 73, 89, 73, 90, 74, 81, 78, 93, 71, 96, 71, 97, 81, 79, 77, 86, 72",
-      /*  9983 */ "83, 74, 82, 82, 70, 79, 54, 90, 63, 65, 82, 72, 71, 71, 73, 65, 83, 58, 87, 53, 158, 70, 113, 115",
-      /* 10007 */ "91, 124, 90, 130, 110, 81, 97, 88, 60, 72, 101, 82, 120, 94, 106, 86, 99, 90, 111, 71, 108, 106, 64",
-      /* 10030 */ "74, 111, 96, 93, 94, 85, 120, 86, 88, 84, 107, 73, 110, 82, 79, 67, 85, 80, 74, 77, 77, 78, 80, 75",
-      /* 10054 */ "79, 58, 90, 66, 66, 67, 78, 81, 63, 67, 79, 63, 68, 84, 68, 86, 65, 104, 76, 80, 77, 81, 64, 144",
-      /* 10078 */ "99, 63, 69, 90, 67, 80, 78, 83, 61, 90, 68, 90, 69, 92, 64, 18, 32, 36, 83, 102, 87, 66, 91, 131",
-      /* 10102 */ "83, 90, 100, 90, 81, 87, 80, 112, 58, 98, 74, 86, 80, 114, 61, 58, 27, 87, 40, 72, 36, 50, 39, 65",
-      /* 10126 */ "43, 50, 50, 36, 36, 37, 40, 42, 42, 52, 0, 79, 42, 74, 37, 47, 36, 38, 34, 39, 37, 53, 40, 48, 33",
-      /* 10151 */ "52, 7, 63, 87, 63, 83, 105, 86, 100, 114, 100, 93, 82, 90, 85, 91, 88, 40, 79, 43, 54, 40, 86, 38",
-      /* 10175 */ "54, 46, 45, 33, 67, 33, 69, 0, 63, 82, 106, 72, 90, 104, 60, 0, 75, 7, 66, 87, 66, 85, 66, 88, 113",
-      /* 10200 */ "79, 91, 140, 58, 50, 56, 32, 44, 64, 102, 102, 93, 72, 107, 91, 102, 100, 121, 89, 127, 127, 79, 97",
-      /* 10223 */ "121, 129, 101, 63, 84, 38, 76, 82, 117, 100, 110, 104, 73, 67, 77, 70, 85, 64, 87, 62, 70, 86, 62",
-      /* 10246 */ "71, 78, 75, 72, 72, 59, 95, 65, 76, 67, 64, 73, 62, 63, 60, 87, 51, 84, 41, 58, 55, 53, 70, 50, 78",
-      /* 10271 */ "55, 54, 54, 55, 55, 59, 63, 41, 64, 39, 51, 113, 82, 89, 85, 89, 87, 85, 88, 68, 106, 50, 74, 118",
-      /* 10295 */ "118, 125, 114, 101, 82, 86, 78, 105, 72, 87, 75, 96, 81, 86, 79, 84, 84, 49, 71, 35, 119, 120, 98",
-      /* 10318 */ "79, 70, 111, 39, 72, 113, 86, 103, 103, 83, 92, 94, 88, 94, 90, 40, 73, 40, 77, 49, 49, 56, 29, 82",
-      /* 10342 */ "119, 78, 71, 143, 92, 115, 108, 176, 176, 187, 164, 106, 113, 87, 67, 91, 72, 80, 93, 60, 21, 47",
-      /* 10364 */ "119, 115, 129, 118, 148, 119, 109, 76, 109, 109, 77, 109, 78, 121, 127, 79, 95, 137, 140, 120, 74",
-      /* 10385 */ "80, 91, 68, 100, 65, 33, 65, 41, 41, 42, 82, 52, 44, 40, 67, 21, 26, 116, 116, 87, 44, 58, 146, 146",
-      /* 10409 */ "129, 129, 146, 68, 44, 74, 98, 111, 106, 100, 122, 97, 74, 121, 92, 122, 94, 81, 99, 73, 112, 102",
-      /* 10431 */ "78, 48, 125, 125, 140, 126, 114, 106, 96, 129, 94, 115, 106, 90, 74, 125, 46, 121, 96, 141, 90, 146",
-      /* 10453 */ "182, 34, 63, 80, 90, 71, 89, 62, 75, 81, 68, 99, 64, 99, 110, 108, 102, 105, 105, 112, 50, 41, 114",
-      /* 10476 */ "114, 91, 101, 107, 84, 41, 99, 92, 89, 96, 90, 95, 88, 91, 91, 92, 91, 93, 91, 84, 91, 85, 90, 83",
-      /* 10500 */ "81, 91, 87, 86, 74, 84, 82, 84, 83, 77, 90, 77, 92, 81, 80, 96, 67, 88, 65, 116, 130, 130, 126, 101",
-      /* 10524 */ "102, 98, 137, 131, 95, 119, 77, 105, 80, 48, 86, 104, 92, 123, 106, 106, 108, 36, 114, 118, 160, 90",
-      /* 10546 */ "123, 60, 43, 122, 99, 95, 90, 96, 70, 139, 69, 141, 50, 130, 72, 81, 75, 89, 70, 149, 68, 101, 77",
-      /* 10569 */ "85, 85, 71, 83, 59, 48, 90, 34, 57, 34, 45, 76, 17, 39, 109, 111, 107, 143, 114, 127, 52, 99, 96",
-      /* 10592 */ "186, 154, 154, 182, 109, 114, 133, 133, 135, 135, 90, 120, 73, 61, 77, 63, 57, 61, 78, 68, 54, 85",
-      /* 10614 */ "45, 70, 55, 61, 69, 48, 48, 51, 72, 50, 90, 50, 97, 66, 53, 80, 53, 87, 43, 83, 34, 34, 35, 31, 149",
-      /* 10639 */ "155, 86, 122, 100, 126, 106, 88, 111, 97, 97, 80, 71, 79, 56, 80, 73, 69, 88, 59, 48, 74, 99, 97",
-      /* 10662 */ "21, 40, 34, 90, 44, 67, 21, 36, 61, 113, 100, 119, 119, 87, 88, 80, 92, 72, 77, 83, 71, 92, 73, 78",
-      /* 10686 */ "88, 64, 213, 194, 75, 186, 82, 140, 130, 0, 79, 94, 120, 111, 111, 98, 107, 129, 107, 105, 90, 169",
-      /* 10708 */ "94, 94, 103, 97, 93, 96, 94, 87, 108, 100, 103, 71, 107, 78, 119, 142, 74, 63, 63, 64, 78, 74, 64",
-      /* 10731 */ "80, 67, 69, 68, 71, 69, 69, 70, 71, 70, 72, 64, 82, 69, 72, 66, 59, 175, 174, 174, 126, 154, 206",
-      /* 10754 */ "120, 126, 115, 85, 88, 120, 120, 81, 89, 81, 90, 82, 87, 83, 78, 108, 73, 100, 67, 98, 54, 136, 98",
-      /* 10777 */ "73, 99, 69, 109, 145, 124, 124, 96, 133, 107, 107, 119, 85, 82, 111, 121, 116, 90, 171, 166, 116",
-      /* 10798 */ "98, 106, 116, 92, 143, 136, 136, 109, 131, 118, 113, 153, 46, 88, 116, 93, 88, 122, 109, 95, 43",
-      /* 10819 */ "116, 94, 91, 99, 84, 69, 98, 33, 45, 156, 137, 170, 170, 99, 122, 120, 122, 122, 119, 89, 159, 147",
-      /* 10841 */ "108, 108, 115, 40, 44, 84, 62, 122, 130, 104, 107, 164, 63, 81, 99, 111, 126, 96, 124, 74, 97, 150",
-      /* 10863 */ "112, 80, 159, 94, 69, 120, 134, 85, 66, 104, 100, 89, 82, 88, 73, 107, 59, 72, 100, 103, 109, 98",
-      /* 10885 */ "120, 110, 76, 98, 75, 98, 76, 101, 83, 80, 120, 60, 53, 90, 51, 73, 56, 65, 65, 67, 58, 58, 60, 54",
-      /* 10909 */ "75, 60, 55, 63, 48, 60, 57, 44, 56, 66, 57, 54, 77, 59, 65, 68, 39, 109, 122, 134, 87, 160, 160",
-      /* 10932 */ "100, 88, 125, 149, 144, 144, 154, 113, 94, 175, 196, 99, 89, 126, 74, 93, 103, 94, 92, 98, 98, 90",
-      /* 10954 */ "97, 91, 98, 84, 125, 85, 86, 124, 126, 107, 93, 116, 99, 98, 117, 109, 80, 99, 126, 124, 198, 92",
-      /* 10976 */ "145, 155, 82, 104, 74, 41, 39, 39, 43, 0, 80, 33, 53, 48, 35, 61, 46, 41, 40, 51, 48, 40, 52, 38",
-      /* 11000 */ "42, 75, 31, 43, 121, 118, 90, 119, 73, 120, 87, 73, 94, 59, 106, 111, 145, 161, 140, 114, 87, 116",
-      /* 11022 */ "84, 132, 93, 84, 100, 101, 93, 85, 102, 62, 81, 81, 82, 85, 68, 77, 71, 82, 74, 72, 73, 72, 74, 73",
-      /* 11046 */ "73, 75, 73, 76, 72, 75, 74, 74, 75, 75, 76, 75, 77, 74, 76, 76, 77, 75, 78, 77, 76, 78, 78, 79, 57",
-      /* 11071 */ "106, 123, 126, 121, 117, 117, 111, 77, 99, 78, 116, 122, 143, 143, 127, 120, 151, 151, 189, 102",
-      /* 11091 */ "130, 38, 83, 122, 128, 89, 131, 115, 115, 120, 106, 93, 52, 107, 55, 101, 158, 135, 95, 52, 90, 116",
-      /* 11113 */ "123, 137, 205, 153, 164, 101, 161, 95, 117, 95, 85, 122, 56, 96, 87, 94, 54, 134, 65, 110, 115, 222",
-      /* 11135 */ "155, 157, 81, 129, 108, 138, 140, 113, 66, 82, 103, 101, 134, 182, 134, 122, 148, 128, 128, 92, 170",
-      /* 11156 */ "112, 121, 121, 90, 70, 91, 66, 69, 93, 57, 119, 131, 131, 85, 77, 113, 90, 170, 167, 118, 92, 101",
-      /* 11178 */ "85, 79, 66, 75, 86, 67, 83, 70, 104, 0, 72, 30, 40, 40, 37, 25, 41, 0, 63, 38, 23, 113, 110, 110",
-      /* 11202 */ "66, 63, 66, 64, 85, 61, 87, 60, 142, 92, 135, 164, 147, 147, 115, 66, 83, 131, 122, 55, 98, 53, 113",
-      /* 11225 */ "92, 66, 119, 93, 119, 107, 134, 107, 135, 103, 108, 134, 109, 101, 120, 165, 90, 132, 66, 79, 90",
-      /* 11246 */ "112, 86, 86, 84, 87, 84, 88, 76, 105, 76, 109, 62, 84, 89, 80, 126, 41, 93, 77, 94, 60, 119, 143",
-      /* 11269 */ "145, 162, 83, 93, 97, 102, 82, 98, 80, 120, 129, 150, 130, 121, 135, 98, 103, 126, 126, 132, 132",
-      /* 11290 */ "148, 134, 121, 123, 78, 149, 105, 115, 28, 65, 213, 171, 171, 150, 150, 201, 34, 64, 34, 60, 38, 62",
-      /* 11312 */ "89, 170, 62, 139, 120, 123, 95, 139, 139, 178, 99, 143, 167, 154, 144, 159, 159, 169, 168, 177, 196",
-      /* 11333 */ "132, 129, 86, 96, 104, 87, 111, 57, 197, 196, 237, 197, 73, 128, 93, 165, 190, 197, 174, 172, 96",
-      /* 11354 */ "222, 221, 205, 182, 267, 238, 236, 223, 122, 256, 254, 241, 248, 248, 225, 272, 254, 231, 218, 251",
-      /* 11374 */ "223, 229, 228, 210, 201, 214, 199, 59, 204, 188, 176, 204, 185, 187, 168, 187, 185, 205, 205, 213",
-      /* 11394 */ "225, 213, 176, 173, 166, 204, 205, 204, 192, 227, 251, 238, 267, 274, 268, 274, 229, 229, 83, 108",
-      /* 11414 */ "136, 133, 90, 125, 90, 126, 84, 188, 239, 238, 235, 235, 268, 205, 192, 191, 239, 221, 252, 252",
-      /* 11434 */ "213, 228, 102, 165, 164, 256, 273, 258, 189, 22, 32, 22, 90, 44, 90, 22, 42, 101, 70, 96, 56, 83",
-      /* 11456 */ "65, 54, 47, 41, 45, 35, 28, 90, 24, 90, 25, 75, 28, 54, 28, 77, 110, 109, 85, 28, 78, 52, 108, 28",
-      /* 11480 */ "43, 100, 79, 123, 72, 94, 34, 67, 66, 96, 45, 89, 182, 88, 101, 38, 74, 106, 109, 94, 122, 88, 98",
-      /* 11503 */ "99, 86, 85, 101, 75, 85, 78, 87, 63, 72, 76, 83, 67, 81, 71, 90, 54, 80, 63, 53, 100, 62, 58, 71",
-      /* 11527 */ "55, 71, 60, 67, 60, 68, 49"
-    };
-    String[] s2 = java.util.Arrays.toString(s1).replaceAll("[ \\[\\]]", "").split(",");
-    for (int i = 0; i < 11534; ++i) {LOW[i] = Integer.parseInt(s2[i]);}
-  }
+  private static final int[] LOW = FontTables.load("Bold.bin", 11534);
 }
 
 // End
@@ -0,0 +1,97 @@
+package com.github.bannmann.trako.core;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Loads the compressed glyph width tables of {@link Normal} and {@link Bold} from binary resources, rather than
+ * parsing them from string constants. Each table is stored as a sequence of big-endian unsigned 16-bit values, so it
+ * is loaded with a single bulk read.
+ *
+ * <p>{@link #main(String[])} extracts the {@code LOW} table from a class generated by REx, see {@code FontWidth.html},
+ * and writes it in that form.</p>
+ */
+class FontTables
+{
+  private FontTables()
+  {
+  }
+
+  /**
+   * @param resource name of the table resource, relative to this class
+   * @param size number of entries of the table
+   */
+  static int[] load(String resource, int size)
+  {
+    byte[] bytes = new byte[2 * size];
+    try (InputStream input = FontTables.class.getResourceAsStream(resource))
+    {
+      if (input == null)
+        throw new IllegalStateException("missing font table: " + resource);
+      DataInputStream data = new DataInputStream(input);
+      data.readFully(bytes);
+      if (data.read() != -1)
+        throw new IllegalStateException("font table too large: " + resource);
+    }
+    catch (IOException e)
+    {
+      throw new RuntimeException(e);
+    }
+
+    int[] table = new int[size];
+    for (int i = 0; i < size; ++i)
+    {
+      table[i] = (bytes[2 * i] & 0xFF) << 8 | bytes[2 * i + 1] & 0xFF;
+    }
+    return table;
+  }
+
+  static void write(int[] table, OutputStream output) throws IOException
+  {
+    byte[] bytes = new byte[2 * table.length];
+    for (int i = 0; i < table.length; ++i)
+    {
+      if (table[i] < 0 || table[i] > 0xFFFF)
+        throw new IllegalArgumentException("table entry out of range: " + table[i]);
+      bytes[2 * i] = (byte) (table[i] >> 8);
+      bytes[2 * i + 1] = (byte) table[i];
+    }
+    output.write(bytes);
+  }
+
+  /**
+   * Usage: {@code FontTables <generated Java file> <table resource>}
+   */
+  public static void main(String[] args) throws IOException
+  {
+    if (args.length != 2)
+    {
+      System.err.println("Usage: java " + FontTables.class.getName() + " <generated Java file> <table resource>");
+      System.exit(1);
+    }
+
+    String source = new String(Files.readAllBytes(Paths.get(args[0])), "UTF-8");
+    Pattern table = Pattern.compile("int\\[\\] LOW = new int\\[(\\d+)\\];.*?s1\\[\\] =\\s*\\{(.*?)\\};",
+      Pattern.DOTALL);
+    Matcher matcher = table.matcher(source);
+    if (!matcher.find())
+      throw new IllegalArgumentException("no LOW table found in " + args[0]);
+
+    String values = matcher.group(2).replaceAll("/\\*.*?\\*/|[\"\\s]", "");
+    int[] low = Arrays.stream(values.split(",")).mapToInt(Integer::parseInt).toArray();
+    if (low.length != Integer.parseInt(matcher.group(1)))
+      throw new IllegalArgumentException("LOW table size mismatch in " + args[0]);
+
+    try (OutputStream output = Files.newOutputStream(Paths.get(args[1])))
+    {
+      write(low, output);
+    }
+  }
+}
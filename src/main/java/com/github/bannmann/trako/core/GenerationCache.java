@@ -0,0 +1,355 @@
+package com.github.bannmann.trako.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the results of {@link TrakoGenerator#generate(CharSequence)} in memory, for services that receive the same
+ * grammars with the same options over and over.
+ *
+ * <p>Results are keyed by a SHA-256 hash of the grammar text, the output type, every option of the generator that
+ * affects the output, and the Trako version. The key doubles as an HTTP entity tag: as equal keys imply equal
+ * output, a server can compute the tag by {@link #getETag(TrakoGenerator, CharSequence)} and answer a matching
+ * {@code If-None-Match} header with {@code 304 Not Modified}, without rendering or even looking up the result.</p>
+ *
+ * <p>The cache is bounded by the total size of the results in bytes, and evicts by segmented LRU: new results enter
+ * a probationary segment, and are promoted to a protected segment, which takes up to 80% of the capacity, when they
+ * are requested again. Results requested only once are thus evicted before those requested repeatedly, so that a
+ * burst of one-off grammars does not flush the popular ones.</p>
+ *
+ * <p>The cache is thread-safe. Results are generated outside of its lock, and concurrent requests for the same
+ * missing result are coalesced: it is generated once, and all requests wait for that result, or failure. The
+ * generation runs on a thread of its own, from a copy of the generator and the grammar, so it is not owned by any of
+ * the requesting threads. A requesting thread that is interrupted, including the first one, stops waiting with an
+ * {@link InterruptedException}, without affecting the generation or the other requests. The result of a generation
+ * is cached even if all requests for it have stopped waiting.</p>
+ */
+public class GenerationCache
+{
+  private static final TrakoMetrics.Cache metrics = TrakoMetrics.instance.cache("generation");
+  private static final TrakoMetrics.Cache coalescingMetrics = TrakoMetrics.instance.cache("coalescing");
+
+  private static final AtomicInteger threads = new AtomicInteger();
+  private static final Executor defaultExecutor = Executors.newCachedThreadPool(r -> {
+    Thread thread = new Thread(r, GenerationCache.class.getSimpleName() + "-" + threads.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final long capacity;
+  private final long protectedCapacity;
+  private final Executor executor;
+  private final LinkedHashMap<String, Result> probation = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<String, Result> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+  private long probationSize;
+  private long protectedSize;
+
+  /**
+   * The results being generated, by entity tag. The futures are completed by the generating thread only, and never
+   * handed out, so that no requesting thread can cancel them.
+   */
+  private final Map<String, CompletableFuture<Result>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * @param capacity maximum total size of the cached results, in bytes; larger results are not cached
+   */
+  public GenerationCache(long capacity)
+  {
+    this(capacity, defaultExecutor);
+  }
+
+  /**
+   * @param capacity maximum total size of the cached results, in bytes; larger results are not cached
+   * @param executor runs the generations, one task per missing result; defaults to a shared pool of daemon threads
+   *   that grows as needed
+   */
+  public GenerationCache(long capacity, Executor executor)
+  {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity must be positive");
+    if (executor == null)
+      throw new IllegalArgumentException("executor cannot be null");
+
+    this.capacity = capacity;
+    this.protectedCapacity = capacity / 5 * 4;
+    this.executor = executor;
+  }
+
+  /**
+   * A generated result, with its entity tag.
+   */
+  public static final class Result
+  {
+    private final String etag;
+    private final TrakoGenerator.OutputType outputType;
+    private final byte[] bytes;
+
+    Result(String etag, TrakoGenerator.OutputType outputType, byte[] bytes)
+    {
+      this.etag = etag;
+      this.outputType = outputType;
+      this.bytes = bytes;
+    }
+
+    /**
+     * @return the strong entity tag of the result, including the quotes required by HTTP
+     */
+    public String getETag()
+    {
+      return etag;
+    }
+
+    public TrakoGenerator.OutputType getOutputType()
+    {
+      return outputType;
+    }
+
+    /**
+     * @return a copy of the result
+     */
+    public byte[] getBytes()
+    {
+      return bytes.clone();
+    }
+
+    public int getSize()
+    {
+      return bytes.length;
+    }
+
+    public void writeTo(OutputStream output) throws IOException
+    {
+      output.write(bytes);
+    }
+  }
+
+  /**
+   * Computes the entity tag of the result that {@link #generate(TrakoGenerator, CharSequence)} would return, without
+   * generating it.
+   *
+   * @param generator the generator, with its output type and options set
+   * @param grammar input grammar in W3C EBNF notation
+   */
+  public String getETag(TrakoGenerator generator, CharSequence grammar)
+  {
+    if (generator == null)
+      throw new IllegalArgumentException("generator cannot be null");
+
+    return '"' + generator.outputKey(grammar) + '"';
+  }
+
+  /**
+   * Returns the cached result for the output type and options of a generator, generating it on a miss, or waiting for
+   * a generation of it that is already running. The output stream set by
+   * {@link TrakoGenerator#setOutput(OutputStream)} is not used.
+   *
+   * @param generator the generator, with its output type and options set; the output type must not be
+   *   {@link TrakoGenerator.OutputType#SVG_DIRECTORY}
+   * @param grammar input grammar in W3C EBNF notation
+   */
+  public Result generate(TrakoGenerator generator, CharSequence grammar) throws Exception
+  {
+    String etag = getETag(generator, grammar);
+    TrakoGenerator.OutputType outputType = generator.getOutputType();
+    if (outputType == TrakoGenerator.OutputType.SVG_DIRECTORY)
+      throw new IllegalArgumentException(outputType + " results cannot be cached");
+
+    Result result = get(etag);
+    if (result != null)
+      return result;
+
+    CompletableFuture<Result> future = new CompletableFuture<>();
+    CompletableFuture<Result> running = inFlight.putIfAbsent(etag, future);
+    coalescingMetrics.record(running != null);
+    if (running == null)
+    {
+      running = future;
+      TrakoGenerator copy = generator.copy();
+      String text = grammar.toString();
+      try
+      {
+        executor.execute(() -> generate(copy, text, etag, future));
+      }
+      catch (RejectedExecutionException e)
+      {
+        inFlight.remove(etag, future);
+        future.completeExceptionally(e);
+      }
+    }
+    return await(running);
+  }
+
+  /**
+   * Generates a missing result on a thread of the executor.
+   */
+  private void generate(TrakoGenerator generator, String grammar, String etag, CompletableFuture<Result> future)
+  {
+    try
+    {
+      // the result may have been cached after the lookup by the requesting thread, by a generation that was
+      // already finishing
+      Result result = lookup(etag);
+      if (result == null)
+      {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        generator.generate(grammar, Collections.singletonMap(generator.getOutputType(), output));
+        result = new Result(etag, generator.getOutputType(), output.toByteArray());
+        put(result);
+      }
+      future.complete(result);
+    }
+    catch (Exception | Error e)
+    {
+      future.completeExceptionally(e);
+    }
+    finally
+    {
+      inFlight.remove(etag, future);
+    }
+  }
+
+  private static Result await(CompletableFuture<Result> future) throws Exception
+  {
+    try
+    {
+      return future.get();
+    }
+    catch (ExecutionException e)
+    {
+      Throwable cause = e.getCause();
+      throw cause instanceof Exception ? (Exception) cause : new RuntimeException(cause.getMessage(), cause);
+    }
+  }
+
+  /**
+   * @param etag an entity tag returned by {@link #getETag(TrakoGenerator, CharSequence)}
+   * @return the cached result, or {@code null} if there is none
+   */
+  public Result get(String etag)
+  {
+    Result result = lookup(etag);
+    metrics.record(result != null);
+    return result;
+  }
+
+  /**
+   * @return the total size of the cached results, in bytes
+   */
+  public synchronized long getSize()
+  {
+    return probationSize + protectedSize;
+  }
+
+  public synchronized void clear()
+  {
+    probation.clear();
+    protectedSegment.clear();
+    probationSize = 0;
+    protectedSize = 0;
+  }
+
+  /**
+   * Checks the value of an HTTP {@code If-None-Match} header, using weak comparison as required for that header.
+   *
+   * @param ifNoneMatch the header value, e.g. {@code "abc", W/"def"}, or {@code null} if absent
+   * @param etag the entity tag of the current result
+   * @return whether the client's copy is current, i.e. whether to answer {@code 304 Not Modified}
+   */
+  public static boolean matches(String ifNoneMatch, String etag)
+  {
+    if (ifNoneMatch == null)
+      return false;
+
+    for (String tag : ifNoneMatch.split(","))
+    {
+      tag = tag.trim();
+      if (tag.equals("*"))
+        return true;
+      if (tag.startsWith("W/"))
+        tag = tag.substring(2);
+      if (tag.equals(etag))
+        return true;
+    }
+    return false;
+  }
+
+  private synchronized Result lookup(String etag)
+  {
+    Result result = protectedSegment.get(etag);
+    if (result == null)
+    {
+      result = probation.remove(etag);
+      if (result != null)
+      {
+        probationSize -= result.getSize();
+        protectedSegment.put(etag, result);
+        protectedSize += result.getSize();
+        demote();
+      }
+    }
+    return result;
+  }
+
+  private synchronized void put(Result result)
+  {
+    if (result.getSize() > capacity || probation.containsKey(result.getETag())
+      || protectedSegment.containsKey(result.getETag()))
+    {
+      return;
+    }
+
+    probation.put(result.getETag(), result);
+    probationSize += result.getSize();
+    evict();
+  }
+
+  /**
+   * Moves the least recently used results of the protected segment back to the probationary one, while the former
+   * exceeds its capacity.
+   */
+  private void demote()
+  {
+    Iterator<Map.Entry<String, Result>> iterator = protectedSegment.entrySet().iterator();
+    while (protectedSize > protectedCapacity && iterator.hasNext())
+    {
+      Result result = iterator.next().getValue();
+      iterator.remove();
+      protectedSize -= result.getSize();
+      probation.put(result.getETag(), result);
+      probationSize += result.getSize();
+    }
+    evict();
+  }
+
+  /**
+   * Drops the least recently used results of the probationary segment, and then of the protected one, while the
+   * cache exceeds its capacity.
+   */
+  private void evict()
+  {
+    Iterator<Map.Entry<String, Result>> iterator = probation.entrySet().iterator();
+    while (probationSize + protectedSize > capacity && iterator.hasNext())
+    {
+      probationSize -= iterator.next().getValue().getSize();
+      iterator.remove();
+    }
+    iterator = protectedSegment.entrySet().iterator();
+    while (probationSize + protectedSize > capacity && iterator.hasNext())
+    {
+      protectedSize -= iterator.next().getValue().getSize();
+      iterator.remove();
+    }
+  }
+}
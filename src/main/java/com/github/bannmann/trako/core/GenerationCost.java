@@ -0,0 +1,147 @@
+package com.github.bannmann.trako.core;
+
+/**
+ * A cheap estimate of the cost of generating diagrams for a grammar, computed from a parse without building a tree.
+ *
+ * <p>The cost is given in relative units rather than time: each production and each symbol counts one unit, and each
+ * alternative counts one unit per level of parenthesized choices that it is nested in, plus one, as alternatives
+ * drive the work of factoring and layout. With factoring enabled, the total is doubled. A grammar with a syntax error
+ * is estimated by the part before the error, as its generation fails early.</p>
+ */
+public final class GenerationCost
+{
+  private final int productions;
+  private final int symbols;
+  private final int alternatives;
+  private final int maxDepth;
+  private final long units;
+
+  private GenerationCost(int productions, int symbols, int alternatives, int maxDepth, long units)
+  {
+    this.productions = productions;
+    this.symbols = symbols;
+    this.alternatives = alternatives;
+    this.maxDepth = maxDepth;
+    this.units = units;
+  }
+
+  /**
+   * @param grammar input grammar in W3C EBNF notation
+   * @param factoring whether the grammar will be transformed with factoring, see
+   *   {@link TrakoGenerator#setFactoring(boolean)}
+   */
+  public static GenerationCost estimate(CharSequence grammar, boolean factoring)
+  {
+    if (grammar == null)
+      throw new IllegalArgumentException("grammar cannot be null");
+
+    Counter counter = new Counter();
+    try
+    {
+      new Parser(grammar, counter).parse_Grammar();
+    }
+    catch (Parser.ParseException e)
+    {
+      // estimate by what was parsed so far
+    }
+    long units = counter.productions + counter.symbols + counter.weightedAlternatives;
+    return new GenerationCost(counter.productions, counter.symbols, counter.alternatives, counter.maxDepth,
+      factoring ? 2 * units : units);
+  }
+
+  public int getProductions()
+  {
+    return productions;
+  }
+
+  public int getSymbols()
+  {
+    return symbols;
+  }
+
+  public int getAlternatives()
+  {
+    return alternatives;
+  }
+
+  /**
+   * @return the maximum nesting depth of parenthesized choices
+   */
+  public int getMaxDepth()
+  {
+    return maxDepth;
+  }
+
+  /**
+   * @return the estimated cost, in relative units
+   */
+  public long getUnits()
+  {
+    return units;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "GenerationCost[productions=" + productions + ", symbols=" + symbols + ", alternatives=" + alternatives
+      + ", maxDepth=" + maxDepth + ", units=" + units + "]";
+  }
+
+  private static class Counter implements Parser.EventHandler
+  {
+    int productions;
+    int symbols;
+    int alternatives;
+    long weightedAlternatives;
+    int depth;
+    int maxDepth;
+
+    @Override
+    public void reset(CharSequence string)
+    {
+    }
+
+    @Override
+    public void startNonterminal(String name, int begin)
+    {
+      switch (name)
+      {
+        case "Production":
+          ++productions;
+          break;
+        case "Primary":
+          ++symbols;
+          break;
+        case "SequenceOrDifference":
+          // one per alternative, as an Alternative or a branch of a Choice; '&' items are not alternatives
+          ++alternatives;
+          weightedAlternatives += 1 + depth;
+          break;
+        case "Choice":
+          maxDepth = Math.max(maxDepth, ++depth);
+          break;
+        default:
+          break;
+      }
+    }
+
+    @Override
+    public void endNonterminal(String name, int end)
+    {
+      if (name.equals("Choice"))
+      {
+        --depth;
+      }
+    }
+
+    @Override
+    public void terminal(String name, int begin, int end)
+    {
+    }
+
+    @Override
+    public void whitespace(int begin, int end)
+    {
+    }
+  }
+}
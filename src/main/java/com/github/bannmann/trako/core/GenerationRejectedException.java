@@ -0,0 +1,28 @@
+package com.github.bannmann.trako.core;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown by {@link GenerationScheduler} when the queued work exceeds its budget. A server would typically answer
+ * with {@code 503 Service Unavailable} and a {@code Retry-After} header derived from {@link #getRetryAfterMillis()}.
+ */
+public class GenerationRejectedException extends RejectedExecutionException
+{
+  private static final long serialVersionUID = 1L;
+
+  private final long retryAfterMillis;
+
+  public GenerationRejectedException(String message, long retryAfterMillis)
+  {
+    super(message);
+    this.retryAfterMillis = retryAfterMillis;
+  }
+
+  /**
+   * @return the estimated time until the queue has drained far enough to admit the job, in milliseconds
+   */
+  public long getRetryAfterMillis()
+  {
+    return retryAfterMillis;
+  }
+}
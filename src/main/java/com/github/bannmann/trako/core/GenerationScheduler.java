@@ -0,0 +1,316 @@
+package com.github.bannmann.trako.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs generation jobs on a fixed number of worker threads, ordered by their estimated cost, for services where the
+ * cost of jobs varies by orders of magnitude.
+ *
+ * <ul>
+ *   <li>Jobs are ordered by a virtual deadline, i.e. their submission time plus their {@link GenerationCost} times
+ *   the aging set by {@link #setAgingMicros(long)}. Cheap jobs thus overtake expensive ones that were submitted
+ *   shortly before, while an expensive job is not overtaken anymore once it has waited in proportion to its
+ *   cost.</li>
+ *   <li>Jobs of at least {@link #setExpensiveThreshold(long)} units are expensive, and at most
+ *   {@link #setMaxExpensive(int)} of them run at once, so that some workers remain available for cheap jobs.</li>
+ *   <li>When the total cost of the queued jobs would exceed {@link #setQueueBudget(long)}, a job is rejected with a
+ *   {@link GenerationRejectedException}, with a retry hint based on the time per unit observed so far. A job is
+ *   always admitted to an empty queue, however expensive.</li>
+ * </ul>
+ *
+ * <p>Cancelling the future of a queued job removes it from the queue. A running job is not interrupted, and its
+ * result is discarded. To combine scheduling with a {@link GenerationCache}, look up the entity tag in the cache
+ * before submitting a job that calls {@link GenerationCache#generate(TrakoGenerator, CharSequence)}, so that cache
+ * hits are not queued.</p>
+ */
+public class GenerationScheduler
+{
+  private static final Comparator<Job<?>> BY_DEADLINE = Comparator.<Job<?>>comparingLong(job -> job.deadline)
+    .thenComparingLong(job -> job.sequence);
+
+  private final int workers;
+  private final ExecutorService executor;
+  private final PriorityQueue<Job<?>> cheap = new PriorityQueue<>(BY_DEADLINE);
+  private final PriorityQueue<Job<?>> expensive = new PriorityQueue<>(BY_DEADLINE);
+
+  private long expensiveThreshold = 5_000;
+  private int maxExpensive;
+  private long queueBudget = 100_000;
+  private long agingNanos = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private long sequence;
+  private long queuedUnits;
+  private int running;
+  private int runningExpensive;
+  private boolean shutdown;
+
+  /**
+   * The observed run time per cost unit, for retry hints.
+   */
+  private long nanosPerUnit = TimeUnit.MILLISECONDS.toNanos(1);
+
+  /**
+   * @param workers number of jobs to run at once
+   */
+  public GenerationScheduler(int workers)
+  {
+    if (workers < 1)
+      throw new IllegalArgumentException("workers must be positive");
+
+    this.workers = workers;
+    this.maxExpensive = Math.max(1, workers / 2);
+    AtomicInteger threads = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(workers, r -> {
+      Thread thread = new Thread(r, GenerationScheduler.class.getSimpleName() + "-" + threads.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * @param expensiveThreshold minimum cost of expensive jobs, in {@link GenerationCost} units; defaults to
+   *   {@code 5000}, which is reached by grammars of a few hundred productions
+   */
+  public synchronized void setExpensiveThreshold(long expensiveThreshold)
+  {
+    if (expensiveThreshold < 1)
+      throw new IllegalArgumentException("expensiveThreshold must be positive");
+
+    this.expensiveThreshold = expensiveThreshold;
+  }
+
+  /**
+   * @param maxExpensive maximum number of expensive jobs to run at once; defaults to half the workers, but at least
+   *   one
+   */
+  public synchronized void setMaxExpensive(int maxExpensive)
+  {
+    if (maxExpensive < 1)
+      throw new IllegalArgumentException("maxExpensive must be positive");
+
+    this.maxExpensive = maxExpensive;
+    dispatch();
+  }
+
+  /**
+   * @param queueBudget maximum total cost of the queued jobs, in {@link GenerationCost} units; defaults to
+   *   {@code 100000}
+   */
+  public synchronized void setQueueBudget(long queueBudget)
+  {
+    if (queueBudget < 1)
+      throw new IllegalArgumentException("queueBudget must be positive");
+
+    this.queueBudget = queueBudget;
+  }
+
+  /**
+   * @param agingMicros how long a job may be overtaken per unit of its cost, in microseconds; defaults to
+   *   {@code 1000}, or {@code 0} for plain first-come, first-served order
+   */
+  public synchronized void setAgingMicros(long agingMicros)
+  {
+    if (agingMicros < 0)
+      throw new IllegalArgumentException("agingMicros cannot be negative");
+
+    this.agingNanos = TimeUnit.MICROSECONDS.toNanos(agingMicros);
+  }
+
+  /**
+   * Schedules the output type set by {@link TrakoGenerator#setOutputType(TrakoGenerator.OutputType)}, with a cost
+   * estimated from the grammar. The output stream set by {@link TrakoGenerator#setOutput(OutputStream)} is not used.
+   * The options of the generator must not be changed until the job has completed.
+   *
+   * @param grammar input grammar in W3C EBNF notation
+   * @return the output
+   * @throws GenerationRejectedException if the queue is over budget
+   */
+  public CompletableFuture<byte[]> submit(TrakoGenerator generator, CharSequence grammar)
+  {
+    if (generator == null)
+      throw new IllegalArgumentException("generator cannot be null");
+    if (grammar == null)
+      throw new IllegalArgumentException("grammar cannot be null");
+
+    TrakoGenerator.OutputType outputType = generator.getOutputType();
+    return submit(GenerationCost.estimate(grammar, generator.isFactoring()), () -> {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      generator.generate(grammar, Collections.singletonMap(outputType, output));
+      return output.toByteArray();
+    });
+  }
+
+  /**
+   * Schedules a job of a given cost.
+   *
+   * @throws GenerationRejectedException if the queue is over budget
+   */
+  public synchronized <T> CompletableFuture<T> submit(GenerationCost cost, Callable<T> task)
+  {
+    if (cost == null)
+      throw new IllegalArgumentException("cost cannot be null");
+    if (task == null)
+      throw new IllegalArgumentException("task cannot be null");
+    if (shutdown)
+      throw new RejectedExecutionException("scheduler has been shut down");
+
+    long units = cost.getUnits();
+    if (queuedUnits > 0 && queuedUnits + units > queueBudget)
+    {
+      long excess = queuedUnits + units - queueBudget;
+      long retryAfterMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(excess * nanosPerUnit / workers));
+      throw new GenerationRejectedException("queue is over budget by " + excess + " units", retryAfterMillis);
+    }
+
+    long now = System.nanoTime();
+    Job<T> job = new Job<>(task, units, units >= expensiveThreshold, now, now + units * agingNanos, sequence++);
+    (job.expensive ? expensive : cheap).add(job);
+    queuedUnits += units;
+    job.future.whenComplete((result, e) -> {
+      if (job.future.isCancelled())
+      {
+        cancelled(job);
+      }
+    });
+    dispatch();
+    return job.future;
+  }
+
+  /**
+   * @return the total cost of the queued jobs, in {@link GenerationCost} units
+   */
+  public synchronized long getQueuedUnits()
+  {
+    return queuedUnits;
+  }
+
+  /**
+   * Rejects further jobs and cancels the queued ones. Running jobs are completed.
+   */
+  public synchronized void shutdown()
+  {
+    shutdown = true;
+    cancelAll(cheap);
+    cancelAll(expensive);
+    executor.shutdown();
+  }
+
+  private void cancelAll(PriorityQueue<Job<?>> queue)
+  {
+    Job<?> job;
+    while ((job = queue.poll()) != null)
+    {
+      queuedUnits -= job.units;
+      job.future.cancel(false);
+    }
+  }
+
+  private synchronized void cancelled(Job<?> job)
+  {
+    if ((job.expensive ? expensive : cheap).remove(job))
+    {
+      queuedUnits -= job.units;
+    }
+  }
+
+  /**
+   * Starts queued jobs while there are idle workers.
+   */
+  private void dispatch()
+  {
+    while (!shutdown && running < workers)
+    {
+      Job<?> job = next();
+      if (job == null)
+        break;
+
+      queuedUnits -= job.units;
+      ++running;
+      if (job.expensive)
+      {
+        ++runningExpensive;
+      }
+      executor.execute(() -> run(job));
+    }
+  }
+
+  /**
+   * @return the queued job with the earliest deadline, skipping expensive jobs while their limit is reached
+   */
+  private Job<?> next()
+  {
+    Job<?> cheapJob = cheap.peek();
+    Job<?> expensiveJob = runningExpensive < maxExpensive ? expensive.peek() : null;
+    if (expensiveJob != null && (cheapJob == null || BY_DEADLINE.compare(expensiveJob, cheapJob) < 0))
+      return expensive.poll();
+    return cheap.poll();
+  }
+
+  private <T> void run(Job<T> job)
+  {
+    TrakoMetrics.instance.recordLatency("queue", job.submitted);
+    long start = System.nanoTime();
+    try
+    {
+      // the future may have been cancelled after the job was taken from the queue
+      if (!job.future.isCancelled())
+      {
+        job.future.complete(job.task.call());
+      }
+    }
+    catch (Exception | Error e)
+    {
+      job.future.completeExceptionally(e);
+    }
+    finally
+    {
+      finished(job, System.nanoTime() - start);
+    }
+  }
+
+  private synchronized void finished(Job<?> job, long elapsed)
+  {
+    --running;
+    if (job.expensive)
+    {
+      --runningExpensive;
+    }
+    if (job.units > 0)
+    {
+      nanosPerUnit = (7 * nanosPerUnit + elapsed / job.units) / 8;
+    }
+    dispatch();
+  }
+
+  private static class Job<T>
+  {
+    final Callable<T> task;
+    final long units;
+    final boolean expensive;
+    final long submitted;
+    final long deadline;
+    final long sequence;
+    final CompletableFuture<T> future = new CompletableFuture<>();
+
+    Job(Callable<T> task, long units, boolean expensive, long submitted, long deadline, long sequence)
+    {
+      this.task = task;
+      this.units = units;
+      this.expensive = expensive;
+      this.submitted = submitted;
+      this.deadline = deadline;
+      this.sequence = sequence;
+    }
+  }
+}
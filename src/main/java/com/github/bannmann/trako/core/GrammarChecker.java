@@ -0,0 +1,63 @@
+package com.github.bannmann.trako.core;
+
+/**
+ * Checks grammars for syntax errors only. The parser runs with an event handler that ignores all events, so no parse
+ * tree is built, and no Saxon configuration is involved. This takes a fraction of the time of a full generator run and
+ * is safe to use from multiple threads. Large grammars are parsed in chunks concurrently, see {@link ParallelParser}.
+ */
+public class GrammarChecker
+{
+  static final Parser.EventHandler IGNORE_EVENTS = new Parser.EventHandler()
+  {
+    @Override
+    public void reset(CharSequence string)
+    {
+    }
+
+    @Override
+    public void startNonterminal(String name, int begin)
+    {
+    }
+
+    @Override
+    public void endNonterminal(String name, int end)
+    {
+    }
+
+    @Override
+    public void terminal(String name, int begin, int end)
+    {
+    }
+
+    @Override
+    public void whitespace(int begin, int end)
+    {
+    }
+  };
+
+  private GrammarChecker()
+  {
+  }
+
+  /**
+   * @param grammar input grammar in W3C EBNF notation
+   * @return {@code null} if the grammar is syntactically correct, otherwise the error message, including line and
+   *   column of the error
+   */
+  public static String check(CharSequence grammar)
+  {
+    if (grammar == null)
+      throw new IllegalArgumentException("grammar cannot be null");
+
+    ParallelParser<Parser.EventHandler> parser = new ParallelParser<>(grammar, () -> IGNORE_EVENTS);
+    try
+    {
+      parser.parse_Grammar();
+      return null;
+    }
+    catch (Parser.ParseException e)
+    {
+      return parser.getErrorMessage(e);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.github.bannmann.trako.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads grammar text for {@link Parser}, {@link GrammarChecker} and {@link TrakoGenerator}. The result is a {@link
+ * CharBuffer}, which is a {@link CharSequence}, so it is passed on as is, rather than being copied into a {@link
+ * String}.
+ *
+ * <p>Files are memory-mapped and decoded straight from the mapping, so the only copy on the heap is the decoded text.
+ * Without an explicit encoding, a UTF-8 or UTF-16 byte order mark selects the encoding and is skipped, otherwise the
+ * system encoding is used.</p>
+ */
+public class GrammarInput
+{
+  private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+  private static final byte[] UTF_16BE_BOM = {(byte) 0xFE, (byte) 0xFF};
+  private static final byte[] UTF_16LE_BOM = {(byte) 0xFF, (byte) 0xFE};
+
+  private GrammarInput()
+  {
+  }
+
+  /**
+   * @param file grammar file
+   * @param charset encoding of the file, or {@code null} for autodetection
+   * @return the decoded grammar
+   */
+  public static CharBuffer map(Path file, Charset charset) throws IOException
+  {
+    if (file == null)
+      throw new IllegalArgumentException("file cannot be null");
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+    {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE)
+        throw new IOException("grammar file too large: " + file);
+      return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), charset);
+    }
+  }
+
+  /**
+   * Reads a grammar from a stream, e.g. standard input, which cannot be mapped.
+   *
+   * @param input grammar stream, not closed by this method
+   * @param charset encoding of the stream, or {@code null} for autodetection
+   * @return the decoded grammar
+   */
+  public static CharBuffer read(InputStream input, Charset charset) throws IOException
+  {
+    if (input == null)
+      throw new IllegalArgumentException("input cannot be null");
+
+    Buffer buffer = new Buffer();
+    byte[] chunk = new byte[32768];
+    for (int length; (length = input.read(chunk)) != -1; )
+      buffer.write(chunk, 0, length);
+    return decode(buffer.asByteBuffer(), charset);
+  }
+
+  private static CharBuffer decode(ByteBuffer bytes, Charset charset) throws CharacterCodingException
+  {
+    if (charset == null)
+    {
+      charset = skip(bytes, UTF_8_BOM)    ? StandardCharsets.UTF_8
+              : skip(bytes, UTF_16BE_BOM) ? StandardCharsets.UTF_16BE
+              : skip(bytes, UTF_16LE_BOM) ? StandardCharsets.UTF_16LE
+              : Charset.defaultCharset();
+    }
+    return charset.newDecoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE)
+      .decode(bytes);
+  }
+
+  /**
+   * Advances the position of a buffer past a byte order mark, if it starts with one.
+   */
+  private static boolean skip(ByteBuffer bytes, byte[] bom)
+  {
+    int position = bytes.position();
+    if (bytes.remaining() < bom.length)
+    {
+      return false;
+    }
+    for (int i = 0; i < bom.length; ++i)
+    {
+      if (bytes.get(position + i) != bom[i])
+      {
+        return false;
+      }
+    }
+    bytes.position(position + bom.length);
+    return true;
+  }
+
+  /**
+   * Gives access to the collected bytes without the copy made by {@link #toByteArray()}.
+   */
+  private static class Buffer extends ByteArrayOutputStream
+  {
+    Buffer()
+    {
+      super(32768);
+    }
+
+    ByteBuffer asByteBuffer()
+    {
+      return ByteBuffer.wrap(buf, 0, count);
+    }
+  }
+}
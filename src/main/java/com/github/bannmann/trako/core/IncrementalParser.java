@@ -0,0 +1,244 @@
+package com.github.bannmann.trako.core;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import net.sf.saxon.event.Builder;
+import net.sf.saxon.trans.XPathException;
+
+/**
+ * Keeps the grammar of an editor in sync with edits, re-parsing only the productions that an edit touches.
+ *
+ * <p>The text is split in front of each production, in the same way as by {@link ParallelParser}, and each production
+ * is parsed on its own. After an edit, the text is split again, which is a cheap scan, and the productions before and
+ * after the edited range are taken over from the previous parse, while the others are lexed and parsed again. The
+ * productions that were replaced are compared with their replacements, so that downstream stages, e.g. diagram
+ * rendering, can limit their work to the productions that actually changed.</p>
+ *
+ * <p>On a syntax error, the edit is still applied, and the result of the last successful parse is kept. The next edit
+ * then parses the whole text again, and reports changes relative to that result.</p>
+ */
+public class IncrementalParser
+{
+  private final StringBuilder text = new StringBuilder();
+
+  /**
+   * The productions of the last successful parse, in text order.
+   */
+  private List<Segment> segments = Collections.emptyList();
+
+  /**
+   * Whether {@link #segments} are the result of parsing the current text.
+   */
+  private boolean current = true;
+
+  /**
+   * Applies an edit and parses the result.
+   *
+   * @param offset start of the edited range
+   * @param length number of characters removed from the edited range
+   * @param replacement text inserted at {@code offset}
+   * @return the names of the productions that were added, removed or changed by the edit, including any edits since
+   *   the last successful parse
+   * @throws Parser.ParseException on a syntax error, with offsets relative to the whole text
+   */
+  public Set<String> edit(int offset, int length, CharSequence replacement)
+  {
+    if (offset < 0 || offset > text.length())
+      throw new IllegalArgumentException("offset out of range: " + offset);
+    if (length < 0 || offset + length > text.length())
+      throw new IllegalArgumentException("length out of range: " + length);
+    if (replacement == null)
+      throw new IllegalArgumentException("replacement cannot be null");
+
+    text.replace(offset, offset + length, replacement.toString());
+    int delta = replacement.length() - length;
+
+    Map<Integer, Segment> reusable = new HashMap<>();
+    if (current)
+    {
+      for (Segment segment : segments)
+      {
+        if (segment.end <= offset)
+        {
+          reusable.put(segment.begin, segment);
+        }
+        else if (segment.begin >= offset + length)
+        {
+          reusable.put(segment.begin + delta, segment.shift(delta));
+        }
+      }
+    }
+    current = false;
+
+    int[] bounds = ParallelParser.split(text, 1);
+    if (bounds == null)
+    {
+      bounds = new int[] {0, text.length()};
+    }
+
+    List<Segment> result = new ArrayList<>(bounds.length - 1);
+    List<Integer> unparsed = new ArrayList<>();
+    for (int i = 0; i < bounds.length - 1; ++i)
+    {
+      Segment segment = reusable.get(bounds[i]);
+      boolean outsideEdit = bounds[i + 1] <= offset || bounds[i] >= offset + replacement.length();
+      if (segment != null && segment.end == bounds[i + 1] && outsideEdit)
+      {
+        result.add(segment);
+      }
+      else
+      {
+        result.add(null);
+        unparsed.add(i);
+      }
+    }
+
+    int[] b = bounds;
+    List<Segment> parsed = unparsed.stream()
+      .parallel()
+      .map(i -> parse(b[i], b[i + 1]))
+      .collect(Collectors.toList());
+    for (int i = 0; i < parsed.size(); ++i)
+    {
+      Segment segment = parsed.get(i);
+      if (segment.error != null)
+      {
+        // as in ParallelParser, a production may only fail because of where the text was split
+        result = new ArrayList<>(result.subList(0, unparsed.get(i)));
+        result.add(recover(segment.begin));
+        break;
+      }
+      result.set(unparsed.get(i), segment);
+    }
+
+    Set<String> changed = changes(result, reusable.values());
+    segments = result;
+    current = true;
+    return changed;
+  }
+
+  /**
+   * @return the current text, including edits that failed to parse
+   */
+  public CharSequence getText()
+  {
+    return text;
+  }
+
+  /**
+   * Writes the grammar AST of the last successful parse, as built by {@link AstBuilder}.
+   */
+  public void build(Builder builder) throws XPathException
+  {
+    AstBuilder.build(builder, segments.stream().map(segment -> segment.ast).collect(Collectors.toList()));
+  }
+
+  /**
+   * @return the error message of a {@link Parser.ParseException} thrown by {@link #edit(int, int, CharSequence)},
+   *   with line and column in the current text
+   */
+  public String getErrorMessage(Parser.ParseException e)
+  {
+    return new Parser(text, GrammarChecker.IGNORE_EVENTS).getErrorMessage(e);
+  }
+
+  /**
+   * Compares the productions that were replaced by a new parse with their replacements.
+   *
+   * @param result the productions of the new parse
+   * @param reusable the productions of the previous parse that could be taken over
+   */
+  private Set<String> changes(List<Segment> result, Collection<Segment> reusable)
+  {
+    Set<AstBuilder> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Segment segment : reusable)
+    {
+      candidates.add(segment.ast);
+    }
+    Set<AstBuilder> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Segment segment : result)
+    {
+      if (candidates.contains(segment.ast))
+      {
+        kept.add(segment.ast);
+      }
+    }
+
+    List<AstBuilder> before = segments.stream()
+      .map(segment -> segment.ast)
+      .filter(ast -> !kept.contains(ast))
+      .collect(Collectors.toList());
+    List<AstBuilder> after = result.stream()
+      .map(segment -> segment.ast)
+      .filter(ast -> !kept.contains(ast))
+      .collect(Collectors.toList());
+
+    Set<String> changed = AstBuilder.changedProductions(before, after);
+    if (changed == null)
+    {
+      // something other than productions changed, so conservatively report all of them
+      changed = new HashSet<>(AstBuilder.productionNames(before));
+      changed.addAll(AstBuilder.productionNames(after));
+    }
+    return changed;
+  }
+
+  private Segment parse(int begin, int end)
+  {
+    Segment segment = new Segment(begin, end, new AstBuilder());
+    try
+    {
+      new Parser(CharBuffer.wrap(text, begin, end), segment.ast).parse_Grammar();
+    }
+    catch (Parser.ParseException e)
+    {
+      segment.error = e;
+    }
+    return segment;
+  }
+
+  /**
+   * Parses from the start of a failed production to the end of the text.
+   */
+  private Segment recover(int offset)
+  {
+    Segment segment = parse(offset, text.length());
+    if (segment.error != null)
+    {
+      Parser.ParseException e = segment.error;
+      throw new Parser.ParseException(e.getBegin() + offset, e.getEnd() + offset, e.getState(), e.getOffending(),
+        e.getExpected());
+    }
+    return segment;
+  }
+
+  private static class Segment
+  {
+    final int begin;
+    final int end;
+    final AstBuilder ast;
+    Parser.ParseException error;
+
+    Segment(int begin, int end, AstBuilder ast)
+    {
+      this.begin = begin;
+      this.end = end;
+      this.ast = ast;
+    }
+
+    Segment shift(int delta)
+    {
+      return delta == 0 ? this : new Segment(begin + delta, end + delta, ast);
+    }
+  }
+}
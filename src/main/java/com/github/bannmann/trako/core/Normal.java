@@ -28,627 +28,9 @@ public class Normal
     }
   }
 
-  private static final int[] HIGH = new int[6];
-  static
-  {
-    final String s1[] =
-    {
-      /* 0 */ "196608, 921600, 917503, 1114111, 90, 90"
-    };
-    String[] s2 = java.util.Arrays.toString(s1).replaceAll("[ \\[\\]]", "").split(",");
-    for (int i = 0; i < 6; ++i) {HIGH[i] = Integer.parseInt(s2[i]);}
-  }
+  private static final int[] HIGH = {196608, 921600, 917503, 1114111, 90, 90};
 
-  private static final int[] LOW = new int[10453];
-  static
-  {
-    final String s1[] =
-    {
-      /*     0 */ "24, 32, 37, 52, 53, 49, 41, 98, 61, 87, 87, 83, 87, 88, 69, 77, 52, 52, 52, 52, 52, 96, 87, 87, 106",
-      /*    25 */ "114, 122, 130, 138, 146, 154, 162, 170, 178, 186, 204, 212, 224, 224, 224, 220, 224, 224, 224, 224",
-      /*    45 */ "224, 256, 264, 264, 233, 240, 248, 224, 224, 224, 224, 224, 224, 224, 224, 225, 345, 280, 389, 290",
-      /*    65 */ "309, 317, 325, 339, 362, 362, 362, 362, 384, 353, 301, 362, 361, 362, 297, 362, 370, 378, 362, 362",
-      /*    85 */ "196, 282, 362, 362, 362, 362, 362, 362, 362, 362, 193, 224, 397, 362, 362, 362, 362, 362, 362, 331",
-      /*   105 */ "272, 405, 413, 421, 429, 437, 445, 453, 461, 469, 477, 485, 493, 501, 509, 517, 525, 838, 1542, 533",
-      /*   125 */ "541, 549, 557, 565, 573, 581, 589, 597, 605, 613, 632, 664, 672, 656, 704, 1147, 1137, 712, 720",
-      /*   144 */ "728, 736, 744, 752, 760, 768, 776, 784, 1639, 792, 800, 808, 1124, 816, 1750, 1478, 824, 858, 850",
-      /*   163 */ "1785, 866, 874, 882, 890, 898, 906, 914, 922, 930, 938, 946, 954, 962, 970, 1589, 978, 986, 994",
-      /*   182 */ "1002, 1010, 1018, 1026, 1034, 1404, 1043, 1051, 1059, 1067, 1075, 1404, 1319, 1404, 1404, 1404",
-      /*   198 */ "1404, 1404, 1404, 1648, 1501, 1404, 1089, 1767, 1418, 1097, 1765, 1111, 692, 1531, 1132, 1145, 1156",
-      /*   215 */ "1174, 1181, 1167, 1148, 1705, 1147, 1147, 1147, 1189, 1147, 1147, 1147, 1147, 1147, 1147, 1147",
-      /*   231 */ "1147, 1201, 1224, 1224, 1213, 1219, 1222, 1224, 1224, 1224, 1232, 1245, 1253, 1261, 1728, 1671",
-      /*   247 */ "1269, 1278, 1735, 619, 831, 1081, 1237, 1404, 1521, 1147, 1147, 1147, 1147, 1147, 1147, 1147, 1286",
-      /*   264 */ "1297, 1297, 1297, 1297, 1297, 1297, 1297, 1297, 1345, 1353, 1361, 1369, 1304, 1377, 1159, 1385",
-      /*   280 */ "1393, 1403, 1404, 1404, 1404, 1404, 1404, 1404, 1624, 1529, 1426, 1404, 1496, 1404, 1404, 1404",
-      /*   296 */ "1482, 1404, 1499, 1205, 1404, 1404, 1404, 1404, 1404, 1103, 1621, 1404, 1404, 1439, 1452, 1465",
-      /*   312 */ "1473, 644, 1674, 624, 1404, 1457, 687, 1404, 1444, 682, 650, 1782, 1404, 638, 1404, 1404, 1404",
-      /*   329 */ "1490, 1509, 1404, 1404, 1147, 1147, 1312, 1404, 1329, 1337, 844, 1118, 677, 1519, 1404, 1035, 1404",
-      /*   346 */ "1404, 1404, 1405, 1404, 1395, 1431, 1404, 1550, 1558, 1566, 1574, 1582, 1597, 1605, 1613, 1632",
-      /*   362 */ "1404, 1404, 1404, 1404, 1404, 1404, 1404, 1404, 1647, 1193, 1321, 1656, 1664, 1404, 1682, 1690",
-      /*   378 */ "1698, 1713, 1721, 1270, 1743, 1758, 1404, 1404, 1511, 1539, 696, 1404, 1404, 1404, 1404, 1413, 1289",
-      /*   395 */ "1404, 1404, 1147, 1147, 1147, 1147, 1147, 1775, 1404, 1404, 1793, 5575, 1815, 4951, 5242, 2183",
-      /*   411 */ "1823, 1830, 4844, 1838, 1846, 1854, 1862, 1876, 4191, 1884, 1892, 1900, 1906, 1914, 1922, 2032",
-      /*   427 */ "2039, 1940, 1948, 1963, 1978, 1986, 1994, 2002, 2017, 2025, 2053, 4890, 2067, 2403, 2081, 2089",
-      /*   443 */ "2097, 2105, 2118, 6598, 2126, 4807, 2134, 4198, 2147, 2139, 4851, 2155, 2164, 2155, 2561, 2155",
-      /*   459 */ "2155, 5825, 2547, 2176, 2045, 2191, 2283, 2206, 3403, 2214, 2246, 2268, 2888, 2276, 2298, 2306",
-      /*   475 */ "2321, 2314, 2343, 2351, 2359, 2366, 2374, 2382, 2390, 2397, 2411, 2328, 4432, 3546, 2419, 2427",
-      /*   491 */ "7664, 2435, 2221, 3558, 2155, 2156, 2443, 2455, 2463, 2506, 2517, 2525, 2533, 2541, 2555, 3559",
-      /*   507 */ "2572, 2580, 2593, 6976, 2604, 5406, 2612, 2620, 2168, 2628, 2636, 2651, 2659, 2155, 2715, 2110",
-      /*   523 */ "2667, 2765, 2696, 2704, 2712, 2723, 2732, 2740, 2748, 2755, 2773, 2788, 2796, 4552, 2804, 2826",
-      /*   539 */ "2834, 2842, 6251, 2335, 3819, 1955, 2850, 6305, 2858, 5979, 2866, 2874, 2881, 2896, 2904, 2924",
-      /*   555 */ "4537, 7289, 2939, 2947, 2955, 6184, 7450, 2970, 2981, 3000, 3012, 3020, 7518, 2931, 3028, 3888",
-      /*   571 */ "3062, 7130, 2962, 3076, 3649, 3084, 3092, 3117, 4508, 3112, 3129, 3144, 3152, 7443, 3160, 6300",
-      /*   587 */ "3178, 3121, 3186, 3192, 3200, 3218, 5214, 3541, 3226, 3237, 3247, 3255, 3263, 3271, 3279, 4451",
-      /*   603 */ "3287, 3295, 3326, 3303, 3311, 3319, 3334, 5271, 4432, 2762, 3664, 3342, 3350, 3358, 3366, 7364",
-      /*   619 */ "4432, 4432, 3104, 4432, 5226, 7044, 4432, 4432, 2973, 5125, 4413, 3167, 6449, 3374, 6212, 3389",
-      /*   635 */ "3411, 3449, 3474, 4432, 4432, 4345, 7059, 4432, 4432, 4432, 4432, 4345, 7074, 4432, 4432, 4432",
-      /*   651 */ "4432, 5224, 7042, 4432, 4432, 4432, 4432, 5224, 7379, 4432, 4581, 3583, 3049, 3495, 3503, 3511",
-      /*   667 */ "2780, 3519, 3527, 3535, 2643, 4858, 3554, 2155, 3567, 3575, 4432, 4432, 4432, 2238, 7082, 4432",
-      /*   683 */ "4432, 4432, 2688, 3051, 4432, 4432, 4432, 2688, 7044, 4432, 4432, 4432, 5550, 4432, 4432, 4432",
-      /*   699 */ "4432, 3099, 4432, 4432, 4432, 3004, 4579, 3592, 3600, 3608, 3626, 3634, 3642, 3657, 3690, 3698",
-      /*   715 */ "3706, 3714, 3729, 3737, 3752, 3760, 3768, 2198, 3776, 3788, 3796, 3804, 3812, 3827, 7242, 3835",
-      /*   731 */ "3843, 3851, 5286, 3859, 3867, 3875, 3883, 3896, 3904, 3926, 3934, 3942, 3950, 3968, 3975, 3983",
-      /*   747 */ "5377, 3991, 6071, 4005, 4011, 4019, 2988, 4027, 4034, 2992, 4042, 4049, 4235, 6064, 4057, 3997",
-      /*   763 */ "4096, 4104, 4139, 5918, 4064, 4071, 4154, 4964, 4162, 4174, 4176, 5510, 4184, 4206, 4214, 4221",
-      /*   779 */ "4229, 2260, 4243, 4260, 4268, 4276, 4284, 4292, 4300, 4308, 6785, 4335, 4343, 4354, 4362, 4994",
-      /*   795 */ "4370, 4378, 4385, 4393, 4408, 4424, 4441, 4463, 4471, 4479, 4487, 4495, 4503, 4516, 4524, 4532",
-      /*   811 */ "4545, 4987, 4560, 4568, 4576, 4616, 4624, 4632, 4652, 4660, 4673, 4688, 4696, 6449, 4432, 4432",
-      /*   827 */ "3003, 6449, 4432, 5224, 7044, 4432, 4432, 7377, 3051, 4432, 4414, 4432, 2233, 7096, 4432, 4432",
-      /*   843 */ "7293, 4432, 4432, 2971, 7054, 4432, 4432, 4432, 4432, 3003, 7042, 4432, 4704, 4712, 4720, 3050",
-      /*   859 */ "4432, 7071, 4432, 4432, 4432, 3002, 7044, 4736, 4744, 1970, 4752, 4760, 4768, 4776, 4784, 6102",
-      /*   875 */ "4792, 4800, 4822, 2564, 2688, 2688, 4837, 2009, 2059, 2073, 4919, 4876, 4884, 4898, 4913, 4927",
-      /*   891 */ "4935, 4943, 4947, 5420, 1928, 1934, 2228, 4959, 1868, 4972, 4980, 1800, 5002, 5010, 3671, 4959",
-      /*   907 */ "4972, 5010, 6625, 4814, 5025, 6191, 1807, 2585, 5033, 5047, 5055, 5063, 5076, 2155, 5084, 6770",
-      /*   923 */ "5092, 5103, 5111, 4432, 6922, 5119, 4431, 5964, 5133, 5157, 5165, 2509, 2475, 5173, 5181, 5189",
-      /*   939 */ "5207, 5235, 5250, 5256, 5264, 5279, 5294, 5302, 2290, 5310, 5318, 5326, 5332, 6640, 5340, 5384",
-      /*   955 */ "6265, 6272, 5874, 5355, 5370, 5347, 5392, 5400, 5414, 5428, 5436, 5444, 5452, 5460, 5468, 5362",
-      /*   971 */ "5476, 5495, 5503, 3229, 5095, 5518, 3439, 3959, 5537, 3959, 3959, 3959, 3959, 5719, 4084, 5559",
-      /*   987 */ "5565, 5039, 5039, 5575, 4250, 4252, 5573, 5584, 4322, 5599, 5619, 5634, 5645, 5641, 3053, 5653",
-      /*  1003 */ "5684, 5677, 5487, 3911, 3207, 3744, 5692, 5482, 4146, 5700, 3432, 6695, 3614, 3611, 3418, 5708",
-      /*  1019 */ "7649, 5727, 5751, 5753, 5761, 5769, 5784, 5787, 5733, 3918, 5795, 4432, 5805, 5813, 5833, 5841",
-      /*  1035 */ "4432, 4432, 4432, 4432, 4432, 4432, 4432, 3048, 5017, 5851, 5859, 5867, 4111, 4118, 4315, 4125",
-      /*  1051 */ "5882, 5890, 5912, 5926, 5941, 5949, 5957, 6278, 5972, 5997, 6005, 6013, 4131, 6021, 6028, 6036",
-      /*  1067 */ "6057, 6258, 6050, 6042, 6079, 6087, 3136, 6095, 4638, 3054, 4432, 6110, 6117, 5549, 4432, 4432",
-      /*  1083 */ "5225, 6448, 5989, 4432, 4432, 7292, 6125, 6133, 6141, 6161, 6169, 6177, 4905, 6206, 6286, 6294",
-      /*  1099 */ "6313, 6321, 6329, 3780, 2688, 2688, 2688, 3170, 2688, 2688, 7058, 4414, 6337, 6691, 4644, 7626",
-      /*  1115 */ "6699, 5611, 5550, 4432, 2687, 7067, 6448, 4432, 4432, 4432, 4432, 7072, 7072, 4432, 4589, 4597",
-      /*  1131 */ "4605, 6356, 3959, 2498, 5660, 3958, 3959, 3959, 3959, 3959, 3959, 3959, 3959, 7463, 3959, 4088",
-      /*  1147 */ "3959, 3959, 3959, 3959, 3959, 3959, 3959, 3959, 2486, 3956, 3959, 3209, 3958, 3959, 3959, 3959",
-      /*  1163 */ "3959, 3960, 5575, 5575, 3959, 3959, 3959, 3959, 7462, 3959, 3959, 6357, 3959, 4432, 4432, 3959",
-      /*  1179 */ "4432, 4432, 3959, 3209, 3959, 3959, 6367, 3958, 3959, 5797, 3959, 3959, 3959, 6366, 4432, 4432",
-      /*  1195 */ "4432, 4432, 4433, 4432, 4432, 4432, 3959, 3959, 3959, 7462, 4432, 4432, 4432, 4432, 4868, 4432",
-      /*  1211 */ "4432, 4432, 5904, 5904, 5904, 5904, 5904, 5903, 5904, 5904, 5904, 5904, 5897, 5904, 5904, 5904",
-      /*  1227 */ "5904, 5904, 5904, 5904, 5904, 3065, 5904, 5904, 5904, 3068, 4432, 4432, 4432, 6148, 4416, 4432",
-      /*  1243 */ "5224, 7370, 6376, 6384, 6392, 6400, 6408, 6416, 6431, 6439, 6457, 6465, 5933, 4680, 6473, 6481",
-      /*  1259 */ "6489, 6497, 6505, 6513, 6521, 4432, 4432, 4432, 2971, 2680, 4455, 4432, 4432, 4432, 4432, 4432",
-      /*  1275 */ "4432, 4432, 3953, 5985, 4432, 4400, 4432, 6535, 6543, 6551, 6559, 3959, 3959, 6367, 4432, 4432",
-      /*  1291 */ "4432, 4432, 4432, 4432, 7370, 4432, 2155, 2155, 2155, 2155, 2155, 2155, 2155, 2155, 7463, 6920",
-      /*  1307 */ "3959, 2481, 6930, 6938, 6946, 3959, 3959, 5742, 3959, 3959, 3959, 3210, 4432, 2972, 4432, 4432",
-      /*  1323 */ "4432, 4432, 4432, 4432, 4432, 7604, 6567, 3381, 6575, 6583, 6591, 6606, 6610, 4829, 2596, 6618",
-      /*  1339 */ "6633, 6648, 4432, 3481, 3487, 5199, 6656, 6664, 6711, 6719, 5776, 6727, 6734, 6739, 6747, 6755",
-      /*  1355 */ "6763, 6778, 6793, 6801, 6809, 6816, 6824, 6832, 6840, 6848, 4432, 6856, 6864, 6872, 6880, 3721",
-      /*  1371 */ "6888, 6896, 6904, 4432, 4432, 6912, 6954, 6962, 6970, 6984, 6992, 7000, 7008, 7016, 5575, 5575",
-      /*  1387 */ "5575, 5576, 3678, 3682, 5591, 7024, 7046, 3239, 4432, 4432, 4432, 4432, 4432, 4432, 3051, 4432",
-      /*  1403 */ "6527, 4432, 4432, 4432, 4432, 4432, 4432, 4432, 4432, 3441, 4864, 4432, 4432, 2447, 4432, 4432",
-      /*  1419 */ "4432, 4432, 6220, 6228, 6236, 6244, 2971, 4608, 4446, 5068, 4432, 4446, 4432, 4432, 4432, 7032",
-      /*  1435 */ "6423, 4432, 4432, 3040, 3050, 4432, 4432, 3001, 6448, 4432, 4432, 2971, 2684, 3051, 3618, 4432",
-      /*  1451 */ "4432, 3050, 4432, 4432, 7059, 4432, 4432, 4432, 4432, 7376, 6448, 2724, 4432, 4432, 3050, 4432",
-      /*  1467 */ "5226, 6449, 7370, 4432, 4432, 4415, 3050, 4432, 4432, 7377, 3045, 4432, 4432, 4432, 7379, 4432",
-      /*  1483 */ "4432, 4432, 4432, 3002, 3051, 4432, 4432, 6446, 4432, 4432, 2674, 4413, 7040, 4432, 4432, 6153",
-      /*  1499 */ "4432, 4432, 4432, 4432, 4432, 6448, 4432, 4432, 4432, 4432, 3102, 7073, 4432, 4432, 4432, 4432",
-      /*  1515 */ "4432, 4432, 3461, 7090, 4346, 7099, 4432, 4432, 4432, 4432, 4432, 4432, 3466, 4432, 2971, 3050",
-      /*  1531 */ "4432, 4432, 4432, 4432, 4432, 4432, 4432, 7462, 3584, 4432, 4579, 4432, 4432, 4432, 4432, 4432",
-      /*  1547 */ "7377, 7070, 2688, 7107, 7115, 7123, 7139, 7147, 7155, 7163, 7171, 6198, 7179, 2818, 7187, 3396",
-      /*  1563 */ "7195, 7203, 2253, 7211, 7219, 7227, 7235, 7250, 7258, 7266, 7274, 7282, 7301, 7309, 7317, 7325",
-      /*  1579 */ "7333, 7341, 7349, 7357, 7388, 7396, 7404, 7412, 7420, 7428, 5149, 5149, 5606, 4432, 6685, 4432",
-      /*  1595 */ "4078, 5526, 5149, 5149, 7436, 7471, 7557, 7479, 7580, 7487, 7495, 7503, 7511, 7526, 7534, 7542",
-      /*  1611 */ "7550, 7565, 7573, 7588, 7596, 6671, 6678, 5626, 5140, 5146, 2469, 5224, 7378, 4432, 4432, 4432",
-      /*  1627 */ "4432, 4432, 7378, 2688, 7379, 7054, 4166, 2811, 4432, 4432, 4432, 4432, 4432, 3099, 4432, 3099",
-      /*  1643 */ "4432, 5221, 4432, 5221, 5819, 4432, 4432, 4432, 4432, 4432, 4432, 4432, 6449, 7131, 6346, 4432",
-      /*  1659 */ "4432, 4432, 4432, 4665, 7612, 5551, 3611, 3052, 3425, 4432, 6368, 4432, 4432, 4327, 3455, 4432",
-      /*  1675 */ "4432, 4432, 4432, 4432, 2971, 7059, 4432, 6358, 7620, 3616, 6343, 5529, 3958, 3959, 7462, 3959",
-      /*  1691 */ "6367, 3959, 3959, 2916, 4432, 2495, 3616, 5843, 7631, 2492, 6357, 5741, 3959, 5666, 3959, 3959",
-      /*  1707 */ "3959, 3959, 3959, 5742, 3959, 6357, 7635, 3959, 5528, 5715, 3959, 3959, 5743, 5543, 7457, 5739",
-      /*  1723 */ "5797, 5742, 4432, 7462, 4432, 4432, 4344, 4432, 4432, 4432, 4432, 4432, 7045, 4432, 4432, 3003",
-      /*  1739 */ "7043, 4432, 2688, 5222, 3958, 7643, 5669, 2495, 2489, 4432, 4432, 4432, 4398, 4432, 4432, 4432",
-      /*  1755 */ "5227, 2688, 7380, 7657, 7672, 6703, 2911, 3616, 4432, 4432, 4432, 5194, 4432, 4432, 4432, 4432",
-      /*  1771 */ "4432, 4432, 2971, 7045, 3959, 3959, 3959, 3959, 3959, 6348, 4432, 4432, 5223, 7072, 4432, 4432",
-      /*  1787 */ "4432, 4432, 4432, 7056, 4728, 3035, 9896, 9048, 9048, 9048, 8083, 9889, 9889, 9048, 9048, 9048",
-      /*  1803 */ "10276, 8061, 9663, 8192, 10276, 8052, 8264, 8052, 8374, 8677, 8888, 9003, 8419, 9292, 7680, 9281",
-      /*  1819 */ "9162, 7706, 9886, 9886, 8239, 8719, 8239, 9841, 8786, 7755, 8931, 8239, 7776, 8143, 8119, 8136",
-      /*  1835 */ "8007, 9826, 9047, 9899, 8792, 8420, 9997, 7769, 9232, 9267, 7720, 8419, 8239, 8239, 9826, 7793",
-      /*  1851 */ "8007, 9293, 8714, 8693, 8862, 8239, 9151, 8841, 8007, 9663, 7820, 8451, 8451, 8451, 8560, 8239",
-      /*  1867 */ "8239, 9829, 9829, 9829, 10276, 10276, 9125, 9125, 10276, 8487, 8396, 8396, 8466, 8815, 10276, 8447",
-      /*  1883 */ "8003, 8832, 8239, 8239, 7706, 8239, 8239, 10279, 10279, 8840, 8840, 8840, 8816, 8816, 8816, 8816",
-      /*  1899 */ "10120, 10358, 8239, 8239, 8239, 8239, 8239, 10358, 10358, 8002, 8002, 8793, 8793, 8793, 8793, 8793",
-      /*  1915 */ "8318, 9239, 10367, 8126, 9278, 9278, 9868, 8130, 9280, 9692, 9692, 9692, 8002, 8268, 8268, 8268",
-      /*  1931 */ "8268, 8268, 9105, 9105, 9105, 8002, 8002, 8002, 8002, 8002, 8002, 9499, 8150, 8450, 8300, 8300",
-      /*  1947 */ "9789, 8227, 7787, 7787, 8239, 8254, 8694, 8962, 8289, 8485, 10276, 9609, 9642, 10276, 9857, 9836",
-      /*  1963 */ "7898, 8250, 8223, 9888, 8184, 8787, 8183, 8491, 9777, 8649, 8961, 8971, 8927, 7903, 7987, 9105",
-      /*  1979 */ "10013, 7897, 8283, 7857, 8424, 9794, 8289, 8014, 9983, 8133, 7913, 8936, 9019, 8944, 8950, 7692",
-      /*  1995 */ "9888, 8444, 7819, 8048, 8897, 9449, 9852, 9795, 8491, 8491, 8491, 8889, 8491, 7935, 8278, 7773",
-      /*  2011 */ "8452, 7773, 8818, 8184, 9439, 8184, 8278, 9737, 8184, 8184, 8184, 8184, 8184, 8936, 7945, 8870",
-      /*  2027 */ "7806, 9636, 8888, 8840, 9585, 8268, 7800, 9844, 9844, 9844, 9669, 9669, 9669, 8142, 8142, 8142",
-      /*  2043 */ "8002, 8002, 8002, 8002, 9716, 9408, 10074, 8999, 8715, 8786, 8278, 8278, 7851, 7851, 9890, 9890",
-      /*  2059 */ "8184, 8184, 8297, 8297, 7851, 7851, 7851, 8968, 7897, 7888, 7851, 8278, 7851, 8184, 8184, 8184",
-      /*  2075 */ "8755, 8184, 8184, 8184, 9890, 8793, 7869, 9781, 8750, 7851, 7685, 7721, 9227, 8184, 7852, 8927",
-      /*  2091 */ "8937, 9048, 8125, 8977, 8982, 9852, 9048, 9883, 9019, 9048, 9050, 9061, 9061, 7958, 10352, 9048",
-      /*  2107 */ "9048, 9520, 8923, 9889, 9889, 9889, 9853, 8642, 8643, 9013, 9159, 9806, 9237, 10023, 9890, 8794",
-      /*  2123 */ "8995, 8491, 9028, 8944, 7968, 9290, 9030, 8579, 7779, 9820, 9715, 7729, 7785, 7785, 8239, 9797",
-      /*  2139 */ "9889, 9889, 9889, 9889, 8425, 9889, 8412, 8413, 9071, 9079, 9230, 7987, 7987, 9889, 9889, 9852",
-      /*  2155 */ "9898, 9898, 9898, 9898, 9898, 9898, 9898, 9898, 7744, 9898, 9898, 9898, 7744, 9898, 9898, 9898",
-      /*  2171 */ "9898, 7690, 9898, 9898, 8643, 9859, 9669, 8458, 10016, 8186, 9746, 8115, 9771, 8908, 7980, 8584",
-      /*  2187 */ "7850, 7798, 9162, 9429, 8239, 10365, 8715, 8848, 8786, 10279, 10279, 8848, 8010, 8494, 7929, 9451",
-      /*  2203 */ "8232, 8970, 9509, 9805, 10450, 9996, 8282, 8184, 9782, 7899, 9038, 8454, 9277, 8857, 9009, 8848",
-      /*  2219 */ "9437, 8848, 8239, 8071, 8239, 8096, 9094, 8261, 10276, 8002, 8150, 8150, 8150, 8150, 10276, 10276",
-      /*  2235 */ "10276, 8750, 8750, 8248, 8750, 8750, 8198, 10276, 8198, 8750, 8248, 9528, 9366, 9370, 9829, 7900",
-      /*  2251 */ "9752, 9607, 9692, 8926, 8890, 8392, 10275, 9692, 7779, 8348, 8061, 8061, 9784, 8348, 8061, 8061",
-      /*  2267 */ "9222, 8451, 9669, 8002, 7801, 10276, 9607, 8115, 8815, 8239, 9027, 8239, 9523, 8239, 9671, 8906",
-      /*  2283 */ "8239, 8155, 8007, 9984, 8885, 9150, 8239, 8247, 8372, 9552, 8836, 8644, 9500, 8098, 10251, 8849",
-      /*  2299 */ "9670, 8573, 8002, 8017, 8024, 8007, 9327, 8468, 7773, 8841, 9061, 8027, 9691, 8468, 8468, 9360",
-      /*  2315 */ "8184, 8467, 8467, 10395, 9644, 9128, 8479, 10282, 9525, 7952, 9572, 9518, 8030, 9823, 8847, 10276",
-      /*  2331 */ "10276, 10276, 8268, 9499, 10276, 8116, 8349, 8231, 8381, 9696, 8171, 9368, 9827, 9084, 9898, 7718",
-      /*  2347 */ "9898, 9450, 7908, 8132, 7915, 7915, 7848, 9604, 9823, 10367, 10367, 8122, 7810, 8002, 9170, 9224",
-      /*  2363 */ "9447, 9827, 8699, 8150, 7841, 9342, 7897, 9990, 8002, 9599, 9599, 8041, 8906, 8702, 8491, 7951",
-      /*  2379 */ "8473, 8691, 8930, 8278, 8278, 9737, 7851, 8305, 8278, 10271, 9823, 8944, 9450, 9450, 8184, 8900",
-      /*  2395 */ "8184, 7864, 8456, 8456, 7897, 7915, 10350, 9008, 8184, 8184, 8794, 10025, 10352, 8249, 8133, 8973",
-      /*  2411 */ "7787, 10095, 9560, 9038, 8059, 9590, 7817, 7832, 9506, 10276, 10274, 9746, 8002, 8815, 9425, 9370",
-      /*  2427 */ "9757, 9706, 9173, 8247, 9269, 9910, 9934, 10034, 10359, 10359, 8786, 7773, 9798, 7820, 8239, 7793",
-      /*  2443 */ "9063, 9064, 9898, 9090, 10276, 10276, 10276, 10276, 8750, 8198, 10276, 8248, 8637, 8419, 9137, 7727",
-      /*  2459 */ "9250, 9274, 9877, 9915, 9136, 9154, 8945, 9155, 8145, 8304, 10276, 10276, 8198, 10276, 10276, 10276",
-      /*  2475 */ "10276, 10276, 8205, 9097, 9097, 9380, 9663, 9663, 7794, 8304, 8713, 9663, 9663, 9663, 8560, 10276",
-      /*  2491 */ "8713, 9663, 9663, 9663, 9663, 9663, 8713, 9663, 9663, 9663, 9663, 9663, 8750, 8750, 10311, 8834",
-      /*  2507 */ "9295, 8095, 10276, 10276, 10276, 10276, 10276, 8068, 8201, 8187, 10045, 10217, 10276, 10276, 10276",
-      /*  2522 */ "9281, 7694, 8476, 9898, 9898, 9931, 8750, 8750, 7746, 9268, 7827, 7981, 9905, 7753, 9307, 8426",
-      /*  2538 */ "9889, 7918, 8642, 8643, 9042, 9197, 8692, 9013, 8101, 10276, 10276, 8239, 9860, 10168, 8754, 9342",
-      /*  2554 */ "9620, 9296, 7752, 7684, 8796, 10024, 9892, 9898, 9898, 7717, 9898, 9898, 9898, 9898, 9898, 7745",
-      /*  2570 */ "8750, 8750, 8947, 8947, 8947, 8947, 8947, 9143, 8107, 7702, 9904, 9905, 9904, 9275, 8418, 9889",
-      /*  2586 */ "9889, 9889, 9889, 9889, 9084, 9898, 9898, 9853, 7918, 7918, 7918, 10026, 10026, 10026, 10026, 9806",
-      /*  2602 */ "9806, 9630, 7698, 9235, 9235, 9297, 8109, 9636, 9275, 8622, 7693, 7726, 9275, 9275, 9275, 9275",
-      /*  2618 */ "8113, 9876, 9875, 8774, 9908, 9898, 9898, 9898, 9792, 7681, 8947, 8947, 8947, 8947, 8947, 9197",
-      /*  2634 */ "9134, 9242, 8242, 9078, 7750, 9863, 9863, 9839, 9048, 9930, 9898, 9898, 9898, 9898, 9898, 9898",
-      /*  2650 */ "9921, 8725, 8408, 8775, 9797, 9229, 7829, 9032, 10451, 8032, 8113, 8402, 9048, 9611, 9238, 8152",
-      /*  2666 */ "8775, 9235, 9675, 8623, 8077, 8090, 8783, 9042, 10276, 8248, 8750, 8750, 8750, 8248, 8750, 8198",
-      /*  2682 */ "8750, 8750, 8750, 8750, 8750, 10276, 8750, 8750, 8750, 8750, 8750, 8750, 8750, 8750, 8384, 8614",
-      /*  2698 */ "8111, 8695, 9025, 7934, 7785, 8581, 9206, 8887, 9516, 8146, 7917, 8403, 9205, 8162, 7785, 7923",
-      /*  2714 */ "9018, 9898, 9898, 9898, 9898, 9898, 9268, 8859, 7916, 9091, 10276, 10276, 10276, 10276, 10276",
-      /*  2729 */ "10276, 10276, 8198, 7904, 7904, 7904, 7904, 7904, 8954, 8651, 8148, 8719, 8955, 8978, 9156, 8224",
-      /*  2745 */ "9502, 10219, 7882, 9007, 8917, 8934, 8966, 9162, 9850, 9821, 9821, 7983, 9889, 8762, 9821, 8858",
-      /*  2761 */ "8248, 10276, 8316, 10204, 10276, 10276, 10276, 10276, 10276, 8348, 10276, 10276, 8090, 9148, 9118",
-      /*  2776 */ "8585, 8281, 8739, 8290, 9675, 9675, 9903, 9791, 9895, 9097, 9784, 9889, 8169, 7800, 10182, 9170",
-      /*  2792 */ "8114, 8747, 8577, 8118, 8231, 8760, 7807, 8271, 8140, 8047, 9515, 8294, 9092, 9927, 9927, 9927",
-      /*  2808 */ "9081, 8937, 8125, 8750, 8248, 8198, 8750, 8750, 8198, 10276, 10276, 8352, 8904, 10056, 8340, 8250",
-      /*  2824 */ "10078, 8581, 8690, 8795, 9033, 8750, 9946, 9989, 8000, 9219, 8059, 9927, 8929, 9817, 7892, 8851",
-      /*  2840 */ "7813, 8863, 9887, 10167, 10276, 10276, 10276, 9740, 10121, 9994, 9284, 9913, 9929, 8290, 8352, 8265",
-      /*  2856 */ "9707, 8289, 8271, 9913, 10276, 8721, 9692, 8752, 8097, 9200, 8942, 8190, 8262, 9464, 9965, 8485",
-      /*  2872 */ "10276, 8447, 8247, 10081, 8181, 9428, 9549, 8471, 7975, 8908, 10275, 8582, 9526, 9607, 9527, 8452",
-      /*  2888 */ "9692, 9533, 9408, 9425, 8012, 8731, 10275, 9396, 8001, 9616, 8755, 9692, 9534, 10276, 8190, 8937",
-      /*  2904 */ "7733, 8204, 10276, 10017, 8204, 10017, 7736, 10276, 8560, 10276, 8352, 8713, 9663, 9663, 8560, 8560",
-      /*  2920 */ "8560, 8560, 10276, 10276, 10017, 10276, 10276, 10276, 8757, 8266, 10275, 8756, 9697, 9990, 9512",
-      /*  2935 */ "8292, 10276, 9815, 8789, 8942, 8211, 10156, 9387, 8248, 9653, 8748, 10156, 8213, 9386, 8214, 8218",
-      /*  2951 */ "8904, 8221, 8218, 9465, 7927, 8021, 10276, 8756, 10276, 8290, 8246, 10276, 8583, 10192, 10393, 8259",
-      /*  2967 */ "8309, 10276, 9118, 10155, 10276, 10276, 10276, 10276, 10276, 10276, 10276, 8248, 8198, 8750, 9422",
-      /*  2982 */ "8429, 10276, 9542, 9542, 9543, 9542, 9542, 8061, 8061, 8061, 8061, 8061, 8061, 8061, 8711, 9165",
-      /*  2998 */ "8711, 8061, 10113, 10276, 10276, 10276, 10276, 8750, 8750, 8750, 8750, 8750, 8750, 8248, 9040",
-      /*  3013 */ "10354, 8755, 9119, 9513, 9520, 8823, 8757, 9425, 9693, 9519, 8052, 7974, 8150, 7803, 9716, 7749",
-      /*  3029 */ "9078, 7972, 8116, 10112, 8337, 7947, 10276, 8750, 8198, 8248, 8750, 10276, 10276, 10276, 8750, 8750",
-      /*  3045 */ "8198, 10276, 10276, 10276, 8248, 8750, 8198, 10276, 10276, 10276, 10276, 10276, 10276, 10276, 8713",
-      /*  3060 */ "8560, 10276, 8272, 9078, 10276, 8451, 8451, 8451, 8451, 8451, 8451, 10016, 10276, 10276, 10276",
-      /*  3075 */ "10276, 8712, 8813, 8313, 10276, 8537, 9619, 8502, 8324, 8379, 8066, 9634, 9941, 8344, 10276, 10276",
-      /*  3091 */ "8871, 9919, 9191, 10276, 9763, 8536, 8346, 8358, 10276, 8750, 8198, 10276, 10276, 10276, 10276",
-      /*  3106 */ "10276, 8750, 8750, 8750, 8750, 10276, 8367, 7946, 10289, 9195, 8376, 7901, 10276, 10276, 8443",
-      /*  3121 */ "10276, 10276, 10276, 10276, 8781, 8856, 8267, 9554, 9406, 8736, 9334, 8179, 8170, 10243, 9425, 9616",
-      /*  3137 */ "9966, 9616, 9616, 9616, 9616, 9616, 9776, 9607, 9616, 8959, 8447, 9976, 7975, 8387, 8368, 8179",
-      /*  3153 */ "7975, 7975, 7975, 9607, 8218, 7975, 8389, 10018, 9385, 8339, 8429, 8190, 8429, 9837, 10276, 8750",
-      /*  3169 */ "10276, 8750, 8750, 8750, 8198, 10276, 8248, 8750, 8750, 10337, 8429, 10276, 9110, 8822, 9226, 7941",
-      /*  3185 */ "8756, 8248, 9695, 8116, 8320, 8391, 10040, 9739, 8320, 7784, 9354, 8603, 8320, 9401, 8435, 9550",
-      /*  3201 */ "8320, 8320, 8320, 9739, 8320, 8320, 9751, 8543, 9663, 9663, 9663, 9663, 9663, 9663, 8560, 10276",
-      /*  3217 */ "10276, 9550, 8458, 8116, 9550, 8320, 10276, 8943, 9555, 10117, 8429, 10276, 7975, 7975, 7975, 7975",
-      /*  3233 */ "7975, 7975, 8182, 7959, 8816, 8336, 10276, 10276, 10276, 10276, 10276, 10276, 8060, 10276, 8750",
-      /*  3248 */ "10091, 8535, 8439, 8347, 8501, 10191, 9312, 8442, 8463, 8478, 9635, 8065, 8500, 8506, 10267, 9190",
-      /*  3264 */ "8508, 9419, 8510, 9287, 8516, 8465, 8518, 8735, 9167, 8520, 10164, 10332, 8546, 8178, 8063, 7814",
-      /*  3280 */ "9474, 9172, 10111, 10329, 8524, 8526, 8298, 8531, 9905, 10276, 8533, 8539, 8666, 10302, 8521, 9166",
-      /*  3296 */ "8707, 10190, 10276, 10192, 8542, 10432, 10203, 9793, 8550, 8052, 10212, 10276, 9753, 8052, 9405",
-      /*  3311 */ "8140, 9948, 8554, 8269, 8052, 8559, 9754, 7864, 8687, 10277, 8140, 8052, 8052, 8822, 10079, 10276",
-      /*  3327 */ "8828, 8286, 9946, 9947, 8470, 8545, 9473, 8475, 8475, 9754, 8264, 10276, 8298, 10276, 8561, 8043",
-      /*  3343 */ "9946, 8140, 7980, 8398, 8239, 8270, 9745, 9698, 9013, 7821, 8699, 8289, 8832, 9547, 7879, 9082",
-      /*  3359 */ "9048, 9898, 9898, 9898, 9268, 10276, 9370, 9874, 8944, 9833, 9897, 9898, 9898, 9898, 7690, 8486",
-      /*  3375 */ "10080, 8198, 8824, 9607, 10275, 10079, 10276, 9386, 8684, 10238, 10276, 10276, 9281, 9294, 8486",
-      /*  3390 */ "7977, 8116, 8116, 10276, 9446, 8116, 9705, 9731, 10081, 9538, 7904, 9618, 10041, 9539, 8602, 9672",
-      /*  3406 */ "7912, 7904, 8006, 8913, 7986, 7689, 9871, 9898, 9898, 9898, 9930, 9893, 10276, 9663, 8713, 10276",
-      /*  3422 */ "10276, 8560, 8713, 10276, 9663, 9663, 8560, 9663, 8560, 10276, 10276, 9693, 7923, 8325, 8696, 8451",
-      /*  3438 */ "7960, 8560, 8305, 10276, 10276, 10276, 10276, 10276, 10276, 8248, 10276, 7825, 9161, 8679, 8352",
-      /*  3453 */ "9898, 9898, 9898, 10276, 10276, 10276, 10276, 10276, 10276, 10276, 8248, 8750, 8750, 10276, 8248",
-      /*  3468 */ "8750, 8750, 8750, 8198, 8750, 10276, 9334, 9987, 8451, 10054, 8681, 10276, 8684, 10276, 9990, 9258",
-      /*  3484 */ "9261, 9275, 9275, 9275, 9275, 8276, 9056, 8776, 8862, 8815, 10276, 9879, 9744, 9279, 9952, 7748",
-      /*  3500 */ "7713, 7714, 9932, 9933, 9182, 8705, 7925, 9898, 8785, 8240, 7833, 8777, 9244, 8646, 9276, 9241",
-      /*  3516 */ "9675, 8291, 9675, 9159, 9159, 9159, 9159, 7902, 9159, 9159, 9160, 9159, 9159, 9829, 9829, 9159",
-      /*  3532 */ "9159, 9271, 9260, 9845, 9830, 9134, 9829, 9894, 8101, 10276, 10276, 8286, 8576, 10276, 10276, 10276",
-      /*  3548 */ "9739, 8002, 8068, 9343, 8618, 9200, 9898, 9898, 9898, 9898, 9930, 9898, 9898, 9898, 9898, 9898",
-      /*  3564 */ "9898, 9898, 7745, 9898, 9898, 9898, 9898, 9898, 9898, 9268, 7989, 7839, 9537, 9141, 7716, 8980",
-      /*  3580 */ "9540, 8823, 9990, 8198, 8750, 8198, 8248, 8750, 8750, 8750, 10276, 10276, 9106, 7977, 9522, 9771",
-      /*  3596 */ "8049, 8385, 9545, 9745, 9350, 10280, 9546, 9514, 8271, 9438, 8468, 9530, 9110, 8140, 8747, 10276",
-      /*  3612 */ "10276, 10276, 10276, 10276, 8560, 10276, 10276, 10276, 10276, 10276, 10276, 10276, 8750, 10276",
-      /*  3626 */ "9011, 9673, 9872, 9188, 7943, 8209, 8009, 9775, 8855, 9619, 8867, 8925, 8636, 7877, 8935, 7955",
-      /*  3642 */ "7855, 7780, 8992, 8251, 8926, 9679, 9003, 10276, 10205, 10059, 10276, 10330, 9619, 10276, 8327",
-      /*  3657 */ "8455, 9878, 8933, 9981, 8121, 10369, 10361, 8305, 8832, 8140, 7773, 7821, 9108, 8601, 7802, 8914",
-      /*  3673 */ "9511, 9061, 8138, 8270, 9616, 10276, 9048, 9048, 9048, 10276, 9048, 9048, 9048, 10276, 9048, 8304",
-      /*  3689 */ "10276, 8616, 8727, 8599, 8350, 9730, 8730, 10172, 9325, 9417, 8757, 8394, 9405, 9026, 8591, 9667",
-      /*  3705 */ "8839, 8155, 8855, 8154, 7878, 7797, 8818, 8476, 8153, 7786, 9565, 8843, 7923, 9369, 8740, 9645",
-      /*  3721 */ "10276, 10375, 10377, 10409, 10408, 10310, 8540, 10347, 7786, 8581, 7785, 8823, 9989, 8740, 8729",
-      /*  3736 */ "10276, 7831, 8913, 9106, 8848, 9451, 8232, 8451, 8233, 8821, 7841, 9668, 8826, 8304, 9123, 8961",
-      /*  3752 */ "8140, 8319, 8140, 8852, 7802, 9533, 7802, 8399, 7938, 8865, 8701, 8061, 10112, 8274, 8164, 10276",
-      /*  3768 */ "9140, 9861, 7985, 7937, 9985, 7834, 7930, 9713, 10112, 9119, 9526, 10276, 8674, 8673, 8342, 10275",
-      /*  3784 */ "8633, 7922, 9029, 8858, 8552, 10216, 9118, 10276, 8734, 8862, 9655, 7805, 8009, 8459, 7791, 8489",
-      /*  3800 */ "8718, 9679, 8137, 7884, 10178, 8884, 8885, 9178, 8624, 9774, 9714, 8277, 9637, 8697, 9343, 8480",
-      /*  3816 */ "9993, 8697, 9343, 8207, 7803, 8578, 8276, 10016, 9965, 9522, 8759, 9987, 8006, 9108, 9442, 8633",
-      /*  3832 */ "7922, 9029, 9812, 10090, 9414, 9483, 10006, 9223, 9476, 10004, 9602, 7840, 8456, 9521, 8846, 7840",
-      /*  3848 */ "8456, 9521, 8846, 9826, 9849, 9851, 8997, 7829, 8291, 8449, 9527, 7939, 9808, 9236, 8989, 8235",
-      /*  3864 */ "9155, 9016, 8996, 9804, 9865, 8474, 9031, 9365, 9787, 9607, 10276, 10151, 8668, 8062, 8738, 7976",
-      /*  3880 */ "8301, 8234, 8758, 9245, 10026, 7873, 8765, 8763, 10276, 10276, 10276, 8243, 10276, 10276, 9715",
-      /*  3895 */ "9343, 8039, 9359, 7770, 8038, 7833, 9508, 9991, 7815, 8638, 8771, 8138, 8806, 9517, 8360, 9440",
-      /*  3911 */ "9693, 8577, 9451, 8575, 9663, 9663, 9662, 9663, 9652, 9663, 7961, 9663, 9663, 8664, 9761, 8248",
-      /*  3927 */ "8838, 9563, 8810, 8812, 9766, 8689, 7811, 8817, 8472, 8886, 9445, 8393, 8825, 8288, 10362, 9758",
-      /*  3943 */ "8281, 9982, 9609, 8466, 9402, 10413, 8869, 9344, 8873, 9369, 10276, 10276, 10276, 10276, 10276",
-      /*  3958 */ "8713, 9663, 9663, 9663, 9663, 9663, 9663, 9663, 9663, 7794, 9453, 8061, 9225, 10093, 10093, 10093",
-      /*  3974 */ "8218, 8218, 8879, 8879, 10090, 8879, 9324, 10279, 9873, 9153, 9253, 9822, 9307, 8937, 8896, 8208",
-      /*  3990 */ "8338, 9096, 9096, 9686, 9686, 8055, 9100, 8774, 8774, 8120, 9675, 9675, 9675, 9675, 10219, 9125",
-      /*  4006 */ "10146, 10146, 10166, 10146, 10147, 8270, 8270, 10093, 9474, 8710, 10093, 10093, 10093, 10093, 8224",
-      /*  4021 */ "8958, 8221, 8099, 9542, 9542, 9542, 9711, 9712, 8270, 8270, 8270, 8270, 9983, 8105, 10355, 10355",
-      /*  4037 */ "8105, 8105, 9004, 10027, 9799, 8975, 8460, 8061, 8061, 8061, 8061, 9222, 9571, 9475, 9475, 8511",
-      /*  4053 */ "9209, 8951, 8118, 8136, 8348, 10274, 8582, 9176, 9663, 9663, 9177, 8774, 8061, 8396, 10062, 10093",
-      /*  4069 */ "8057, 8940, 8774, 8774, 10112, 8270, 8270, 9616, 9616, 9184, 9184, 9184, 9184, 9184, 9184, 9184",
-      /*  4085 */ "9184, 9185, 9663, 9663, 9663, 9663, 8560, 8490, 8071, 9663, 9663, 8484, 8484, 8485, 8485, 8484",
-      /*  4101 */ "8484, 8484, 10028, 8630, 8061, 8061, 8061, 7802, 7802, 7802, 8348, 10052, 10052, 10052, 8028, 10052",
-      /*  4117 */ "9806, 10169, 10052, 9871, 10052, 9871, 10052, 9871, 10052, 10052, 10052, 10196, 10220, 9684, 8320",
-      /*  4132 */ "8320, 8320, 8138, 8138, 9733, 9352, 8396, 9809, 8062, 9616, 8881, 8061, 8512, 8167, 8484, 7959",
-      /*  4148 */ "8307, 8772, 9720, 9722, 9433, 10276, 8551, 9202, 8440, 8274, 8270, 9171, 8061, 9454, 8914, 8914",
-      /*  4164 */ "9675, 9675, 8750, 8750, 8750, 8750, 8198, 8248, 8750, 8750, 8750, 8750, 10158, 10093, 10093, 10158",
-      /*  4180 */ "10093, 10093, 8218, 8451, 8311, 7785, 9330, 9770, 8239, 9211, 9770, 8239, 8239, 8239, 9658, 8239",
-      /*  4196 */ "8239, 9061, 9061, 9889, 9889, 9889, 8239, 8239, 8239, 9085, 8156, 9542, 8061, 8061, 9570, 7785",
-      /*  4212 */ "7785, 9118, 8061, 8061, 9535, 9442, 8061, 8061, 8582, 8061, 8061, 8270, 8270, 8061, 9542, 9542",
-      /*  4228 */ "10276, 8061, 8061, 9215, 9511, 9511, 10246, 8136, 8136, 8136, 7816, 9400, 8111, 8480, 8480, 8052",
-      /*  4244 */ "8052, 9222, 8052, 8052, 9221, 9764, 9352, 9352, 9352, 9352, 9352, 9352, 9352, 9352, 8456, 9048",
-      /*  4260 */ "9968, 8380, 8052, 9286, 9764, 9352, 8051, 9046, 9311, 10372, 10373, 10338, 8239, 8138, 8239, 9162",
-      /*  4276 */ "9300, 8956, 9747, 9314, 8696, 7826, 8956, 9747, 9314, 8696, 7826, 8956, 8696, 8981, 8187, 10276",
-      /*  4292 */ "8052, 8588, 9666, 9871, 8628, 8918, 9156, 9249, 8926, 9847, 7904, 8991, 8946, 8138, 9250, 9156",
-      /*  4308 */ "9250, 9251, 9815, 9249, 8589, 8647, 9059, 9871, 8599, 8599, 9125, 9125, 10052, 10052, 9352, 9353",
-      /*  4324 */ "9663, 10276, 10276, 10276, 10276, 10276, 9930, 9898, 9091, 9254, 9059, 8723, 8407, 7871, 8081, 8926",
-      /*  4340 */ "8289, 10276, 8986, 8285, 10276, 10276, 10276, 10276, 10276, 10276, 10276, 8750, 8750, 8198, 9289",
-      /*  4355 */ "9326, 9289, 10186, 9598, 8393, 9690, 9288, 8393, 9289, 10186, 9316, 10010, 9320, 9323, 9326, 9977",
-      /*  4371 */ "9643, 9898, 8804, 8093, 8093, 8093, 8610, 8492, 9159, 8774, 9372, 8827, 9309, 8092, 8093, 7682",
-      /*  4387 */ "9023, 9374, 8042, 8619, 10035, 10276, 8052, 9690, 8320, 7978, 10063, 10276, 10276, 10276, 8248",
-      /*  4402 */ "8750, 8750, 10276, 10276, 10276, 10276, 7923, 9376, 9022, 8654, 8593, 10276, 10276, 10276, 8248",
-      /*  4417 */ "10276, 10276, 10276, 10276, 10276, 10276, 10276, 9378, 10276, 8941, 9051, 7998, 7715, 9898, 9268",
-      /*  4432 */ "10276, 10276, 10276, 10276, 10276, 10276, 10276, 10276, 7973, 8426, 9231, 9065, 8416, 7709, 10276",
-      /*  4447 */ "10276, 10276, 8265, 10276, 10276, 10276, 10276, 8310, 10276, 10276, 10276, 10276, 9842, 9854, 9855",
-      /*  4462 */ "10276, 9068, 9054, 8085, 8427, 9069, 9059, 9075, 9928, 9061, 10031, 7709, 9901, 8782, 9918, 9162",
-      /*  4478 */ "9133, 7739, 9163, 7697, 8088, 8088, 7724, 9145, 9305, 9073, 8087, 8433, 9066, 7875, 9232, 9080",
-      /*  4494 */ "9926, 9282, 9070, 8091, 9864, 10032, 7710, 9922, 9062, 9389, 9925, 7740, 7711, 10276, 10276, 10276",
-      /*  4510 */ "10276, 8315, 8377, 8362, 8364, 10260, 9848, 9152, 9797, 8277, 9923, 7699, 9391, 9265, 9909, 8431",
-      /*  4526 */ "9076, 7731, 8799, 9298, 7686, 8621, 9302, 9050, 9061, 8430, 7689, 10276, 10276, 10276, 8447, 9528",
-      /*  4542 */ "7975, 9529, 9345, 10093, 9690, 10093, 9411, 8405, 9393, 8218, 9806, 8556, 8557, 9362, 9638, 8750",
-      /*  4558 */ "7992, 8937, 9321, 8320, 9162, 8417, 9882, 9882, 8916, 7704, 9654, 10100, 10124, 8218, 8402, 8833",
-      /*  4574 */ "8597, 8283, 10282, 7963, 10027, 10276, 10276, 10276, 10276, 10276, 8750, 8750, 10276, 10276, 8750",
-      /*  4589 */ "7907, 9995, 8197, 8657, 9677, 8529, 8354, 10144, 8110, 8655, 9675, 7883, 9037, 9675, 8860, 10276",
-      /*  4605 */ "7894, 8136, 8754, 10276, 10276, 10276, 10276, 10276, 9172, 10276, 10276, 10176, 8732, 8202, 9716",
-      /*  4620 */ "9197, 8851, 8572, 9969, 8216, 8322, 8899, 9683, 8202, 8215, 9096, 8215, 8356, 9678, 8972, 9339",
-      /*  4636 */ "8141, 9198, 10276, 10276, 8713, 7923, 10276, 10276, 10276, 10276, 8713, 8713, 10276, 8560, 8560",
-      /*  4651 */ "8560, 9252, 9043, 7779, 8496, 9023, 8497, 9410, 9432, 8617, 7888, 7962, 8972, 9048, 10276, 10276",
-      /*  4667 */ "10276, 8490, 7891, 9834, 7766, 8778, 8594, 8993, 8835, 7949, 7778, 8285, 10276, 8657, 8657, 9742",
-      /*  4683 */ "7835, 10118, 10430, 10138, 8555, 8127, 8854, 7923, 7790, 7933, 9589, 9960, 9420, 8127, 8854, 7923",
-      /*  4699 */ "7790, 8127, 9589, 9960, 9420, 7894, 7853, 7880, 7886, 9544, 9546, 8583, 8608, 8401, 9113, 8138",
-      /*  4715 */ "10356, 7931, 9114, 10221, 10366, 8548, 10015, 9610, 9109, 9922, 7695, 9142, 9233, 8750, 8750, 8750",
-      /*  4731 */ "8750, 8198, 10276, 8248, 10276, 7774, 8144, 8926, 8629, 7685, 9146, 8279, 7890, 8984, 7904, 9718",
-      /*  4747 */ "9048, 9154, 9253, 8590, 8154, 9234, 9245, 8791, 9270, 7771, 9776, 7982, 8414, 9809, 9149, 9891",
-      /*  4763 */ "10030, 7740, 9917, 9074, 9306, 8784, 8779, 9863, 8428, 7703, 9862, 7747, 9060, 8426, 9053, 8432",
-      /*  4779 */ "9058, 9299, 9138, 9048, 7940, 9048, 9889, 7685, 9019, 9870, 7866, 8082, 7905, 8927, 9828, 9835",
-      /*  4795 */ "7732, 9019, 9846, 9924, 9301, 9905, 8431, 9912, 9911, 9052, 9088, 9861, 7751, 7971, 9078, 7997",
-      /*  4811 */ "9066, 9303, 9889, 9889, 8947, 7766, 8947, 9403, 8199, 9796, 9889, 8432, 9077, 9067, 7708, 8432",
-      /*  4827 */ "10033, 9089, 9059, 7881, 7918, 7881, 7918, 7881, 7918, 7881, 8750, 8750, 8750, 8750, 8750, 8248",
-      /*  4843 */ "8750, 9898, 9048, 8185, 9048, 7764, 9822, 9998, 9898, 7719, 9898, 7719, 7719, 7718, 7719, 9898",
-      /*  4859 */ "9898, 8421, 9898, 9785, 9786, 8248, 8750, 8248, 8198, 10276, 10276, 8750, 8750, 8750, 8198, 10276",
-      /*  4875 */ "10276, 9456, 9456, 8184, 8888, 8184, 8184, 8900, 8184, 8900, 8900, 9666, 8132, 9227, 9844, 9227",
-      /*  4891 */ "9227, 8184, 8184, 9669, 8142, 8634, 8184, 8979, 9006, 8979, 8979, 8979, 9794, 7856, 9794, 7759",
-      /*  4907 */ "9827, 9795, 8491, 8133, 8056, 10276, 9794, 8184, 8184, 8184, 8751, 8184, 7952, 7952, 8184, 9794",
-      /*  4923 */ "9794, 9794, 9794, 9456, 9499, 9499, 9499, 8749, 10111, 8184, 8184, 8184, 7851, 7910, 7851, 9049",
-      /*  4939 */ "8184, 9277, 10276, 10275, 8840, 8840, 8840, 8840, 8840, 8840, 8840, 8840, 8239, 8239, 8239, 8239",
-      /*  4955 */ "8239, 9162, 8774, 8409, 8947, 8947, 8947, 8947, 8750, 8061, 8061, 8061, 7788, 9675, 9675, 9675",
-      /*  4971 */ "9035, 8947, 8947, 8947, 8947, 8657, 9222, 9222, 9222, 9059, 9059, 9059, 9059, 9871, 8270, 8270",
-      /*  4987 */ "8270, 8015, 9042, 9341, 9341, 9341, 9341, 9341, 9289, 10255, 8359, 10093, 10094, 9616, 9316, 9806",
-      /*  5003 */ "9806, 9806, 9806, 8353, 10060, 10060, 10060, 8052, 8052, 8052, 8052, 8774, 9663, 9631, 9631, 10052",
-      /*  5019 */ "10200, 10052, 9871, 8484, 9656, 9656, 9059, 9061, 10276, 9059, 9889, 8963, 9002, 9889, 8653, 8239",
-      /*  5035 */ "9663, 8785, 9059, 9059, 9048, 9048, 8456, 9048, 9048, 9048, 8456, 9048, 8239, 8960, 9797, 7707",
-      /*  5051 */ "9889, 9898, 9898, 9083, 9942, 7828, 9869, 7823, 10021, 8939, 9842, 8873, 9168, 9621, 9145, 7964",
-      /*  5067 */ "9531, 10276, 10276, 10276, 8774, 10276, 10276, 10167, 10276, 7969, 8068, 9458, 10276, 10276, 10276",
-      /*  5082 */ "10276, 8425, 8410, 10276, 8862, 8862, 8862, 9829, 7982, 9868, 9916, 9863, 9460, 10276, 10276, 10276",
-      /*  5098 */ "10276, 10276, 9217, 7802, 7802, 8907, 8906, 7793, 9192, 9584, 8103, 8907, 9127, 8587, 7959, 9700",
-      /*  5114 */ "10276, 8239, 8304, 8303, 9640, 8750, 9920, 8750, 8750, 8750, 9333, 8750, 8750, 8198, 8248, 8198",
-      /*  5130 */ "8248, 8750, 10276, 9757, 9772, 9467, 9193, 9400, 9685, 9470, 8296, 8283, 8283, 8283, 8283, 8283",
-      /*  5146 */ "7802, 7802, 7802, 8138, 8138, 8138, 8138, 8138, 8138, 8138, 8138, 8378, 9358, 8494, 8670, 8648",
-      /*  5162 */ "9746, 8746, 8755, 7949, 10102, 8050, 9430, 9554, 10276, 10276, 8096, 9266, 9568, 7793, 9472, 8714",
-      /*  5178 */ "9724, 8891, 8102, 8790, 9738, 8457, 10003, 8456, 8176, 7741, 9357, 8712, 8712, 8446, 10276, 10276",
-      /*  5194 */ "10276, 10276, 10276, 9002, 10276, 10276, 10276, 10276, 9203, 10242, 8013, 8276, 9056, 7794, 7794",
-      /*  5209 */ "7794, 10158, 10158, 9663, 9682, 10114, 8253, 10275, 8225, 8200, 8437, 10154, 10276, 8750, 10276",
-      /*  5224 */ "10276, 10276, 10276, 10276, 10276, 8248, 8750, 8750, 8750, 8750, 8198, 10114, 10052, 9759, 9759",
-      /*  5239 */ "9292, 9436, 9479, 8072, 10016, 9226, 9130, 7981, 9843, 8618, 9173, 7785, 7785, 8280, 9616, 9482",
-      /*  5255 */ "10352, 10052, 9275, 9485, 9490, 9591, 9122, 9492, 9494, 9951, 9951, 9364, 8348, 8348, 9682, 9496",
-      /*  5271 */ "9821, 9927, 9093, 9093, 9710, 8565, 8568, 8596, 9646, 9646, 8192, 8658, 8658, 9535, 9535, 9535",
-      /*  5287 */ "8760, 9535, 9427, 9361, 9989, 8248, 9920, 9324, 9441, 9104, 9592, 9557, 9682, 9218, 9567, 8853",
-      /*  5303 */ "9529, 9501, 8096, 8484, 9993, 9992, 8174, 8451, 8909, 9787, 9199, 8222, 8458, 10087, 9384, 8686",
-      /*  5319 */ "10093, 9738, 8969, 9335, 8481, 9353, 9967, 9578, 9618, 9618, 9618, 8175, 10160, 9618, 9618, 8396",
-      /*  5335 */ "9618, 9618, 9618, 8039, 9618, 8451, 9618, 9618, 9618, 9618, 10158, 10158, 10158, 9618, 9618, 9618",
-      /*  5351 */ "10158, 10158, 9619, 9588, 8052, 10093, 8923, 7849, 9179, 9580, 8370, 8396, 8396, 9200, 9176, 9530",
-      /*  5367 */ "8582, 9180, 8037, 8484, 8348, 8820, 10276, 10066, 10276, 10276, 10158, 10092, 10093, 10093, 10093",
-      /*  5382 */ "10158, 10158, 10158, 9618, 9618, 9618, 9618, 9618, 8320, 9551, 7802, 10081, 9993, 9992, 8484, 9978",
-      /*  5398 */ "9993, 9641, 8398, 9699, 8451, 8073, 9675, 9675, 9675, 9675, 7683, 9059, 8089, 8090, 8090, 8641",
-      /*  5414 */ "9030, 9652, 10220, 8745, 9617, 8898, 8239, 8239, 8239, 8239, 8793, 8793, 8268, 8268, 8140, 9652",
-      /*  5430 */ "9663, 9595, 8260, 9597, 7923, 7959, 9613, 8582, 9180, 8044, 9616, 9616, 9601, 9331, 9615, 9616",
-      /*  5446 */ "9616, 9616, 9601, 8369, 9616, 9688, 8181, 9179, 8181, 8180, 8045, 9768, 9689, 9601, 8181, 8046",
-      /*  5462 */ "9769, 9623, 9576, 8045, 10158, 9328, 9180, 9174, 8043, 10019, 9626, 9533, 9477, 8031, 8052, 8052",
-      /*  5478 */ "9616, 8384, 8466, 8670, 8348, 8348, 8348, 9289, 9289, 8192, 8192, 8192, 8192, 8657, 9421, 10218",
-      /*  5494 */ "8695, 9139, 8801, 8801, 9005, 8451, 8451, 8451, 7772, 8484, 8061, 7802, 10082, 8862, 9048, 9048",
-      /*  5510 */ "8451, 8218, 9542, 9542, 9118, 7975, 7975, 9208, 9369, 10276, 10276, 10276, 9426, 8743, 8485, 10276",
-      /*  5526 */ "9184, 9184, 9663, 9663, 9663, 9663, 9663, 9663, 8560, 9663, 9663, 9762, 10210, 10210, 10210, 10210",
-      /*  5542 */ "10210, 9663, 9663, 8560, 9663, 8713, 9663, 8560, 10276, 8713, 10276, 10276, 10276, 10276, 10276",
-      /*  5557 */ "10276, 10276, 8490, 8490, 9048, 9048, 9048, 9048, 8490, 9048, 8490, 9048, 8490, 9048, 8456, 9048",
-      /*  5573 */ "8071, 9663, 9048, 9048, 9048, 9048, 9048, 9048, 9048, 9048, 8304, 9986, 9663, 8176, 9663, 9407",
-      /*  5589 */ "8861, 8176, 9663, 9663, 8714, 8560, 9048, 9048, 9048, 8304, 8134, 8138, 8138, 8138, 8138, 8801",
-      /*  5605 */ "9663, 8138, 7953, 8608, 10276, 10276, 10276, 10276, 10276, 9663, 10276, 10276, 10276, 8560, 8138",
-      /*  5620 */ "10011, 8138, 8138, 8138, 9768, 9768, 8138, 8138, 8138, 8138, 8144, 8284, 8453, 8404, 8138, 8138",
-      /*  5636 */ "9768, 8138, 8138, 9707, 8137, 8138, 8138, 8138, 9803, 8138, 8138, 8138, 8138, 8140, 8138, 8138",
-      /*  5652 */ "8138, 8672, 8360, 9628, 9573, 8527, 8348, 7896, 9663, 9663, 9663, 9663, 10276, 8713, 9663, 9663",
-      /*  5668 */ "8560, 9663, 9663, 9663, 10276, 9663, 9663, 8713, 10276, 8177, 9468, 9832, 8140, 8893, 9650, 8348",
-      /*  5684 */ "8657, 9383, 8665, 8348, 9648, 10176, 9291, 9291, 8140, 9681, 9682, 9682, 9682, 9682, 8774, 10075",
-      /*  5700 */ "8894, 9727, 9398, 10272, 8273, 9663, 7863, 9632, 8713, 9663, 9603, 9435, 9569, 9663, 8491, 9663",
-      /*  5716 */ "9663, 9663, 10276, 9663, 9663, 9663, 9663, 9663, 9184, 9184, 9184, 9687, 9733, 9733, 8774, 9177",
-      /*  5732 */ "8774, 8774, 8774, 9663, 9663, 10002, 10055, 9663, 9663, 8560, 9663, 9663, 9663, 9663, 9663, 9663",
-      /*  5748 */ "9663, 10276, 8560, 9736, 9733, 9733, 9733, 9733, 9733, 9733, 9733, 9177, 9186, 9682, 9750, 7794",
-      /*  5764 */ "8226, 7730, 7991, 8078, 7766, 8286, 9806, 9497, 8191, 8090, 8417, 8798, 8916, 7869, 10245, 10246",
-      /*  5780 */ "9801, 8949, 9159, 9014, 9275, 8090, 9885, 8774, 8774, 8774, 8774, 8774, 8774, 8774, 8774, 9663",
-      /*  5796 */ "9723, 9663, 9663, 9663, 9663, 9663, 9663, 10276, 9663, 8373, 8321, 9968, 9936, 8348, 10394, 10007",
-      /*  5812 */ "8167, 8293, 8348, 9496, 9275, 9885, 9675, 10276, 10276, 9739, 10276, 10276, 10276, 10276, 10276",
-      /*  5827 */ "9889, 10276, 10276, 9228, 8937, 9039, 9496, 9589, 9939, 9940, 9940, 9940, 9940, 9940, 10078, 10276",
-      /*  5843 */ "10276, 10276, 10276, 10276, 10276, 10276, 9663, 8560, 10215, 9871, 10052, 9944, 9945, 10052, 10141",
-      /*  5858 */ "9656, 8036, 9337, 9542, 9444, 8514, 10158, 10158, 10158, 8514, 9950, 10158, 10158, 9821, 9616, 9616",
-      /*  5874 */ "7975, 8484, 8484, 9420, 7999, 8300, 8451, 9399, 7872, 7988, 7990, 9780, 9243, 8800, 8801, 8801",
-      /*  5890 */ "8802, 9955, 8774, 9045, 9086, 8924, 9352, 8451, 8451, 8451, 8451, 8451, 8451, 10281, 8451, 8451",
-      /*  5906 */ "8451, 8451, 8451, 8451, 8451, 8451, 9107, 8451, 8451, 8320, 8451, 8451, 8484, 8484, 8061, 8061",
-      /*  5922 */ "9125, 9044, 8688, 8662, 9570, 9570, 9624, 9570, 9570, 9570, 9570, 9570, 9751, 9541, 9413, 10158",
-      /*  5938 */ "10158, 10150, 10150, 9570, 10210, 9616, 9616, 9957, 8484, 8484, 8371, 8885, 9616, 9616, 9616, 9889",
-      /*  5954 */ "7904, 10133, 10134, 8302, 8373, 9423, 8039, 8484, 7979, 8613, 9616, 10250, 10181, 8063, 9448, 9462",
-      /*  5970 */ "8606, 8320, 9589, 9558, 9616, 9959, 10061, 9755, 9962, 8140, 8053, 10159, 8069, 8847, 8314, 10276",
-      /*  5986 */ "8198, 10276, 8198, 10276, 8248, 10276, 10276, 10276, 10276, 8750, 10276, 9536, 8275, 8179, 8195",
-      /*  6001 */ "9502, 9703, 9363, 7775, 9586, 9618, 9618, 8329, 9618, 9618, 8773, 8175, 9352, 9407, 8218, 9570",
-      /*  6017 */ "9212, 9496, 9618, 9964, 9505, 8862, 9367, 8395, 8396, 8396, 8862, 8396, 8396, 9618, 9618, 8348",
-      /*  6033 */ "10158, 9618, 10160, 9618, 9618, 9971, 9974, 9424, 8742, 9618, 9618, 9618, 9618, 9618, 9583, 8328",
-      /*  6049 */ "9618, 9619, 9194, 10000, 8774, 8774, 8348, 8348, 9618, 9618, 9618, 9618, 9618, 9618, 9618, 9619",
-      /*  6065 */ "8165, 9034, 9264, 9884, 9885, 9463, 8061, 8061, 8061, 8334, 9103, 8335, 8341, 9117, 9618, 9618",
-      /*  6081 */ "9618, 9618, 9618, 9618, 9975, 9204, 9618, 9618, 9618, 10037, 8566, 8320, 9400, 9659, 8965, 9704",
-      /*  6097 */ "9355, 10043, 10059, 8503, 9530, 9048, 9773, 9049, 9131, 8083, 9259, 9048, 8937, 10234, 10047, 10052",
-      /*  6113 */ "10049, 10051, 10052, 10049, 10052, 10052, 10056, 10168, 10052, 10052, 10056, 10276, 8450, 8598",
-      /*  6127 */ "8504, 10252, 7819, 8018, 8609, 8660, 8703, 7897, 10058, 10273, 9367, 8746, 9343, 8671, 9114, 9114",
-      /*  6143 */ "9981, 9765, 10065, 9734, 10068, 8198, 8750, 8198, 8248, 8198, 10276, 10276, 8750, 8750, 10276",
-      /*  6158 */ "10276, 10276, 10276, 8128, 7973, 8816, 9356, 8348, 9356, 7762, 8060, 9802, 9018, 7966, 8405, 7936",
-      /*  6174 */ "8452, 8843, 9545, 7779, 8006, 10076, 9767, 10070, 9115, 8910, 8352, 8246, 10276, 10112, 10077",
-      /*  6189 */ "10276, 8257, 9806, 8270, 9048, 9806, 8750, 8289, 9519, 9511, 8831, 8591, 7924, 9510, 8076, 9814",
-      /*  6205 */ "9098, 8002, 10073, 7863, 9017, 10276, 10276, 10276, 10276, 9979, 10096, 9426, 9618, 8613, 8657",
-      /*  6220 */ "10084, 9575, 10158, 8448, 8449, 9000, 10097, 7887, 9289, 7964, 9349, 7802, 8753, 7871, 7765, 7737",
-      /*  6236 */ "8953, 8998, 9289, 9866, 8604, 8605, 8952, 9514, 10353, 9574, 10086, 10276, 10276, 10276, 10276",
-      /*  6251 */ "9856, 10276, 8577, 9972, 7809, 9642, 10080, 9426, 9618, 9619, 10276, 9426, 9619, 9426, 9618, 8615",
-      /*  6267 */ "8166, 9570, 9570, 9570, 9570, 9616, 9616, 9616, 8916, 9616, 9616, 9616, 9616, 9593, 8914, 8218",
-      /*  6283 */ "9618, 9783, 9618, 10089, 9404, 8840, 8140, 7842, 8137, 10158, 8877, 10247, 8116, 8761, 9607, 10276",
-      /*  6299 */ "10276, 10276, 10276, 10017, 8204, 8180, 10276, 10276, 10276, 8124, 10276, 10276, 8314, 8757, 8734",
-      /*  6314 */ "9980, 8874, 10016, 7802, 9533, 7802, 8289, 10178, 9629, 8884, 10112, 10108, 10296, 10105, 8067",
-      /*  6329 */ "7786, 9565, 8843, 8823, 9451, 8232, 8970, 8754, 9663, 10276, 8560, 9663, 8560, 9663, 9663, 10276",
-      /*  6345 */ "9663, 8713, 9663, 9663, 9663, 9663, 8560, 10276, 10276, 10276, 10276, 9378, 9663, 9663, 9663, 9663",
-      /*  6361 */ "9663, 9663, 9663, 8560, 8713, 9663, 9663, 9663, 10276, 10276, 10276, 10276, 10276, 10276, 10276",
-      /*  6376 */ "8484, 8766, 10110, 9949, 8382, 9097, 9675, 9656, 10116, 9341, 10185, 8582, 8657, 10331, 10081",
-      /*  6391 */ "10410, 9470, 8808, 8017, 7868, 8807, 8495, 10276, 9415, 10005, 10012, 9416, 8909, 8229, 10123, 8767",
-      /*  6407 */ "10101, 7800, 10103, 8033, 9329, 9674, 10133, 9215, 9097, 9187, 9382, 8348, 8228, 8574, 10276, 8330",
-      /*  6423 */ "7975, 9804, 8005, 7797, 10352, 8298, 10276, 10276, 9682, 9215, 9103, 9741, 9651, 10184, 9181, 8932",
-      /*  6439 */ "9572, 10125, 9341, 8140, 10127, 8355, 8823, 8248, 8750, 8750, 8750, 8750, 8198, 10276, 10276, 10276",
-      /*  6455 */ "10276, 10276, 10129, 10130, 10179, 9725, 7967, 7956, 8819, 10132, 10153, 9317, 10136, 8333, 8534",
-      /*  6470 */ "9122, 8880, 9601, 9418, 8814, 8667, 9657, 10071, 9536, 8263, 7954, 10140, 10053, 9628, 8682, 10093",
-      /*  6486 */ "10143, 9937, 7965, 8661, 8569, 10149, 10052, 8899, 8117, 8663, 9381, 9382, 10163, 8708, 10171, 8657",
-      /*  6502 */ "10174, 9103, 10175, 10176, 8769, 10276, 10276, 9327, 10189, 9953, 9524, 10195, 8445, 10199, 7953",
-      /*  6517 */ "10106, 10202, 8570, 10044, 10352, 10352, 10352, 10352, 10352, 10207, 10276, 10276, 10120, 10276",
-      /*  6531 */ "10276, 10276, 10276, 10276, 10209, 10211, 9944, 9944, 10228, 10214, 10223, 10152, 10225, 10228",
-      /*  6545 */ "10227, 10225, 10230, 10197, 8897, 8528, 7834, 8193, 10233, 8393, 9581, 8513, 9944, 10231, 10236",
-      /*  6560 */ "8990, 8451, 9914, 10276, 10276, 10276, 10276, 8458, 7793, 9664, 9425, 10276, 10276, 10276, 10276",
-      /*  6575 */ "8976, 8698, 8842, 9532, 7843, 8140, 8140, 9821, 8637, 8419, 9137, 9626, 9250, 9274, 9001, 8123",
-      /*  6591 */ "9136, 7767, 8446, 9155, 8145, 7722, 9283, 9019, 8937, 8937, 8937, 8255, 8938, 9858, 8928, 9906",
-      /*  6607 */ "8484, 9056, 8484, 9056, 8484, 9056, 8484, 9056, 8061, 9059, 8061, 9778, 9630, 9778, 9630, 9778",
-      /*  6623 */ "9630, 9778, 8947, 8947, 7766, 8947, 8750, 8750, 9796, 9889, 8947, 9056, 7723, 7725, 9076, 9248",
-      /*  6639 */ "9272, 8774, 9114, 8774, 9618, 9618, 9341, 8724, 9535, 8774, 10276, 10276, 10276, 10276, 10276",
-      /*  6654 */ "10276, 10276, 9159, 9157, 9158, 9159, 9014, 8949, 9159, 9831, 8949, 9831, 9021, 9021, 9021, 7854",
-      /*  6670 */ "8136, 9671, 7992, 9666, 7919, 9699, 9672, 8008, 10357, 9562, 8403, 8747, 8572, 9036, 10276, 8138",
-      /*  6686 */ "8138, 8138, 10276, 10276, 8903, 10276, 10276, 8713, 8713, 10276, 10276, 9663, 10276, 10276, 10276",
-      /*  6701 */ "10276, 8560, 10276, 8560, 9663, 8713, 9663, 8071, 9663, 10276, 9344, 8582, 9344, 10038, 10165, 9835",
-      /*  6717 */ "9783, 9784, 8241, 9811, 7738, 7783, 9633, 8522, 7748, 8966, 8964, 8493, 7775, 9159, 9014, 7984",
-      /*  6733 */ "10249, 9898, 9898, 8582, 8631, 7904, 8582, 9839, 7918, 8582, 8631, 7904, 8685, 8685, 8196, 7861",
-      /*  6749 */ "9838, 7785, 10254, 8582, 8631, 7918, 9756, 8911, 7894, 8632, 7987, 9412, 8919, 9612, 8717, 8919",
-      /*  6765 */ "9412, 8022, 7928, 7928, 9676, 8862, 8862, 8862, 8862, 8862, 9829, 7982, 9003, 10278, 8469, 8239",
-      /*  6781 */ "8469, 10039, 9273, 9273, 8075, 8627, 7895, 9511, 8081, 8075, 9861, 8845, 7696, 7696, 8162, 8163",
-      /*  6797 */ "8645, 9806, 9412, 8919, 10020, 8919, 9612, 8911, 7909, 8919, 9612, 10351, 9444, 9444, 9444, 10104",
-      /*  6813 */ "10257, 9488, 8236, 8237, 8270, 8064, 10259, 10262, 10001, 8348, 10264, 10269, 10269, 10284, 10286",
-      /*  6828 */ "9196, 8136, 9351, 9446, 9486, 10288, 10291, 8883, 9118, 10437, 8464, 8464, 10270, 10286, 10239",
-      /*  6843 */ "10240, 10293, 9121, 9366, 8862, 10295, 10298, 10301, 10301, 10301, 10299, 9055, 8417, 10266, 10407",
-      /*  6858 */ "10265, 10265, 10316, 10313, 10321, 10304, 10306, 10315, 10318, 10320, 10307, 10314, 10315, 10324",
-      /*  6872 */ "10326, 10328, 10334, 10402, 10401, 10336, 10340, 10344, 10346, 10349, 10371, 8706, 8562, 8157, 8563",
-      /*  6887 */ "8563, 10379, 10381, 10312, 10384, 10386, 10388, 10309, 10347, 10382, 8159, 10341, 10336, 10390",
-      /*  6901 */ "10342, 10392, 10398, 8158, 8160, 10400, 10308, 10276, 10276, 10276, 10276, 9487, 8882, 10404, 10406",
-      /*  6916 */ "10322, 10412, 10415, 10276, 9898, 9898, 8750, 8750, 8750, 8750, 8750, 8750, 10145, 8750, 9072",
-      /*  6931 */ "10417, 9911, 9087, 7691, 9900, 9900, 7701, 7687, 7700, 8801, 8679, 8411, 8398, 10276, 10276, 10419",
-      /*  6947 */ "10421, 10423, 10419, 10419, 10419, 9308, 10425, 8244, 9907, 7688, 7753, 10427, 7993, 9902, 10429",
-      /*  6962 */ "7995, 9057, 10434, 7995, 7994, 7995, 8080, 8948, 7778, 8948, 7778, 8948, 8642, 10026, 8643, 9806",
-      /*  6978 */ "9806, 9806, 9806, 8862, 9197, 8692, 8252, 7950, 10436, 7950, 10439, 8708, 10441, 8708, 10099, 8862",
-      /*  6994 */ "8862, 8862, 8148, 8626, 8974, 8626, 9332, 8461, 9255, 9256, 9257, 9258, 8635, 8422, 8423, 9240",
-      /*  7010 */ "9824, 8079, 9057, 9247, 9261, 8988, 7838, 7993, 7712, 7885, 7885, 7885, 8903, 9002, 9898, 9898",
-      /*  7026 */ "9898, 9898, 9268, 10276, 9379, 10276, 7834, 8581, 7975, 8905, 7874, 7833, 8320, 9700, 8248, 8750",
-      /*  7042 */ "8750, 8750, 8750, 8750, 10276, 10276, 10276, 10276, 10276, 10276, 10276, 9458, 8750, 8750, 8750",
-      /*  7057 */ "8198, 8750, 8750, 8750, 8750, 8750, 8750, 8198, 10276, 10276, 8750, 8750, 8750, 8750, 8248, 8750",
-      /*  7073 */ "8750, 8750, 8750, 8750, 8750, 10276, 10276, 10276, 8198, 8750, 8750, 8750, 8248, 10276, 10276",
-      /*  7088 */ "10276, 10276, 8750, 9920, 9898, 9898, 9898, 7745, 8750, 8750, 8248, 8750, 8248, 8750, 8750, 10276",
-      /*  7104 */ "10276, 10276, 10276, 8840, 10368, 7756, 8019, 8803, 7784, 8876, 9988, 9452, 7911, 10014, 8331, 8004",
-      /*  7120 */ "7758, 7855, 8981, 8149, 9304, 9800, 9126, 7821, 7860, 7986, 7822, 10276, 10276, 10276, 10276, 10276",
-      /*  7136 */ "10276, 10276, 8560, 9748, 8993, 9520, 9702, 8831, 8889, 7987, 8970, 8709, 9697, 9526, 9665, 9503",
-      /*  7152 */ "10180, 8135, 8407, 9788, 7891, 9369, 9144, 9881, 9674, 8722, 8985, 10029, 8152, 8753, 7760, 9405",
-      /*  7168 */ "9989, 9112, 8747, 9262, 9644, 9684, 8179, 10161, 8864, 9348, 9216, 9714, 7894, 9834, 8400, 8580",
-      /*  7184 */ "9819, 10443, 8901, 10187, 10431, 9606, 8760, 7761, 8290, 9608, 8920, 10157, 8021, 8289, 8659, 8702",
-      /*  7200 */ "8206, 9480, 8547, 9561, 9995, 8365, 10445, 9965, 8104, 9668, 7893, 9318, 10356, 8744, 8068, 8052",
-      /*  7216 */ "9425, 7973, 8892, 8664, 9977, 10112, 10081, 8054, 9213, 8198, 9807, 9041, 8797, 9048, 9061, 8084",
-      /*  7232 */ "8397, 8921, 9808, 9135, 7870, 7824, 7742, 9507, 9173, 7812, 8339, 9709, 8581, 10276, 9813, 8131",
-      /*  7248 */ "7924, 9810, 9263, 8607, 8059, 10120, 10276, 8293, 8471, 10396, 8264, 7838, 8720, 9024, 8837, 7743",
-      /*  7264 */ "8592, 8194, 7813, 7839, 8788, 8838, 8351, 7917, 9559, 8676, 8611, 9458, 9106, 8578, 8669, 9189",
-      /*  7280 */ "10177, 9426, 8710, 8368, 9445, 7906, 8641, 8620, 7906, 7751, 9708, 10193, 10276, 10276, 10276",
-      /*  7295 */ "10276, 10276, 8248, 8750, 10276, 10276, 9297, 8571, 7778, 8650, 10022, 8146, 9047, 8639, 7835, 8720",
-      /*  7311 */ "9020, 8829, 8086, 7908, 8025, 7796, 7845, 9816, 8406, 8383, 8590, 8994, 9880, 9132, 7889, 7729",
-      /*  7327 */ "7728, 8172, 7922, 8957, 8415, 9015, 8498, 9776, 9535, 8866, 8934, 7974, 7751, 8129, 8675, 9701",
-      /*  7343 */ "9519, 8935, 8452, 8034, 7921, 7926, 9818, 8632, 9540, 9863, 8781, 9564, 7846, 8652, 9246, 7789",
-      /*  7359 */ "9660, 9252, 7804, 9743, 7757, 10360, 8451, 10276, 9120, 8487, 9498, 10276, 10276, 8248, 8198, 10276",
-      /*  7375 */ "10276, 10276, 10276, 8248, 8750, 8750, 8750, 8750, 8750, 8750, 8750, 8198, 8248, 9299, 8955, 9394",
-      /*  7391 */ "10279, 8841, 8915, 8830, 10008, 7920, 8967, 7884, 9779, 7777, 9867, 9147, 8172, 7914, 9010, 8640",
-      /*  7407 */ "7895, 8886, 7760, 8458, 9717, 8151, 9347, 8074, 7817, 8200, 9346, 9346, 7905, 8820, 9582, 7833",
-      /*  7423 */ "10364, 8700, 8723, 8276, 8074, 9840, 10183, 7847, 7860, 9262, 7942, 8529, 9819, 8138, 8138, 9144",
-      /*  7439 */ "10276, 8840, 7844, 8126, 8197, 10272, 8068, 10362, 9395, 10276, 8068, 7735, 8429, 8429, 10017, 7734",
-      /*  7455 */ "8488, 7781, 10276, 8713, 10276, 10276, 10276, 9663, 9663, 9663, 9663, 9663, 9663, 10276, 10276",
-      /*  7470 */ "10276, 9101, 8875, 10363, 9353, 9504, 9111, 8768, 8332, 8005, 8983, 8129, 10119, 9694, 9129, 7871",
-      /*  7486 */ "7958, 8483, 8230, 8134, 9538, 8606, 8452, 8139, 8589, 9155, 7880, 8780, 8922, 8636, 8850, 8987",
-      /*  7502 */ "9043, 8716, 9985, 8890, 7876, 9565, 9393, 9405, 9530, 9544, 9605, 7865, 9338, 9368, 8710, 9336",
-      /*  7518 */ "9501, 8295, 8140, 8399, 9369, 8264, 7813, 8238, 8734, 10009, 8482, 8582, 7932, 8916, 7833, 9790",
-      /*  7534 */ "8844, 8586, 9565, 7782, 7830, 8741, 8381, 8219, 8700, 9643, 8035, 9535, 7795, 8948, 7975, 10447",
-      /*  7550 */ "9169, 7948, 9746, 9701, 7906, 9548, 8306, 8020, 7808, 8147, 8951, 8828, 9553, 8864, 9825, 8831",
-      /*  7566 */ "9012, 8625, 8828, 7828, 9540, 9825, 7811, 7858, 7862, 9639, 8173, 8316, 7859, 8287, 8317, 9520",
-      /*  7582 */ "8141, 7837, 8611, 8912, 10098, 8902, 8458, 9545, 7836, 9334, 10449, 9397, 7973, 10220, 9346, 8272",
-      /*  7598 */ "9328, 9474, 9443, 8840, 7846, 7853, 8657, 10276, 10276, 10276, 10276, 10276, 10276, 8657, 8489",
-      /*  7613 */ "8299, 7767, 8188, 9048, 8754, 10276, 10276, 8713, 8713, 9663, 10276, 8713, 8713, 10276, 8713, 10276",
-      /*  7629 */ "9663, 10276, 8713, 8560, 8560, 8713, 9663, 9663, 9663, 9663, 8071, 9663, 9663, 9663, 8560, 9663",
-      /*  7645 */ "8560, 8560, 8560, 8560, 9663, 8560, 9729, 8774, 9434, 10052, 8318, 9546, 8560, 8713, 9663, 8713",
-      /*  7661 */ "8713, 10276, 8560, 8713, 8239, 8239, 8841, 9771, 8239, 7867, 9533, 8713, 9663, 8713, 8713, 8713",
-      /*  7677 */ "8560, 10276, 10276, 80, 130, 0, 69, 32, 47, 33, 48, 28, 52, 0, 72, 24, 34, 38, 29, 45, 33, 51, 44",
-      /*  7700 */ "42, 24, 40, 39, 37, 25, 80, 98, 39, 38, 31, 42, 29, 65, 19, 16, 0, 76, 0, 80, 0, 84, 60, 34, 45, 34",
-      /*  7726 */ "47, 34, 57, 30, 30, 38, 33, 53, 23, 59, 23, 75, 31, 58, 37, 31, 61, 45, 43, 0, 87, 38, 34, 59, 26",
-      /*  7751 */ "39, 39, 52, 25, 41, 71, 68, 66, 73, 67, 58, 79, 54, 43, 94, 63, 90, 55, 40, 111, 45, 65, 80, 60, 77",
-      /*  7776 */ "51, 70, 64, 68, 67, 59, 75, 58, 84, 68, 68, 69, 60, 69, 61, 79, 55, 80, 120, 60, 78, 66, 81, 54",
-      /*  7800 */ "130, 130, 74, 74, 76, 73, 93, 74, 77, 73, 94, 69, 77, 74, 79, 72, 84, 87, 54, 113, 120, 70, 74, 65",
-      /*  7824 */ "91, 50, 97, 35, 43, 70, 76, 61, 84, 72, 75, 69, 71, 75, 71, 77, 60, 82, 71, 78, 68, 78, 69, 72, 76",
-      /*  7849 */ "62, 82, 73, 53, 63, 66, 58, 74, 47, 70, 57, 73, 57, 75, 57, 79, 52, 92, 33, 120, 53, 64, 58, 76, 52",
-      /*  7874 */ "96, 30, 56, 70, 59, 71, 63, 68, 63, 69, 56, 72, 65, 62, 73, 60, 64, 60, 66, 63, 73, 64, 61, 78, 60",
-      /*  7899 */ "67, 54, 134, 90, 51, 65, 65, 66, 65, 69, 57, 82, 63, 79, 53, 65, 70, 60, 68, 64, 64, 65, 71, 64, 66",
-      /*  7924 */ "66, 68, 65, 72, 69, 59, 73, 66, 72, 70, 62, 76, 53, 70, 63, 85, 40, 93, 71, 67, 55, 33, 160, 126",
-      /*  7948 */ "87, 68, 99, 64, 87, 71, 97, 64, 89, 62, 69, 93, 82, 120, 73, 110, 36, 88, 73, 113, 53, 96, 50, 19",
-      /*  7972 */ "26, 90, 78, 83, 83, 85, 84, 92, 70, 90, 50, 40, 58, 52, 57, 46, 46, 48, 48, 53, 36, 71, 29, 86, 29",
-      /*  7997 */ "35, 51, 78, 86, 77, 90, 80, 74, 70, 79, 70, 80, 59, 85, 57, 130, 140, 80, 89, 59, 110, 120, 79, 88",
-      /*  8021 */ "78, 96, 59, 80, 95, 82, 41, 110, 58, 145, 112, 44, 78, 118, 71, 105, 89, 79, 89, 82, 40, 193, 70",
-      /*  8044 */ "97, 72, 99, 72, 107, 67, 76, 85, 79, 79, 82, 92, 53, 92, 59, 109, 90, 95, 95, 97, 75, 183, 136, 139",
-      /*  8068 */ "90, 96, 62, 60, 120, 82, 42, 45, 45, 47, 36, 63, 29, 68, 32, 60, 40, 32, 34, 34, 36, 32, 36, 36, 37",
-      /*  8093 */ "7, 7, 45, 90, 99, 76, 94, 78, 51, 90, 100, 80, 91, 84, 38, 63, 39, 69, 89, 84, 38, 77, 101, 90, 84",
-      /*  8118 */ "95, 71, 98, 62, 80, 58, 90, 53, 71, 70, 66, 75, 60, 70, 67, 60, 73, 72, 71, 71, 72, 72, 73, 73, 74",
-      /*  8143 */ "50, 80, 56, 73, 68, 70, 65, 73, 71, 69, 65, 79, 61, 80, 57, 237, 218, 202, 180, 129, 129, 81, 94",
-      /*  8166 */ "85, 119, 59, 69, 130, 83, 96, 64, 93, 98, 85, 120, 87, 88, 83, 97, 83, 98, 87, 60, 94, 50, 90, 54",
-      /*  8190 */ "38, 90, 108, 108, 115, 81, 98, 88, 87, 90, 105, 90, 106, 73, 23, 90, 111, 76, 95, 115, 59, 38, 66",
-      /*  8213 */ "113, 153, 70, 106, 76, 96, 96, 73, 96, 94, 87, 92, 46, 107, 60, 91, 67, 74, 82, 86, 64, 82, 87, 56",
-      /*  8237 */ "93, 78, 80, 80, 31, 64, 26, 50, 25, 96, 97, 90, 87, 80, 87, 59, 99, 53, 87, 57, 38, 61, 109, 154",
-      /*  8261 */ "43, 90, 97, 79, 90, 98, 83, 94, 80, 75, 75, 76, 66, 101, 75, 77, 71, 87, 53, 76, 68, 85, 67, 67, 68",
-      /*  8286 */ "90, 68, 93, 73, 90, 69, 76, 70, 81, 75, 78, 76, 71, 90, 70, 82, 84, 86, 60, 90, 71, 91, 58, 206, 90",
-      /*  8311 */ "119, 68, 270, 96, 74, 96, 70, 104, 73, 84, 84, 85, 61, 158, 117, 66, 129, 140, 89, 93, 117, 74, 101",
-      /*  8334 */ "95, 116, 113, 90, 126, 88, 90, 116, 99, 84, 188, 225, 248, 226, 91, 91, 85, 104, 69, 90, 103, 71",
-      /*  8356 */ "106, 57, 297, 91, 92, 85, 133, 159, 158, 99, 85, 127, 129, 83, 99, 86, 98, 89, 94, 93, 275, 151",
-      /*  8378 */ "140, 93, 122, 79, 93, 111, 64, 94, 84, 97, 178, 141, 178, 111, 126, 92, 88, 91, 94, 94, 64, 73, 78",
-      /*  8401 */ "72, 77, 64, 76, 64, 77, 67, 65, 98, 70, 20, 40, 48, 40, 49, 41, 38, 38, 40, 50, 0, 61, 25, 41, 33",
-      /*  8426 */ "40, 34, 37, 23, 23, 32, 39, 35, 22, 107, 84, 137, 205, 216, 144, 67, 263, 90, 160, 140, 53, 90, 73",
-      /*  8449 */ "81, 73, 82, 82, 74, 67, 61, 85, 60, 84, 80, 65, 95, 32, 106, 173, 172, 94, 98, 71, 80, 66, 84, 81",
-      /*  8473 */ "64, 78, 73, 79, 65, 204, 141, 76, 93, 88, 81, 86, 86, 90, 93, 90, 59, 90, 60, 87, 51, 77, 61, 131",
-      /*  8497 */ "56, 91, 55, 138, 190, 129, 90, 121, 65, 99, 218, 174, 180, 87, 122, 95, 120, 88, 93, 139, 160, 97",
-      /*  8519 */ "136, 91, 148, 131, 76, 200, 187, 232, 94, 101, 103, 73, 129, 171, 70, 130, 90, 189, 90, 146, 158",
-      /*  8540 */ "170, 164, 191, 131, 85, 126, 115, 87, 96, 78, 79, 144, 115, 90, 117, 100, 86, 106, 71, 79, 120, 90",
-      /*  8562 */ "58, 211, 57, 109, 167, 84, 145, 155, 91, 103, 74, 110, 71, 99, 67, 90, 92, 78, 95, 69, 81, 81, 82",
-      /*  8585 */ "130, 68, 62, 72, 63, 65, 61, 77, 44, 75, 55, 158, 70, 121, 104, 85, 103, 99, 93, 84, 101, 77, 92",
-      /*  8608 */ "72, 96, 51, 87, 82, 100, 100, 89, 85, 106, 70, 101, 53, 41, 52, 69, 47, 58, 54, 63, 45, 63, 53, 46",
-      /*  8632 */ "65, 46, 68, 47, 61, 58, 55, 68, 49, 48, 64, 41, 59, 43, 59, 46, 69, 48, 65, 52, 72, 50, 48, 79, 29",
-      /*  8657 */ "103, 103, 77, 121, 134, 95, 139, 120, 92, 99, 94, 105, 126, 98, 91, 101, 104, 81, 102, 87, 98, 93",
-      /*  8679 */ "42, 90, 87, 109, 72, 153, 153, 154, 79, 98, 95, 128, 60, 107, 70, 98, 69, 66, 82, 68, 74, 60, 79",
-      /*  8702 */ "62, 81, 57, 28, 56, 172, 132, 102, 88, 95, 127, 90, 120, 80, 61, 81, 56, 80, 62, 78, 64, 67, 57, 89",
-      /*  8726 */ "0, 109, 82, 69, 104, 94, 110, 54, 80, 99, 96, 76, 80, 115, 109, 69, 91, 89, 86, 93, 97, 81, 95, 113",
-      /*  8750 */ "87, 87, 76, 89, 64, 90, 76, 90, 77, 87, 77, 89, 66, 111, 48, 49, 111, 110, 79, 102, 90, 107, 112",
-      /*  8773 */ "89, 98, 98, 40, 42, 38, 35, 31, 65, 35, 32, 59, 34, 80, 33, 58, 50, 26, 53, 24, 50, 33, 60, 36, 48",
-      /*  8798 */ "37, 37, 46, 42, 42, 44, 43, 7, 87, 108, 121, 171, 79, 121, 97, 132, 132, 94, 90, 62, 83, 62, 84, 82",
-      /*  8822 */ "79, 66, 90, 63, 103, 47, 75, 72, 78, 75, 73, 80, 67, 66, 94, 68, 80, 68, 82, 80, 70, 69, 68, 76, 56",
-      /*  8847 */ "81, 60, 80, 64, 71, 73, 75, 66, 83, 59, 87, 49, 90, 56, 84, 70, 70, 68, 75, 65, 83, 55, 69, 140",
-      /*  8871 */ "113, 50, 80, 96, 79, 103, 83, 105, 106, 112, 97, 95, 163, 99, 98, 97, 67, 89, 76, 87, 67, 86, 73",
-      /*  8894 */ "103, 54, 53, 133, 120, 71, 94, 72, 88, 72, 90, 74, 83, 80, 83, 81, 36, 81, 46, 84, 61, 61, 62, 62",
-      /*  8918 */ "63, 56, 56, 58, 62, 66, 40, 82, 57, 63, 60, 52, 76, 33, 116, 61, 63, 61, 65, 53, 53, 54, 86, 46, 90",
-      /*  8943 */ "38, 60, 53, 58, 63, 63, 64, 51, 60, 54, 88, 31, 79, 50, 66, 46, 93, 70, 49, 60, 57, 64, 53, 59, 62",
-      /*  8968 */ "67, 40, 84, 64, 55, 73, 47, 65, 55, 75, 50, 67, 47, 66, 50, 71, 57, 65, 57, 68, 52, 77, 41, 65, 58",
-      /*  8993 */ "65, 59, 66, 56, 59, 67, 50, 73, 52, 90, 40, 90, 42, 82, 62, 69, 49, 67, 51, 62, 70, 51, 64, 56, 61",
-      /*  9018 */ "69, 53, 60, 58, 66, 57, 70, 53, 61, 71, 60, 59, 68, 55, 76, 36, 87, 43, 68, 56, 69, 54, 90, 44, 59",
-      /*  9043 */ "70, 55, 98, 46, 98, 60, 60, 33, 32, 23, 20, 28, 32, 29, 29, 34, 32, 32, 33, 33, 35, 0, 33, 36, 26",
-      /*  9068 */ "23, 21, 44, 35, 20, 30, 29, 36, 29, 39, 26, 26, 35, 21, 53, 0, 40, 0, 46, 40, 20, 33, 37, 0, 53, 21",
-      /*  9094 */ "90, 21, 106, 111, 111, 78, 19, 44, 84, 113, 113, 96, 80, 81, 80, 82, 88, 69, 79, 77, 82, 89, 58",
-      /*  9117 */ "109, 99, 99, 80, 93, 95, 109, 54, 109, 109, 74, 120, 97, 70, 93, 60, 41, 51, 50, 37, 57, 34, 91, 42",
-      /*  9141 */ "62, 37, 63, 38, 43, 36, 65, 36, 67, 33, 80, 43, 40, 55, 55, 57, 45, 58, 51, 51, 52, 54, 54, 14, 127",
-      /*  9166 */ "127, 121, 96, 77, 102, 75, 95, 90, 94, 34, 81, 120, 98, 99, 97, 94, 118, 78, 144, 144, 120, 106, 89",
-      /*  9189 */ "99, 95, 162, 90, 140, 90, 142, 194, 70, 107, 74, 94, 82, 115, 144, 141, 89, 129, 50, 49, 119, 95",
-      /*  9211 */ "80, 119, 117, 76, 118, 118, 83, 120, 107, 75, 45, 122, 122, 124, 95, 92, 80, 40, 53, 30, 46, 43, 30",
-      /*  9234 */ "52, 44, 44, 47, 40, 54, 41, 47, 41, 48, 46, 44, 52, 45, 54, 45, 57, 32, 61, 55, 53, 32, 70, 32, 72",
-      /*  9259 */ "47, 51, 47, 52, 51, 49, 43, 33, 66, 0, 90, 30, 55, 54, 47, 54, 52, 52, 53, 33, 70, 34, 90, 32, 55",
-      /*  9284 */ "52, 22, 79, 122, 132, 101, 101, 102, 60, 98, 0, 64, 25, 44, 39, 36, 40, 35, 29, 44, 40, 38, 20, 38",
-      /*  9308 */ "25, 75, 7, 144, 179, 179, 35, 50, 97, 101, 125, 78, 40, 110, 84, 40, 106, 92, 101, 110, 72, 97, 68",
-      /*  9331 */ "119, 47, 95, 87, 86, 83, 89, 78, 110, 57, 110, 110, 90, 81, 83, 86, 78, 87, 78, 88, 74, 85, 85, 88",
-      /*  9355 */ "76, 91, 73, 120, 78, 89, 75, 94, 73, 124, 72, 95, 70, 91, 74, 90, 82, 37, 82, 41, 75, 31, 101, 40",
-      /*  9379 */ "120, 111, 120, 112, 103, 86, 114, 90, 153, 84, 15, 36, 35, 52, 64, 96, 83, 124, 84, 105, 83, 87, 84",
-      /*  9402 */ "132, 90, 91, 79, 87, 85, 98, 82, 100, 106, 96, 81, 114, 91, 111, 81, 105, 132, 123, 123, 126, 94",
-      /*  9424 */ "89, 91, 90, 89, 77, 98, 80, 55, 79, 106, 98, 104, 98, 107, 76, 92, 74, 92, 77, 95, 78, 93, 85, 94",
-      /*  9448 */ "74, 93, 87, 64, 85, 82, 95, 65, 107, 93, 96, 90, 31, 90, 92, 134, 129, 96, 71, 117, 98, 108, 109",
-      /*  9471 */ "93, 123, 152, 89, 95, 122, 112, 82, 107, 143, 121, 79, 109, 77, 109, 94, 183, 141, 95, 109, 108",
-      /*  9492 */ "109, 105, 129, 105, 117, 117, 83, 130, 98, 76, 75, 83, 75, 85, 70, 84, 88, 64, 81, 76, 76, 78, 77",
-      /*  9515 */ "75, 86, 62, 108, 83, 76, 79, 73, 95, 63, 116, 81, 77, 76, 80, 76, 81, 79, 74, 80, 77, 77, 79, 75",
-      /*  9539 */ "88, 67, 69, 78, 78, 79, 76, 82, 85, 71, 93, 76, 84, 89, 43, 73, 99, 52, 104, 114, 97, 96, 85, 99",
-      /*  9563 */ "75, 103, 69, 82, 107, 99, 120, 119, 119, 124, 100, 60, 101, 88, 82, 44, 85, 97, 99, 125, 89, 140",
-      /*  9585 */ "120, 114, 52, 40, 114, 114, 95, 108, 104, 61, 154, 134, 43, 154, 110, 82, 97, 119, 127, 120, 95, 89",
-      /*  9607 */ "83, 90, 88, 77, 96, 56, 96, 57, 47, 97, 97, 89, 89, 90, 110, 48, 92, 119, 131, 37, 90, 109, 100, 98",
-      /*  9631 */ "112, 112, 131, 131, 139, 114, 67, 87, 72, 91, 70, 87, 75, 92, 68, 105, 57, 96, 108, 103, 91, 115",
-      /*  9653 */ "115, 110, 70, 105, 105, 114, 62, 97, 61, 96, 120, 120, 64, 72, 74, 61, 82, 70, 71, 74, 63, 101, 69",
-      /*  9676 */ "69, 70, 73, 77, 54, 107, 106, 106, 110, 91, 112, 106, 83, 119, 92, 110, 80, 90, 66, 98, 72, 81, 74",
-      /*  9699 */ "72, 82, 83, 72, 83, 73, 85, 62, 98, 73, 86, 59, 95, 45, 77, 69, 75, 74, 73, 87, 52, 64, 101, 69, 98",
-      /*  9724 */ "120, 124, 101, 96, 105, 96, 98, 124, 90, 107, 107, 78, 100, 107, 80, 84, 90, 75, 91, 69, 80, 85, 83",
-      /*  9747 */ "82, 97, 63, 106, 120, 132, 98, 79, 85, 95, 81, 84, 104, 57, 92, 120, 140, 122, 85, 125, 67, 119, 72",
-      /*  9770 */ "119, 80, 94, 40, 72, 58, 56, 53, 47, 62, 53, 48, 80, 50, 49, 49, 51, 56, 55, 70, 40, 73, 0, 135, 73",
-      /*  9795 */ "33, 87, 40, 80, 52, 73, 39, 64, 42, 72, 61, 59, 59, 60, 44, 54, 64, 49, 54, 74, 44, 57, 62, 55, 72",
-      /*  9820 */ "62, 58, 58, 60, 47, 63, 54, 80, 53, 50, 50, 51, 58, 61, 60, 50, 53, 52, 75, 46, 73, 42, 80, 54, 83",
-      /*  9845 */ "51, 53, 38, 48, 62, 46, 58, 53, 40, 64, 32, 90, 37, 64, 33, 82, 54, 59, 35, 35, 36, 74, 35, 40, 70",
-      /*  9870 */ "39, 57, 57, 59, 40, 71, 38, 52, 61, 56, 52, 66, 38, 54, 60, 43, 43, 54, 30, 40, 40, 33, 38, 0, 55",
-      /*  9895 */ "51, 0, 60, 0, 0, 24, 24, 29, 25, 0, 25, 25, 28, 25, 34, 30, 20, 20, 22, 22, 58, 33, 31, 29, 27, 87",
-      /*  9921 */ "0, 28, 28, 31, 31, 41, 21, 21, 22, 90, 0, 32, 15, 30, 22, 122, 138, 90, 149, 168, 168, 182, 192",
-      /*  9944 */ "125, 125, 104, 102, 73, 135, 93, 104, 72, 109, 71, 44, 98, 97, 121, 97, 123, 136, 191, 73, 49, 96",
-      /*  9966 */ "86, 97, 85, 122, 71, 130, 145, 71, 195, 89, 141, 97, 92, 86, 100, 81, 99, 87, 94, 70, 85, 72, 85",
-      /*  9989 */ "75, 90, 72, 86, 70, 86, 72, 87, 63, 119, 0, 87, 167, 91, 120, 137, 111, 86, 108, 119, 83, 101, 119",
-      /* 10012 */ "86, 111, 83, 78, 82, 90, 23, 78, 56, 42, 54, 40, 52, 38, 41, 41, 42, 56, 47, 37, 50, 35, 33, 62, 7",
-      /* 10037 */ "89, 167, 165, 152, 121, 72, 40, 118, 89, 156, 135, 168, 104, 121, 117, 104, 104, 100, 91, 104, 90",
-      /* 10058 */ "79, 118, 90, 123, 94, 92, 84, 118, 148, 148, 40, 98, 100, 128, 77, 130, 110, 98, 77, 91, 78, 90, 85",
-      /* 10081 */ "90, 86, 82, 51, 101, 49, 99, 151, 107, 92, 112, 88, 92, 92, 97, 93, 94, 75, 102, 70, 100, 73, 130",
-      /* 10104 */ "78, 156, 133, 84, 141, 143, 110, 118, 98, 90, 112, 58, 150, 150, 112, 69, 92, 90, 65, 113, 110, 100",
-      /* 10126 */ "90, 103, 101, 87, 118, 101, 42, 116, 116, 146, 69, 101, 126, 105, 64, 104, 105, 64, 103, 87, 99",
-      /* 10147 */ "109, 75, 100, 133, 133, 131, 129, 94, 122, 90, 113, 88, 88, 89, 88, 84, 103, 132, 165, 53, 99, 90",
-      /* 10169 */ "104, 52, 102, 103, 90, 103, 113, 102, 102, 98, 101, 114, 77, 130, 104, 71, 133, 101, 92, 82, 102",
-      /* 10190 */ "120, 144, 90, 157, 75, 203, 86, 125, 105, 110, 124, 112, 135, 133, 150, 90, 224, 149, 71, 137, 140",
-      /* 10211 */ "140, 125, 90, 88, 125, 117, 91, 110, 69, 86, 91, 82, 125, 131, 125, 124, 129, 125, 120, 102, 125",
-      /* 10232 */ "121, 149, 104, 108, 149, 67, 153, 194, 172, 172, 80, 140, 192, 64, 137, 137, 66, 51, 88, 120, 118",
-      /* 10253 */ "85, 96, 141, 101, 141, 156, 185, 166, 160, 167, 166, 91, 173, 173, 185, 85, 174, 173, 193, 83, 93",
-      /* 10274 */ "91, 81, 90, 90, 64, 80, 71, 82, 81, 65, 174, 193, 194, 193, 185, 162, 295, 163, 162, 169, 93, 64",
-      /* 10296 */ "141, 134, 141, 152, 152, 169, 169, 82, 264, 236, 233, 233, 266, 202, 190, 189, 189, 237, 236, 233",
-      /* 10316 */ "220, 218, 254, 251, 239, 246, 246, 223, 270, 252, 239, 231, 229, 216, 90, 164, 164, 180, 249, 220",
-      /* 10336 */ "227, 226, 179, 72, 211, 197, 56, 207, 201, 199, 183, 202, 202, 201, 186, 81, 93, 93, 79, 84, 91, 72",
-      /* 10358 */ "93, 80, 72, 80, 73, 83, 69, 74, 71, 83, 71, 86, 57, 185, 183, 151, 179, 211, 223, 210, 173, 201",
-      /* 10380 */ "202, 201, 190, 224, 248, 236, 264, 271, 266, 271, 186, 237, 183, 185, 146, 142, 124, 82, 250, 250",
-      /* 10400 */ "211, 226, 208, 198, 253, 271, 256, 186, 173, 201, 183, 146, 232, 128, 78, 147, 90, 20, 90, 24, 75",
-      /* 10421 */ "27, 90, 24, 90, 20, 75, 28, 77, 28, 86, 126, 99, 157, 45, 86, 64, 99, 172, 64, 132, 102, 132, 107",
-      /* 10444 */ "90, 130, 105, 39, 75, 42, 87, 107, 63"
-    };
-    String[] s2 = java.util.Arrays.toString(s1).replaceAll("[ \\[\\]]", "").split(",");
-    for (int i = 0; i < 10453; ++i) {LOW[i] = Integer.parseInt(s2[i]);}
-  }
+  private static final int[] LOW = FontTables.load("Normal.bin", 10453);
 }
 
 // End
@@ -0,0 +1,387 @@
+package com.github.bannmann.trako.core;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Parses very large grammars on several threads.
+ *
+ * <p>The input is pre-scanned for the beginnings of productions, i.e. a name, optionally preceded by a doc comment and
+ * followed by {@code ::=}, and split in front of them, so that each chunk is a grammar of its own. The chunks are
+ * parsed concurrently, each with an event handler of its own, which sees the chunk as its input. The caller then
+ * stitches the results of the handlers together in order, e.g. by concatenating the productions of the chunks.</p>
+ *
+ * <p>Chunks end with the last token of a production, so whitespace and comments in front of the next production are
+ * reported in the same place as by a sequential parse. No split is made inside of comments, processing instructions,
+ * string literals or character classes, nor after {@code <?TOKENS?>} or {@code <?ENCORE?>}. If the pre-scan finds an
+ * unterminated construct, the input is too short for more than one chunk, or there is a single processor only, it is
+ * parsed sequentially, as a single chunk.</p>
+ *
+ * <p>When a chunk fails, parsing continues sequentially from its start to the end of the input, so a syntax error is
+ * reported at the same offset as by a sequential parse, and a chunk that failed only because of where it was split
+ * does not fail the parse.</p>
+ *
+ * @param <T> the event handler type
+ */
+public class ParallelParser<T extends Parser.EventHandler>
+{
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  private final CharSequence input;
+  private final Supplier<T> eventHandlers;
+  private final int chunkSize;
+
+  public ParallelParser(CharSequence input, Supplier<T> eventHandlers)
+  {
+    this(input, eventHandlers, Runtime.getRuntime().availableProcessors() < 2 ? Integer.MAX_VALUE : CHUNK_SIZE);
+  }
+
+  /**
+   * @param input grammar in W3C EBNF notation
+   * @param eventHandlers creates the event handler of a chunk
+   * @param chunkSize minimum number of characters per chunk
+   */
+  public ParallelParser(CharSequence input, Supplier<T> eventHandlers, int chunkSize)
+  {
+    if (input == null)
+      throw new IllegalArgumentException("input cannot be null");
+    if (eventHandlers == null)
+      throw new IllegalArgumentException("eventHandlers cannot be null");
+    if (chunkSize < 1)
+      throw new IllegalArgumentException("chunkSize must be positive");
+
+    this.input = input;
+    this.eventHandlers = eventHandlers;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * @return the event handlers of the chunks, in input order
+   * @throws Parser.ParseException on a syntax error, with offsets relative to the whole input
+   */
+  public List<T> parse_Grammar()
+  {
+    int[] bounds = input.length() < 2L * chunkSize ? null : split(input, chunkSize);
+    if (bounds == null)
+    {
+      T eventHandler = eventHandlers.get();
+      new Parser(input, eventHandler).parse_Grammar();
+      return Collections.singletonList(eventHandler);
+    }
+
+    List<Chunk> chunks = IntStream.range(0, bounds.length - 1)
+      .parallel()
+      .mapToObj(i -> parse(bounds[i], bounds[i + 1]))
+      .collect(Collectors.toList());
+
+    List<T> result = new ArrayList<>(chunks.size());
+    for (Chunk chunk : chunks)
+    {
+      if (chunk.error != null)
+      {
+        result.add(recover(chunk.offset));
+        break;
+      }
+      result.add(chunk.eventHandler);
+    }
+    return result;
+  }
+
+  /**
+   * @return the error message of a {@link Parser.ParseException} thrown by {@link #parse_Grammar()}, with line and
+   *   column in the whole input
+   */
+  public String getErrorMessage(Parser.ParseException e)
+  {
+    return new Parser(input, GrammarChecker.IGNORE_EVENTS).getErrorMessage(e);
+  }
+
+  private Chunk parse(int begin, int end)
+  {
+    Chunk chunk = new Chunk(begin, eventHandlers.get());
+    try
+    {
+      new Parser(CharBuffer.wrap(input, begin, end), chunk.eventHandler).parse_Grammar();
+    }
+    catch (Parser.ParseException e)
+    {
+      chunk.error = e;
+    }
+    return chunk;
+  }
+
+  /**
+   * Parses from the start of a failed chunk to the end of the input.
+   *
+   * @return the event handler of the remainder of the input, if it turns out to be correct after all, i.e. the chunk
+   *   failed because of where it was split
+   */
+  private T recover(int offset)
+  {
+    T eventHandler = eventHandlers.get();
+    try
+    {
+      new Parser(CharBuffer.wrap(input, offset, input.length()), eventHandler).parse_Grammar();
+    }
+    catch (Parser.ParseException e)
+    {
+      throw new Parser.ParseException(e.getBegin() + offset, e.getEnd() + offset, e.getState(), e.getOffending(),
+        e.getExpected());
+    }
+    return eventHandler;
+  }
+
+  /**
+   * Splits the input in front of productions.
+   *
+   * @return the chunk boundaries, starting with 0 and ending with the input length, or {@code null} if the input
+   *   is not to be split
+   */
+  static int[] split(CharSequence input, int chunkSize)
+  {
+    int length = input.length();
+    List<Integer> bounds = new ArrayList<>();
+    bounds.add(0);
+
+    int lastEnd = 0;                // end of the last token, other than whitespace and comments
+    int docCommentBoundary = -1;    // value of lastEnd before a doc comment that may start a production
+    int candidate = -1;             // boundary in front of a name that may start a production, or -1
+    boolean open = false;           // whether the last token may be followed by an empty sequence
+    int nameState = 0;              // 1 after a candidate name, 2 after a candidate name and '?'
+    boolean option = false;         // whether the last token was a ws: explicit or ws: definition comment
+    boolean production = false;     // whether a production was seen
+
+    for (int i = 0; i < length; )
+    {
+      char c = input.charAt(i);
+      if (isSpace(c))
+      {
+        ++i;
+        continue;
+      }
+
+      int end;
+      boolean sequence = false;
+      if (c == '/' && i + 1 < length && input.charAt(i + 1) == '*')
+      {
+        // the lexer matches the longest token, so "/**" starts a doc comment, even in "/**/", unless there is no
+        // "*/" after it
+        boolean docComment = i + 2 < length && input.charAt(i + 2) == '*';
+        end = docComment ? indexOf(input, "*/", i + 3) : -1;
+        if (end < 0)
+        {
+          docComment = false;
+          end = indexOf(input, "*/", i + 2);
+        }
+        if (end < 0)
+        {
+          return null;
+        }
+        end += 2;
+        if (docComment)
+        {
+          if (docCommentBoundary < 0)
+          {
+            docCommentBoundary = lastEnd;
+          }
+          nameState = 0;
+          i = end;
+          continue;
+        }
+        if (option || !isOption(input, i, end))
+        {
+          i = end;
+          continue;
+        }
+        option = true;
+        nameState = 0;
+      }
+      else if (c == '/' && i + 1 < length && input.charAt(i + 1) == '/')
+      {
+        end = indexOf(input, "\n", i + 2);
+        i = end < 0 ? length : end + 1;
+        continue;
+      }
+      else
+      {
+        option = false;
+        if (c == '<' && i + 1 < length && input.charAt(i + 1) == '?')
+        {
+          if (startsWith(input, i, "<?TOKENS?>") || startsWith(input, i, "<?ENCORE?>"))
+          {
+            break;
+          }
+          end = indexOf(input, "?>", i + 2);
+          if (end < 0)
+          {
+            return null;
+          }
+          end += 2;
+          nameState = 0;
+        }
+        else if (c == '"' || c == '\'' || c == '[')
+        {
+          end = endOfLine(input, i + 1, c == '[' ? ']' : c);
+          if (end < 0)
+          {
+            return null;
+          }
+          nameState = 0;
+        }
+        else if (isNameStart(c))
+        {
+          end = i + 1;
+          while (end < length && isNamePart(input.charAt(end)))
+          {
+            ++end;
+          }
+          if (i == 0 || isSpace(input.charAt(i - 1)) || input.charAt(i - 1) == '/' || input.charAt(i - 1) == '>')
+          {
+            // an empty sequence at the end of a chunk would not be preceded by the whitespace in front of the next
+            // production, so there is no split after '::=', '|' or '/'
+            candidate = open ? -1 : docCommentBoundary >= 0 ? docCommentBoundary : lastEnd;
+            nameState = 1;
+          }
+          else
+          {
+            nameState = 0;
+          }
+        }
+        else if (c == '?' && nameState == 1)
+        {
+          end = i + 1;
+          nameState = 2;
+        }
+        else if (startsWith(input, i, "::="))
+        {
+          end = i + 3;
+          sequence = true;
+          if (nameState != 0)
+          {
+            if (production && candidate >= 0 && candidate - bounds.get(bounds.size() - 1) >= chunkSize)
+            {
+              bounds.add(candidate);
+            }
+            production = true;
+          }
+          nameState = 0;
+        }
+        else
+        {
+          end = i + 1;
+          sequence = c == '|' || c == '/';
+          nameState = 0;
+        }
+      }
+      docCommentBoundary = -1;
+      open = sequence;
+      lastEnd = end;
+      i = end;
+    }
+
+    if (bounds.size() < 2)
+    {
+      return null;
+    }
+    bounds.add(length);
+    return bounds.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private static boolean isSpace(char c)
+  {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+  }
+
+  private static boolean isNameStart(char c)
+  {
+    return Character.isLetter(c) || c == '_';
+  }
+
+  private static boolean isNamePart(char c)
+  {
+    return Character.isLetterOrDigit(c) || c == '.' || c == '-' || c == '_' || c == '\u00B7'
+      || Character.getType(c) == Character.NON_SPACING_MARK || Character.getType(c) == Character.COMBINING_SPACING_MARK
+      || Character.getType(c) == Character.ENCLOSING_MARK;
+  }
+
+  /**
+   * Whether the comment from {@code begin} to {@code end} is a {@code /* ws: explicit *}{@code /} or {@code /* ws:
+   * definition *}{@code /} option.
+   */
+  private static boolean isOption(CharSequence input, int begin, int end)
+  {
+    String comment = input.subSequence(begin + 2, end - 2).toString().trim();
+    if (!comment.startsWith("ws:"))
+    {
+      return false;
+    }
+    String option = comment.substring(3).trim();
+    return option.equals("explicit") || option.equals("definition");
+  }
+
+  private static boolean startsWith(CharSequence input, int offset, String prefix)
+  {
+    if (offset + prefix.length() > input.length())
+    {
+      return false;
+    }
+    for (int i = 0; i < prefix.length(); ++i)
+    {
+      if (input.charAt(offset + i) != prefix.charAt(i))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int indexOf(CharSequence input, String string, int offset)
+  {
+    for (int i = offset; i + string.length() <= input.length(); ++i)
+    {
+      if (startsWith(input, i, string))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return the offset after the closing character, or -1 if there is none before the end of the line
+   */
+  private static int endOfLine(CharSequence input, int offset, char closing)
+  {
+    for (int i = offset; i < input.length(); ++i)
+    {
+      char c = input.charAt(i);
+      if (c == closing)
+      {
+        return i + 1;
+      }
+      if (c == '\n' || c == '\r')
+      {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  private class Chunk
+  {
+    final int offset;
+    final T eventHandler;
+    Parser.ParseException error;
+
+    Chunk(int offset, T eventHandler)
+    {
+      this.offset = offset;
+      this.eventHandler = eventHandler;
+    }
+  }
+}
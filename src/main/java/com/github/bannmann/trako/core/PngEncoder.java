@@ -0,0 +1,419 @@
+package com.github.bannmann.trako.core;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes {@link BufferedImage}s as PNG, either as 8-bit RGBA or as 8-bit indexed color with a transparency table.
+ *
+ * <p>Indexed output uses the 256 most frequent colors of the image as its palette and maps all other colors to their
+ * nearest palette entry. Railroad diagrams consist of a few fill, stroke and text colors plus antialiasing blends
+ * between them, so the loss is limited to rare edge pixels.</p>
+ */
+public class PngEncoder
+{
+  private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+  private static final int MAX_PALETTE_SIZE = 256;
+
+  private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+  private boolean indexed;
+
+  /**
+   * @param compressionLevel deflate level from {@code 0} (none) to {@code 9} (best), or {@code -1} for the default
+   *   of {@link Deflater}; defaults to {@code -1}
+   */
+  public void setCompressionLevel(int compressionLevel)
+  {
+    if (compressionLevel < -1 || compressionLevel > 9)
+      throw new IllegalArgumentException("compressionLevel must be between -1 and 9");
+
+    this.compressionLevel = compressionLevel;
+  }
+
+  /**
+   * @param indexed whether to write a palette image rather than RGBA, defaults to {@code false}
+   */
+  public void setIndexed(boolean indexed)
+  {
+    this.indexed = indexed;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "PngEncoder[compressionLevel=" + compressionLevel + ", indexed=" + indexed + "]";
+  }
+
+  public void encode(BufferedImage image, OutputStream o) throws IOException
+  {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    int[] argb = image.getRGB(0, 0, width, height, null, 0, width);
+
+    DataOutputStream out = new DataOutputStream(o);
+    out.write(SIGNATURE);
+    if (indexed)
+    {
+      Palette palette = new Palette(argb);
+      writeChunk(out, "IHDR", header(width, height, 3));
+      writeChunk(out, "PLTE", palette.rgb());
+      byte[] alpha = palette.alpha();
+      if (alpha.length > 0)
+      {
+        writeChunk(out, "tRNS", alpha);
+      }
+      writeChunk(out, "IDAT", indexedData(argb, width, height, palette));
+    }
+    else
+    {
+      writeChunk(out, "IHDR", header(width, height, 6));
+      writeChunk(out, "IDAT", rgbaData(argb, width, height));
+    }
+    writeChunk(out, "IEND", new byte[0]);
+    out.flush();
+  }
+
+  private static byte[] header(int width, int height, int colorType) throws IOException
+  {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(13);
+    DataOutputStream header = new DataOutputStream(buffer);
+    header.writeInt(width);
+    header.writeInt(height);
+    header.writeByte(8);          // bit depth
+    header.writeByte(colorType);
+    header.writeByte(0);          // deflate
+    header.writeByte(0);          // adaptive filtering
+    header.writeByte(0);          // no interlace
+    return buffer.toByteArray();
+  }
+
+  private byte[] indexedData(int[] argb, int width, int height, Palette palette) throws IOException
+  {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    Deflater deflater = new Deflater(compressionLevel);
+    try (DeflaterOutputStream idat = new DeflaterOutputStream(buffer, deflater, 8192))
+    {
+      byte[] row = new byte[1 + width];
+      for (int y = 0; y < height; ++y)
+      {
+        for (int x = 0; x < width; ++x)
+        {
+          row[1 + x] = (byte) palette.indexOf(argb[y * width + x]);
+        }
+        idat.write(row);
+      }
+    }
+    finally
+    {
+      deflater.end();
+    }
+    return buffer.toByteArray();
+  }
+
+  private byte[] rgbaData(int[] argb, int width, int height) throws IOException
+  {
+    int stride = width * 4;
+    byte[] previous = new byte[stride];
+    byte[] current = new byte[stride];
+    byte[][] filtered = new byte[5][1 + stride];
+
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    Deflater deflater = new Deflater(compressionLevel);
+    try (DeflaterOutputStream idat = new DeflaterOutputStream(buffer, deflater, 8192))
+    {
+      for (int y = 0; y < height; ++y)
+      {
+        for (int x = 0, i = 0; x < width; ++x)
+        {
+          int pixel = argb[y * width + x];
+          current[i++] = (byte) (pixel >> 16);
+          current[i++] = (byte) (pixel >> 8);
+          current[i++] = (byte) pixel;
+          current[i++] = (byte) (pixel >>> 24);
+        }
+        idat.write(filter(current, previous, filtered));
+
+        byte[] swap = previous;
+        previous = current;
+        current = swap;
+      }
+    }
+    finally
+    {
+      deflater.end();
+    }
+    return buffer.toByteArray();
+  }
+
+  /**
+   * Applies all five PNG filter types to a scanline and returns the one with the smallest sum of absolute values,
+   * which is the heuristic recommended by the PNG specification.
+   */
+  private static byte[] filter(byte[] row, byte[] previous, byte[][] filtered)
+  {
+    int best = 0;
+    long bestSum = Long.MAX_VALUE;
+    for (int type = 0; type < 5; ++type)
+    {
+      byte[] f = filtered[type];
+      f[0] = (byte) type;
+      long sum = 0;
+      for (int i = 0; i < row.length; ++i)
+      {
+        int raw = row[i] & 0xFF;
+        int a = i >= 4 ? row[i - 4] & 0xFF : 0;
+        int b = previous[i] & 0xFF;
+        int c = i >= 4 ? previous[i - 4] & 0xFF : 0;
+        int value;
+        switch (type)
+        {
+        case 0: value = raw; break;
+        case 1: value = raw - a; break;
+        case 2: value = raw - b; break;
+        case 3: value = raw - ((a + b) >> 1); break;
+        default: value = raw - paeth(a, b, c);
+        }
+        f[1 + i] = (byte) value;
+        sum += Math.abs((byte) value);
+      }
+      if (sum < bestSum)
+      {
+        bestSum = sum;
+        best = type;
+      }
+    }
+    return filtered[best];
+  }
+
+  private static int paeth(int a, int b, int c)
+  {
+    int p = a + b - c;
+    int pa = Math.abs(p - a);
+    int pb = Math.abs(p - b);
+    int pc = Math.abs(p - c);
+    return pa <= pb && pa <= pc ? a : pb <= pc ? b : c;
+  }
+
+  private static void writeChunk(DataOutputStream out, String type, byte[] data) throws IOException
+  {
+    byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+    CRC32 crc = new CRC32();
+    crc.update(typeBytes);
+    crc.update(data);
+    out.writeInt(data.length);
+    out.write(typeBytes);
+    out.write(data);
+    out.writeInt((int) crc.getValue());
+  }
+
+  private static class Palette
+  {
+    private final int[] colors;
+    private final ColorMap indexes = new ColorMap();
+
+    Palette(int[] argb)
+    {
+      ColorMap counts = new ColorMap();
+      for (int pixel : argb)
+      {
+        counts.add(normalize(pixel), 1);
+      }
+
+      // the distinct colors by descending count, each as the negated count in the high word and its position in the
+      // low word
+      int[] distinct = counts.keys();
+      int[] frequencies = counts.values();
+      long[] byCount = new long[distinct.length];
+      for (int i = 0; i < distinct.length; ++i)
+      {
+        byCount[i] = (long) -frequencies[i] << 32 | i;
+      }
+      Arrays.sort(byCount);
+      int size = Math.min(distinct.length, MAX_PALETTE_SIZE);
+
+      // translucent entries go first, so that the tRNS chunk can omit the trailing opaque ones
+      colors = new int[size];
+      int next = 0;
+      for (boolean opaque : new boolean[] {false, true})
+      {
+        for (int i = 0; i < size; ++i)
+        {
+          int color = distinct[(int) byCount[i]];
+          if (color >>> 24 == 0xFF == opaque)
+          {
+            colors[next++] = color;
+          }
+        }
+      }
+      for (int i = 0; i < size; ++i)
+      {
+        indexes.add(colors[i], i + 1);
+      }
+    }
+
+    int indexOf(int pixel)
+    {
+      int color = normalize(pixel);
+      int index = indexes.get(color);
+      if (index == 0)
+      {
+        index = nearest(color) + 1;
+        indexes.add(color, index);
+      }
+      return index - 1;
+    }
+
+    byte[] rgb()
+    {
+      byte[] rgb = new byte[colors.length * 3];
+      for (int i = 0; i < colors.length; ++i)
+      {
+        rgb[3 * i] = (byte) (colors[i] >> 16);
+        rgb[3 * i + 1] = (byte) (colors[i] >> 8);
+        rgb[3 * i + 2] = (byte) colors[i];
+      }
+      return rgb;
+    }
+
+    byte[] alpha()
+    {
+      int length = 0;
+      while (length < colors.length && colors[length] >>> 24 != 0xFF)
+      {
+        ++length;
+      }
+      byte[] alpha = new byte[length];
+      for (int i = 0; i < length; ++i)
+      {
+        alpha[i] = (byte) (colors[i] >>> 24);
+      }
+      return alpha;
+    }
+
+    private int nearest(int pixel)
+    {
+      int best = 0;
+      long bestDistance = Long.MAX_VALUE;
+      for (int i = 0; i < colors.length; ++i)
+      {
+        long distance = 0;
+        for (int shift = 0; shift < 32; shift += 8)
+        {
+          int d = (pixel >>> shift & 0xFF) - (colors[i] >>> shift & 0xFF);
+          distance += d * d;
+        }
+        if (distance < bestDistance)
+        {
+          bestDistance = distance;
+          best = i;
+        }
+      }
+      return best;
+    }
+
+    /**
+     * Maps all fully transparent pixels to the same color, as their RGB values are irrelevant.
+     */
+    private static int normalize(int pixel)
+    {
+      return pixel >>> 24 == 0 ? 0 : pixel;
+    }
+  }
+
+  /**
+   * A hash map from colors to positive numbers, with open addressing, so that pixels are not boxed. Absent colors
+   * map to {@code 0}.
+   */
+  private static class ColorMap
+  {
+    private int[] keys = new int[256];
+    private int[] values = new int[256];
+    private int size;
+
+    int get(int color)
+    {
+      return values[slot(color)];
+    }
+
+    void add(int color, int delta)
+    {
+      int slot = slot(color);
+      if (values[slot] == 0)
+      {
+        keys[slot] = color;
+        if (++size > keys.length / 2)
+        {
+          values[slot] = delta;
+          grow();
+          return;
+        }
+      }
+      values[slot] += delta;
+    }
+
+    /**
+     * @return the colors, in the order of {@link #values()}
+     */
+    int[] keys()
+    {
+      int[] result = new int[size];
+      for (int slot = 0, i = 0; slot < keys.length; ++slot)
+      {
+        if (values[slot] != 0)
+        {
+          result[i++] = keys[slot];
+        }
+      }
+      return result;
+    }
+
+    int[] values()
+    {
+      int[] result = new int[size];
+      for (int slot = 0, i = 0; slot < keys.length; ++slot)
+      {
+        if (values[slot] != 0)
+        {
+          result[i++] = values[slot];
+        }
+      }
+      return result;
+    }
+
+    private int slot(int color)
+    {
+      int mask = keys.length - 1;
+      int hash = color * 0x9E3779B9;
+      int slot = (hash ^ hash >>> 16) & mask;
+      while (values[slot] != 0 && keys[slot] != color)
+      {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+
+    private void grow()
+    {
+      int[] oldKeys = keys;
+      int[] oldValues = values;
+      keys = new int[oldKeys.length * 2];
+      values = new int[oldValues.length * 2];
+      for (int i = 0; i < oldKeys.length; ++i)
+      {
+        if (oldValues[i] != 0)
+        {
+          int slot = slot(oldKeys[i]);
+          keys[slot] = oldKeys[i];
+          values[slot] = oldValues[i];
+        }
+      }
+    }
+  }
+}
@@ -1,9 +1,79 @@
 package com.github.bannmann.trako.core;
+import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
 
 import net.sf.saxon.s9api.XdmNode;
 
 public interface PngTranscoder
 {
   void transcode(XdmNode e, OutputStream o) throws Exception;
+
+  /**
+   * @return the scale factors that {@link #transcodeScaled(XdmNode)} renders each diagram at, defaults to {@code 1}
+   */
+  default double[] getScales()
+  {
+    return new double[] {1};
+  }
+
+  /**
+   * Converts an SVG diagram once per scale factor returned by {@link #getScales()}.
+   *
+   * @param svg the SVG root element
+   * @return the PNG data, in the order of {@link #getScales()}
+   */
+  default byte[][] transcodeScaled(XdmNode svg) throws Exception
+  {
+    double[] scales = getScales();
+    if (scales.length != 1 || scales[0] != 1)
+      throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support scale factors");
+
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    transcode(svg, png);
+    return new byte[][] {png.toByteArray()};
+  }
+
+  /**
+   * Converts a batch of SVG diagrams, passing the result of {@link #transcodeScaled(XdmNode)} for each diagram to a
+   * consumer, in the order of {@code svgs}. Implementations may convert a bounded number of diagrams concurrently,
+   * ahead of the consumer.
+   *
+   * @param svgs the SVG root elements
+   */
+  default void transcodeAll(List<XdmNode> svgs, PngConsumer consumer) throws Exception
+  {
+    for (XdmNode svg : svgs)
+    {
+      consumer.accept(transcodeScaled(svg));
+    }
+  }
+
+  /**
+   * Receives the PNG data of a diagram from {@link #transcodeAll(List, PngConsumer)}.
+   */
+  @FunctionalInterface
+  interface PngConsumer
+  {
+    /**
+     * @param pngs the PNG data, in the order of {@link #getScales()}
+     */
+    void accept(byte[][] pngs) throws Exception;
+  }
+
+  static double[] checkScales(double... scales)
+  {
+    if (scales == null || scales.length == 0)
+      throw new IllegalArgumentException("scales cannot be empty");
+    for (double scale : scales)
+    {
+      if (!(scale > 0) || Double.isInfinite(scale))
+        throw new IllegalArgumentException("invalid scale factor: " + scale);
+    }
+    if (Arrays.stream(scales).distinct().count() != scales.length)
+      throw new IllegalArgumentException("duplicate scale factor: " + Arrays.toString(scales));
+
+    return scales.clone();
+  }
 }
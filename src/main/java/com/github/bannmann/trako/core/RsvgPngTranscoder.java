@@ -1,21 +1,72 @@
 package com.github.bannmann.trako.core;
-import java.io.File;
-import java.io.FileInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-import net.sf.saxon.Configuration;
 import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
 import net.sf.saxon.s9api.Serializer;
 import net.sf.saxon.s9api.XdmNode;
 
+/**
+ * Converts SVG to PNG by piping it through the {@code rsvg-convert} executable.
+ *
+ * <p>{@code rsvg-convert} renders a single document per invocation, so each diagram still needs a process of its
+ * own. The SVG is written to the process' standard input and the PNG is read from its standard output, without any
+ * temporary files. Output buffers are reused per thread, and {@link #transcodeAll(List, PngConsumer)} runs a bounded
+ * number of conversions concurrently. Scale factors are passed as {@code --zoom}, which takes one invocation per
+ * scale.</p>
+ */
 public class RsvgPngTranscoder implements PngTranscoder
 {
   public static final String RSVG_CONVERT_PROPERTY = "rsvg.convert";
   public static final String RSVG_CONVERT_DEFAULT = "rsvg-convert";
-  private String rsvgConvert = rsvgConvertPath();
+
+  private static final Processor processor = new Processor(false);
+
+  private static final ExecutorService stderrCollectors = Executors.newCachedThreadPool(r -> {
+    Thread thread = new Thread(r, RsvgPngTranscoder.class.getSimpleName() + "-stderr");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private static final ThreadLocal<ByteArrayOutputStream> buffers = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(64 * 1024));
+
+  private final String rsvgConvert;
+  private final int workers;
+  private double[] scales = {1};
+
+  public RsvgPngTranscoder()
+  {
+    this(rsvgConvertPath(), Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param rsvgConvert path of the {@code rsvg-convert} executable
+   * @param workers maximum number of concurrent {@code rsvg-convert} processes used by
+   *   {@link #transcodeAll(List, PngConsumer)}
+   */
+  public RsvgPngTranscoder(String rsvgConvert, int workers)
+  {
+    if (rsvgConvert == null)
+      throw new IllegalArgumentException("rsvgConvert cannot be null");
+    if (workers < 1)
+      throw new IllegalArgumentException("workers must be positive");
+
+    this.rsvgConvert = rsvgConvert;
+    this.workers = workers;
+  }
 
   public static String rsvgConvertPath() {
     String rsvgPath = System.getProperty(RSVG_CONVERT_PROPERTY);
@@ -24,120 +75,156 @@ public class RsvgPngTranscoder implements PngTranscoder
 
   @Override
   public void transcode(XdmNode svg, OutputStream o) throws Exception {
-    File pngFile = File.createTempFile(XhtmlToZip.class.getName() + "-", ".png");
-    String pngFileName = pngFile.getAbsolutePath();
-    String nativeFileName = pngFileName;
-
-    // Avoid problems due to Windows file system redirection,
-    // when running inside of a 64 bit container.
+    ByteArrayOutputStream png = buffers.get();
+    png.reset();
+    convert(svg, 1, png);
+    png.writeTo(o);
+  }
 
-    if ("amd64".equals(System.getProperty("os.arch")))
+  @Override
+  public byte[][] transcodeScaled(XdmNode svg) throws Exception
+  {
+    ByteArrayOutputStream png = buffers.get();
+    byte[][] result = new byte[scales.length][];
+    for (int i = 0; i < scales.length; ++i)
     {
-      nativeFileName = pngFileName.replaceFirst("\\\\[Ss][Yy][Ss][Tt][Ee][Mm]32\\\\", "\\\\sysnative\\\\");
+      png.reset();
+      convert(svg, scales[i], png);
+      result[i] = png.toByteArray();
     }
+    return result;
+  }
 
-    try
-    {
-      String[] commandLine = {rsvgConvert, "-o", nativeFileName};
-//    System.out.println("executing " + Arrays.toString(commandLine));
-      Process proc = Runtime.getRuntime().exec(commandLine);
+  @Override
+  public double[] getScales()
+  {
+    return scales.clone();
+  }
 
-      OutputStream stdin = proc.getOutputStream();
-      Serializer serializer = new Processor(new Configuration()).newSerializer(stdin);
-      serializer.setOutputProperty(Serializer.Property.OMIT_XML_DECLARATION, "no");
-      serializer.setOutputProperty(Serializer.Property.INDENT, "yes");
-      serializer.serializeNode(svg);
-      stdin.close();
+  /**
+   * @param scales scale factors to render each diagram at, e.g. {@code 1, 2, 3} for HiDPI assets; defaults to
+   *   {@code 1}
+   */
+  public void setScales(double... scales)
+  {
+    this.scales = PngTranscoder.checkScales(scales);
+  }
 
-      StreamCollector stderr = new StreamCollector(proc.getErrorStream());
-      StreamCollector stdout = new StreamCollector(proc.getInputStream());
+  @Override
+  public String toString()
+  {
+    return "RsvgPngTranscoder[" + rsvgConvert + ", scales=" + Arrays.toString(scales) + "]";
+  }
+
+  @Override
+  public void transcodeAll(List<XdmNode> svgs, PngConsumer consumer) throws Exception
+  {
+    if (svgs.size() < 2 || workers == 1)
+    {
+      PngTranscoder.super.transcodeAll(svgs, consumer);
+      return;
+    }
 
-      try
+    // converts up to twice as many diagrams ahead of the consumer as there are workers, so that only their results
+    // are held at once, however many diagrams there are
+    ExecutorService pool = Executors.newFixedThreadPool(Math.min(workers, svgs.size()));
+    try
+    {
+      Deque<Future<byte[][]>> futures = new ArrayDeque<>();
+      Iterator<XdmNode> pending = svgs.iterator();
+      while (!futures.isEmpty() || pending.hasNext())
       {
-        int exitCode = proc.waitFor();
-        if (exitCode != 0)
+        while (futures.size() < 2 * workers && pending.hasNext())
         {
-          throw new RuntimeException(rsvgConvert + " returned exit code " + exitCode + ", " + stderr + " " + stdout);
+          XdmNode svg = pending.next();
+          futures.add(pool.submit(() -> transcodeScaled(svg)));
         }
-      }
-      catch (InterruptedException e)
-      {
-        throw new RuntimeException(e.getMessage(), e);
-      }
-
-      try (FileInputStream fis = new FileInputStream(pngFile))
-      {
-        byte[] buffer = new byte[2 * 1024 * 1024];
-        int size = 0;
-        for (int n = 0; n >= 0; n = fis.read(buffer, size, buffer.length - size))
+        try
         {
-          size += n;
-          if (size == buffer.length)
-          {
-            for (; fis.read() >= 0; ) {}
-            break;
-          }
+          consumer.accept(futures.remove().get());
+        }
+        catch (ExecutionException e)
+        {
+          Throwable cause = e.getCause();
+          throw cause instanceof Exception ? (Exception) cause : new RuntimeException(cause.getMessage(), cause);
         }
-        o.write(buffer, 0, size);
       }
     }
     finally
     {
-      pngFile.delete();
+      pool.shutdownNow();
     }
   }
 
-  private static class StreamCollector extends Thread
+  /**
+   * Pipes the SVG through {@code rsvg-convert}. When the process exits before it has read all of its input, e.g. for
+   * an unsupported option, writing the SVG fails, and the error output of the process is reported instead.
+   */
+  private void convert(XdmNode svg, double scale, ByteArrayOutputStream png) throws Exception
   {
-    InputStream stream;
-    String string;
-
-    public StreamCollector(InputStream s)
+    String[] commandLine = {rsvgConvert, "-f", "png", "--zoom", Double.toString(scale)};
+    Process proc = new ProcessBuilder(commandLine).start();
+    boolean completed = false;
+    try
     {
-      stream = s;
-      string = null;
-      start();
-    }
+      Future<String> stderr = stderrCollectors.submit(() -> collect(proc.getErrorStream()));
 
-    @Override
-    public String toString()
-    {
-      if (string == null)
+      Exception writeFailure = null;
+      try (OutputStream stdin = proc.getOutputStream())
       {
-        try
-        {
-          join();
-        }
-        catch (InterruptedException e)
-        {
-          throw new RuntimeException(e.getMessage(), e);
-        }
+        Serializer serializer = processor.newSerializer(stdin);
+        serializer.setOutputProperty(Serializer.Property.OMIT_XML_DECLARATION, "no");
+        serializer.serializeNode(svg);
+      }
+      catch (IOException | SaxonApiException e)
+      {
+        writeFailure = e;
       }
-      return string;
-    }
 
-    @Override
-    public void run()
-    {
-      try
+      try (InputStream stdout = proc.getInputStream())
       {
-        byte[] buffer = new byte[2 * 1024 * 1024];
-        int size = 0;
-        for (int n = 0; n >= 0; n = stream.read(buffer, size, buffer.length - size))
-        {
-          size += n;
-          if (size == buffer.length)
-          {
-            for (; stream.read() >= 0; ) {}
-            break;
-          }
-        }
-        string = new String(buffer, 0, size, StandardCharsets.UTF_8);
+        copy(stdout, png);
       }
-      catch (IOException e)
+
+      int exitCode = proc.waitFor();
+      if (exitCode != 0)
+      {
+        throw new RuntimeException(rsvgConvert + " returned exit code " + exitCode + ", " + stderr.get(), writeFailure);
+      }
+      if (writeFailure != null)
+      {
+        throw writeFailure;
+      }
+      completed = true;
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e.getMessage(), e);
+    }
+    finally
+    {
+      if (!completed)
       {
-        throw new RuntimeException(e.getMessage(), e);
+        proc.destroy();
       }
     }
   }
+
+  private static String collect(InputStream stream) throws IOException
+  {
+    try (InputStream s = stream)
+    {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      copy(s, buffer);
+      return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static void copy(InputStream input, ByteArrayOutputStream output) throws IOException
+  {
+    byte[] chunk = new byte[8192];
+    for (int length; (length = input.read(chunk)) != -1; )
+      output.write(chunk, 0, length);
+  }
 }
@@ -0,0 +1,341 @@
+package com.github.bannmann.trako.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import net.sf.saxon.s9api.Axis;
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.QName;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.Serializer;
+import net.sf.saxon.s9api.XdmItem;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmNodeKind;
+import net.sf.saxon.s9api.XdmSequenceIterator;
+
+/**
+ * Writes each diagram as an SVG file of its own into a directory, along with an {@code index.html} that shows them as
+ * lazily loaded images.
+ *
+ * <p>The diagrams are taken from the node sequence produced for the body of the XHTML output, while it is being
+ * evaluated, so no document needs to be built. Files are written concurrently. A file that already exists with the
+ * same content hash is left untouched, so that its timestamp is kept for tools that rebuild or upload changed files
+ * only. Files of diagrams that no longer exist are not removed.</p>
+ *
+ * <p>Files are named after the diagrams. As file systems may ignore case, a diagram whose name differs from that of an
+ * earlier one in case only, gets a numeric suffix, e.g. {@code expr-2.svg} after {@code Expr.svg}.</p>
+ */
+public class SvgDirectoryWriter
+{
+  private static final String XHTML_NAMESPACE = "http://www.w3.org/1999/xhtml";
+  private static final String SVG_NAMESPACE = "http://www.w3.org/2000/svg";
+
+  private static final QName NAME = new QName("name");
+  private static final QName WIDTH = new QName("width");
+  private static final QName HEIGHT = new QName("height");
+
+  private final Processor processor;
+  private final Path directory;
+  private final int workers;
+
+  private int written;
+  private int unchanged;
+
+  public SvgDirectoryWriter(Processor processor, Path directory)
+  {
+    this(processor, directory, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param processor the processor used for serialization
+   * @param directory target directory, created if it does not exist
+   * @param workers maximum number of files written concurrently
+   */
+  public SvgDirectoryWriter(Processor processor, Path directory, int workers)
+  {
+    if (processor == null)
+      throw new IllegalArgumentException("processor cannot be null");
+    if (directory == null)
+      throw new IllegalArgumentException("directory cannot be null");
+    if (workers < 1)
+      throw new IllegalArgumentException("workers must be positive");
+
+    this.processor = processor;
+    this.directory = directory;
+    this.workers = workers;
+  }
+
+  /**
+   * @return the number of files written by the last call to {@link #write(Iterator)}
+   */
+  public int getWritten()
+  {
+    return written;
+  }
+
+  /**
+   * @return the number of files skipped by the last call to {@link #write(Iterator)}, because their content was
+   *   unchanged
+   */
+  public int getUnchanged()
+  {
+    return unchanged;
+  }
+
+  /**
+   * @param items the body content of the XHTML output, i.e. paragraphs containing the diagram anchors, followed by
+   *   the diagrams, as returned by {@code i:ebnf-to-svg}
+   */
+  public void write(Iterator<? extends XdmItem> items) throws Exception
+  {
+    Files.createDirectories(directory);
+    written = 0;
+    unchanged = 0;
+
+    List<String> names = new ArrayList<>();
+    List<String> fileNames = new ArrayList<>();
+    Set<String> usedFileNames = new HashSet<>();
+    List<XdmNode> svgs = new ArrayList<>();
+    List<Future<Boolean>> futures = new ArrayList<>();
+    ExecutorService pool = Executors.newFixedThreadPool(workers);
+    try
+    {
+      String name = null;
+      int count = 0;
+      while (items.hasNext())
+      {
+        XdmItem item = items.next();
+        if (!(item instanceof XdmNode))
+        {
+          continue;
+        }
+        XdmNode node = (XdmNode) item;
+        if (isElement(node, XHTML_NAMESPACE, "p"))
+        {
+          name = anchorName(node);
+        }
+        else if (isElement(node, SVG_NAMESPACE, "svg"))
+        {
+          ++count;
+          String svgName = name != null ? name : Integer.toString(count);
+          name = null;
+          String fileName = fileName(svgName, usedFileNames);
+          names.add(svgName);
+          fileNames.add(fileName);
+          svgs.add(node);
+          futures.add(pool.submit(() -> update(fileName, serialize(node))));
+        }
+      }
+      futures.add(pool.submit(() -> update("index.html", index(names, fileNames, svgs))));
+
+      for (Future<Boolean> future : futures)
+      {
+        try
+        {
+          if (future.get())
+          {
+            ++written;
+          }
+          else
+          {
+            ++unchanged;
+          }
+        }
+        catch (ExecutionException e)
+        {
+          Throwable cause = e.getCause();
+          throw cause instanceof Exception ? (Exception) cause : new RuntimeException(cause.getMessage(), cause);
+        }
+      }
+    }
+    finally
+    {
+      pool.shutdownNow();
+    }
+  }
+
+  private byte[] serialize(XdmNode svg) throws SaxonApiException
+  {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    Serializer serializer = processor.newSerializer(content);
+    serializer.setOutputProperty(Serializer.Property.METHOD, "xml");
+    serializer.setOutputProperty(Serializer.Property.ENCODING, StandardCharsets.UTF_8.name());
+    serializer.setOutputProperty(Serializer.Property.OMIT_XML_DECLARATION, "no");
+    serializer.setOutputProperty(Serializer.Property.INDENT, "yes");
+    serializer.serializeNode(svg);
+    return content.toByteArray();
+  }
+
+  /**
+   * @return the file name for a diagram, distinct from the used file names, ignoring case
+   */
+  private static String fileName(String name, Set<String> usedFileNames)
+  {
+    String fileName = name + ".svg";
+    for (int i = 2; !usedFileNames.add(fileName.toLowerCase(Locale.ROOT)); ++i)
+    {
+      fileName = name + "-" + i + ".svg";
+    }
+    return fileName;
+  }
+
+  private byte[] index(List<String> names, List<String> fileNames, List<XdmNode> svgs)
+    throws SaxonApiException, XMLStreamException
+  {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    Serializer serializer = processor.newSerializer(content);
+    serializer.setOutputProperty(Serializer.Property.METHOD, "xhtml");
+    serializer.setOutputProperty(Serializer.Property.ENCODING, StandardCharsets.UTF_8.name());
+    serializer.setOutputProperty(Serializer.Property.OMIT_XML_DECLARATION, "yes");
+    serializer.setOutputProperty(Serializer.Property.VERSION, "1.0");
+    serializer.setOutputProperty(Serializer.Property.DOCTYPE_SYSTEM, "http://www.w3.org/TR/xhtml1/DTD/xhtml1-transitional.dtd");
+    serializer.setOutputProperty(Serializer.Property.DOCTYPE_PUBLIC, "-//W3C//DTD XHTML 1.0 Transitional//EN");
+    serializer.setOutputProperty(Serializer.Property.INDENT, "yes");
+
+    XMLStreamWriter writer = serializer.getXMLStreamWriter();
+    writer.writeStartDocument();
+    writer.setDefaultNamespace(XHTML_NAMESPACE);
+    writer.writeStartElement(XHTML_NAMESPACE, "html");
+    writer.writeDefaultNamespace(XHTML_NAMESPACE);
+    writer.writeStartElement(XHTML_NAMESPACE, "head");
+    writer.writeStartElement(XHTML_NAMESPACE, "meta");
+    writer.writeAttribute("http-equiv", "Content-Type");
+    writer.writeAttribute("content", "text/html; charset=UTF-8");
+    writer.writeEndElement();
+    writer.writeEndElement();
+    writer.writeStartElement(XHTML_NAMESPACE, "body");
+    for (int i = 0; i < names.size(); ++i)
+    {
+      String name = names.get(i);
+      XdmNode svg = svgs.get(i);
+      writer.writeStartElement(XHTML_NAMESPACE, "p");
+      writer.writeStartElement(XHTML_NAMESPACE, "a");
+      writer.writeAttribute("name", name);
+      writer.writeCharacters(name + ":");
+      writer.writeEndElement();
+      writer.writeEndElement();
+      writer.writeStartElement(XHTML_NAMESPACE, "img");
+      writer.writeAttribute("src", fileNames.get(i));
+      writer.writeAttribute("alt", name);
+      writer.writeAttribute("loading", "lazy");
+      copyAttribute(writer, svg, WIDTH);
+      copyAttribute(writer, svg, HEIGHT);
+      writer.writeEndElement();
+    }
+    writer.writeEndElement();
+    writer.writeEndElement();
+    writer.writeEndDocument();
+    writer.close();
+    return content.toByteArray();
+  }
+
+  private static void copyAttribute(XMLStreamWriter writer, XdmNode element, QName name) throws XMLStreamException
+  {
+    String value = element.getAttributeValue(name);
+    if (value != null)
+    {
+      writer.writeAttribute(name.getLocalName(), value);
+    }
+  }
+
+  /**
+   * Writes a file, unless it already exists with the same content.
+   *
+   * @return whether the file was written
+   */
+  private boolean update(String fileName, byte[] content) throws IOException
+  {
+    Path file = directory.resolve(fileName);
+    if (Files.isRegularFile(file) && Files.size(file) == content.length
+      && Arrays.equals(digest(file), digest(content)))
+    {
+      return false;
+    }
+
+    try (OutputStream out = Files.newOutputStream(file,
+      StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+    {
+      out.write(content);
+    }
+    return true;
+  }
+
+  private static byte[] digest(byte[] content)
+  {
+    MessageDigest digest = sha256();
+    digest.update(content);
+    return digest.digest();
+  }
+
+  private static byte[] digest(Path file) throws IOException
+  {
+    MessageDigest digest = sha256();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+         InputStream in = Channels.newInputStream(channel))
+    {
+      byte[] chunk = new byte[8192];
+      for (int length; (length = in.read(chunk)) != -1; )
+        digest.update(chunk, 0, length);
+    }
+    return digest.digest();
+  }
+
+  private static MessageDigest sha256()
+  {
+    try
+    {
+      return MessageDigest.getInstance("SHA-256");
+    }
+    catch (NoSuchAlgorithmException e)
+    {
+      throw new RuntimeException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * The {@code name} attribute of the first anchor in a paragraph, or null.
+   */
+  private static String anchorName(XdmNode p)
+  {
+    for (XdmSequenceIterator<XdmNode> i = p.axisIterator(Axis.DESCENDANT); i.hasNext(); )
+    {
+      XdmNode node = i.next();
+      if (isElement(node, XHTML_NAMESPACE, "a"))
+      {
+        return node.getAttributeValue(NAME);
+      }
+    }
+    return null;
+  }
+
+  private static boolean isElement(XdmNode node, String namespace, String localName)
+  {
+    return node.getNodeKind() == XdmNodeKind.ELEMENT
+        && localName.equals(node.getNodeName().getLocalName())
+        && namespace.equals(node.getNodeName().getNamespaceURI());
+  }
+}
@@ -1,5 +1,9 @@
 package com.github.bannmann.trako.core;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntUnaryOperator;
+
 import net.sf.saxon.Configuration;
 import net.sf.saxon.expr.XPathContext;
 import net.sf.saxon.lib.ExtensionFunctionCall;
@@ -11,30 +15,77 @@ import net.sf.saxon.trans.XPathException;
 import net.sf.saxon.value.Int64Value;
 import net.sf.saxon.value.SequenceType;
 
+/**
+ * Computes the width of diagram labels, in pixels, from the glyph widths of the {@link Normal} and {@link Bold} fonts.
+ *
+ * <p>Code points in the Latin-1 range, which covers nearly all grammar text, are looked up in flat tables rather than
+ * in the compressed tables of the fonts. As layout asks for the width of the same label several times, widths of
+ * whole labels are also cached, up to a fixed number of labels per font; the cache is cleared once it is full.</p>
+ */
 public class TextWidth
 {
+  private static final int CACHE_SIZE = 4096;
+
+  private static final int[] NORMAL_LATIN_1 = latin1(Normal::get);
+  private static final int[] BOLD_LATIN_1 = latin1(Bold::get);
+
+  private static final Map<String, Integer> normalWidths = new ConcurrentHashMap<>();
+  private static final Map<String, Integer> boldWidths = new ConcurrentHashMap<>();
+  private static final TrakoMetrics.Cache metrics = TrakoMetrics.instance.cache("textWidth");
+
   public static int normal(String text)
   {
+    return width(text, NORMAL_LATIN_1, Normal::get, normalWidths);
+  }
+
+  public static int bold(String text)
+  {
+    return width(text, BOLD_LATIN_1, Bold::get, boldWidths);
+  }
+
+  private static int width(String text, int[] latin1, IntUnaryOperator font, Map<String, Integer> widths)
+  {
+    Integer cached = widths.get(text);
+    metrics.record(cached != null);
+    if (cached != null)
+    {
+      return cached;
+    }
+
     int width = 0;
     for (int i = 0; i < text.length(); )
     {
-      int codePoint = text.codePointAt(i);
-      width += Normal.get(codePoint);
-      i += Character.charCount(codePoint);
+      char c = text.charAt(i);
+      if (c < latin1.length)
+      {
+        width += latin1[c];
+        ++i;
+      }
+      else
+      {
+        int codePoint = text.codePointAt(i);
+        width += font.applyAsInt(codePoint);
+        i += Character.charCount(codePoint);
+      }
     }
-    return (width + 5) / 10;
+    width = (width + 5) / 10;
+
+    if (widths.size() >= CACHE_SIZE)
+    {
+      widths.clear();
+    }
+    widths.put(text, width);
+    return width;
   }
 
-  public static int bold(String text)
+  private static int[] latin1(IntUnaryOperator font)
   {
-    int width = 0;
-    for (int i = 0; i < text.length(); )
+    int[] widths = new int[256];
+    for (int c = 0; c < widths.length; ++c)
     {
-      int codePoint = text.codePointAt(i);
-      width += Bold.get(codePoint);
-      i += Character.charCount(codePoint);
+      widths[c] = font.applyAsInt(c);
     }
-    return (width + 5) / 10;
+    return widths;
   }
 
   public static class SaxonDefinition_normal extends SaxonDefinition
@@ -5,13 +5,31 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import com.github.bannmann.trako.Trako;
 import com.github.bannmann.trako.TrakoVersion;
 import net.sf.saxon.Configuration;
 import net.sf.saxon.lib.Feature;
+import net.sf.saxon.om.MutableNodeInfo;
+import net.sf.saxon.om.TreeModel;
+import net.sf.saxon.s9api.Axis;
+import net.sf.saxon.s9api.DocumentBuilder;
 import net.sf.saxon.s9api.Processor;
 import net.sf.saxon.s9api.QName;
+import net.sf.saxon.s9api.SaxonApiException;
 import net.sf.saxon.s9api.Serializer;
 import net.sf.saxon.s9api.XQueryCompiler;
 import net.sf.saxon.s9api.XQueryEvaluator;
@@ -19,17 +37,44 @@ import net.sf.saxon.s9api.XQueryExecutable;
 import net.sf.saxon.s9api.XdmAtomicValue;
 import net.sf.saxon.s9api.XdmEmptySequence;
 import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmNodeKind;
+import net.sf.saxon.s9api.XdmSequenceIterator;
+import net.sf.saxon.s9api.XdmValue;
+import net.sf.saxon.s9api.streams.Predicates;
+import net.sf.saxon.s9api.streams.Steps;
+import net.sf.saxon.value.StringValue;
 
+/**
+ * Generates railroad diagrams from grammars in W3C EBNF notation.
+ *
+ * <p>Generating does not change the generator, so several threads may use the same generator at once, as long as its
+ * options are not changed meanwhile. The exception is {@link #setLayoutCaching(boolean) layout caching}: a generator
+ * that caches layouts must be used by one thread at a time.</p>
+ */
 public class TrakoGenerator
 {
   private static final String TRAKO_URL = "https://github.com/bannmann/trako";
+  private static final String XHTML_NAMESPACE = "http://www.w3.org/1999/xhtml";
+
+  private static final TrakoMetrics.Cache layoutMetrics = TrakoMetrics.instance.cache("layout");
 
   public enum OutputType
   {
     XHTML_SVG
       {
         @Override
-        protected void produce(Processor processor, XQueryCompiler compiler, XQueryEvaluator xqueryEvaluator, OutputStream output) throws Exception
+        protected void produce(Processor processor, XQueryCompiler compiler, XQueryEvaluator xqueryEvaluator, TrakoGenerator generator, OutputStream output) throws Exception
+        {
+          xqueryEvaluator.run(serializer(processor, output));
+        }
+
+        @Override
+        protected void produce(Processor processor, XQueryCompiler compiler, XdmNode xhtml, TrakoGenerator generator, OutputStream output) throws Exception
+        {
+          serializer(processor, output).serializeNode(xhtml);
+        }
+
+        private Serializer serializer(Processor processor, OutputStream output)
         {
           Serializer serializer = processor.newSerializer(output);
           serializer.setOutputProperty(Serializer.Property.METHOD, "xhtml");
@@ -39,95 +84,531 @@ public class TrakoGenerator
           serializer.setOutputProperty(Serializer.Property.DOCTYPE_SYSTEM, "http://www.w3.org/TR/xhtml1/DTD/xhtml1-transitional.dtd");
           serializer.setOutputProperty(Serializer.Property.DOCTYPE_PUBLIC, "-//W3C//DTD XHTML 1.0 Transitional//EN");
           serializer.setOutputProperty(Serializer.Property.INDENT, "yes");
-          xqueryEvaluator.run(serializer);
+          return serializer;
         }
       },
 
     HTML_PNG_ZIP
       {
         @Override
-        protected void produce(Processor processor, XQueryCompiler compiler, XQueryEvaluator xqueryEvaluator, OutputStream output) throws Exception
+        protected void produce(Processor processor, XQueryCompiler compiler, XdmNode xhtml, TrakoGenerator generator, OutputStream output) throws Exception
         {
-          XdmNode node = (XdmNode) xqueryEvaluator.iterator().next();
-          new XhtmlToZip().convert(node.getUnderlyingNode(), output);
+          XhtmlToZip xhtmlToZip = generator.pngTranscoder == null ? new XhtmlToZip() : new XhtmlToZip(generator.pngTranscoder);
+          xhtmlToZip.convert(xhtml.getUnderlyingNode(), output);
         }
       },
 
     MARKDOWN_SVG
       {
         @Override
-        protected void produce(Processor processor, XQueryCompiler compiler, XQueryEvaluator xqueryEvaluator, OutputStream output) throws Exception
+        protected void produce(Processor processor, XQueryCompiler compiler, XdmNode xhtml, TrakoGenerator generator, OutputStream output) throws Exception
         {
           Serializer serializer = processor.newSerializer(output);
           serializer.setOutputProperty(Serializer.Property.METHOD, "text");
           serializer.setOutputProperty(Serializer.Property.ENCODING, StandardCharsets.UTF_8.name());
-          XQueryEvaluator toMarkdown = compiler.compile(
+          XQueryEvaluator toMarkdown = generator.newEvaluator(compiler.compile(
             "import module namespace m='com/github/bannmann/trako/xq/xhtml-to-md.xq';\n" +
             "declare variable $xhtml external;\n" +
-            "m:transform($xhtml)").load();
-          toMarkdown.setExternalVariable(new QName("xhtml"), (XdmNode) xqueryEvaluator.iterator().next());
+            "m:transform($xhtml)"));
+          toMarkdown.setExternalVariable(new QName("xhtml"), xhtml);
           toMarkdown.run(processor.newSerializer(output));
         }
+      },
+
+    SVG_DIRECTORY
+      {
+        @Override
+        protected String result()
+        {
+          return "svg";
+        }
+
+        @Override
+        protected void produce(Processor processor, XQueryCompiler compiler, XQueryEvaluator xqueryEvaluator, TrakoGenerator generator, OutputStream output) throws Exception
+        {
+          writer(processor, generator).write(xqueryEvaluator.iterator());
+        }
+
+        @Override
+        protected void produce(Processor processor, XQueryCompiler compiler, XdmNode xhtml, TrakoGenerator generator, OutputStream output) throws Exception
+        {
+          XdmNode body = xhtml.select(Steps.child(XHTML_NAMESPACE, "body")).asNode();
+          writer(processor, generator).write(body.axisIterator(Axis.CHILD));
+        }
+
+        private SvgDirectoryWriter writer(Processor processor, TrakoGenerator generator)
+        {
+          if (generator.outputDirectory == null)
+            throw new IllegalStateException("outputDirectory must be set for " + this);
+
+          return new SvgDirectoryWriter(processor, generator.outputDirectory);
+        }
       };
 
-    protected abstract void produce(Processor processor, XQueryCompiler compiler, XQueryEvaluator xqueryEvaluator, OutputStream output) throws Exception;
+    /**
+     * @return the result that {@link #produce(Processor, XQueryCompiler, XQueryEvaluator, TrakoGenerator,
+     *   OutputStream)} consumes, i.e. the suffix of the {@code i:ebnf-to-*} and {@code i:grammar-to-*} functions of
+     *   basic-interface.xq
+     */
+    protected String result()
+    {
+      return "xhtml";
+    }
+
+    /**
+     * Produces the output from the result of the function indicated by {@link #result()}.
+     */
+    protected void produce(Processor processor, XQueryCompiler compiler, XQueryEvaluator xqueryEvaluator, TrakoGenerator generator, OutputStream output) throws Exception
+    {
+      produce(processor, compiler, (XdmNode) xqueryEvaluator.evaluateSingle(), generator, output);
+    }
+
+    /**
+     * Produces the output from the XHTML result, which may be shared with other output types running concurrently.
+     */
+    protected abstract void produce(Processor processor, XQueryCompiler compiler, XdmNode xhtml, TrakoGenerator generator, OutputStream output) throws Exception;
   }
 
   private OutputStream output = System.out;
   private OutputType outputType = OutputType.XHTML_SVG;
+  private PngTranscoder pngTranscoder;
+  private Path outputDirectory;
   private boolean showEbnf = true;
   private boolean factoring = true;
   private boolean recursionElimination = true;
   private boolean inlineLiterals = true;
   private boolean keepEpsilon = true;
+  private List<String> only = Collections.emptyList();
+  private Integer onlyDepth;
   private Color baseColor;
   private int colorOffset;
   private Integer padding;
   private Integer strokeWidth;
   private Integer width;
+  private XQueryProfiler profiler;
+  private boolean layoutCaching;
+  private Layout layout;
 
   /**
+   * Produces the output type set by {@link #setOutputType(OutputType)} and writes it to the stream set by
+   * {@link #setOutput(OutputStream)}.
+   *
    * @param grammar input grammar in W3C EBNF notation
    */
-  public void generate(String grammar) throws Exception
+  public void generate(CharSequence grammar) throws Exception
+  {
+    generate(grammar, Collections.singletonMap(outputType, output));
+  }
+
+  /**
+   * Produces several output types from a single run of parsing, transformation and layout. The output types are then
+   * derived from the shared XHTML result concurrently.
+   *
+   * @param grammar input grammar in W3C EBNF notation
+   * @param outputs the output stream per output type; for {@link OutputType#SVG_DIRECTORY}, the stream is not used
+   *   and may be {@code null}
+   */
+  public void generate(CharSequence grammar, Map<OutputType, OutputStream> outputs) throws Exception
+  {
+    checkGrammar(grammar);
+    if (outputs == null || outputs.isEmpty())
+      throw new IllegalArgumentException("outputs cannot be empty");
+
+    long start = TrakoMetrics.instance.started(grammar);
+    String stage = null;
+    boolean failed = true;
+    try
+    {
+      Processor processor = newProcessor();
+      if (outputs.size() == 1)
+      {
+        Map.Entry<OutputType, OutputStream> entry = outputs.entrySet().iterator().next();
+        XQueryCompiler compiler = newCompiler(processor);
+        XQueryEvaluator xqueryEvaluator = load(compiler, entry.getKey().result(), grammar, null);
+        entry.getKey().produce(processor, compiler, xqueryEvaluator, this, entry.getValue());
+      }
+      else
+      {
+        XdmNode xhtml = (XdmNode) load(newCompiler(processor), OutputType.XHTML_SVG.result(), grammar, null).evaluateSingle();
+        TrakoMetrics.instance.recordLatency("xhtml", start);
+        produce(processor, xhtml, outputs);
+      }
+      stage = "generate:" + outputs.keySet().stream().sorted().map(OutputType::name).collect(Collectors.joining("+"));
+      failed = false;
+    }
+    finally
+    {
+      endTrace();
+      TrakoMetrics.instance.finished(stage, start, failed);
+    }
+  }
+
+  /**
+   * Like {@link #generate(CharSequence)}, but starts from a grammar that was already parsed and transformed. The
+   * transformation options of this generator are ignored in favor of those of the {@link TransformedGrammar}.
+   *
+   * <p>With {@link #setLayoutCaching(boolean) layout caching}, the generator keeps the laid out result of the last
+   * call. When called again for the same grammar with only {@link #setBaseColor(Color)} or {@link #setColorOffset(int)}
+   * changed, the diagrams are not laid out again, only their style sheets are replaced.</p>
+   *
+   * @param grammar result of {@link #transform(CharSequence)}
+   */
+  public void generate(TransformedGrammar grammar) throws Exception
+  {
+    generate(grammar, Collections.singletonMap(outputType, output));
+  }
+
+  /**
+   * Like {@link #generate(CharSequence, Map)}, but starts from a grammar that was already parsed and transformed.
+   *
+   * @param grammar result of {@link #transform(CharSequence)}
+   * @param outputs the output stream per output type
+   */
+  public void generate(TransformedGrammar grammar, Map<OutputType, OutputStream> outputs) throws Exception
   {
     if (grammar == null)
       throw new IllegalArgumentException("grammar cannot be null");
-    if (grammar.isEmpty())
+
+    if (outputs == null || outputs.isEmpty())
+      throw new IllegalArgumentException("outputs cannot be empty");
+
+    long start = TrakoMetrics.instance.started(null);
+    boolean failed = true;
+    try
+    {
+      produce(grammar.getProcessor(), layout(grammar), outputs);
+      failed = false;
+    }
+    finally
+    {
+      endTrace();
+      TrakoMetrics.instance.finished(null, start, failed);
+    }
+  }
+
+  /**
+   * Parses a grammar and applies the grammar transformations configured by {@link #setRecursionElimination(boolean)},
+   * {@link #setFactoring(boolean)}, {@link #setInlineLiterals(boolean)} and {@link #setKeepEpsilon(boolean)}. None
+   * of the visual options are involved, so the result can be passed to {@link #generate(TransformedGrammar)} any
+   * number of times, with different options.
+   *
+   * @param grammar input grammar in W3C EBNF notation
+   * @return an immutable handle to the transformed grammar
+   */
+  public TransformedGrammar transform(CharSequence grammar) throws Exception
+  {
+    checkGrammar(grammar);
+
+    long start = TrakoMetrics.instance.started(grammar);
+    boolean failed = true;
+    try
+    {
+      TransformedGrammar transformed = transform(newProcessor(), grammar);
+      failed = false;
+      return transformed;
+    }
+    finally
+    {
+      endTrace();
+      TrakoMetrics.instance.finished("transform", start, failed);
+    }
+  }
+
+  private TransformedGrammar transform(Processor processor, CharSequence grammar) throws Exception
+  {
+    String query =
+        "import module namespace i='com/github/bannmann/trako/xq/basic-interface.xq';\n" +
+        "declare variable $ebnf external;\n" +
+        "declare variable $recursion-elimination external;\n" +
+        "declare variable $factoring external;\n" +
+        "declare variable $inline external;\n" +
+        "declare variable $keep external;\n" +
+        "i:transform($ebnf, $recursion-elimination, $factoring, $inline, $keep)";
+    XQueryEvaluator xqueryEvaluator = newEvaluator(newCompiler(processor).compile(query));
+    setTransformVariables(xqueryEvaluator, grammar);
+    setModuleVariables(xqueryEvaluator);
+
+    XdmNode ast = (XdmNode) xqueryEvaluator.evaluateSingle();
+    String key = TransformedGrammar.key(grammar, recursionElimination, factoring, inlineLiterals, keepEpsilon);
+    return new TransformedGrammar(processor, ast, key, recursionElimination, factoring, inlineLiterals, keepEpsilon);
+  }
+
+  private static void checkGrammar(CharSequence grammar)
+  {
+    if (grammar == null)
+      throw new IllegalArgumentException("grammar cannot be null");
+    if (grammar.length() == 0)
       throw new IllegalArgumentException("grammar cannot be empty");
+  }
+
+  /**
+   * Lays out a transformed grammar, or with layout caching, re-themes the previous layout if it was made for the same
+   * grammar and layout options.
+   *
+   * @return the XHTML result
+   */
+  private XdmNode layout(TransformedGrammar grammar) throws SaxonApiException
+  {
+    Processor processor = grammar.getProcessor();
+    if (!layoutCaching)
+    {
+      long start = System.nanoTime();
+      XdmNode xhtml =
+        (XdmNode) load(newCompiler(processor), OutputType.XHTML_SVG.result(), null, grammar).evaluateSingle();
+      TrakoMetrics.instance.recordLatency("layout", start);
+      return xhtml;
+    }
+
+    String color = baseColor == null ? null : toHexString(baseColor);
+    List<Object> options = Arrays.asList(showEbnf, only, onlyDepth, width, padding, strokeWidth);
+    boolean reuse = layout != null && layout.grammar == grammar && layout.options.equals(options);
+    layoutMetrics.record(reuse);
+    long start = System.nanoTime();
+    if (!reuse)
+    {
+      XdmNode xhtml = (XdmNode) load(newCompiler(processor), OutputType.XHTML_SVG.result(), null, grammar).evaluateSingle();
+      DocumentBuilder documentBuilder = processor.newDocumentBuilder();
+      documentBuilder.setTreeModel(TreeModel.LINKED_TREE);
+      XdmNode document = documentBuilder.build(xhtml.asSource());
+      layout = new Layout(grammar, options, document.select(Steps.child(Predicates.isElement())).asNode(), color, colorOffset);
+      TrakoMetrics.instance.recordLatency("layout", start);
+    }
+    else if (!Objects.equals(layout.color, color) || layout.spread != colorOffset)
+    {
+      if (layout.styles == null)
+      {
+        layout.styles = newCompiler(processor).compile(
+          "import module namespace i='com/github/bannmann/trako/xq/basic-interface.xq';\n" +
+          "declare variable $width external;\n" +
+          "declare variable $color external;\n" +
+          "declare variable $spread external;\n" +
+          "i:styles($width, $color, $spread)");
+      }
+      XQueryEvaluator xqueryEvaluator = newEvaluator(layout.styles);
+      xqueryEvaluator.setExternalVariable(new QName("width"), width == null ? XdmEmptySequence.getInstance() : new XdmAtomicValue(width));
+      xqueryEvaluator.setExternalVariable(new QName("color"), color == null ? XdmEmptySequence.getInstance() : new XdmAtomicValue(color));
+      xqueryEvaluator.setExternalVariable(new QName("spread"), new XdmAtomicValue(colorOffset));
+      setModuleVariables(xqueryEvaluator);
+      XdmValue styles = xqueryEvaluator.evaluate();
+      layout.restyle(styles.itemAt(0).getStringValue(), styles.itemAt(1).getStringValue(), styles.itemAt(2).getStringValue());
+      layout.color = color;
+      layout.spread = colorOffset;
+      TrakoMetrics.instance.recordLatency("restyle", start);
+    }
+    return layout.xhtml;
+  }
 
+  /**
+   * Produces all outputs from the same XHTML result, concurrently if there is more than one.
+   */
+  private void produce(Processor processor, XdmNode xhtml, Map<OutputType, OutputStream> outputs) throws Exception
+  {
+    if (outputs.size() == 1)
+    {
+      Map.Entry<OutputType, OutputStream> entry = outputs.entrySet().iterator().next();
+      produce(processor, xhtml, entry.getKey(), entry.getValue());
+      return;
+    }
+
+    ExecutorService pool = Executors.newFixedThreadPool(outputs.size());
+    try
+    {
+      List<Future<?>> futures = new ArrayList<>();
+      for (Map.Entry<OutputType, OutputStream> entry : outputs.entrySet())
+      {
+        futures.add(pool.submit(() -> {
+          produce(processor, xhtml, entry.getKey(), entry.getValue());
+          return null;
+        }));
+      }
+      for (Future<?> future : futures)
+      {
+        try
+        {
+          future.get();
+        }
+        catch (ExecutionException e)
+        {
+          Throwable cause = e.getCause();
+          throw cause instanceof Exception ? (Exception) cause : new RuntimeException(cause.getMessage(), cause);
+        }
+      }
+    }
+    finally
+    {
+      pool.shutdownNow();
+    }
+  }
+
+  private void produce(Processor processor, XdmNode xhtml, OutputType outputType, OutputStream output) throws Exception
+  {
+    long start = System.nanoTime();
+    outputType.produce(processor, newCompiler(processor), xhtml, this, output);
+    TrakoMetrics.instance.recordLatency("produce:" + outputType, start);
+  }
+
+  /**
+   * The XHTML result for a transformed grammar, held in a mutable tree. Colors only affect the contents of its style
+   * elements, so these are kept at hand for replacing them.
+   */
+  private static class Layout
+  {
+    final TransformedGrammar grammar;
+    final List<Object> options;
+    final XdmNode xhtml;
+    String color;
+    int spread;
+    XQueryExecutable styles;
+
+    private MutableNodeInfo pageStyle;
+    private MutableNodeInfo defsStyle;
+    private final List<MutableNodeInfo> diagramStyles = new ArrayList<>();
+
+    Layout(TransformedGrammar grammar, List<Object> options, XdmNode xhtml, String color, int spread)
+    {
+      this.grammar = grammar;
+      this.options = options;
+      this.xhtml = xhtml;
+      this.color = color;
+      this.spread = spread;
+
+      for (XdmSequenceIterator<XdmNode> i = xhtml.axisIterator(Axis.DESCENDANT); i.hasNext(); )
+      {
+        XdmNode node = i.next();
+        if (node.getNodeKind() == XdmNodeKind.ELEMENT && "style".equals(node.getNodeName().getLocalName()))
+        {
+          MutableNodeInfo style = (MutableNodeInfo) node.getUnderlyingNode();
+          if (XHTML_NAMESPACE.equals(node.getNodeName().getNamespaceURI()))
+          {
+            pageStyle = style;
+          }
+          else if (defsStyle == null)
+          {
+            defsStyle = style;
+          }
+          else
+          {
+            diagramStyles.add(style);
+          }
+        }
+      }
+    }
+
+    /**
+     * @param pageStyle the CSS of the XHTML page
+     * @param defsStyle the CSS of the SVG definitions in the XHTML head
+     * @param diagramStyle the CSS of each diagram
+     */
+    void restyle(String pageStyle, String defsStyle, String diagramStyle)
+    {
+      if (this.pageStyle != null)
+        this.pageStyle.replaceStringValue(pageStyle);
+      if (this.defsStyle != null)
+        this.defsStyle.replaceStringValue(defsStyle);
+      for (MutableNodeInfo style : diagramStyles)
+      {
+        style.replaceStringValue(diagramStyle);
+      }
+    }
+  }
+
+  static Processor newProcessor()
+  {
     Configuration configuration = new Configuration();
-    configuration.registerExtensionFunction(new Parser.SaxonDefinition_Grammar());
+    configuration.registerExtensionFunction(new AstBuilder.SaxonDefinition_Grammar());
     Processor processor = new Processor(configuration);
     processor.setConfigurationProperty(Feature.XSD_VERSION, "1.1");
     new TextWidth.SaxonInitializer().initialize(processor.getUnderlyingConfiguration());
+    return processor;
+  }
 
+  private XQueryCompiler newCompiler(Processor processor)
+  {
     XQueryCompiler compiler = processor.newXQueryCompiler();
     compiler.setModuleURIResolver(ResourceModuleUriResolver.instance);
+    if (profiler != null)
+    {
+      profiler.instrument(compiler.getUnderlyingStaticContext());
+    }
+    return compiler;
+  }
+
+  private XQueryEvaluator newEvaluator(XQueryExecutable executable)
+  {
+    if (profiler == null)
+    {
+      return executable.load();
+    }
+    profiler.prepare(executable);
+    XQueryEvaluator xqueryEvaluator = executable.load();
+    xqueryEvaluator.setTraceListener(profiler);
+    return xqueryEvaluator;
+  }
+
+  /**
+   * Discards the calls that the profiler still considers active on this thread, e.g. after a dynamic error. Saxon
+   * closes trace listeners after {@link XQueryEvaluator#run} only, not after evaluating to a value.
+   */
+  private void endTrace()
+  {
+    if (profiler != null)
+    {
+      profiler.close();
+    }
+  }
+
+  private XQueryEvaluator load(XQueryCompiler compiler, String result, CharSequence ebnf, TransformedGrammar transformed) throws SaxonApiException
+  {
     String query =
         "import module namespace i='com/github/bannmann/trako/xq/basic-interface.xq';\n" +
-        "declare variable $ebnf external;\n" +
+        (transformed == null
+          ? "declare variable $ebnf external;\n" +
+            "declare variable $recursion-elimination external;\n" +
+            "declare variable $factoring external;\n" +
+            "declare variable $inline external;\n" +
+            "declare variable $keep external;\n"
+          : "declare variable $grammar external;\n") +
         "declare variable $show-ebnf external;\n" +
-        "declare variable $recursion-elimination external;\n" +
-        "declare variable $factoring external;\n" +
-        "declare variable $inline external;\n" +
-        "declare variable $keep external;\n" +
+        "declare variable $only external;\n" +
+        "declare variable $depth external;\n" +
         "declare variable $width external;\n" +
         "declare variable $color external;\n" +
         "declare variable $spread external;\n" +
-        "i:ebnf-to-xhtml($ebnf, $show-ebnf, $recursion-elimination, $factoring, $inline, $keep, $width, $color, $spread, '" + TRAKO_URL + "')";
-    XQueryExecutable executable = compiler.compile(query);
-    XQueryEvaluator xqueryEvaluator = executable.load();
+        (transformed == null
+          ? "i:ebnf-to-" + result + "($ebnf, $show-ebnf, $recursion-elimination, $factoring, $inline, $keep, $only, $depth, "
+          : "i:grammar-to-" + result + "($grammar, $show-ebnf, $only, $depth, ") +
+        "$width, $color, $spread, '" + TRAKO_URL + "')";
+    XQueryEvaluator xqueryEvaluator = newEvaluator(compiler.compile(query));
 
-    xqueryEvaluator.setExternalVariable(new QName("ebnf"), new XdmAtomicValue(grammar));
+    if (transformed == null)
+    {
+      setTransformVariables(xqueryEvaluator, ebnf);
+    }
+    else
+    {
+      xqueryEvaluator.setExternalVariable(new QName("grammar"), transformed.getGrammar());
+    }
     xqueryEvaluator.setExternalVariable(new QName("show-ebnf"), new XdmAtomicValue(showEbnf));
+    xqueryEvaluator.setExternalVariable(new QName("only"), new XdmValue(only.stream().map(XdmAtomicValue::new).collect(Collectors.toList())));
+    xqueryEvaluator.setExternalVariable(new QName("depth"), onlyDepth == null ? XdmEmptySequence.getInstance() : new XdmAtomicValue(onlyDepth));
+    xqueryEvaluator.setExternalVariable(new QName("width"), width == null ? XdmEmptySequence.getInstance() : new XdmAtomicValue(width));
+    xqueryEvaluator.setExternalVariable(new QName("color"), baseColor == null ? XdmEmptySequence.getInstance() : new XdmAtomicValue(toHexString(baseColor)));
+    xqueryEvaluator.setExternalVariable(new QName("spread"), new XdmAtomicValue(colorOffset));
+    setModuleVariables(xqueryEvaluator);
+    return xqueryEvaluator;
+  }
+
+  private void setTransformVariables(XQueryEvaluator xqueryEvaluator, CharSequence ebnf)
+  {
+    xqueryEvaluator.setExternalVariable(new QName("ebnf"), XdmValue.wrap(new StringValue(ebnf)));
     xqueryEvaluator.setExternalVariable(new QName("recursion-elimination"), new XdmAtomicValue(recursionElimination));
     xqueryEvaluator.setExternalVariable(new QName("factoring"), new XdmAtomicValue(factoring));
     xqueryEvaluator.setExternalVariable(new QName("inline"), new XdmAtomicValue(inlineLiterals));
     xqueryEvaluator.setExternalVariable(new QName("keep"), new XdmAtomicValue(keepEpsilon));
-    xqueryEvaluator.setExternalVariable(new QName("width"), width == null ? XdmEmptySequence.getInstance() : new XdmAtomicValue(width));
-    xqueryEvaluator.setExternalVariable(new QName("color"), baseColor == null ? XdmEmptySequence.getInstance() : new XdmAtomicValue(toHexString(baseColor)));
-    xqueryEvaluator.setExternalVariable(new QName("spread"), new XdmAtomicValue(colorOffset));
+  }
+
+  private void setModuleVariables(XQueryEvaluator xqueryEvaluator)
+  {
     xqueryEvaluator.setExternalVariable(new QName("com/github/bannmann/trako/xq/ast-to-svg.xq", "version"), new XdmAtomicValue(TrakoVersion.VERSION));
     xqueryEvaluator.setExternalVariable(new QName("com/github/bannmann/trako/xq/ast-to-svg.xq", "java-version"), new XdmAtomicValue(javaVersion()));
     xqueryEvaluator.setExternalVariable(new QName("com/github/bannmann/trako/xq/ast-to-svg.xq", "date"), new XdmAtomicValue(TrakoVersion.DATE));
@@ -135,8 +616,6 @@ public class TrakoGenerator
       xqueryEvaluator.setExternalVariable(new QName("com/github/bannmann/trako/xq/ast-to-svg.xq", "padding"), new XdmAtomicValue(padding));
     if (strokeWidth != null)
       xqueryEvaluator.setExternalVariable(new QName("com/github/bannmann/trako/xq/ast-to-svg.xq", "stroke-width"), new XdmAtomicValue(strokeWidth));
-
-    outputType.produce(processor, compiler, xqueryEvaluator, output);
   }
 
   private String toHexString(Color color)
@@ -144,6 +623,80 @@ public class TrakoGenerator
     return String.format("#%02x%02x%02x", color.getRed(), color.getGreen(), color.getBlue());
   }
 
+  /**
+   * Computes a key of the output that {@link #generate(CharSequence)} would produce, without producing it.
+   *
+   * @param grammar input grammar in W3C EBNF notation
+   * @return a hex string that identifies the grammar text, the output type, all options that affect the output, and
+   *   the Trako version; profiling counts as such an option, as tracing changes the namespace declarations in the
+   *   XHTML result
+   */
+  String outputKey(CharSequence grammar)
+  {
+    checkGrammar(grammar);
+
+    StringBuilder options = new StringBuilder();
+    for (Object option : Arrays.asList(outputType, showEbnf, factoring, recursionElimination, inlineLiterals,
+      keepEpsilon, only.size(), onlyDepth, baseColor == null ? null : toHexString(baseColor), colorOffset, padding,
+      strokeWidth, width, outputType == OutputType.HTML_PNG_ZIP ? pngTranscoderKey() : null, profiler != null))
+    {
+      appendOption(options, option);
+    }
+    for (String nonterminal : only)
+    {
+      appendOption(options, nonterminal);
+    }
+
+    MessageDigest digest = TransformedGrammar.newDigest();
+    TransformedGrammar.update(digest, options);
+    digest.update((byte) 0);
+    TransformedGrammar.update(digest, grammar);
+    return TransformedGrammar.toHexString(digest);
+  }
+
+  private static void appendOption(StringBuilder options, Object option)
+  {
+    String value = String.valueOf(option);
+    options.append(value.length()).append(':').append(value);
+  }
+
+  /**
+   * Describes the PNG transcoder for {@link #outputKey(CharSequence)}. Transcoders other than those of Trako are
+   * described by their default {@link Object#toString()}, so that their results are only shared by calls using the
+   * same instance.
+   */
+  private String pngTranscoderKey()
+  {
+    if (pngTranscoder != null)
+      return pngTranscoder.getClass().getName() + Arrays.toString(pngTranscoder.getScales()) + pngTranscoder;
+    String rsvgConvert = System.getProperty(RsvgPngTranscoder.RSVG_CONVERT_PROPERTY);
+    return rsvgConvert != null ? "rsvg-convert " + rsvgConvert : "default";
+  }
+
+  /**
+   * @param profiler collects call counts and times per XQuery function of the queries run by this generator, or
+   *   {@code null} for none, the default; queries run faster without
+   */
+  public void setProfiler(XQueryProfiler profiler)
+  {
+    this.profiler = profiler;
+  }
+
+  /**
+   * @param layoutCaching whether {@link #generate(TransformedGrammar)} keeps the laid out result of the last call, for
+   *   re-theming it when called again for the same grammar with only the colors changed; defaults to {@code false}.
+   *   The result is re-themed in place, so with caching, the generator must be used by one thread at a time. It holds
+   *   on to the XHTML result of the last call until layout caching is turned off.
+   */
+  public void setLayoutCaching(boolean layoutCaching)
+  {
+    this.layoutCaching = layoutCaching;
+    if (!layoutCaching)
+    {
+      layout = null;
+    }
+  }
+
   /**
    * @param output output stream, defaults to {@code System.out}
    */
@@ -163,6 +716,60 @@ public class TrakoGenerator
     this.outputType = outputType;
   }
 
+  OutputType getOutputType()
+  {
+    return outputType;
+  }
+
+  boolean isFactoring()
+  {
+    return factoring;
+  }
+
+  /**
+   * @return a generator with the same output type and options, for running on another thread while this one may be
+   *   changed; layout caching is off for the copy
+   */
+  TrakoGenerator copy()
+  {
+    TrakoGenerator copy = new TrakoGenerator();
+    copy.output = output;
+    copy.outputType = outputType;
+    copy.pngTranscoder = pngTranscoder;
+    copy.outputDirectory = outputDirectory;
+    copy.showEbnf = showEbnf;
+    copy.factoring = factoring;
+    copy.recursionElimination = recursionElimination;
+    copy.inlineLiterals = inlineLiterals;
+    copy.keepEpsilon = keepEpsilon;
+    copy.only = only;
+    copy.onlyDepth = onlyDepth;
+    copy.baseColor = baseColor;
+    copy.colorOffset = colorOffset;
+    copy.padding = padding;
+    copy.strokeWidth = strokeWidth;
+    copy.width = width;
+    copy.profiler = profiler;
+    return copy;
+  }
+
+  /**
+   * @param outputDirectory target directory for {@link OutputType#SVG_DIRECTORY}, created if it does not exist
+   */
+  public void setOutputDirectory(Path outputDirectory)
+  {
+    this.outputDirectory = outputDirectory;
+  }
+
+  /**
+   * @param pngTranscoder converter used for {@link OutputType#HTML_PNG_ZIP}, e.g. a {@link BatikPngTranscoder} with
+   *   custom scale factors or encoder options; defaults to the choice made by {@link XhtmlToZip#XhtmlToZip()}
+   */
+  public void setPngTranscoder(PngTranscoder pngTranscoder)
+  {
+    this.pngTranscoder = pngTranscoder;
+  }
+
   /**
    * @param showEbnf whether to show EBNF next to generated diagrams, defaults to {@code true}
    */
@@ -171,6 +778,36 @@ public class TrakoGenerator
     this.showEbnf = showEbnf;
   }
 
+  /**
+   * Limits the output to the diagrams of some nonterminals and of those that they reference, directly or indirectly.
+   * Productions outside of that set are not laid out, and with recursion elimination disabled, not transformed either.
+   * A {@link TransformedGrammar} always covers the whole grammar, so it can be rendered with different selections.
+   *
+   * @param nonterminals names of the selected nonterminals, each of which must have a production; defaults to none,
+   *   i.e. all diagrams are produced
+   */
+  public void setOnly(String... nonterminals)
+  {
+    if (nonterminals == null)
+      throw new IllegalArgumentException("nonterminals cannot be null");
+    if (Arrays.asList(nonterminals).contains(null))
+      throw new IllegalArgumentException("nonterminals cannot contain null");
+
+    this.only = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(nonterminals)));
+  }
+
+  /**
+   * @param onlyDepth with {@link #setOnly(String...)}, the maximum number of references followed from a selected
+   *   nonterminal, e.g. {@code 1} for adding only the directly referenced ones; defaults to no limit
+   */
+  public void setOnlyDepth(int onlyDepth)
+  {
+    if (onlyDepth < 0)
+      throw new IllegalArgumentException("onlyDepth cannot be negative");
+
+    this.onlyDepth = onlyDepth;
+  }
+
   /**
    * @param factoring whether to enable left and right factoring, defaults to {@code true}.
    */
@@ -0,0 +1,322 @@
+package com.github.bannmann.trako.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Records runtime metrics of {@link TrakoGenerator}, for long-running applications that embed it. Metrics are always
+ * recorded; {@link #register()} makes them available via JMX.
+ *
+ * <p>All counters are {@link LongAdder}s, so recording does not become a point of contention when several threads
+ * generate diagrams at once. Histograms have power-of-two buckets: bucket 0 counts values below 1, and bucket
+ * {@code i > 0} counts values from {@code 2^(i-1)} up to, but excluding, {@code 2^i}.</p>
+ */
+public enum TrakoMetrics implements TrakoMetricsMXBean
+{
+  instance;
+
+  public static final String OBJECT_NAME = "com.github.bannmann.trako:type=TrakoMetrics";
+
+  private static final int BUCKETS = 48;
+
+  private final LongAdder generations = new LongAdder();
+  private final LongAdder inFlight = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder pngTranscodes = new LongAdder();
+  private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+  private final Histogram grammarSizes = new Histogram();
+  private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+  /**
+   * Registers the metrics with the platform MBean server under {@value #OBJECT_NAME}, unless already registered.
+   */
+  public static void register()
+  {
+    try
+    {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      if (!server.isRegistered(name))
+      {
+        server.registerMBean(instance, name);
+      }
+    }
+    catch (InstanceAlreadyExistsException e)
+    {
+      // registered concurrently
+    }
+    catch (JMException e)
+    {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * A point-in-time copy of a histogram.
+   */
+  public static class HistogramSnapshot
+  {
+    private final long count;
+    private final long total;
+    private final long max;
+    private final long[] buckets;
+
+    HistogramSnapshot(long count, long total, long max, long[] buckets)
+    {
+      this.count = count;
+      this.total = total;
+      this.max = max;
+      this.buckets = buckets;
+    }
+
+    public long getCount()
+    {
+      return count;
+    }
+
+    public long getTotal()
+    {
+      return total;
+    }
+
+    public long getMax()
+    {
+      return max;
+    }
+
+    /**
+     * @return the bucket counts, up to the last nonempty bucket
+     */
+    public long[] getBuckets()
+    {
+      return buckets.clone();
+    }
+  }
+
+  /**
+   * A point-in-time copy of cache statistics.
+   */
+  public static class CacheSnapshot
+  {
+    private final long hits;
+    private final long misses;
+
+    CacheSnapshot(long hits, long misses)
+    {
+      this.hits = hits;
+      this.misses = misses;
+    }
+
+    public long getHits()
+    {
+      return hits;
+    }
+
+    public long getMisses()
+    {
+      return misses;
+    }
+
+    /**
+     * @return the ratio of hits to lookups, or 0 if there were none
+     */
+    public double getHitRate()
+    {
+      return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+  }
+
+  @Override
+  public long getGenerations()
+  {
+    return generations.sum();
+  }
+
+  @Override
+  public long getInFlight()
+  {
+    return inFlight.sum();
+  }
+
+  @Override
+  public long getErrors()
+  {
+    return errors.sum();
+  }
+
+  @Override
+  public long getPngTranscodes()
+  {
+    return pngTranscodes.sum();
+  }
+
+  @Override
+  public Map<String, HistogramSnapshot> getLatencies()
+  {
+    Map<String, HistogramSnapshot> result = new TreeMap<>();
+    latencies.forEach((stage, histogram) -> result.put(stage, histogram.snapshot()));
+    return result;
+  }
+
+  @Override
+  public HistogramSnapshot getGrammarSizes()
+  {
+    return grammarSizes.snapshot();
+  }
+
+  @Override
+  public Map<String, CacheSnapshot> getCaches()
+  {
+    Map<String, CacheSnapshot> result = new TreeMap<>();
+    caches.forEach((name, cache) -> result.put(name, new CacheSnapshot(cache.hits.sum(), cache.misses.sum())));
+    return result;
+  }
+
+  @Override
+  public void reset()
+  {
+    generations.reset();
+    errors.reset();
+    pngTranscodes.reset();
+    latencies.values().forEach(Histogram::reset);
+    grammarSizes.reset();
+    caches.values().forEach(Cache::reset);
+  }
+
+  /**
+   * Records the start of a call of {@code generate} or {@code transform}.
+   *
+   * @param grammar the input grammar, or {@code null} if the call starts from a {@link TransformedGrammar}
+   * @return the start time, for {@link #finished(String, long, boolean)}
+   */
+  long started(CharSequence grammar)
+  {
+    inFlight.increment();
+    if (grammar != null)
+    {
+      grammarSizes.record(grammar.length());
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Records the end of a call of {@code generate} or {@code transform}.
+   *
+   * @param stage the stage to record the latency of the whole call for, or {@code null} for none
+   */
+  void finished(String stage, long start, boolean failed)
+  {
+    if (stage != null)
+    {
+      recordLatency(stage, start);
+    }
+    inFlight.decrement();
+    generations.increment();
+    if (failed)
+    {
+      errors.increment();
+    }
+  }
+
+  void recordLatency(String stage, long start)
+  {
+    Histogram histogram = latencies.get(stage);
+    if (histogram == null)
+    {
+      histogram = latencies.computeIfAbsent(stage, s -> new Histogram());
+    }
+    histogram.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  void recordPngTranscodes(int diagrams, long start)
+  {
+    pngTranscodes.add(diagrams);
+    recordLatency("png", start);
+  }
+
+  /**
+   * @return the counters of a cache, to be kept by the caller, as looking them up on every access would be costly
+   *   for caches that are hit often
+   */
+  Cache cache(String name)
+  {
+    return caches.computeIfAbsent(name, n -> new Cache());
+  }
+
+  private static class Histogram
+  {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    Histogram()
+    {
+      for (int i = 0; i < BUCKETS; ++i)
+      {
+        buckets[i] = new LongAdder();
+      }
+    }
+
+    void record(long value)
+    {
+      count.increment();
+      total.add(value);
+      max.accumulate(value);
+      buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, value)))].increment();
+    }
+
+    void reset()
+    {
+      count.reset();
+      total.reset();
+      max.reset();
+      for (LongAdder bucket : buckets)
+      {
+        bucket.reset();
+      }
+    }
+
+    HistogramSnapshot snapshot()
+    {
+      long[] counts = new long[BUCKETS];
+      int length = 0;
+      for (int i = 0; i < BUCKETS; ++i)
+      {
+        counts[i] = buckets[i].sum();
+        if (counts[i] != 0)
+        {
+          length = i + 1;
+        }
+      }
+      return new HistogramSnapshot(count.sum(), total.sum(), max.get(), Arrays.copyOf(counts, length));
+    }
+  }
+
+  static class Cache
+  {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    void record(boolean hit)
+    {
+      (hit ? hits : misses).increment();
+    }
+
+    void reset()
+    {
+      hits.reset();
+      misses.reset();
+    }
+  }
+}
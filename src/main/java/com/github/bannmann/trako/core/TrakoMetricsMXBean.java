@@ -0,0 +1,66 @@
+package com.github.bannmann.trako.core;
+
+import java.util.Map;
+
+/**
+ * Runtime metrics of {@link TrakoGenerator}, exposed via JMX by {@link TrakoMetrics#register()}.
+ */
+public interface TrakoMetricsMXBean
+{
+  /**
+   * @return the number of calls of the {@code generate} and {@code transform} methods of {@link TrakoGenerator} that
+   *   have finished, successfully or not
+   */
+  long getGenerations();
+
+  /**
+   * @return the number of calls of the {@code generate} and {@code transform} methods that are currently running
+   */
+  long getInFlight();
+
+  /**
+   * @return the number of calls of the {@code generate} and {@code transform} methods that failed with an exception
+   */
+  long getErrors();
+
+  /**
+   * @return the number of diagrams converted to PNG, counting each diagram once regardless of its scale factors
+   */
+  long getPngTranscodes();
+
+  /**
+   * @return latency histograms in milliseconds, by stage:
+   *   <ul>
+   *     <li>{@code transform}, {@code layout} and {@code restyle} of {@link TrakoGenerator#transform(CharSequence)}
+   *     and {@link TrakoGenerator#generate(TransformedGrammar)}</li>
+   *     <li>{@code generate:XHTML_SVG}, {@code generate:XHTML_SVG+HTML_PNG_ZIP} etc., for a whole call of
+   *     {@link TrakoGenerator#generate(CharSequence, java.util.Map)} with the output types it produced, in declaration
+   *     order</li>
+   *     <li>{@code xhtml}, for parsing, transformation and layout into the XHTML result shared by several output types
+   *     produced from a grammar; for a single output type, these are evaluated lazily along with serialization, and
+   *     cannot be told apart</li>
+   *     <li>{@code produce:HTML_PNG_ZIP} etc., for deriving an output type from an XHTML result</li>
+   *     <li>{@code png}, for converting the diagrams of a {@link TrakoGenerator.OutputType#HTML_PNG_ZIP} result</li>
+   *     <li>{@code queue}, for the time that jobs of a {@link GenerationScheduler} waited to be started</li>
+   *   </ul>
+   */
+  Map<String, TrakoMetrics.HistogramSnapshot> getLatencies();
+
+  /**
+   * @return a histogram of the sizes of input grammars, in characters
+   */
+  TrakoMetrics.HistogramSnapshot getGrammarSizes();
+
+  /**
+   * @return hit and miss counts by cache, i.e. {@code textWidth} for label widths, {@code layout} for the layout
+   *   kept by {@link TrakoGenerator#generate(TransformedGrammar)}, and {@code generation} for the results kept by
+   *   {@link GenerationCache}; for the misses of the latter, {@code coalescing} counts those that joined a generation
+   *   already in flight as hits
+   */
+  Map<String, TrakoMetrics.CacheSnapshot> getCaches();
+
+  /**
+   * Resets all metrics, except for the number of calls in flight.
+   */
+  void reset();
+}
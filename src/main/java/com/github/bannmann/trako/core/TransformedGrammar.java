@@ -0,0 +1,258 @@
+package com.github.bannmann.trako.core;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.xml.transform.stream.StreamSource;
+
+import com.github.bannmann.trako.TrakoVersion;
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.Serializer;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.streams.Predicates;
+import net.sf.saxon.s9api.streams.Steps;
+
+/**
+ * An immutable handle to a parsed and transformed grammar, as created by {@link
+ * TrakoGenerator#transform(CharSequence)}. Parsing and grammar transformations do not depend on any visual options, so
+ * a handle can be rendered any number of times, with different colors, widths etc., by {@link
+ * TrakoGenerator#generate(TransformedGrammar)}. Rendering may happen concurrently.
+ *
+ * <p>{@link #getKey()} identifies the grammar text along with the transformation options, and {@link
+ * #writeTo(OutputStream)} and {@link #readFrom(InputStream)} provide a compact binary form, so that builds can cache
+ * transformed grammars on disk.</p>
+ */
+public final class TransformedGrammar
+{
+  private static final byte[] MAGIC = {'T', 'R', 'A', 'K', 'O', 'A', 'S', 'T'};
+  private static final int FORMAT_VERSION = 1;
+
+  private static final int RECURSION_ELIMINATION = 1;
+  private static final int FACTORING = 2;
+  private static final int INLINE_LITERALS = 4;
+  private static final int KEEP_EPSILON = 8;
+
+  private final Processor processor;
+  private final XdmNode grammar;
+  private final int flags;
+  private final String key;
+
+  TransformedGrammar(Processor processor, XdmNode grammar, String key, boolean recursionElimination,
+    boolean factoring, boolean inlineLiterals, boolean keepEpsilon)
+  {
+    this(processor, grammar, key, flags(recursionElimination, factoring, inlineLiterals, keepEpsilon));
+  }
+
+  private TransformedGrammar(Processor processor, XdmNode grammar, String key, int flags)
+  {
+    this.processor = processor;
+    this.grammar = grammar;
+    this.key = key;
+    this.flags = flags;
+  }
+
+  /**
+   * Computes the key of a grammar without transforming it, e.g. for looking up a cached transformation.
+   *
+   * @param grammar input grammar in W3C EBNF notation
+   * @return a hex string that identifies the grammar text, the transformation options and the Trako version
+   */
+  public static String key(CharSequence grammar, boolean recursionElimination, boolean factoring,
+    boolean inlineLiterals, boolean keepEpsilon)
+  {
+    if (grammar == null)
+      throw new IllegalArgumentException("grammar cannot be null");
+
+    MessageDigest digest = newDigest();
+    digest.update((byte) flags(recursionElimination, factoring, inlineLiterals, keepEpsilon));
+    update(digest, grammar);
+    return toHexString(digest);
+  }
+
+  /**
+   * @return a SHA-256 digest, already fed with the Trako version and a separator
+   */
+  static MessageDigest newDigest()
+  {
+    MessageDigest digest;
+    try
+    {
+      digest = MessageDigest.getInstance("SHA-256");
+    }
+    catch (NoSuchAlgorithmException e)
+    {
+      throw new RuntimeException(e.getMessage(), e);
+    }
+    digest.update(TrakoVersion.VERSION.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+    return digest;
+  }
+
+  static String toHexString(MessageDigest digest)
+  {
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest.digest())
+    {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  /**
+   * Feeds the UTF-8 encoding of the grammar to the digest in chunks, rather than encoding it as a whole.
+   */
+  static void update(MessageDigest digest, CharSequence grammar)
+  {
+    CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    CharBuffer chars = CharBuffer.wrap(grammar);
+    ByteBuffer bytes = ByteBuffer.allocate(8192);
+    CoderResult result;
+    do
+    {
+      result = encoder.encode(chars, bytes, true);
+      drain(digest, bytes);
+    }
+    while (result.isOverflow());
+    do
+    {
+      result = encoder.flush(bytes);
+      drain(digest, bytes);
+    }
+    while (result.isOverflow());
+  }
+
+  private static void drain(MessageDigest digest, ByteBuffer bytes)
+  {
+    bytes.flip();
+    digest.update(bytes);
+    bytes.clear();
+  }
+
+  private static int flags(boolean recursionElimination, boolean factoring, boolean inlineLiterals,
+    boolean keepEpsilon)
+  {
+    return (recursionElimination ? RECURSION_ELIMINATION : 0)
+      | (factoring ? FACTORING : 0)
+      | (inlineLiterals ? INLINE_LITERALS : 0)
+      | (keepEpsilon ? KEEP_EPSILON : 0);
+  }
+
+  /**
+   * @return the key of the grammar text and transformation options, see {@link #key(CharSequence, boolean, boolean,
+   *   boolean, boolean)}
+   */
+  public String getKey()
+  {
+    return key;
+  }
+
+  public boolean isRecursionElimination()
+  {
+    return (flags & RECURSION_ELIMINATION) != 0;
+  }
+
+  public boolean isFactoring()
+  {
+    return (flags & FACTORING) != 0;
+  }
+
+  public boolean isInlineLiterals()
+  {
+    return (flags & INLINE_LITERALS) != 0;
+  }
+
+  public boolean isKeepEpsilon()
+  {
+    return (flags & KEEP_EPSILON) != 0;
+  }
+
+  Processor getProcessor()
+  {
+    return processor;
+  }
+
+  /**
+   * @return the {@code g:grammar} element
+   */
+  XdmNode getGrammar()
+  {
+    return grammar;
+  }
+
+  /**
+   * Writes the binary form: a header with the Trako version, key and options, followed by the deflated XML of the
+   * transformed grammar.
+   */
+  public void writeTo(OutputStream output) throws IOException, SaxonApiException
+  {
+    DataOutputStream out = new DataOutputStream(output);
+    out.write(MAGIC);
+    out.writeInt(FORMAT_VERSION);
+    out.writeUTF(TrakoVersion.VERSION);
+    out.writeUTF(key);
+    out.writeByte(flags);
+
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    try
+    {
+      DeflaterOutputStream xml = new DeflaterOutputStream(out, deflater);
+      Serializer serializer = processor.newSerializer(xml);
+      serializer.setOutputProperty(Serializer.Property.METHOD, "xml");
+      serializer.setOutputProperty(Serializer.Property.ENCODING, StandardCharsets.UTF_8.name());
+      serializer.setOutputProperty(Serializer.Property.OMIT_XML_DECLARATION, "yes");
+      serializer.setOutputProperty(Serializer.Property.INDENT, "no");
+      serializer.serializeNode(grammar);
+      xml.finish();
+    }
+    finally
+    {
+      deflater.end();
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads the binary form written by {@link #writeTo(OutputStream)}.
+   *
+   * @throws IOException if the data is not a transformed grammar, or was written by a different Trako version
+   */
+  public static TransformedGrammar readFrom(InputStream input) throws IOException, SaxonApiException
+  {
+    DataInputStream in = new DataInputStream(input);
+    byte[] magic = new byte[MAGIC.length];
+    in.readFully(magic);
+    if (!Arrays.equals(magic, MAGIC))
+      throw new IOException("not a transformed grammar");
+    int formatVersion = in.readInt();
+    if (formatVersion != FORMAT_VERSION)
+      throw new IOException("unsupported transformed grammar format version " + formatVersion);
+    String version = in.readUTF();
+    if (!version.equals(TrakoVersion.VERSION))
+      throw new IOException("transformed grammar was written by Trako " + version + ", not " + TrakoVersion.VERSION);
+    String key = in.readUTF();
+    int flags = in.readUnsignedByte();
+
+    Processor processor = TrakoGenerator.newProcessor();
+    XdmNode document = processor.newDocumentBuilder().build(new StreamSource(new InflaterInputStream(in)));
+    XdmNode grammar = document.select(Steps.child(Predicates.isElement())).asNode();
+    return new TransformedGrammar(processor, grammar, key, flags);
+  }
+}
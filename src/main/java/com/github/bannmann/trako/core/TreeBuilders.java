@@ -0,0 +1,246 @@
+package com.github.bannmann.trako.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.sf.saxon.event.Builder;
+import net.sf.saxon.event.ReceiverOption;
+import net.sf.saxon.expr.parser.Loc;
+import net.sf.saxon.om.AttributeMap;
+import net.sf.saxon.om.EmptyAttributeMap;
+import net.sf.saxon.om.NamespaceMap;
+import net.sf.saxon.om.NoNamespaceName;
+import net.sf.saxon.om.NodeName;
+import net.sf.saxon.trans.XPathException;
+import net.sf.saxon.type.AnyType;
+
+/**
+ * Builders of the concrete syntax tree of a grammar, for the events of {@link Parser}.
+ *
+ * <p>These replace {@link Parser.TopDownTreeBuilder} and {@link Parser.SaxonTreeBuilder}, which REx generates along
+ * with the parser: those copy the child array of a nonterminal on every child, and a substring of the input per token
+ * and whitespace run. Parser.java is left as generated, so it can be regenerated from Parser.ebnf with the command line
+ * in its header.</p>
+ */
+public class TreeBuilders
+{
+  private static final Parser.Symbol[] NO_CHILDREN = new Parser.Symbol[0];
+  private static final AttributeMap NO_ATTRIBUTES = EmptyAttributeMap.getInstance();
+  private static final NamespaceMap NO_NAMESPACES = NamespaceMap.emptyMap();
+
+  private TreeBuilders()
+  {
+  }
+
+  /**
+   * Builds a tree of {@link Parser.Symbol}s. The children of a nonterminal are collected in an array that grows
+   * geometrically, and is trimmed to size when the nonterminal ends.
+   */
+  public static class TopDownTreeBuilder implements Parser.EventHandler
+  {
+    private CharSequence input;
+    private Parser.Nonterminal[] stack = new Parser.Nonterminal[64];
+    private int[] size = new int[64];
+    private int top = -1;
+
+    @Override
+    public void reset(CharSequence input)
+    {
+      this.input = input;
+      top = -1;
+    }
+
+    @Override
+    public void startNonterminal(String name, int begin)
+    {
+      Parser.Nonterminal nonterminal = new Parser.Nonterminal(name, begin, begin, NO_CHILDREN);
+      if (top >= 0)
+      {
+        addChild(nonterminal);
+      }
+      if (++top >= stack.length)
+      {
+        stack = Arrays.copyOf(stack, stack.length << 1);
+        size = Arrays.copyOf(size, size.length << 1);
+      }
+      stack[top] = nonterminal;
+      size[top] = 0;
+    }
+
+    @Override
+    public void endNonterminal(String name, int end)
+    {
+      stack[top].end = end;
+      trim(top);
+      if (top > 0)
+      {
+        --top;
+      }
+    }
+
+    @Override
+    public void terminal(String name, int begin, int end)
+    {
+      addChild(new Parser.Terminal(name, begin, end));
+    }
+
+    @Override
+    public void whitespace(int begin, int end)
+    {
+    }
+
+    private void addChild(Parser.Symbol symbol)
+    {
+      Parser.Nonterminal current = stack[top];
+      int n = size[top]++;
+      if (n == current.children.length)
+      {
+        current.children = Arrays.copyOf(current.children, Math.max(4, n << 1));
+      }
+      current.children[n] = symbol;
+    }
+
+    private void trim(int i)
+    {
+      if (stack[i].children.length != size[i])
+      {
+        stack[i].children = Arrays.copyOf(stack[i].children, size[i]);
+      }
+    }
+
+    public void serialize(Parser.EventHandler e)
+    {
+      // after a syntax error, the nonterminals that were open are not trimmed yet
+      for (int i = 0; i <= top; ++i)
+      {
+        trim(i);
+      }
+      e.reset(input);
+      stack[0].send(e);
+    }
+  }
+
+  /**
+   * Builds a Saxon tree, with an element per nonterminal and terminal, and literal tokens named {@code TOKEN}. Element
+   * names are created once per builder, and characters are passed to the receiver as a view of the input.
+   */
+  public static class SaxonTreeBuilder implements Parser.EventHandler
+  {
+    private final Builder builder;
+    private final AnyType anyType = AnyType.getInstance();
+    private final Map<String, NodeName> names = new HashMap<>();
+    private final Range range = new Range();
+
+    public SaxonTreeBuilder(Builder builder)
+    {
+      if (builder == null)
+        throw new IllegalArgumentException("builder cannot be null");
+
+      this.builder = builder;
+    }
+
+    @Override
+    public void reset(CharSequence input)
+    {
+      range.input = input;
+    }
+
+    @Override
+    public void startNonterminal(String name, int begin)
+    {
+      try
+      {
+        builder.startElement(names.computeIfAbsent(name, NoNamespaceName::new), anyType, NO_ATTRIBUTES, NO_NAMESPACES,
+          Loc.NONE, ReceiverOption.NONE);
+      }
+      catch (XPathException e)
+      {
+        throw new RuntimeException(e);
+      }
+    }
+
+    @Override
+    public void endNonterminal(String name, int end)
+    {
+      try
+      {
+        builder.endElement();
+      }
+      catch (XPathException e)
+      {
+        throw new RuntimeException(e);
+      }
+    }
+
+    @Override
+    public void terminal(String name, int begin, int end)
+    {
+      if (name.charAt(0) == '\'')
+      {
+        name = "TOKEN";
+      }
+      startNonterminal(name, begin);
+      characters(begin, end);
+      endNonterminal(name, end);
+    }
+
+    @Override
+    public void whitespace(int begin, int end)
+    {
+      characters(begin, end);
+    }
+
+    private void characters(int begin, int end)
+    {
+      if (begin < end)
+      {
+        // receivers copy the characters that they keep, so the same view is used for all calls
+        range.begin = begin;
+        range.end = end;
+        try
+        {
+          builder.characters(range, Loc.NONE, ReceiverOption.NONE);
+        }
+        catch (XPathException e)
+        {
+          throw new RuntimeException(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * A range of the input, without a copy of its characters.
+   */
+  private static class Range implements CharSequence
+  {
+    CharSequence input;
+    int begin;
+    int end;
+
+    @Override
+    public int length()
+    {
+      return end - begin;
+    }
+
+    @Override
+    public char charAt(int index)
+    {
+      return input.charAt(begin + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end)
+    {
+      return input.subSequence(begin + start, begin + end);
+    }
+
+    @Override
+    public String toString()
+    {
+      return input.subSequence(begin, end).toString();
+    }
+  }
+}
@@ -0,0 +1,303 @@
+package com.github.bannmann.trako.core;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import net.sf.saxon.Controller;
+import net.sf.saxon.expr.Expression;
+import net.sf.saxon.expr.TailCallLoop;
+import net.sf.saxon.expr.XPathContext;
+import net.sf.saxon.expr.flwor.Clause;
+import net.sf.saxon.expr.flwor.FLWORExpression;
+import net.sf.saxon.expr.instruct.ComponentTracer;
+import net.sf.saxon.expr.instruct.UserFunction;
+import net.sf.saxon.expr.parser.ExpressionTool;
+import net.sf.saxon.expr.parser.RebindingMap;
+import net.sf.saxon.lib.Logger;
+import net.sf.saxon.lib.TraceListener;
+import net.sf.saxon.om.Item;
+import net.sf.saxon.om.StructuredQName;
+import net.sf.saxon.query.StaticQueryContext;
+import net.sf.saxon.query.XQueryFunction;
+import net.sf.saxon.s9api.XQueryExecutable;
+import net.sf.saxon.trace.TraceCodeInjector;
+import net.sf.saxon.trace.Traceable;
+
+/**
+ * Collects call counts and times per XQuery function, for finding the hotspots of the XQuery modules.
+ *
+ * <p>When set by {@link TrakoGenerator#setProfiler(XQueryProfiler)}, queries are compiled with a code injector that
+ * traces calls of user-defined functions only, rather than every expression, which keeps the overhead moderate.
+ * Inclusive time is the time from entering a function to leaving it, exclusive time is that minus the inclusive time
+ * of the functions it called. For recursive functions, inclusive time is counted for the outermost call only. As
+ * XQuery is evaluated lazily, time spent consuming the result of a function after it returned is attributed to the
+ * consumer, and functions inlined by the optimizer are attributed to their callers.</p>
+ *
+ * <p>Self tail-recursive functions are not traced, because tracing their bodies would keep the optimizer from turning
+ * the recursion into a loop, and deep recursions would then overflow the stack. Their time is attributed to their
+ * callers as well.</p>
+ *
+ * <p>Results accumulate over all queries run with the profiler, until {@link #reset()}.</p>
+ */
+public class XQueryProfiler implements TraceListener
+{
+  private final Map<String, Statistics> statistics = new HashMap<>();
+  private final ThreadLocal<Deque<Frame>> stacks = ThreadLocal.withInitial(ArrayDeque::new);
+  private final ThreadLocal<Map<String, Integer>> activeCalls = ThreadLocal.withInitial(HashMap::new);
+
+  /**
+   * Call counts and times of a single XQuery function.
+   */
+  public static class Statistics
+  {
+    private final String function;
+    private long calls;
+    private long inclusiveNanos;
+    private long exclusiveNanos;
+
+    Statistics(String function)
+    {
+      this.function = function;
+    }
+
+    /**
+     * @return the function name and arity, e.g. {@code t:left-factorize#1}
+     */
+    public String getFunction()
+    {
+      return function;
+    }
+
+    public long getCalls()
+    {
+      return calls;
+    }
+
+    public long getInclusiveNanos()
+    {
+      return inclusiveNanos;
+    }
+
+    public long getExclusiveNanos()
+    {
+      return exclusiveNanos;
+    }
+  }
+
+  /**
+   * Prepares a compiler's static context for profiling.
+   */
+  void instrument(StaticQueryContext staticQueryContext)
+  {
+    staticQueryContext.setCodeInjector(new FunctionTracer());
+  }
+
+  /**
+   * Removes the tracing of self tail-recursive functions from a query compiled with an instrumented static context, and
+   * turns their recursion into a loop, as the optimizer would have done if they had not been traced. Saxon traces
+   * every function body, so it no longer sees the tail calls in it, and deep recursions overflow the stack otherwise.
+   */
+  synchronized void prepare(XQueryExecutable executable)
+  {
+    Iterator<XQueryFunction> functions =
+      executable.getUnderlyingCompiledQuery().getMainModule().getGlobalFunctionLibrary().getFunctionDefinitions();
+    while (functions.hasNext())
+    {
+      UserFunction function = functions.next().getUserFunction();
+      if (function.getBody() instanceof ComponentTracer)
+      {
+        Expression body = ((ComponentTracer) function.getBody()).getChild();
+        StructuredQName name = function.getFunctionName();
+        if (ExpressionTool.markTailFunctionCalls(body.copy(new RebindingMap()), name, function.getArity()) > 1)
+        {
+          ExpressionTool.markTailFunctionCalls(body, name, function.getArity());
+          function.setTailRecursive(true, true);
+          function.setBody(new TailCallLoop(function, body));
+          function.computeEvaluationMode();
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the statistics of all functions called so far, by descending exclusive time
+   */
+  public synchronized List<Statistics> getStatistics()
+  {
+    List<Statistics> result = new ArrayList<>();
+    for (Statistics s : statistics.values())
+    {
+      Statistics copy = new Statistics(s.function);
+      copy.calls = s.calls;
+      copy.inclusiveNanos = s.inclusiveNanos;
+      copy.exclusiveNanos = s.exclusiveNanos;
+      result.add(copy);
+    }
+    result.sort(Comparator.comparingLong(Statistics::getExclusiveNanos).reversed()
+      .thenComparing(Statistics::getFunction));
+    return result;
+  }
+
+  public synchronized void reset()
+  {
+    statistics.clear();
+  }
+
+  /**
+   * Writes a report of the functions by descending exclusive time, with times in milliseconds.
+   */
+  public void writeReport(PrintStream out)
+  {
+    List<Statistics> functions = getStatistics();
+    long total = functions.stream().mapToLong(Statistics::getExclusiveNanos).sum();
+    out.println(String.format("%12s %6s %12s %10s  %s", "exclusive ms", "%", "inclusive ms", "calls", "function"));
+    for (Statistics s : functions)
+    {
+      out.println(String.format("%12.1f %6.1f %12.1f %10d  %s",
+        s.exclusiveNanos / 1e6,
+        total == 0 ? 0.0 : 100.0 * s.exclusiveNanos / total,
+        s.inclusiveNanos / 1e6,
+        s.calls,
+        s.function));
+    }
+  }
+
+  /**
+   * Writes the statistics as a JSON array of objects with properties {@code function}, {@code calls},
+   * {@code inclusiveMillis} and {@code exclusiveMillis}, by descending exclusive time.
+   */
+  public void writeJson(Writer out) throws IOException
+  {
+    List<Statistics> functions = getStatistics();
+    out.write("[");
+    for (int i = 0; i < functions.size(); ++i)
+    {
+      Statistics s = functions.get(i);
+      out.write(i == 0 ? "\n" : ",\n");
+      out.write(String.format(Locale.ROOT,
+        "  {\"function\": \"%s\", \"calls\": %d, \"inclusiveMillis\": %.3f, \"exclusiveMillis\": %.3f}",
+        s.function.replace("\\", "\\\\").replace("\"", "\\\""),
+        s.calls,
+        s.inclusiveNanos / 1e6,
+        s.exclusiveNanos / 1e6));
+    }
+    out.write("\n]\n");
+    out.flush();
+  }
+
+  @Override
+  public void setOutputDestination(Logger stream)
+  {
+    // reports are written by writeReport and writeJson
+  }
+
+  @Override
+  public void open(Controller controller)
+  {
+  }
+
+  /**
+   * Ends a run on the current thread. A dynamic error leaves the functions on its way without calling
+   * {@link #leave(Traceable)}, so the calls still active are discarded here.
+   */
+  @Override
+  public void close()
+  {
+    stacks.remove();
+    activeCalls.remove();
+  }
+
+  @Override
+  public void enter(Traceable instruction, Map<String, Object> properties, XPathContext context)
+  {
+    if (instruction instanceof UserFunction)
+    {
+      UserFunction function = (UserFunction) instruction;
+      String name = function.getFunctionName().getDisplayName() + "#" + function.getArity();
+      activeCalls.get().merge(name, 1, Integer::sum);
+      stacks.get().push(new Frame(name, System.nanoTime()));
+    }
+  }
+
+  @Override
+  public void leave(Traceable instruction)
+  {
+    if (instruction instanceof UserFunction)
+    {
+      long elapsed = System.nanoTime();
+      Deque<Frame> stack = stacks.get();
+      Frame frame = stack.pop();
+      elapsed -= frame.start;
+      Frame caller = stack.peek();
+      if (caller != null)
+      {
+        caller.callees += elapsed;
+      }
+      boolean outermost = activeCalls.get().merge(frame.function, -1, Integer::sum) == 0;
+      if (outermost)
+      {
+        activeCalls.get().remove(frame.function);
+      }
+      record(frame.function, outermost ? elapsed : 0, elapsed - frame.callees);
+    }
+  }
+
+  private synchronized void record(String function, long inclusiveNanos, long exclusiveNanos)
+  {
+    Statistics s = statistics.computeIfAbsent(function, Statistics::new);
+    ++s.calls;
+    s.inclusiveNanos += inclusiveNanos;
+    s.exclusiveNanos += exclusiveNanos;
+  }
+
+  @Override
+  public void startCurrentItem(Item currentItem)
+  {
+  }
+
+  @Override
+  public void endCurrentItem(Item currentItem)
+  {
+  }
+
+  private static class Frame
+  {
+    final String function;
+    final long start;
+    long callees;
+
+    Frame(String function, long start)
+    {
+      this.function = function;
+      this.start = start;
+    }
+  }
+
+  /**
+   * Traces function bodies only, leaving expressions and FLWOR clauses as they are.
+   */
+  private static class FunctionTracer extends TraceCodeInjector
+  {
+    @Override
+    public Expression inject(Expression expression)
+    {
+      return expression;
+    }
+
+    @Override
+    public Clause injectClause(FLWORExpression expression, Clause clause)
+    {
+      return clause;
+    }
+  }
+}
@@ -1,162 +1,752 @@
 package com.github.bannmann.trako.core;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.Source;
 
+import net.sf.saxon.om.NameChecker;
+import net.sf.saxon.om.NodeInfo;
 import net.sf.saxon.s9api.Axis;
-import net.sf.saxon.s9api.DocumentBuilder;
 import net.sf.saxon.s9api.Processor;
 import net.sf.saxon.s9api.QName;
 import net.sf.saxon.s9api.SaxonApiException;
 import net.sf.saxon.s9api.Serializer;
-import net.sf.saxon.s9api.XQueryCompiler;
-import net.sf.saxon.s9api.XQueryEvaluator;
-import net.sf.saxon.s9api.XQueryExecutable;
-import net.sf.saxon.s9api.XdmAtomicValue;
 import net.sf.saxon.s9api.XdmNode;
 import net.sf.saxon.s9api.XdmNodeKind;
 import net.sf.saxon.s9api.XdmSequenceIterator;
-import net.sf.saxon.s9api.XdmValue;
 
+/**
+ * Splits an XHTML document into a ZIP file containing {@code index.html} and one PNG image per diagram.
+ *
+ * <p>Each SVG diagram in the body is replaced by an {@code img} element with a client side image map for its links.
+ * The document is walked once, while {@code index.html} is serialized on the fly, so the cost is linear in the size of
+ * the document. When the document contains a {@code <?trako hotspots?>} or {@code <?trako referenced-by?>} processing
+ * instruction, additional pages containing the image map and the list of referrers are written for each diagram.</p>
+ */
 public class XhtmlToZip
 {
+  private static final String XHTML_NAMESPACE = "http://www.w3.org/1999/xhtml";
+  private static final String SVG_NAMESPACE = "http://www.w3.org/2000/svg";
+  private static final String XLINK_NAMESPACE = "http://www.w3.org/1999/xlink";
+
+  private static final QName NAME = new QName("name");
+  private static final QName CLASS = new QName("class");
+  private static final QName CONTENT = new QName("content");
+  private static final QName TITLE = new QName("title");
+  private static final QName TARGET = new QName("target");
+  private static final QName X = new QName("x");
+  private static final QName Y = new QName("y");
+  private static final QName WIDTH = new QName("width");
+  private static final QName HEIGHT = new QName("height");
+  private static final QName XLINK_HREF = new QName(XLINK_NAMESPACE, "href");
+
+  private static final String SIGNATURE = "Railroad Diagram Generator";
+  private static final Pattern ABSOLUTE_URL = Pattern.compile("^[A-Za-z][-+.A-Za-z0-9]*://");
+
+  private static final String FORMAT = "png";
+
   private boolean verbose = false;
-  private static Processor processor = null;
-  private static XQueryExecutable executable = null;
+  private static Processor processor = new Processor(false);
 
-  private PngTranscoder pngTranscoder;
+  private final PngTranscoder pngTranscoder;
 
-  static
+  /**
+   * Uses {@link RsvgPngTranscoder} if the {@value RsvgPngTranscoder#RSVG_CONVERT_PROPERTY} system property is set,
+   * {@link BatikPngTranscoder} otherwise.
+   */
+  public XhtmlToZip()
   {
-    processor = new Processor(false);
-    try
-    {
-      String query =
-          "import module namespace d='com/github/bannmann/trako/xq/disassemble.xq';\n" +
-          "declare variable $input external;\n" +
-          "declare variable $format external;\n" +
-          "d:disassemble($input, $format)";
-      XQueryCompiler xqueryCompiler = processor.newXQueryCompiler();
-      xqueryCompiler.setModuleURIResolver(ResourceModuleUriResolver.instance);
-      executable = xqueryCompiler.compile(query);
-    }
-    catch (SaxonApiException e)
+    this(System.getProperty(RsvgPngTranscoder.RSVG_CONVERT_PROPERTY) != null
+      ? new RsvgPngTranscoder()
+      : new BatikPngTranscoder());
+  }
+
+  public XhtmlToZip(PngTranscoder pngTranscoder)
+  {
+    if (pngTranscoder == null)
+      throw new IllegalArgumentException("pngTranscoder cannot be null");
+
+    this.pngTranscoder = pngTranscoder;
+  }
+
+  private static Serializer htmlSerializer(OutputStream os)
+  {
+    Serializer serializer = processor.newSerializer(os);
+    serializer.setOutputProperty(Serializer.Property.OMIT_XML_DECLARATION, "yes");
+    serializer.setOutputProperty(Serializer.Property.INDENT, "yes");
+    serializer.setOutputProperty(Serializer.Property.METHOD, "html");
+    serializer.setOutputProperty(Serializer.Property.ENCODING, StandardCharsets.UTF_8.name());
+    serializer.setOutputProperty(Serializer.Property.VERSION, "4.01");
+    serializer.setOutputProperty(Serializer.Property.DOCTYPE_SYSTEM, "http://www.w3.org/TR/html4/loose.dtd");
+    serializer.setOutputProperty(Serializer.Property.DOCTYPE_PUBLIC, "-//W3C//DTD HTML 4.01 Transitional//EN");
+    return serializer;
+  }
+
+  /**
+   * The image file name for a scale factor. Scale factor 1 uses the plain name, others get a suffix, e.g.
+   * {@code diagram/Foo@2x.png}.
+   */
+  private static String scaledName(String name, double scale)
+  {
+    if (scale == 1)
     {
-      throw new RuntimeException(e.getMessage(), e);
+      return name;
     }
+    int extension = name.lastIndexOf('.');
+    return name.substring(0, extension) + "@" + factor(scale) + "x" + name.substring(extension);
   }
 
-  public XhtmlToZip()
+  private static String factor(double scale)
   {
-    try
+    return scale == Math.rint(scale) ? Long.toString((long) scale) : Double.toString(scale);
+  }
+
+  public void convert(Source source, OutputStream zip) throws Exception
+  {
+    XdmNode document = source instanceof NodeInfo
+      ? new XdmNode((NodeInfo) source)
+      : processor.newDocumentBuilder().build(source);
+    double[] scales = pngTranscoder.getScales();
+
+    Disassembler disassembler = new Disassembler(document, scales);
+    List<ZipFile> files = disassembler.disassemble();
+
+    List<XdmNode> svgs = new ArrayList<>();
+    for (ZipFile file : files)
     {
-      pngTranscoder = new BatikPngTranscoder();
+      if (file.svg != null)
+      {
+        svgs.add(file.svg);
+      }
     }
-    catch (RuntimeException e)
+
+    if (verbose)
     {
-      throw e;
+      System.out.println("converting " + svgs.size() + " diagrams using " + pngTranscoder.getClass().getSimpleName());
     }
-    catch (Exception e)
+    try (ZipOutputStream zipFile = new ZipOutputStream(zip))
     {
-      throw new RuntimeException(e.getMessage(), e);
+      // entries are written as the diagrams are converted, so that only the PNG data of the diagrams that are
+      // converted ahead is held at once
+      Iterator<ZipFile> remaining = files.iterator();
+      long start = System.nanoTime();
+      pngTranscoder.transcodeAll(svgs, scaled -> {
+        ZipFile file;
+        while ((file = remaining.next()).svg == null)
+        {
+          write(zipFile, file.name, file.content);
+        }
+        for (int i = 0; i < scales.length; ++i)
+        {
+          write(zipFile, scaledName(file.name, scales[i]), scaled[i]);
+        }
+      });
+      TrakoMetrics.instance.recordPngTranscodes(svgs.size(), start);
+      while (remaining.hasNext())
+      {
+        ZipFile file = remaining.next();
+        write(zipFile, file.name, file.content);
+      }
     }
   }
 
-  private void toPng(XdmNode svg, OutputStream os) throws Exception
+  private static void write(ZipOutputStream zipFile, String name, byte[] content) throws IOException
   {
-    pngTranscoder.transcode(svg, os);
+    zipFile.putNextEntry(new ZipEntry(URLDecoder.decode(name, StandardCharsets.UTF_8.name())));
+    zipFile.write(content);
+    zipFile.closeEntry();
   }
 
-  private void toXml(XdmNode e, OutputStream os) throws SaxonApiException
+  /**
+   * A file of the ZIP output, either an SVG diagram that still needs to be converted to PNG, or serialized content.
+   */
+  private static class ZipFile
   {
-    Serializer serializer = processor.newSerializer(os);
-    serializer.setOutputProperty(Serializer.Property.OMIT_XML_DECLARATION, "no");
-    serializer.setOutputProperty(Serializer.Property.INDENT, "yes");
-    serializer.serializeNode(e);
+    final String name;
+    final XdmNode svg;
+    final byte[] content;
+
+    ZipFile(String name, XdmNode svg, byte[] content)
+    {
+      this.name = name;
+      this.svg = svg;
+      this.content = content;
+    }
   }
 
-  private void toHtm(XdmNode e, OutputStream os) throws SaxonApiException
+  /**
+   * A diagram found while walking the document, along with the links that make up its image map.
+   */
+  private static class Diagram
   {
-    Serializer serializer = processor.newSerializer(os);
-    serializer.setOutputProperty(Serializer.Property.OMIT_XML_DECLARATION, "yes");
-    serializer.setOutputProperty(Serializer.Property.INDENT, "yes");
-    serializer.setOutputProperty(Serializer.Property.METHOD, "html");
-    serializer.setOutputProperty(Serializer.Property.ENCODING, StandardCharsets.UTF_8.name());
-    serializer.setOutputProperty(Serializer.Property.VERSION, "4.01");
-    serializer.setOutputProperty(Serializer.Property.DOCTYPE_SYSTEM, "http://www.w3.org/TR/html4/loose.dtd");
-    serializer.setOutputProperty(Serializer.Property.DOCTYPE_PUBLIC, "-//W3C//DTD HTML 4.01 Transitional//EN");
-    serializer.serializeNode(e);
+    final String name;
+    final XdmNode svg;
+    final List<XdmNode> links;
+
+    Diagram(String name, XdmNode svg, List<XdmNode> links)
+    {
+      this.name = name;
+      this.svg = svg;
+      this.links = links;
+    }
+  }
+
+  /**
+   * The diagram name candidate established by an {@code xhtml:p} element, i.e. the {@code name} attribute of the
+   * first {@code xhtml:a} element at or after its start.
+   */
+  private static class Paragraph
+  {
+    boolean resolved;
+    String name;
   }
 
-  private static XdmNode firstElementChild(XdmNode p)
+  /**
+   * Walks the XHTML document once, writing {@code index.html} and collecting the diagrams. A diagram is named after
+   * the anchor following the most recent paragraph that precedes it; without one, diagrams are numbered by the count
+   * of preceding SVG elements.
+   */
+  private static class Disassembler
   {
-    for (XdmSequenceIterator<?> i = p.axisIterator(Axis.CHILD); i.hasNext(); )
+    private final XdmNode document;
+    private final double[] scales;
+
+    private final List<Diagram> diagrams = new ArrayList<>();
+    private final List<Paragraph> unresolvedParagraphs = new ArrayList<>();
+    private Paragraph precedingParagraph;
+    private int svgCount;
+    private boolean hotspots;
+    private boolean referencedBy;
+
+    private XMLStreamWriter index;
+
+    Disassembler(XdmNode document, double[] scales)
+    {
+      this.document = document;
+      this.scales = scales;
+    }
+
+    List<ZipFile> disassemble() throws SaxonApiException, XMLStreamException
     {
-      XdmNode n = (XdmNode) i.next();
-      if (n.getNodeKind() == XdmNodeKind.ELEMENT)
+      ByteArrayOutputStream indexHtml = new ByteArrayOutputStream();
+      index = htmlSerializer(indexHtml).getXMLStreamWriter();
+      index.writeStartDocument();
+      if (document.getNodeKind() == XdmNodeKind.DOCUMENT)
       {
-        return n;
+        rewriteChildren(document, false);
       }
+      else
+      {
+        rewrite(document, false);
+      }
+      index.writeEndDocument();
+      index.close();
+
+      List<ZipFile> files = new ArrayList<>();
+      files.add(new ZipFile("index.html", null, indexHtml.toByteArray()));
+      for (Diagram diagram : diagrams)
+      {
+        files.add(new ZipFile("diagram/" + diagram.name + "." + FORMAT, diagram.svg, null));
+        if (hotspots)
+        {
+          files.add(new ZipFile("hotspots/" + diagram.name + ".htm", null, hotspots(diagram)));
+        }
+        if (referencedBy)
+        {
+          files.add(new ZipFile("referenced-by/" + diagram.name + ".htm", null, referencedBy(diagram)));
+        }
+      }
+      files.sort(Comparator.comparing(file -> file.name.toLowerCase(Locale.ROOT)));
+      return files;
     }
-    return null;
-  }
 
-  private static XdmNode nextElementChild(XdmNode s)
-  {
-    for (XdmSequenceIterator<?> i = s.axisIterator(Axis.FOLLOWING_SIBLING); i.hasNext(); )
+    private void rewriteChildren(XdmNode parent, boolean inBody) throws XMLStreamException
     {
-      XdmNode n = (XdmNode) i.next();
-      if (n.getNodeKind() == XdmNodeKind.ELEMENT)
+      for (XdmSequenceIterator<XdmNode> i = parent.axisIterator(Axis.CHILD); i.hasNext(); )
       {
-        return n;
+        rewrite(i.next(), inBody);
       }
     }
-    return null;
-  }
 
-  public void convert(Source source, OutputStream zip) throws Exception
-  {
-    XQueryEvaluator evaluator = executable.load();
-    DocumentBuilder db = processor.newDocumentBuilder();
+    private void rewrite(XdmNode node, boolean inBody) throws XMLStreamException
+    {
+      switch (node.getNodeKind())
+      {
+      case ELEMENT:
+        QName name = node.getNodeName();
+        if (SVG_NAMESPACE.equals(name.getNamespaceURI()) && "svg".equals(name.getLocalName()))
+        {
+          if (inBody)
+          {
+            rewriteSvg(node);
+          }
+          else
+          {
+            collectLinks(node, null);
+          }
+          return;
+        }
 
-    evaluator.setExternalVariable(new QName("input"), db.build(source));
-    evaluator.setExternalVariable(new QName("format"), new XdmAtomicValue("png"));
-    XdmValue result = evaluator.evaluate();
+        boolean isXhtml = XHTML_NAMESPACE.equals(name.getNamespaceURI());
+        boolean isParagraph = isXhtml && "p".equals(name.getLocalName());
+        if (isXhtml && "a".equals(name.getLocalName()))
+        {
+          resolveParagraphs(node);
+        }
+        Paragraph paragraph = null;
+        if (isParagraph)
+        {
+          paragraph = new Paragraph();
+          unresolvedParagraphs.add(paragraph);
+        }
 
-    try (ZipOutputStream zipFile = new ZipOutputStream(zip))
+        index.writeStartElement(name.getLocalName());
+        for (XdmSequenceIterator<XdmNode> a = node.axisIterator(Axis.ATTRIBUTE); a.hasNext(); )
+        {
+          writeAttribute(a.next());
+        }
+        rewriteChildren(node, inBody || isXhtml && "body".equals(name.getLocalName()));
+        index.writeEndElement();
+
+        if (isParagraph)
+        {
+          precedingParagraph = paragraph;
+        }
+        break;
+      case TEXT:
+        index.writeCharacters(node.getStringValue());
+        break;
+      case COMMENT:
+        index.writeComment(node.getStringValue());
+        break;
+      case PROCESSING_INSTRUCTION:
+        String target = node.getNodeName().getLocalName();
+        if ("trako".equals(target))
+        {
+          for (String token : node.getStringValue().split("\\s+"))
+          {
+            hotspots |= "hotspots".equals(token);
+            referencedBy |= "referenced-by".equals(token);
+          }
+        }
+        index.writeProcessingInstruction(target, node.getStringValue());
+        break;
+      default:
+        break;
+      }
+    }
+
+    private void writeAttribute(XdmNode attribute) throws XMLStreamException
+    {
+      QName name = attribute.getNodeName();
+      if (name.getNamespaceURI().isEmpty())
+      {
+        index.writeAttribute(name.getLocalName(), attribute.getStringValue());
+      }
+      else
+      {
+        index.writeAttribute(name.getPrefix(), name.getNamespaceURI(), name.getLocalName(), attribute.getStringValue());
+      }
+    }
+
+    private void resolveParagraphs(XdmNode a)
+    {
+      String name = a.getAttributeValue(NAME);
+      for (Paragraph paragraph : unresolvedParagraphs)
+      {
+        paragraph.resolved = true;
+        paragraph.name = name;
+      }
+      unresolvedParagraphs.clear();
+    }
+
+    private void rewriteSvg(XdmNode svg) throws XMLStreamException
+    {
+      String name = diagramName(svg);
+      List<XdmNode> links = new ArrayList<>();
+      collectLinks(svg, links);
+      diagrams.add(new Diagram(name, svg, links));
+
+      String imgName = "diagram/" + name + "." + FORMAT;
+      String mapName = name + ".map";
+
+      index.writeStartElement("img");
+      index.writeAttribute("border", "0");
+      index.writeAttribute("src", scaledName(imgName, scales[0]));
+      if (scales.length > 1 || scales[0] != 1)
+      {
+        StringBuilder srcset = new StringBuilder();
+        for (double scale : scales)
+        {
+          if (srcset.length() > 0)
+          {
+            srcset.append(", ");
+          }
+          srcset.append(scaledName(imgName, scale)).append(' ').append(factor(scale)).append('x');
+        }
+        index.writeAttribute("srcset", srcset.toString());
+      }
+      copyAttribute(svg, HEIGHT);
+      copyAttribute(svg, WIDTH);
+      if (!links.isEmpty())
+      {
+        index.writeAttribute("usemap", "#" + mapName);
+      }
+      index.writeEndElement();
+
+      if (!links.isEmpty())
+      {
+        index.writeStartElement("map");
+        index.writeAttribute("name", mapName);
+        for (XdmNode link : links)
+        {
+          XdmNode rect = lastRect(link);
+          index.writeStartElement("area");
+          index.writeAttribute("shape", "rect");
+          index.writeAttribute("coords", coords(rect));
+          String href = link.getAttributeValue(XLINK_HREF);
+          index.writeAttribute("href", href == null ? "" : href);
+          index.writeAttribute("title", linkText(link));
+          String target = link.getAttributeValue(TARGET);
+          if (target != null)
+          {
+            index.writeAttribute("target", target);
+          }
+          index.writeEndElement();
+        }
+        index.writeEndElement();
+      }
+    }
+
+    private void copyAttribute(XdmNode element, QName name) throws XMLStreamException
+    {
+      String value = element.getAttributeValue(name);
+      if (value != null)
+      {
+        index.writeAttribute(name.getLocalName(), value);
+      }
+    }
+
+    private String diagramName(XdmNode svg)
     {
-      for (XdmNode e = firstElementChild((XdmNode) result.itemAt(0));
-           e != null;
-           e = nextElementChild(e))
+      if (precedingParagraph != null && precedingParagraph.resolved && precedingParagraph.name != null)
       {
-        String name = URLDecoder.decode(e.getAttributeValue(new QName("name")), StandardCharsets.UTF_8.name());
-        zipFile.putNextEntry(new ZipEntry(name));
+        return precedingParagraph.name;
+      }
 
-        XdmNode content = firstElementChild(e);
-        if (name.endsWith(".png"))
+      XdmNode td = svg.getParent();
+      while (td != null && !isXhtml(td, "td"))
+      {
+        td = td.getParent();
+      }
+      if (td != null)
+      {
+        XdmNode previous = previousSibling(td, "td");
+        if (previous != null && previous.getStringValue().contains(SIGNATURE))
         {
-          if (verbose)
+          return "trako-" + normalizeSpace(substringAfter(generator(), SIGNATURE));
+        }
+      }
+
+      return Integer.toString(svgCount + 1);
+    }
+
+    private String generator()
+    {
+      XdmNode html = isXhtml(document, "html") ? document : firstChild(document, "html");
+      XdmNode head = html == null ? null : firstChild(html, "head");
+      if (head != null)
+      {
+        for (XdmSequenceIterator<XdmNode> i = head.axisIterator(Axis.CHILD); i.hasNext(); )
+        {
+          XdmNode meta = i.next();
+          if (isXhtml(meta, "meta") && "generator".equals(meta.getAttributeValue(NAME)))
           {
-            System.out.println("converting " + name + " using Batik");
+            String content = meta.getAttributeValue(CONTENT);
+            return content == null ? "" : content;
           }
-          toPng(content, zipFile);
         }
-        else if (name.endsWith(".htm") || name.endsWith(".html"))
+      }
+      return "";
+    }
+
+    /**
+     * Counts the SVG elements in the subtree, and collects its {@code svg:a} elements if {@code links} is not null.
+     */
+    private void collectLinks(XdmNode node, List<XdmNode> links)
+    {
+      if (isSvg(node, "svg"))
+      {
+        ++svgCount;
+      }
+      else if (links != null && isSvg(node, "a"))
+      {
+        links.add(node);
+      }
+      for (XdmSequenceIterator<XdmNode> i = node.axisIterator(Axis.CHILD); i.hasNext(); )
+      {
+        XdmNode child = i.next();
+        if (child.getNodeKind() == XdmNodeKind.ELEMENT)
         {
-          toHtm(content, zipFile);
+          collectLinks(child, links);
+        }
+      }
+    }
+
+    private byte[] hotspots(Diagram diagram) throws SaxonApiException, XMLStreamException
+    {
+      ByteArrayOutputStream html = new ByteArrayOutputStream();
+      XMLStreamWriter writer = htmlSerializer(html).getXMLStreamWriter();
+      writer.writeStartDocument();
+      writer.writeStartElement("map");
+      writer.writeAttribute("id", diagram.name);
+      writer.writeAttribute("name", diagram.name);
+      for (XdmNode link : diagram.links)
+      {
+        XdmNode rect = lastRect(link);
+        String target = linkText(link);
+        writer.writeStartElement("area");
+        writer.writeAttribute("shape", "rect");
+        writer.writeAttribute("coords", coords(rect));
+        XdmNode text = rect == null ? null : nextSibling(rect, SVG_NAMESPACE, "text");
+        if (text != null && containsName(text.getStringValue()))
+        {
+          writer.writeAttribute("href", ABSOLUTE_URL.matcher(target).find() ? target : "ref-" + target + ".htm");
         }
         else
         {
-          toXml(content, zipFile);
+          writer.writeAttribute("href", "xqr-lexical.htm");
+        }
+        writer.writeAttribute("title", target);
+        writer.writeAttribute("alt", target);
+        writer.writeEndElement();
+      }
+      writer.writeEndElement();
+      writer.writeEndDocument();
+      writer.close();
+      return html.toByteArray();
+    }
+
+    private byte[] referencedBy(Diagram diagram) throws SaxonApiException, XMLStreamException
+    {
+      XdmNode p = nextSibling(diagram.svg, XHTML_NAMESPACE, "p");
+      if (p != null && isEbnf(p))
+      {
+        p = nextSibling(p, XHTML_NAMESPACE, "p");
+      }
+
+      ByteArrayOutputStream html = new ByteArrayOutputStream();
+      XMLStreamWriter writer = htmlSerializer(html).getXMLStreamWriter();
+      writer.writeStartDocument();
+      writer.writeStartElement("ul");
+      if (p != null)
+      {
+        for (XdmSequenceIterator<XdmNode> i = p.axisIterator(Axis.DESCENDANT); i.hasNext(); )
+        {
+          XdmNode a = i.next();
+          if (isXhtml(a, "a") && isXhtml(a.getParent(), "li"))
+          {
+            String referrer = a.getAttributeValue(TITLE);
+            referrer = referrer == null ? "" : referrer;
+            writer.writeStartElement("li");
+            writer.writeStartElement("a");
+            writer.writeAttribute("href", "ref-" + referrer + ".htm");
+            writer.writeAttribute("title", referrer);
+            writer.writeCharacters(referrer);
+            writer.writeEndElement();
+            writer.writeEndElement();
+          }
+        }
+      }
+      writer.writeEndElement();
+      writer.writeEndDocument();
+      writer.close();
+      return html.toByteArray();
+    }
+
+    private static boolean isEbnf(XdmNode p)
+    {
+      for (XdmSequenceIterator<XdmNode> i = p.axisIterator(Axis.CHILD); i.hasNext(); )
+      {
+        XdmNode div = i.next();
+        if (isXhtml(div, "div") && "ebnf".equals(div.getAttributeValue(CLASS)))
+        {
+          return true;
         }
+      }
+      return false;
+    }
+  }
 
-        zipFile.closeEntry();
+  private static XdmNode lastRect(XdmNode link)
+  {
+    XdmNode rect = null;
+    for (XdmSequenceIterator<XdmNode> i = link.axisIterator(Axis.DESCENDANT); i.hasNext(); )
+    {
+      XdmNode node = i.next();
+      if (isSvg(node, "rect"))
+      {
+        rect = node;
       }
     }
+    return rect;
+  }
+
+  /**
+   * The image map coordinates {@code x1,y1,x2,y2} of a rectangle.
+   */
+  private static String coords(XdmNode rect)
+  {
+    if (rect == null)
+    {
+      return ",";
+    }
+    String x = rect.getAttributeValue(X);
+    String y = rect.getAttributeValue(Y);
+    StringBuilder coords = new StringBuilder();
+    for (String coordinate : new String[] {x, y, sum(x, rect.getAttributeValue(WIDTH)), sum(y, rect.getAttributeValue(HEIGHT))})
+    {
+      if (coordinate != null)
+      {
+        if (coords.length() > 0)
+        {
+          coords.append(',');
+        }
+        coords.append(coordinate);
+      }
+    }
+    return coords.toString();
+  }
+
+  private static String sum(String a, String b)
+  {
+    if (a == null || b == null)
+    {
+      return "";
+    }
+    double sum = Double.parseDouble(a.trim()) + Double.parseDouble(b.trim());
+    return sum == Math.rint(sum) && Math.abs(sum) < 1e15 ? Long.toString((long) sum) : Double.toString(sum);
+  }
+
+  /**
+   * The texts of a link, separated by spaces.
+   */
+  private static String linkText(XdmNode link)
+  {
+    StringBuilder text = new StringBuilder();
+    boolean first = true;
+    for (XdmSequenceIterator<XdmNode> i = link.axisIterator(Axis.DESCENDANT); i.hasNext(); )
+    {
+      XdmNode node = i.next();
+      if (isSvg(node, "text"))
+      {
+        if (!first)
+        {
+          text.append(' ');
+        }
+        text.append(node.getStringValue());
+        first = false;
+      }
+    }
+    return text.toString();
+  }
+
+  /**
+   * Whether the string contains a name start character followed by a name character, like XPath's {@code \i\c+}.
+   */
+  private static boolean containsName(String s)
+  {
+    for (int i = 0; i + 1 < s.length(); ++i)
+    {
+      char c = s.charAt(i);
+      char d = s.charAt(i + 1);
+      if ((c == ':' || NameChecker.isNCNameStartChar(c)) && (d == ':' || NameChecker.isNCNameChar(d)))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String substringAfter(String s, String separator)
+  {
+    int index = s.indexOf(separator);
+    return index < 0 ? "" : s.substring(index + separator.length());
+  }
+
+  private static String normalizeSpace(String s)
+  {
+    return s.trim().replaceAll("[ \\t\\r\\n]+", " ");
+  }
+
+  private static boolean isXhtml(XdmNode node, String localName)
+  {
+    return isElement(node, XHTML_NAMESPACE, localName);
+  }
+
+  private static boolean isSvg(XdmNode node, String localName)
+  {
+    return isElement(node, SVG_NAMESPACE, localName);
+  }
+
+  private static boolean isElement(XdmNode node, String namespace, String localName)
+  {
+    return node != null
+        && node.getNodeKind() == XdmNodeKind.ELEMENT
+        && localName.equals(node.getNodeName().getLocalName())
+        && namespace.equals(node.getNodeName().getNamespaceURI());
+  }
+
+  private static XdmNode firstChild(XdmNode parent, String localName)
+  {
+    for (XdmSequenceIterator<XdmNode> i = parent.axisIterator(Axis.CHILD); i.hasNext(); )
+    {
+      XdmNode n = i.next();
+      if (isXhtml(n, localName))
+      {
+        return n;
+      }
+    }
+    return null;
+  }
+
+  private static XdmNode nextSibling(XdmNode node, String namespace, String localName)
+  {
+    for (XdmSequenceIterator<XdmNode> i = node.axisIterator(Axis.FOLLOWING_SIBLING); i.hasNext(); )
+    {
+      XdmNode n = i.next();
+      if (isElement(n, namespace, localName))
+      {
+        return n;
+      }
+    }
+    return null;
+  }
+
+  private static XdmNode previousSibling(XdmNode node, String localName)
+  {
+    for (XdmSequenceIterator<XdmNode> i = node.axisIterator(Axis.PRECEDING_SIBLING); i.hasNext(); )
+    {
+      XdmNode n = i.next();
+      if (isXhtml(n, localName))
+      {
+        return n;
+      }
+    }
+    return null;
   }
 }
@@ -0,0 +1,83 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import net.sf.saxon.Configuration;
+import net.sf.saxon.query.QueryResult;
+import net.sf.saxon.trans.XPathException;
+import net.sf.saxon.tree.tiny.TinyBuilder;
+import org.junit.Test;
+
+public class AstBuilderTest
+{
+  private static final Configuration configuration = new Configuration();
+
+  /**
+   * The expected ASTs in {@code ast/*.xml} were produced by {@code a:ast(p:parse-Grammar(...))} of the former
+   * cst-to-ast.xq. Each grammar is also parsed in small chunks, to cover the concatenation of their ASTs.
+   */
+  @Test
+  public void buildsAstOfFormerXQuery() throws Exception
+  {
+    for (String name : new String[] {"features", "small", "Parser"})
+    {
+      String grammar = name.equals("Parser") ? parserGrammar() : resource(name + ".ebnf");
+      String expected = resource(name + ".xml");
+
+      assertEquals(name, expected, ast(grammar, Integer.MAX_VALUE));
+      assertEquals(name + " in chunks", expected, ast(grammar, 64));
+    }
+  }
+
+  @Test
+  public void rejectsXmlProcessingInstruction() throws Exception
+  {
+    for (String target : new String[] {"xml", "XmL"})
+    {
+      try
+      {
+        ast("A ::= b\n<?" + target + " version?>\n", Integer.MAX_VALUE);
+        fail("<?" + target + "?> accepted");
+      }
+      catch (XPathException e)
+      {
+        assertEquals("XQDY0064", e.getErrorCodeLocalPart());
+      }
+    }
+  }
+
+  private static String ast(String grammar, int chunkSize) throws XPathException
+  {
+    TinyBuilder builder = new TinyBuilder(configuration.makePipelineConfiguration());
+    builder.open();
+    AstBuilder.build(builder, new ParallelParser<>(grammar, AstBuilder::new, chunkSize).parse_Grammar());
+    builder.close();
+    return QueryResult.serialize(builder.getCurrentRoot());
+  }
+
+  private static String parserGrammar() throws IOException
+  {
+    byte[] grammar = Files.readAllBytes(Paths.get("src/main/java/com/github/bannmann/trako/core/Parser.ebnf"));
+    return new String(grammar, StandardCharsets.UTF_8);
+  }
+
+  private static String resource(String name) throws IOException
+  {
+    try (InputStream in = AstBuilderTest.class.getResourceAsStream("ast/" + name))
+    {
+      ByteArrayOutputStream content = new ByteArrayOutputStream();
+      byte[] chunk = new byte[8192];
+      for (int length; (length = in.read(chunk)) != -1; )
+        content.write(chunk, 0, length);
+      return new String(content.toByteArray(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+public class GenerationCacheTest
+{
+  private static final String GRAMMAR = "A ::= 'a' B\nB ::= 'b' | 'c'\n";
+
+  /**
+   * Interrupting the thread that requested a result first must not fail the generation for the other requests.
+   */
+  @Test
+  public void interruptOfFirstRequestDoesNotFailOthers() throws Exception
+  {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Executor executor = task -> new Thread(() -> {
+      started.countDown();
+      try
+      {
+        release.await();
+      }
+      catch (InterruptedException e)
+      {
+        throw new IllegalStateException(e);
+      }
+      task.run();
+    }).start();
+    GenerationCache cache = new GenerationCache(1 << 20, executor);
+    TrakoGenerator generator = new TrakoGenerator();
+
+    Object[] results = new Object[2];
+    Thread first = new Thread(() -> results[0] = request(cache, generator));
+    Thread second = new Thread(() -> results[1] = request(cache, generator));
+    first.start();
+    started.await();
+    second.start();
+    while (second.getState() != Thread.State.WAITING)
+    {
+      Thread.sleep(10);
+    }
+    first.interrupt();
+    first.join();
+    release.countDown();
+    second.join();
+
+    assertTrue(String.valueOf(results[0]), results[0] instanceof InterruptedException);
+    assertTrue(String.valueOf(results[1]), results[1] instanceof GenerationCache.Result);
+    assertNotNull(cache.get(cache.getETag(generator, GRAMMAR)));
+    assertEquals(((GenerationCache.Result) results[1]).getETag(), cache.getETag(generator, GRAMMAR));
+  }
+
+  /**
+   * Tracing changes the XHTML result, so profiled and unprofiled results must not share an entity tag.
+   */
+  @Test
+  public void profilingIsPartOfETag()
+  {
+    GenerationCache cache = new GenerationCache(1 << 20);
+    TrakoGenerator generator = new TrakoGenerator();
+    String etag = cache.getETag(generator, GRAMMAR);
+
+    generator.setProfiler(new XQueryProfiler());
+    assertNotEquals(etag, cache.getETag(generator, GRAMMAR));
+
+    generator.setProfiler(null);
+    assertEquals(etag, cache.getETag(generator, GRAMMAR));
+  }
+
+  private static Object request(GenerationCache cache, TrakoGenerator generator)
+  {
+    try
+    {
+      return cache.generate(generator, GRAMMAR);
+    }
+    catch (Exception e)
+    {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class GenerationCostTest
+{
+  @Test
+  public void countsEachAlternativeOnce()
+  {
+    GenerationCost cost = GenerationCost.estimate("A ::= b | c", false);
+
+    assertEquals(1, cost.getProductions());
+    assertEquals(2, cost.getSymbols());
+    assertEquals(2, cost.getAlternatives());
+    assertEquals(0, cost.getMaxDepth());
+    assertEquals(5, cost.getUnits());
+  }
+
+  @Test
+  public void weightsAlternativesByNesting()
+  {
+    GenerationCost cost = GenerationCost.estimate("A ::= b ( c | ( d | e ) )", false);
+
+    assertEquals(6, cost.getSymbols());
+    assertEquals(5, cost.getAlternatives());
+    assertEquals(2, cost.getMaxDepth());
+    // 1 production, 6 symbols, 1 alternative at the top, 2 one level deep and 2 two levels deep
+    assertEquals(1 + 6 + 1 + 2 * 2 + 2 * 3, cost.getUnits());
+  }
+
+  @Test
+  public void conjunctionIsNoAlternative()
+  {
+    GenerationCost cost = GenerationCost.estimate("A ::= b & c", false);
+
+    assertEquals(2, cost.getSymbols());
+    assertEquals(1, cost.getAlternatives());
+  }
+
+  @Test
+  public void doublesWithFactoring()
+  {
+    assertEquals(10, GenerationCost.estimate("A ::= b | c", true).getUnits());
+  }
+
+  @Test
+  public void estimatesUpToSyntaxError()
+  {
+    GenerationCost cost = GenerationCost.estimate("A ::= b | c\nB ::= d ) e | f", false);
+
+    assertEquals(2, cost.getProductions());
+    assertEquals(3, cost.getSymbols());
+    assertEquals(3, cost.getAlternatives());
+  }
+}
@@ -0,0 +1,186 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+public class GenerationSchedulerTest
+{
+  /**
+   * Each production of the grammars in these tests costs 3 units.
+   */
+  private static final GenerationCost CHEAP = cost(1);
+  private static final GenerationCost EXPENSIVE = cost(100);
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @Test
+  public void admitsAnyJobToEmptyQueue() throws Exception
+  {
+    GenerationScheduler scheduler = new GenerationScheduler(1);
+    scheduler.setQueueBudget(1);
+    try
+    {
+      CompletableFuture<?> blocker = scheduler.submit(EXPENSIVE, this::awaitRelease);
+      CompletableFuture<String> queued = scheduler.submit(EXPENSIVE, () -> "queued");
+      assertEquals(300, scheduler.getQueuedUnits());
+
+      release.countDown();
+      blocker.get(10, TimeUnit.SECONDS);
+      assertEquals("queued", queued.get(10, TimeUnit.SECONDS));
+    }
+    finally
+    {
+      scheduler.shutdown();
+    }
+  }
+
+  @Test
+  public void rejectsOverBudgetWithRetryHint() throws Exception
+  {
+    GenerationScheduler scheduler = new GenerationScheduler(1);
+    scheduler.setQueueBudget(500);
+    try
+    {
+      scheduler.submit(CHEAP, this::awaitRelease);
+      scheduler.submit(EXPENSIVE, () -> null);
+      try
+      {
+        scheduler.submit(EXPENSIVE, () -> null);
+        fail("job over budget admitted");
+      }
+      catch (GenerationRejectedException e)
+      {
+        // 100 units over budget, at the initial estimate of 1 ms per unit on 1 worker
+        assertEquals(100, e.getRetryAfterMillis());
+      }
+      assertEquals(300, scheduler.getQueuedUnits());
+    }
+    finally
+    {
+      release.countDown();
+      scheduler.shutdown();
+    }
+  }
+
+  @Test
+  public void cheapJobsOvertakeExpensiveOnes() throws Exception
+  {
+    assertEquals(Arrays.asList("cheap", "expensive"), order(1000, 0));
+  }
+
+  /**
+   * An expensive job that has waited longer than its cost times the aging is not overtaken anymore.
+   */
+  @Test
+  public void agingBoundsOvertaking() throws Exception
+  {
+    assertEquals(Arrays.asList("expensive", "cheap"), order(1, 50));
+  }
+
+  @Test
+  public void limitsExpensiveJobsRunningAtOnce() throws Exception
+  {
+    GenerationScheduler scheduler = new GenerationScheduler(2);
+    scheduler.setExpensiveThreshold(100);
+    scheduler.setMaxExpensive(1);
+    try
+    {
+      AtomicBoolean secondStarted = new AtomicBoolean();
+      CompletableFuture<?> first = scheduler.submit(EXPENSIVE, this::awaitRelease);
+      CompletableFuture<?> second = scheduler.submit(EXPENSIVE, () -> secondStarted.getAndSet(true));
+      CompletableFuture<String> cheap = scheduler.submit(CHEAP, () -> "cheap");
+
+      assertEquals("cheap", cheap.get(10, TimeUnit.SECONDS));
+      assertFalse(secondStarted.get());
+      assertEquals(300, scheduler.getQueuedUnits());
+
+      release.countDown();
+      first.get(10, TimeUnit.SECONDS);
+      second.get(10, TimeUnit.SECONDS);
+    }
+    finally
+    {
+      scheduler.shutdown();
+    }
+  }
+
+  @Test
+  public void cancellingFreesBudget() throws Exception
+  {
+    GenerationScheduler scheduler = new GenerationScheduler(1);
+    scheduler.setQueueBudget(500);
+    try
+    {
+      AtomicBoolean cancelledRan = new AtomicBoolean();
+      CompletableFuture<?> blocker = scheduler.submit(CHEAP, this::awaitRelease);
+      CompletableFuture<?> cancelled = scheduler.submit(EXPENSIVE, () -> cancelledRan.getAndSet(true));
+      cancelled.cancel(false);
+      assertEquals(0, scheduler.getQueuedUnits());
+
+      CompletableFuture<String> admitted = scheduler.submit(EXPENSIVE, () -> "admitted");
+      release.countDown();
+      blocker.get(10, TimeUnit.SECONDS);
+      assertEquals("admitted", admitted.get(10, TimeUnit.SECONDS));
+      assertFalse(cancelledRan.get());
+    }
+    finally
+    {
+      scheduler.shutdown();
+    }
+  }
+
+  /**
+   * @return the order in which an expensive job and a cheap job submitted after it were started, once the only worker
+   *   became idle
+   */
+  private List<String> order(long agingMicros, long delayMillis) throws Exception
+  {
+    GenerationScheduler scheduler = new GenerationScheduler(1);
+    scheduler.setAgingMicros(agingMicros);
+    try
+    {
+      List<String> order = Collections.synchronizedList(new ArrayList<>());
+      scheduler.submit(CHEAP, this::awaitRelease);
+      CompletableFuture<?> expensive = scheduler.submit(EXPENSIVE, () -> order.add("expensive"));
+      Thread.sleep(delayMillis);
+      CompletableFuture<?> cheap = scheduler.submit(CHEAP, () -> order.add("cheap"));
+
+      release.countDown();
+      expensive.get(10, TimeUnit.SECONDS);
+      cheap.get(10, TimeUnit.SECONDS);
+      return order;
+    }
+    finally
+    {
+      scheduler.shutdown();
+    }
+  }
+
+  private Object awaitRelease() throws InterruptedException
+  {
+    release.await();
+    return null;
+  }
+
+  private static GenerationCost cost(int productions)
+  {
+    StringBuilder grammar = new StringBuilder();
+    for (int i = 0; i < productions; ++i)
+    {
+      grammar.append("P").append(i).append(" ::= x\n");
+    }
+    return GenerationCost.estimate(grammar, false);
+  }
+}
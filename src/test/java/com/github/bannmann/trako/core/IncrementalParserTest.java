@@ -0,0 +1,128 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.Set;
+
+import net.sf.saxon.Configuration;
+import net.sf.saxon.query.QueryResult;
+import net.sf.saxon.trans.XPathException;
+import net.sf.saxon.tree.tiny.TinyBuilder;
+import org.junit.Test;
+
+public class IncrementalParserTest
+{
+  private static final Configuration configuration = new Configuration();
+
+  @Test
+  public void emptyCommentStartsDocComment()
+  {
+    IncrementalParser parser = new IncrementalParser();
+    parser.edit(0, 0, "A ::= 'q'\nB ::= 'b' /* x */\n/** doc */ C ::= 'c'\n");
+
+    Set<String> changed = parser.edit(0, 0, "/**/ ");
+
+    assertTrue(changed.contains("A"));
+    assertTrue(changed.contains("B"));
+    assertEquals(fullParse(parser.getText()), incremental(parser));
+  }
+
+  @Test
+  public void rejectsWhatFullParseRejects()
+  {
+    IncrementalParser parser = new IncrementalParser();
+    parser.edit(0, 0, "A ::= 'a'\nB ::= 'b' /* x */\n");
+
+    try
+    {
+      parser.edit(0, 0, "/**/ ");
+      fail("doc comment without production accepted");
+    }
+    catch (Parser.ParseException e)
+    {
+      try
+      {
+        fullParse(parser.getText());
+        fail("full parse accepted what the incremental parser rejected");
+      }
+      catch (Parser.ParseException expected)
+      {
+        assertEquals(expected.getBegin(), e.getBegin());
+      }
+    }
+  }
+
+  /**
+   * Applies random edits, including fragments of comments, and compares the result with a full parse after each.
+   */
+  @Test
+  public void randomEditsMatchFullParse()
+  {
+    String[] fragments = {"", "|", "(", ")", "::=", "x", "'", "/*", "*/", "/**", "/**/", "*", "\n", "?", "/",
+      "/** d */", " 'k' ", "\nq ::= 'z'\n", "<?x y?>"};
+    String base = "/** a */ A ::= B | 'a' C?\nB ::= ( 'b' | C )* /* b */\nC ::= [a-z] 'c'\n/** d */\nD ::= A B C\n";
+    Random random = new Random(42);
+    IncrementalParser parser = new IncrementalParser();
+    parser.edit(0, 0, base);
+
+    for (int i = 0; i < 2000; ++i)
+    {
+      String text = parser.getText().toString();
+      int offset = random.nextInt(text.length() + 1);
+      int length = Math.min(text.length() - offset, random.nextInt(4));
+      String replacement = fragments[random.nextInt(fragments.length)];
+      if (random.nextInt(10) == 0)
+      {
+        offset = 0;
+        length = text.length();
+        replacement = base;
+      }
+
+      String expected;
+      try
+      {
+        expected = fullParse(new StringBuilder(text).replace(offset, offset + length, replacement));
+      }
+      catch (Parser.ParseException e)
+      {
+        expected = null;
+      }
+      try
+      {
+        parser.edit(offset, length, replacement);
+        assertEquals("edit " + i, expected, incremental(parser));
+      }
+      catch (Parser.ParseException e)
+      {
+        assertEquals("edit " + i, null, expected);
+      }
+    }
+  }
+
+  private static String fullParse(CharSequence text)
+  {
+    AstBuilder ast = new AstBuilder();
+    new Parser(text, ast).parse_Grammar();
+    return ParallelParserTest.serialize(Collections.singletonList(ast));
+  }
+
+  private static String incremental(IncrementalParser parser)
+  {
+    try
+    {
+      TinyBuilder builder = new TinyBuilder(configuration.makePipelineConfiguration());
+      builder.open();
+      parser.build(builder);
+      builder.close();
+      return QueryResult.serialize(builder.getCurrentRoot());
+    }
+    catch (XPathException e)
+    {
+      throw new RuntimeException(e);
+    }
+  }
+}
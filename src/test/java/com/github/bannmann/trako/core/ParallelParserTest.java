@@ -0,0 +1,89 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.sf.saxon.Configuration;
+import net.sf.saxon.query.QueryResult;
+import net.sf.saxon.trans.XPathException;
+import net.sf.saxon.tree.tiny.TinyBuilder;
+import org.junit.Test;
+
+public class ParallelParserTest
+{
+  private static final Configuration configuration = new Configuration();
+
+  /**
+   * The lexer reads {@code /**} as the start of a doc comment that runs to the next {@code *}{@code /}, even in
+   * {@code /**}{@code /}, so there must be no split inside of it.
+   */
+  @Test
+  public void emptyCommentStartsDocComment()
+  {
+    String grammar = "/**/ A ::= 'q'\nB ::= 'b' /* x */\n/** doc */ C ::= 'c'\n";
+
+    assertNull(ParallelParser.split(grammar, 1));
+    assertEquals(Collections.singleton("C"), productionNames(grammar, 1));
+    assertEquals(ast(grammar, Integer.MAX_VALUE), ast(grammar, 1));
+  }
+
+  @Test
+  public void emptyCommentWithoutEndIsPlainComment()
+  {
+    String grammar = "/**/ A ::= 'a'\nB ::= 'b'\n";
+
+    assertEquals(names("A", "B"), productionNames(grammar, Integer.MAX_VALUE));
+    assertEquals(ast(grammar, Integer.MAX_VALUE), ast(grammar, 1));
+  }
+
+  @Test
+  public void splitsInFrontOfDocComments()
+  {
+    String grammar = "A ::= 'a'\n/** doc */ B ::= 'b'\n/**/ C ::= 'c' /* x */ D ::= 'd'\n";
+
+    // "/**/ C ::= 'c' /* x */" is the doc comment of D
+    assertEquals(4, ParallelParser.split(grammar, 1).length);
+    assertEquals(names("A", "B", "D"), productionNames(grammar, 1));
+    assertEquals(ast(grammar, Integer.MAX_VALUE), ast(grammar, 1));
+  }
+
+  private static Set<String> names(String... names)
+  {
+    return new HashSet<>(Arrays.asList(names));
+  }
+
+  private static Set<String> productionNames(String grammar, int chunkSize)
+  {
+    return AstBuilder.productionNames(new ParallelParser<>(grammar, AstBuilder::new, chunkSize).parse_Grammar());
+  }
+
+  /**
+   * @return the serialized grammar AST
+   */
+  static String ast(String grammar, int chunkSize)
+  {
+    return serialize(new ParallelParser<>(grammar, AstBuilder::new, chunkSize).parse_Grammar());
+  }
+
+  static String serialize(List<AstBuilder> chunks)
+  {
+    try
+    {
+      TinyBuilder builder = new TinyBuilder(configuration.makePipelineConfiguration());
+      builder.open();
+      AstBuilder.build(builder, chunks);
+      builder.close();
+      return QueryResult.serialize(builder.getCurrentRoot());
+    }
+    catch (XPathException e)
+    {
+      throw new RuntimeException(e);
+    }
+  }
+}
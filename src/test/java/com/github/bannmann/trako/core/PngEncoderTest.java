@@ -0,0 +1,149 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+public class PngEncoderTest
+{
+  private static final int WIDTH = 64;
+  private static final int HEIGHT = 48;
+
+  @Test
+  public void rgbaIsLossless() throws Exception
+  {
+    // more than 256 colors, with all kinds of alpha values
+    Random random = new Random(42);
+    BufferedImage image = image((x, y) -> random.nextInt());
+
+    for (int level = -1; level <= 9; level += 5)
+    {
+      PngEncoder encoder = new PngEncoder();
+      encoder.setCompressionLevel(level);
+      BufferedImage decoded = roundTrip(encoder, image);
+
+      for (int y = 0; y < HEIGHT; ++y)
+      {
+        for (int x = 0; x < WIDTH; ++x)
+        {
+          assertEquals("pixel " + x + "," + y, image.getRGB(x, y), decoded.getRGB(x, y));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void indexedIsLosslessUpTo256Colors() throws Exception
+  {
+    // 255 colors including translucent ones, plus transparent pixels of varying RGB values, which share an entry
+    int[] colors = new int[255];
+    for (int i = 0; i < colors.length; ++i)
+    {
+      int alpha = i % 3 == 0 ? 0x80 + i / 3 : 0xFF;
+      colors[i] = alpha << 24 | i << 16 | (255 - i) << 8 | i * 7 & 0xFF;
+    }
+    BufferedImage image = image((x, y) -> (x + y) % 4 == 0 ? y << 8 | x : colors[(x * HEIGHT + y) % colors.length]);
+
+    PngEncoder encoder = new PngEncoder();
+    encoder.setIndexed(true);
+    BufferedImage decoded = roundTrip(encoder, image);
+
+    assertTrue(decoded.getColorModel() instanceof IndexColorModel);
+    assertEquals(256, ((IndexColorModel) decoded.getColorModel()).getMapSize());
+    for (int y = 0; y < HEIGHT; ++y)
+    {
+      for (int x = 0; x < WIDTH; ++x)
+      {
+        int expected = image.getRGB(x, y) >>> 24 == 0 ? 0 : image.getRGB(x, y);
+        assertEquals("pixel " + x + "," + y, expected, decoded.getRGB(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void indexedMapsRareColorsToNearestEntry() throws Exception
+  {
+    // a frequent opaque and translucent color on the left half, and a gradient of rare colors on the right half
+    int opaque = 0xFF204080;
+    int translucent = 0x40FF0000;
+    BufferedImage image = image((x, y) -> x < WIDTH / 2
+      ? (y % 2 == 0 ? opaque : translucent)
+      : 0xFF000000 | (x * 4) << 16 | (y * 5) << 8 | (x + y) * 2);
+
+    PngEncoder encoder = new PngEncoder();
+    encoder.setIndexed(true);
+    BufferedImage decoded = roundTrip(encoder, image);
+
+    IndexColorModel palette = (IndexColorModel) decoded.getColorModel();
+    assertTrue(palette.getMapSize() <= 256);
+    for (int y = 0; y < HEIGHT; ++y)
+    {
+      for (int x = 0; x < WIDTH; ++x)
+      {
+        int expected = image.getRGB(x, y);
+        int actual = decoded.getRGB(x, y);
+        if (x < WIDTH / 2)
+        {
+          assertEquals("pixel " + x + "," + y, expected, actual);
+        }
+        else
+        {
+          int nearest = Integer.MAX_VALUE;
+          for (int i = 0; i < palette.getMapSize(); ++i)
+          {
+            nearest = Math.min(nearest, distance(expected, palette.getRGB(i)));
+          }
+          assertEquals("pixel " + x + "," + y, nearest, distance(expected, actual));
+        }
+      }
+    }
+  }
+
+  private interface Pixels
+  {
+    int argb(int x, int y);
+  }
+
+  private static BufferedImage image(Pixels pixels)
+  {
+    BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    for (int y = 0; y < HEIGHT; ++y)
+    {
+      for (int x = 0; x < WIDTH; ++x)
+      {
+        image.setRGB(x, y, pixels.argb(x, y));
+      }
+    }
+    return image;
+  }
+
+  private static BufferedImage roundTrip(PngEncoder encoder, BufferedImage image) throws Exception
+  {
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    encoder.encode(image, png);
+    BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(png.toByteArray()));
+    assertEquals(WIDTH, decoded.getWidth());
+    assertEquals(HEIGHT, decoded.getHeight());
+    return decoded;
+  }
+
+  private static int distance(int argb1, int argb2)
+  {
+    int distance = 0;
+    for (int shift = 0; shift < 32; shift += 8)
+    {
+      int d = (argb1 >>> shift & 0xFF) - (argb2 >>> shift & 0xFF);
+      distance += d * d;
+    }
+    return distance;
+  }
+}
@@ -0,0 +1,158 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.transform.stream.StreamSource;
+
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XdmNode;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Runs {@link RsvgPngTranscoder} with shell scripts standing in for {@code rsvg-convert}.
+ */
+public class RsvgPngTranscoderTest
+{
+  private static final Processor processor = new Processor(false);
+
+  @Test
+  public void pipesSvgThroughProcessPerScale() throws Exception
+  {
+    // writes the zoom factor, followed by the input
+    Path script = script("printf '%s ' \"$4\"; cat");
+    try
+    {
+      RsvgPngTranscoder transcoder = new RsvgPngTranscoder(script.toString(), 1);
+      transcoder.setScales(1, 2);
+
+      byte[][] pngs = transcoder.transcodeScaled(svg("d", 0));
+
+      assertEquals(2, pngs.length);
+      assertTrue(string(pngs[0]), string(pngs[0]).matches("1\\.0 <\\?xml[^>]*>\\s*<svg [^>]*id=\"d\"[^>]*/>\\s*"));
+      assertTrue(string(pngs[1]), string(pngs[1]).startsWith("2.0 <?xml"));
+    }
+    finally
+    {
+      Files.delete(script);
+    }
+  }
+
+  @Test
+  public void transcodeAllKeepsOrder() throws Exception
+  {
+    // the first diagrams take longest
+    Path script = script("input=$(cat)\n" +
+      "case \"$input\" in *'id=\"d0\"'*|*'id=\"d1\"'*) sleep 1;; esac\n" +
+      "printf '%s' \"$input\"");
+    try
+    {
+      List<XdmNode> svgs = new ArrayList<>();
+      List<String> expected = new ArrayList<>();
+      for (int i = 0; i < 10; ++i)
+      {
+        svgs.add(svg("d" + i, 0));
+        expected.add("d" + i);
+      }
+      List<String> ids = Collections.synchronizedList(new ArrayList<>());
+
+      new RsvgPngTranscoder(script.toString(), 3)
+        .transcodeAll(svgs, pngs -> ids.add(string(pngs[0]).replaceFirst("(?s).* id=\"([^\"]*)\".*", "$1")));
+
+      assertEquals(expected, ids);
+    }
+    finally
+    {
+      Files.delete(script);
+    }
+  }
+
+  @Test
+  public void reportsExitCodeAndErrorOutput() throws Exception
+  {
+    Path script = script("cat > /dev/null; echo 'invalid SVG' >&2; exit 3");
+    try
+    {
+      new RsvgPngTranscoder(script.toString(), 1).transcodeScaled(svg("d", 0));
+      fail("exit code 3 ignored");
+    }
+    catch (RuntimeException e)
+    {
+      assertTrue(e.getMessage(), e.getMessage().contains("exit code 3"));
+      assertTrue(e.getMessage(), e.getMessage().contains("invalid SVG"));
+    }
+    finally
+    {
+      Files.delete(script);
+    }
+  }
+
+  /**
+   * A process that exits without reading its input breaks the pipe, but its error output tells why.
+   */
+  @Test
+  public void reportsErrorOutputOfProcessExitingEarly() throws Exception
+  {
+    Path script = script("echo 'Unknown option --zoom' >&2; exit 1");
+    try
+    {
+      // larger than the pipe buffer
+      new RsvgPngTranscoder(script.toString(), 1).transcodeScaled(svg("d", 20000));
+      fail("exit code 1 ignored");
+    }
+    catch (RuntimeException e)
+    {
+      assertTrue(e.getMessage(), e.getMessage().contains("exit code 1"));
+      assertTrue(e.getMessage(), e.getMessage().contains("Unknown option --zoom"));
+    }
+    finally
+    {
+      Files.delete(script);
+    }
+  }
+
+  private static Path script(String commands) throws IOException
+  {
+    Assume.assumeFalse(File.separatorChar == '\\');
+
+    Path script = Files.createTempFile("rsvg-convert", ".sh");
+    Files.write(script, ("#!/bin/sh\n" + commands + "\n").getBytes(StandardCharsets.UTF_8));
+    if (!script.toFile().setExecutable(true))
+      throw new IOException("cannot make " + script + " executable");
+
+    return script;
+  }
+
+  /**
+   * @return an SVG element with the given id and number of rectangles
+   */
+  private static XdmNode svg(String id, int rects) throws SaxonApiException
+  {
+    StringBuilder svg = new StringBuilder("<svg xmlns='http://www.w3.org/2000/svg' id='" + id + "'>");
+    for (int i = 0; i < rects; ++i)
+    {
+      svg.append("<rect x='").append(i).append("' y='0' width='1' height='1'/>");
+    }
+    svg.append("</svg>");
+    XdmNode document = processor.newDocumentBuilder().build(new StreamSource(new StringReader(svg.toString())));
+    return document.children().iterator().next();
+  }
+
+  private static String string(byte[] content)
+  {
+    return new String(content, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,73 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.xml.transform.stream.StreamSource;
+
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.XdmNode;
+import org.junit.Test;
+
+public class SvgDirectoryWriterTest
+{
+  @Test
+  public void namesDifferingInCaseOnlyGetDistinctFiles() throws Exception
+  {
+    Processor processor = new Processor(false);
+    XdmNode body = processor.newDocumentBuilder().build(new StreamSource(new StringReader(
+      "<body xmlns='http://www.w3.org/1999/xhtml' xmlns:svg='http://www.w3.org/2000/svg'>" +
+      diagram("Expr") + diagram("expr") + diagram("EXPR") + diagram("expr-2") +
+      "</body>")));
+    XdmNode content = body.children().iterator().next();
+    Path directory = Files.createTempDirectory("svg");
+    try
+    {
+      new SvgDirectoryWriter(processor, directory, 2).write(content.children().iterator());
+
+      String index = new String(Files.readAllBytes(directory.resolve("index.html")), StandardCharsets.UTF_8);
+      Matcher src = Pattern.compile("src=\"([^\"]*)\"").matcher(index);
+      List<String> files = new ArrayList<>();
+      while (src.find())
+      {
+        files.add(src.group(1));
+      }
+      assertEquals(Arrays.asList("Expr.svg", "expr-2.svg", "EXPR-3.svg", "expr-2-2.svg"), files);
+      for (String file : files)
+      {
+        assertTrue(file, Files.isRegularFile(directory.resolve(file)));
+      }
+    }
+    finally
+    {
+      delete(directory);
+    }
+  }
+
+  private static String diagram(String name)
+  {
+    return "<p><a name='" + name + "'>" + name + ":</a></p><svg:svg width='1' height='1'/>";
+  }
+
+  private static void delete(Path directory) throws IOException
+  {
+    try (Stream<Path> files = Files.walk(directory))
+    {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+}
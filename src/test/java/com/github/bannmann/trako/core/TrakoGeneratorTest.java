@@ -0,0 +1,76 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class TrakoGeneratorTest
+{
+  private static final String GRAMMAR = "A ::= 'a' B*\nB ::= 'b' | 'c' A\n";
+
+  @Test
+  public void layoutCachingRethemesLikeFullGeneration() throws Exception
+  {
+    TrakoGenerator generator = new TrakoGenerator();
+    generator.setLayoutCaching(true);
+    TransformedGrammar grammar = generator.transform(GRAMMAR);
+    generate(generator, grammar);
+
+    generator.setBaseColor(new Color(0x336699));
+    generator.setColorOffset(30);
+
+    assertEquals(generate(generator, GRAMMAR), generate(generator, grammar));
+  }
+
+  @Test
+  public void layoutWithoutCachingLikeFullGeneration() throws Exception
+  {
+    TrakoGenerator generator = new TrakoGenerator();
+    TransformedGrammar grammar = generator.transform(GRAMMAR);
+    generator.setBaseColor(new Color(0x336699));
+
+    assertEquals(generate(generator, GRAMMAR), generate(generator, grammar));
+  }
+
+  @Test
+  public void generateRecordsOutputTypesOnBothPaths() throws Exception
+  {
+    TrakoMetrics.instance.reset();
+    TrakoGenerator generator = new TrakoGenerator();
+    generate(generator, GRAMMAR);
+    Map<TrakoGenerator.OutputType, OutputStream> outputs = new EnumMap<>(TrakoGenerator.OutputType.class);
+    outputs.put(TrakoGenerator.OutputType.MARKDOWN_SVG, new ByteArrayOutputStream());
+    outputs.put(TrakoGenerator.OutputType.XHTML_SVG, new ByteArrayOutputStream());
+    generator.generate(GRAMMAR, outputs);
+
+    Map<String, TrakoMetrics.HistogramSnapshot> latencies = TrakoMetrics.instance.getLatencies();
+    assertEquals(1, latencies.get("generate:XHTML_SVG").getCount());
+    assertEquals(1, latencies.get("generate:XHTML_SVG+MARKDOWN_SVG").getCount());
+    assertEquals(1, latencies.get("xhtml").getCount());
+    assertTrue(latencies.keySet().toString(), latencies.containsKey("produce:MARKDOWN_SVG"));
+  }
+
+  private static String generate(TrakoGenerator generator, CharSequence grammar) throws Exception
+  {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    generator.setOutput(output);
+    generator.generate(grammar);
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private static String generate(TrakoGenerator generator, TransformedGrammar grammar) throws Exception
+  {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    generator.setOutput(output);
+    generator.generate(grammar);
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,103 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.function.Consumer;
+
+import net.sf.saxon.Configuration;
+import net.sf.saxon.event.Builder;
+import net.sf.saxon.query.QueryResult;
+import net.sf.saxon.trans.XPathException;
+import net.sf.saxon.tree.tiny.TinyBuilder;
+import org.junit.Test;
+
+public class TreeBuildersTest
+{
+  private static final Configuration configuration = new Configuration();
+
+  private static final String WIDE = "A ::= " + String.join(" | ", Collections.nCopies(1000, "'a' B?")) + "\n" +
+    "B ::= [b-z]* /* c */\n";
+
+  @Test
+  public void topDownTreeBuilderBuildsGeneratedTree() throws IOException
+  {
+    for (String grammar : new String[] {WIDE, parserGrammar()})
+    {
+      assertEquals(generatedTopDown(grammar), topDown(grammar));
+    }
+  }
+
+  @Test
+  public void topDownTreeBuilderTrimsOpenNonterminals()
+  {
+    String grammar = "A ::= 'a' ( B | C";
+
+    assertEquals(generatedTopDown(grammar), topDown(grammar));
+  }
+
+  @Test
+  public void saxonTreeBuilderBuildsGeneratedTree() throws IOException
+  {
+    for (String grammar : new String[] {WIDE, parserGrammar()})
+    {
+      assertEquals(build(builder -> parse(grammar, new Parser.SaxonTreeBuilder(builder))),
+        build(builder -> parse(grammar, new TreeBuilders.SaxonTreeBuilder(builder))));
+    }
+  }
+
+  private static String parserGrammar() throws IOException
+  {
+    byte[] grammar = Files.readAllBytes(Paths.get("src/main/java/com/github/bannmann/trako/core/Parser.ebnf"));
+    return new String(grammar, StandardCharsets.UTF_8);
+  }
+
+  private static String generatedTopDown(String grammar)
+  {
+    Parser.TopDownTreeBuilder treeBuilder = new Parser.TopDownTreeBuilder();
+    parse(grammar, treeBuilder);
+    return build(builder -> treeBuilder.serialize(new Parser.SaxonTreeBuilder(builder)));
+  }
+
+  private static String topDown(String grammar)
+  {
+    TreeBuilders.TopDownTreeBuilder treeBuilder = new TreeBuilders.TopDownTreeBuilder();
+    parse(grammar, treeBuilder);
+    return build(builder -> treeBuilder.serialize(new Parser.SaxonTreeBuilder(builder)));
+  }
+
+  private static void parse(String grammar, Parser.EventHandler eventHandler)
+  {
+    try
+    {
+      new Parser(grammar, eventHandler).parse_Grammar();
+    }
+    catch (Parser.ParseException e)
+    {
+      // keeps the tree up to the error
+    }
+  }
+
+  /**
+   * @return the serialized tree
+   */
+  private static String build(Consumer<Builder> events)
+  {
+    try
+    {
+      TinyBuilder builder = new TinyBuilder(configuration.makePipelineConfiguration());
+      builder.open();
+      events.accept(builder);
+      builder.close();
+      return QueryResult.serialize(builder.getCurrentRoot());
+    }
+    catch (XPathException e)
+    {
+      throw new RuntimeException(e);
+    }
+  }
+}
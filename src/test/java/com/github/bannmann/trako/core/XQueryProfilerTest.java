@@ -0,0 +1,77 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XQueryCompiler;
+import net.sf.saxon.s9api.XQueryEvaluator;
+import net.sf.saxon.s9api.XQueryExecutable;
+import org.junit.Test;
+
+public class XQueryProfilerTest
+{
+  private static final String FUNCTIONS =
+    "declare function local:count($n, $sum) { if ($n eq 0) then $sum else local:count($n - 1, $sum + 1) };\n" +
+    "declare function local:depth($n, $fail) { if ($n gt 0) then 1 + local:depth($n - 1, $fail) else if ($fail) " +
+    "then error() else 0 };\n";
+
+  @Test
+  public void deepTailRecursion()
+  {
+    XQueryProfiler profiler = new XQueryProfiler();
+
+    assertEquals("1000000", evaluate(profiler, "local:count(1000000, 0)"));
+  }
+
+  /**
+   * A dynamic error must not leave the failed calls active for the next run on the same thread.
+   */
+  @Test
+  public void recoversFromDynamicError()
+  {
+    XQueryProfiler profiler = new XQueryProfiler();
+    try
+    {
+      evaluate(profiler, "local:depth(3, true())");
+      fail("error() ignored");
+    }
+    catch (RuntimeException expected)
+    {
+    }
+    profiler.reset();
+
+    assertEquals("3", evaluate(profiler, "local:depth(3, false())"));
+    for (XQueryProfiler.Statistics s : profiler.getStatistics())
+    {
+      assertTrue(s.getFunction(), s.getInclusiveNanos() > 0);
+    }
+  }
+
+  private static String evaluate(XQueryProfiler profiler, String query)
+  {
+    try
+    {
+      XQueryCompiler compiler = new Processor(false).newXQueryCompiler();
+      profiler.instrument(compiler.getUnderlyingStaticContext());
+      XQueryExecutable executable = compiler.compile(FUNCTIONS + query);
+      profiler.prepare(executable);
+      XQueryEvaluator evaluator = executable.load();
+      evaluator.setTraceListener(profiler);
+      try
+      {
+        return evaluator.evaluate().toString();
+      }
+      finally
+      {
+        profiler.close();
+      }
+    }
+    catch (SaxonApiException e)
+    {
+      throw new RuntimeException(e);
+    }
+  }
+}
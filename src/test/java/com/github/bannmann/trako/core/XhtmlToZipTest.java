@@ -0,0 +1,117 @@
+package com.github.bannmann.trako.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import javax.xml.transform.stream.StreamSource;
+
+import net.sf.saxon.s9api.QName;
+import net.sf.saxon.s9api.XdmNode;
+import org.junit.Test;
+
+public class XhtmlToZipTest
+{
+  /**
+   * The input {@code zip/features.xhtml} was generated from a grammar with all constructs and a
+   * {@code <?trako hotspots referenced-by?>} instruction. The pages in {@code zip/features.txt} are those of the
+   * former disassemble.xq, and {@code zip/features-scaled.txt} differs from them in the {@code srcset} attributes and
+   * the additional images only.
+   */
+  @Test
+  public void writesPagesOfFormerXQuery() throws Exception
+  {
+    assertEquals(resource("features.txt"), convert(1));
+  }
+
+  @Test
+  public void writesImagePerScaleFactor() throws Exception
+  {
+    assertEquals(resource("features-scaled.txt"), convert(1, 2, 1.5));
+  }
+
+  /**
+   * @return the entries of the ZIP file, in order, each as a header line with the name followed by the content
+   */
+  private static String convert(double... scales) throws Exception
+  {
+    ByteArrayOutputStream zip = new ByteArrayOutputStream();
+    try (InputStream xhtml = XhtmlToZipTest.class.getResourceAsStream("zip/features.xhtml"))
+    {
+      new XhtmlToZip(new FakePngTranscoder(scales)).convert(new StreamSource(xhtml), zip);
+    }
+
+    StringBuilder entries = new StringBuilder();
+    try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip.toByteArray())))
+    {
+      for (ZipEntry entry; (entry = in.getNextEntry()) != null; )
+      {
+        entries.append("=== ").append(entry.getName()).append('\n');
+        entries.append(read(in)).append('\n');
+      }
+    }
+    return entries.toString();
+  }
+
+  private static String resource(String name) throws IOException
+  {
+    try (InputStream in = XhtmlToZipTest.class.getResourceAsStream("zip/" + name))
+    {
+      return read(in);
+    }
+  }
+
+  private static String read(InputStream in) throws IOException
+  {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    byte[] chunk = new byte[8192];
+    for (int length; (length = in.read(chunk)) != -1; )
+      content.write(chunk, 0, length);
+    return new String(content.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Produces the size and scale factor of each diagram as its "PNG" data.
+   */
+  private static class FakePngTranscoder implements PngTranscoder
+  {
+    private final double[] scales;
+
+    FakePngTranscoder(double... scales)
+    {
+      this.scales = scales;
+    }
+
+    @Override
+    public void transcode(XdmNode e, OutputStream o)
+    {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public double[] getScales()
+    {
+      return scales.clone();
+    }
+
+    @Override
+    public byte[][] transcodeScaled(XdmNode svg)
+    {
+      byte[][] pngs = new byte[scales.length][];
+      for (int i = 0; i < scales.length; ++i)
+      {
+        String png = svg.getAttributeValue(new QName("width")) + "x" + svg.getAttributeValue(new QName("height"))
+          + " at " + scales[i];
+        pngs[i] = png.getBytes(StandardCharsets.UTF_8);
+      }
+      return pngs;
+    }
+  }
+}